@@ -0,0 +1,91 @@
+package ortus.boxlang.lsp.benchmarks;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionParams;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ortus.boxlang.lsp.workspace.FileParseResult;
+import ortus.boxlang.lsp.workspace.completion.CompletionFacts;
+import ortus.boxlang.lsp.workspace.completion.CompletionProviderRuleBook;
+
+/**
+ * Running the completion rules while typing in the middle of a method, for
+ * different kinds of completion and workspace shapes.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class CompletionBenchmark {
+
+	@Param( { "100", "1000" } )
+	public int					classes;
+
+	@Param( { "1", "5" } )
+	public int					depth;
+
+	/**
+	 * What is being typed: a class name after {@code new}, a member after a
+	 * typed variable, or the start of a statement.
+	 */
+	@Param( { "new", "member", "statement" } )
+	public String				context;
+
+	private OpenWorkspace		workspace;
+	private FileParseResult		liveBuffer;
+	private CompletionParams	params;
+
+	@Setup
+	public void setUp() {
+		workspace = OpenWorkspace.open( classes, depth, 200 );
+
+		// Type into the last class, the deepest of its inheritance chain,
+		// on a new line after the first "var other = new ..." line
+		URI		file		= workspace.workspace().files().getLast();
+		String	source		= OpenWorkspace.source( file );
+		String	typed		= typedText( context );
+		int		line		= SyntheticWorkspace.positionOf( source, "\t\tvar other" ).getLine() + 1;
+		int		lineStart	= source.indexOf( '\n', source.indexOf( "\t\tvar other" ) ) + 1;
+		String	edited		= source.substring( 0, lineStart ) + typed + "\n" + source.substring( lineStart );
+
+		liveBuffer	= FileParseResult.fromLiveBuffer( file, edited, line, FileParseResult.fromSourceString( file, source ), null );
+		params		= new CompletionParams( new TextDocumentIdentifier( file.toString() ), new Position( line, typed.length() ) );
+	}
+
+	private static String typedText( String context ) {
+		return switch ( context ) {
+			case "new" -> "\t\tvar created = new models.Ent";
+			case "member" -> "\t\tother.";
+			default -> "\t\tla";
+		};
+	}
+
+	@TearDown
+	public void tearDown() {
+		workspace.close();
+	}
+
+	@Benchmark
+	public List<CompletionItem> execute() {
+		return CompletionProviderRuleBook.execute( new CompletionFacts( liveBuffer, params ) );
+	}
+}
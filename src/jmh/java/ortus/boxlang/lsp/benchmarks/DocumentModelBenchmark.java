@@ -0,0 +1,64 @@
+package ortus.boxlang.lsp.benchmarks;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ortus.boxlang.lsp.workspace.DocumentModel;
+
+/**
+ * Applying one keystroke, as an incremental change in the middle of the
+ * document, to documents of different lengths.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class DocumentModelBenchmark {
+
+	@Param( { "200", "2000", "20000" } )
+	public int										lines;
+
+	private DocumentModel							model;
+	private int										version;
+	private List<TextDocumentContentChangeEvent>	typeX;
+	private List<TextDocumentContentChangeEvent>	restore;
+
+	@Setup( Level.Iteration )
+	public void setUp() {
+		String source = SyntheticWorkspace.classSource( 1, 2, 1, lines );
+
+		model	= new DocumentModel( URI.create( "file:///bench/models/Entity1.bx" ), source, 1 );
+		version	= 1;
+
+		// Replace the "v" of a "var" line in the middle and put it back, so the length stays the same
+		int		line	= source.substring( 0, source.indexOf( "\t\tvar", source.length() / 2 ) ).split( "\n", -1 ).length - 1;
+		Range	range	= new Range( new Position( line, 2 ), new Position( line, 3 ) );
+		typeX	= List.of( new TextDocumentContentChangeEvent( range, "x" ) );
+		restore	= List.of( new TextDocumentContentChangeEvent( range, "v" ) );
+	}
+
+	@Benchmark
+	public boolean applyChanges() {
+		version++;
+		return model.applyChanges( version % 2 == 0 ? typeX : restore, version );
+	}
+}
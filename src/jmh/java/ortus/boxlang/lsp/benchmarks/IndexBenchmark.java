@@ -0,0 +1,84 @@
+package ortus.boxlang.lsp.benchmarks;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ortus.boxlang.lsp.workspace.index.ProjectIndex;
+import ortus.boxlang.runtime.BoxRuntime;
+
+/**
+ * Indexing a workspace from scratch, and saving and loading the index cache,
+ * for workspaces of different sizes and inheritance depths.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 2, time = 5 )
+@Measurement( iterations = 5, time = 5 )
+@Fork( 1 )
+public class IndexBenchmark {
+
+	@Param( { "100", "1000" } )
+	public int					classes;
+
+	@Param( { "1", "5" } )
+	public int					depth;
+
+	@Param( { "200" } )
+	public int					linesPerFile;
+
+	private SyntheticWorkspace	workspace;
+	private ProjectIndex		indexed;
+
+	@Setup
+	public void setUp() {
+		BoxRuntime.getInstance();
+		workspace	= SyntheticWorkspace.create( classes, depth, linesPerFile );
+		indexed		= indexWorkspace();
+		indexed.saveCache();
+	}
+
+	@TearDown
+	public void tearDown() {
+		workspace.delete();
+	}
+
+	@Benchmark
+	public ProjectIndex indexWorkspace() {
+		ProjectIndex index = new ProjectIndex();
+		// Unlike initialize, this does not load the cache
+		index.reinitialize( workspace.root(), null );
+		for ( URI file : workspace.files() ) {
+			index.indexFile( file );
+		}
+		return index;
+	}
+
+	@Benchmark
+	public void saveCache() {
+		indexed.saveCache();
+	}
+
+	/**
+	 * Initializing an index loads the cache written by {@link #setUp()}.
+	 */
+	@Benchmark
+	public ProjectIndex loadCache() {
+		ProjectIndex index = new ProjectIndex();
+		index.initialize( workspace.root() );
+		return index;
+	}
+}
@@ -0,0 +1,68 @@
+package ortus.boxlang.lsp.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.lsp4j.WorkspaceFolder;
+
+import ortus.boxlang.lsp.workspace.ProjectContextProvider;
+import ortus.boxlang.lsp.workspace.index.ProjectIndex;
+import ortus.boxlang.runtime.BoxRuntime;
+
+/**
+ * A {@link SyntheticWorkspace} loaded into the {@link ProjectContextProvider}
+ * the way the server holds one after the workspace scan: indexed, with every
+ * file open.
+ */
+final class OpenWorkspace {
+
+	private final SyntheticWorkspace workspace;
+
+	private OpenWorkspace( SyntheticWorkspace workspace ) {
+		this.workspace = workspace;
+	}
+
+	static OpenWorkspace open( int classes, int depth, int linesPerFile ) {
+		BoxRuntime.getInstance();
+		SyntheticWorkspace		workspace	= SyntheticWorkspace.create( classes, depth, linesPerFile );
+		ProjectContextProvider	provider	= ProjectContextProvider.getInstance();
+		ProjectIndex			index		= new ProjectIndex();
+
+		provider.setWorkspaceFolders( List.of( new WorkspaceFolder( workspace.root().toUri().toString(), "bench" ) ) );
+		index.initialize( workspace.root() );
+		provider.setIndex( index );
+		for ( URI file : workspace.files() ) {
+			index.indexFile( file );
+		}
+		for ( URI file : workspace.files() ) {
+			provider.trackDocumentOpen( file, source( file ) );
+		}
+		return new OpenWorkspace( workspace );
+	}
+
+	static String source( URI file ) {
+		try {
+			return Files.readString( Path.of( file ) );
+		} catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	SyntheticWorkspace workspace() {
+		return workspace;
+	}
+
+	void close() {
+		ProjectContextProvider provider = ProjectContextProvider.getInstance();
+		for ( URI file : workspace.files() ) {
+			provider.remove( file );
+		}
+		provider.setIndex( null );
+		provider.setWorkspaceFolders( null );
+		workspace.delete();
+	}
+}
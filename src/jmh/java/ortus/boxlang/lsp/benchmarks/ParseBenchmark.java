@@ -0,0 +1,60 @@
+package ortus.boxlang.lsp.benchmarks;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.SemanticTokens;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.lsp.workspace.FileParseResult;
+import ortus.boxlang.lsp.workspace.SemanticTokensBuilder;
+import ortus.boxlang.runtime.BoxRuntime;
+
+/**
+ * Parsing a file, which also runs the diagnostic visitors, and building its
+ * semantic tokens, for files of different lengths.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class ParseBenchmark {
+
+	@Param( { "200", "2000", "10000" } )
+	public int		lines;
+
+	private URI		uri;
+	private String	source;
+	private BoxNode	root;
+
+	@Setup
+	public void setUp() {
+		BoxRuntime.getInstance();
+		uri		= URI.create( "file:///bench/models/Entity1.bx" );
+		source	= SyntheticWorkspace.classSource( 1, 2, 1, lines );
+		root	= FileParseResult.fromSourceString( uri, source ).findAstRoot().orElseThrow();
+	}
+
+	@Benchmark
+	public FileParseResult fromSourceString() {
+		return FileParseResult.fromSourceString( uri, source );
+	}
+
+	@Benchmark
+	public SemanticTokens semanticTokens() {
+		return new SemanticTokensBuilder().build( root );
+	}
+}
@@ -0,0 +1,68 @@
+package ortus.boxlang.lsp.benchmarks;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Position;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ortus.boxlang.lsp.workspace.ProjectContextProvider;
+
+/**
+ * Finding the references to a class and to a method across a workspace with
+ * every file open.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class ReferencesBenchmark {
+
+	@Param( { "100", "1000" } )
+	public int				classes;
+
+	@Param( { "1", "5" } )
+	public int				depth;
+
+	/**
+	 * Whether the cursor is on the {@code class} keyword or on a method name.
+	 */
+	@Param( { "class", "method" } )
+	public String			target;
+
+	private OpenWorkspace	workspace;
+	private URI				file;
+	private Position		position;
+
+	@Setup
+	public void setUp() {
+		workspace	= OpenWorkspace.open( classes, depth, 200 );
+		file		= workspace.workspace().files().get( 1 );
+		position	= SyntheticWorkspace.positionOf( OpenWorkspace.source( file ), "class".equals( target ) ? "class" : "getValue1" );
+	}
+
+	@TearDown
+	public void tearDown() {
+		workspace.close();
+	}
+
+	@Benchmark
+	public List<Location> findReferences() {
+		return ProjectContextProvider.getInstance().findReferences( file, position, false );
+	}
+}
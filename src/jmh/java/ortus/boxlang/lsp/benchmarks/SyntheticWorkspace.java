@@ -0,0 +1,142 @@
+package ortus.boxlang.lsp.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.lsp4j.Position;
+
+import ortus.boxlang.lsp.workspace.index.ProjectIndex;
+
+/**
+ * Generates BoxLang workspaces of a chosen shape so benchmarks measure the
+ * same code on every machine.
+ *
+ * A workspace holds {@code classes} classes {@code models.Entity0} to
+ * {@code models.EntityN}, chained into inheritance hierarchies
+ * {@code depth} classes deep, each padded with methods to about
+ * {@code linesPerFile} lines. Every class calls into the next one, so
+ * references and completions have something to find.
+ */
+public final class SyntheticWorkspace {
+
+	private final Path		root;
+	private final List<URI>	files;
+
+	private SyntheticWorkspace( Path root, List<URI> files ) {
+		this.root	= root;
+		this.files	= files;
+	}
+
+	/**
+	 * Write a workspace to a new temporary directory.
+	 *
+	 * @param classes      How many classes to generate
+	 * @param depth        How many classes each inheritance chain has; 1 for no inheritance
+	 * @param linesPerFile About how many lines each class has
+	 */
+	public static SyntheticWorkspace create( int classes, int depth, int linesPerFile ) {
+		try {
+			Path		root	= Files.createTempDirectory( "bx-lsp-bench-" );
+			Path		models	= Files.createDirectories( root.resolve( "models" ) );
+			List<URI>	files	= new ArrayList<>( classes );
+			for ( int i = 0; i < classes; i++ ) {
+				Path file = models.resolve( className( i ) + ".bx" );
+				Files.writeString( file, classSource( i, classes, depth, linesPerFile ) );
+				files.add( file.toUri() );
+			}
+			return new SyntheticWorkspace( root, files );
+		} catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+
+	public static String className( int i ) {
+		return "Entity" + i;
+	}
+
+	/**
+	 * The source of class {@code i} of a workspace with {@code classes} classes.
+	 */
+	public static String classSource( int i, int classes, int depth, int linesPerFile ) {
+		int				next	= ( i + 1 ) % classes;
+		StringBuilder	source	= new StringBuilder();
+		source.append( "/**\n" )
+		    .append( " * Synthetic entity " ).append( i ).append( "\n" )
+		    .append( " */\n" );
+		if ( depth > 1 && i % depth != 0 ) {
+			source.append( "  class extends=\"models." ).append( className( i - 1 ) ).append( "\" {\n" );
+		} else {
+			source.append( "  class {\n" );
+		}
+		source.append( "\n" )
+		    .append( "\tproperty name=\"id\" type=\"numeric\";\n" )
+		    .append( "\tproperty name=\"name\" type=\"string\";\n" )
+		    .append( "\n" )
+		    .append( "\tfunction init() {\n" )
+		    .append( "\t\tvariables.id = " ).append( i ).append( ";\n" )
+		    .append( "\t\treturn this;\n" )
+		    .append( "\t}\n" )
+		    .append( "\n" )
+		    .append( "\tpublic numeric function getValue" ).append( i ).append( "( required numeric amount ) {\n" )
+		    .append( "\t\tvar total = arguments.amount + variables.id;\n" )
+		    .append( "\t\treturn total;\n" )
+		    .append( "\t}\n" );
+
+		int lines = 18;
+		for ( int method = 0; lines < linesPerFile - 1; method++ ) {
+			source.append( "\n" )
+			    .append( "\tpublic string function describe" ).append( method ).append( "( string prefix = \"\" ) {\n" )
+			    .append( "\t\tvar other = new models." ).append( className( next ) ).append( "();\n" )
+			    .append( "\t\tvar label = arguments.prefix & other.getValue" ).append( next ).append( "( " ).append( method ).append( " );\n" )
+			    .append( "\t\tif ( len( label ) > 10 ) {\n" )
+			    .append( "\t\t\treturn left( label, 10 );\n" )
+			    .append( "\t\t}\n" )
+			    .append( "\t\treturn label;\n" )
+			    .append( "\t}\n" );
+			lines += 8;
+		}
+		return source.append( "}\n" ).toString();
+	}
+
+	/**
+	 * @return The position of the first occurrence of {@code text} in {@code source}
+	 */
+	public static Position positionOf( String source, String text ) {
+		int	offset		= source.indexOf( text );
+		int	lineStart	= source.lastIndexOf( '\n', offset - 1 ) + 1;
+		int	line		= ( int ) source.substring( 0, lineStart ).chars().filter( c -> c == '\n' ).count();
+		return new Position( line, offset - lineStart );
+	}
+
+	public Path root() {
+		return root;
+	}
+
+	/**
+	 * @return The generated classes, in order
+	 */
+	public List<URI> files() {
+		return files;
+	}
+
+	/**
+	 * Delete the workspace and the index cache written for it.
+	 */
+	public void delete() {
+		try ( Stream<Path> paths = Files.walk( root ) ) {
+			for ( Path path : paths.sorted( Comparator.reverseOrder() ).toList() ) {
+				Files.deleteIfExists( path );
+			}
+			Files.deleteIfExists( ProjectIndex.getDefaultCacheFilePath( root ) );
+		} catch ( IOException e ) {
+			throw new UncheckedIOException( e );
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package ortus.boxlang.lsp.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.lsp4j.SymbolInformation;
+import org.eclipse.lsp4j.WorkspaceSymbol;
+import org.eclipse.lsp4j.WorkspaceSymbolParams;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ortus.boxlang.lsp.BoxLangWorkspaceService;
+
+/**
+ * Answering {@code workspace/symbol} for an exact class name and for a fuzzy
+ * query matching many methods.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 2 )
+@Measurement( iterations = 5, time = 2 )
+@Fork( 1 )
+public class WorkspaceSymbolBenchmark {
+
+	@Param( { "100", "1000" } )
+	public int						classes;
+
+	@Param( { "Entity42", "dscr" } )
+	public String					query;
+
+	private OpenWorkspace			workspace;
+	private BoxLangWorkspaceService	service;
+
+	@Setup
+	public void setUp() {
+		workspace	= OpenWorkspace.open( classes, 1, 200 );
+		service		= new BoxLangWorkspaceService();
+	}
+
+	@TearDown
+	public void tearDown() {
+		workspace.close();
+	}
+
+	@Benchmark
+	public Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>> symbol() throws Exception {
+		return service.symbol( new WorkspaceSymbolParams( query ) ).get();
+	}
+}
@@ -30,6 +30,7 @@ import ortus.boxlang.lsp.lint.rules.UnscopedVariableRule;
 import ortus.boxlang.lsp.lint.rules.UnusedImportRule;
 import ortus.boxlang.lsp.lint.rules.UnusedPrivateMethodRule;
 import ortus.boxlang.lsp.lint.rules.UnusedVariableRule;
+import ortus.boxlang.lsp.metrics.MetricsRegistry;
 import ortus.boxlang.runtime.BoxRuntime;
 import ortus.boxlang.runtime.logging.BoxLangLogger;
 import ortus.boxlang.runtime.types.Struct;
@@ -112,10 +113,13 @@ public class App {
 	private void runLSP( InputStream in, OutputStream out ) {
 		LanguageServer				languageServer	= new LanguageServer();
 
-		Launcher<LanguageClient>	launcher		= LSPLauncher.createServerLauncher(
-		    languageServer,
-		    in,
-		    out );
+		Launcher<LanguageClient>	launcher		= new LSPLauncher.Builder<LanguageClient>()
+		    .setLocalService( languageServer )
+		    .setRemoteInterface( LanguageClient.class )
+		    .setInput( in )
+		    .setOutput( out )
+		    .wrapMessages( MetricsRegistry.getInstance()::wrap )
+		    .create();
 
 		if ( languageServer instanceof LanguageClientAware ) {
 			LanguageClient client = launcher.getRemoteProxy();
@@ -30,6 +30,7 @@ import org.eclipse.lsp4j.HoverParams;
 import org.eclipse.lsp4j.ImplementationParams;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.LocationLink;
+import org.eclipse.lsp4j.ReferenceParams;
 import org.eclipse.lsp4j.RelatedFullDocumentDiagnosticReport;
 import org.eclipse.lsp4j.SemanticTokens;
 import org.eclipse.lsp4j.SemanticTokensParams;
@@ -43,31 +44,42 @@ import org.eclipse.lsp4j.adapters.CodeActionResponseAdapter;
 import org.eclipse.lsp4j.adapters.DocumentDiagnosticReportTypeAdapter;
 import org.eclipse.lsp4j.adapters.DocumentSymbolResponseAdapter;
 import org.eclipse.lsp4j.adapters.LocationLinkListAdapter;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.json.ResponseJsonAdapter;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.services.TextDocumentService;
 
+import ortus.boxlang.lsp.RequestScheduler.Lane;
 import ortus.boxlang.lsp.workspace.ProjectContextProvider;
+import ortus.boxlang.lsp.workspace.RequestProgress;
 import ortus.boxlang.lsp.workspace.SemanticTokensContract;
 
 public class BoxLangTextDocumentService implements TextDocumentService {
 
 	@JsonRequest
 	public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion( CompletionParams position ) {
-		return CompletableFutures.computeAsync( ( cancelToken ) -> {
+		return RequestScheduler.getInstance().computeAsync( Lane.INTERACTIVE, ( cancelToken ) -> {
 
-			CompletionList completions = new CompletionList();
-			completions.setIsIncomplete( true );
-			completions.setItems( ProjectContextProvider.getInstance()
-			    .getAvailableCompletions( LSPTools.convertDocumentURI( position.getTextDocument().getUri() ),
-			        position ) );
+			CompletionList completions = ProjectContextProvider.getInstance()
+			    .getCompletionList( LSPTools.convertDocumentURI( position.getTextDocument().getUri() ), position, cancelToken );
 
 			return Either.forRight( completions );
 		} );
 	}
 
+	/**
+	 * The request is sent from the client to the server to resolve additional
+	 * information for a given completion item, such as documentation and
+	 * auto-import edits.
+	 */
+	@JsonRequest( value = "completionItem/resolve", useSegment = false )
+	@Override
+	public CompletableFuture<CompletionItem> resolveCompletionItem( CompletionItem unresolved ) {
+		return RequestScheduler.getInstance().computeAsync( Lane.INTERACTIVE, ( cancelToken ) -> {
+			return ProjectContextProvider.getInstance().resolveCompletionItem( unresolved );
+		} );
+	}
+
 	@Override
 	public void didOpen( DidOpenTextDocumentParams params ) {
 		ProjectContextProvider.getInstance().trackDocumentOpen(
@@ -109,7 +121,7 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 	@ResponseJsonAdapter( DocumentDiagnosticReportTypeAdapter.class )
 	public CompletableFuture<DocumentDiagnosticReport> diagnostic( DocumentDiagnosticParams params ) {
 
-		return CompletableFutures.computeAsync( ( cancelToken ) -> {
+		return RequestScheduler.getInstance().computeAsync( Lane.DOCUMENT_SYNC, ( cancelToken ) -> {
 			URI									docURI	= LSPTools.convertDocumentURI( params.getTextDocument().getUri() );
 			RelatedFullDocumentDiagnosticReport	rep		= new RelatedFullDocumentDiagnosticReport(
 			    ProjectContextProvider.getInstance().getFileDiagnostics( docURI ) );
@@ -124,7 +136,7 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 
 	@JsonRequest
 	public CompletableFuture<SemanticTokens> semanticTokensFull( SemanticTokensParams params ) {
-		return CompletableFutures.computeAsync( ( cancelToken ) -> {
+		return RequestScheduler.getInstance().computeAsync( Lane.DOCUMENT_SYNC, ( cancelToken ) -> {
 			URI docURI = LSPTools.convertDocumentURI( params.getTextDocument().getUri() );
 			if ( docURI == null ) {
 				return SemanticTokensContract.emptyTokens();
@@ -142,7 +154,7 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 	 */
 	@JsonRequest
 	public CompletableFuture<List<? extends TextEdit>> formatting( DocumentFormattingParams params ) {
-		return CompletableFutures.computeAsync( ( cancelToken ) -> {
+		return RequestScheduler.getInstance().computeAsync( Lane.INTERACTIVE, ( cancelToken ) -> {
 			App.logger.info( "Received textDocument/formatting request for {} with options tabSize={} insertSpaces={}",
 			    params.getTextDocument().getUri(),
 			    params.getOptions() == null ? null : params.getOptions().getTabSize(),
@@ -169,10 +181,10 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 		try {
 			URI docURI = new URI( params.getTextDocument().getUri() );
 
-			return CompletableFutures.computeAsync( ( cancelToken ) -> {
+			return RequestScheduler.getInstance().computeAsync( Lane.INTERACTIVE, ( cancelToken ) -> {
 				return Either
 				    .forLeft( ProjectContextProvider.getInstance().findDefinitionPossibiltiies( docURI,
-				        params.getPosition() ) );
+				        params.getPosition(), cancelToken ) );
 			} );
 		} catch ( URISyntaxException e ) {
 			// TODO Auto-generated catch block
@@ -210,7 +222,7 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 	public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>> documentSymbol(
 	    DocumentSymbolParams params ) {
 
-		return CompletableFutures.computeAsync( ( cancelToken ) -> {
+		return RequestScheduler.getInstance().computeAsync( Lane.DOCUMENT_SYNC, ( cancelToken ) -> {
 
 			return ProjectContextProvider.getInstance()
 			    .getDocumentSymbols( URI.create( params.getTextDocument().getUri() ) )
@@ -228,7 +240,7 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 	@Override
 	public CompletableFuture<List<? extends CodeLens>> codeLens( CodeLensParams params ) {
 
-		return CompletableFutures.computeAsync( ( cancelToken ) -> {
+		return RequestScheduler.getInstance().computeAsync( Lane.DOCUMENT_SYNC, ( cancelToken ) -> {
 			return ProjectContextProvider.getInstance()
 			    .getAvailableCodeLenses(
 			        LSPTools.convertDocumentURI( params.getTextDocument().getUri() ),
@@ -240,7 +252,7 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 	@JsonRequest
 	@ResponseJsonAdapter( CodeActionResponseAdapter.class )
 	public CompletableFuture<List<Either<Command, CodeAction>>> codeAction( CodeActionParams params ) {
-		return CompletableFutures.computeAsync( ( cancelToken ) -> {
+		return RequestScheduler.getInstance().computeAsync( Lane.INTERACTIVE, ( cancelToken ) -> {
 			var result = ProjectContextProvider.getInstance()
 			    .getAvailableCodeActions(
 			        LSPTools.convertDocumentURI( params.getTextDocument().getUri() ),
@@ -254,12 +266,33 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 
 	}
 
+	/**
+	 * The references request is sent from the client to the server to resolve
+	 * project-wide references for the symbol denoted by the given text document
+	 * position.
+	 * <p>
+	 * The search visits every parsed file, so it runs on the request executor
+	 * rather than the message thread. Progress is reported through the client's
+	 * work done token and references are streamed per file through the partial
+	 * result token when the client provides them.
+	 */
 	@JsonRequest
-	public CompletableFuture<List<? extends Location>> references( org.eclipse.lsp4j.ReferenceParams params ) {
-		java.net.URI	docURI				= LSPTools.convertDocumentURI( params.getTextDocument().getUri() );
-		boolean			includeDeclaration	= params.getContext() != null && params.getContext().isIncludeDeclaration();
-		List<Location>	locs				= ProjectContextProvider.getInstance().findReferences( docURI, params.getPosition(), includeDeclaration );
-		return CompletableFuture.completedFuture( locs );
+	public CompletableFuture<List<? extends Location>> references( ReferenceParams params ) {
+		return RequestExecutor.getInstance().computeAsync( ( cancelToken ) -> {
+			ProjectContextProvider		provider			= ProjectContextProvider.getInstance();
+			URI							docURI				= LSPTools.convertDocumentURI( params.getTextDocument().getUri() );
+			boolean						includeDeclaration	= params.getContext() != null && params.getContext().isIncludeDeclaration();
+			RequestProgress<Location>	progress			= new RequestProgress<>( provider.getLanguageClient(), params.getWorkDoneToken(),
+			    params.getPartialResultToken() );
+
+			progress.begin( "Finding references" );
+			try {
+				List<Location> locs = provider.findReferences( docURI, params.getPosition(), includeDeclaration, cancelToken, progress );
+				return progress.finish( locs );
+			} finally {
+				progress.end();
+			}
+		} );
 	}
 
 	/**
@@ -269,9 +302,9 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 	@JsonRequest
 	@Override
 	public CompletableFuture<Hover> hover( HoverParams params ) {
-		return CompletableFutures.computeAsync( ( cancelToken ) -> {
+		return RequestScheduler.getInstance().computeAsync( Lane.INTERACTIVE, ( cancelToken ) -> {
 			URI docURI = LSPTools.convertDocumentURI( params.getTextDocument().getUri() );
-			return ProjectContextProvider.getInstance().getHoverInfo( docURI, params.getPosition() );
+			return ProjectContextProvider.getInstance().getHoverInfo( docURI, params.getPosition(), cancelToken );
 		} );
 	}
 
@@ -282,7 +315,7 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 	@JsonRequest
 	@Override
 	public CompletableFuture<SignatureHelp> signatureHelp( SignatureHelpParams params ) {
-		return CompletableFutures.computeAsync( ( cancelToken ) -> {
+		return RequestScheduler.getInstance().computeAsync( Lane.INTERACTIVE, ( cancelToken ) -> {
 			URI docURI = LSPTools.convertDocumentURI( params.getTextDocument().getUri() );
 			return ProjectContextProvider.getInstance().getSignatureHelp( docURI, params.getPosition() );
 		} );
@@ -302,7 +335,7 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 		try {
 			URI docURI = new URI( params.getTextDocument().getUri() );
 
-			return CompletableFutures.computeAsync( ( cancelToken ) -> {
+			return RequestScheduler.getInstance().computeAsync( Lane.INTERACTIVE, ( cancelToken ) -> {
 				return Either
 				    .forLeft( ProjectContextProvider.getInstance().findTypeDefinition( docURI,
 				        params.getPosition() ) );
@@ -330,10 +363,10 @@ public class BoxLangTextDocumentService implements TextDocumentService {
 		try {
 			URI docURI = new URI( params.getTextDocument().getUri() );
 
-			return CompletableFutures.computeAsync( ( cancelToken ) -> {
+			return RequestScheduler.getInstance().computeAsync( Lane.INTERACTIVE, ( cancelToken ) -> {
 				return Either
 				    .forLeft( ProjectContextProvider.getInstance().findImplementations( docURI,
-				        params.getPosition() ) );
+				        params.getPosition(), cancelToken ) );
 			} );
 		} catch ( URISyntaxException e ) {
 			e.printStackTrace();
@@ -1,39 +1,53 @@
 package ortus.boxlang.lsp;
 
+import java.net.URI;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
+import org.eclipse.lsp4j.FileChangeType;
 import org.eclipse.lsp4j.Location;
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PreviousResultId;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.SymbolInformation;
 import org.eclipse.lsp4j.SymbolKind;
 import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
 import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReportPartialResult;
 import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
 import org.eclipse.lsp4j.WorkspaceFullDocumentDiagnosticReport;
 import org.eclipse.lsp4j.WorkspaceSymbol;
 import org.eclipse.lsp4j.WorkspaceSymbolParams;
 import org.eclipse.lsp4j.WorkspaceUnchangedDocumentDiagnosticReport;
-import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.WorkspaceService;
 
+import ortus.boxlang.lsp.RequestScheduler.Lane;
 import ortus.boxlang.lsp.formatting.FormattingCapabilityCoordinator;
+import ortus.boxlang.lsp.metrics.DiagnosticsProfiler;
+import ortus.boxlang.lsp.metrics.MetricsHttpServer;
+import ortus.boxlang.lsp.workspace.DiagnosticReport;
+import ortus.boxlang.lsp.workspace.DirectorySnapshot;
 import ortus.boxlang.lsp.workspace.ProjectContextProvider;
+import ortus.boxlang.lsp.workspace.RequestProgress;
 import ortus.boxlang.lsp.workspace.index.IndexedClass;
 import ortus.boxlang.lsp.workspace.index.IndexedMethod;
 import ortus.boxlang.lsp.workspace.index.IndexedProperty;
+import ortus.boxlang.lsp.workspace.index.IndexedSymbol;
 import ortus.boxlang.lsp.workspace.index.ProjectIndex;
 
 public class BoxLangWorkspaceService implements WorkspaceService {
 
-	private static final int						MAX_RESULTS	= 200;
+	private static final int						MAX_RESULTS						= 200;
+	// Number of document reports streamed per partial workspace diagnostic result
+	private static final int						PARTIAL_DIAGNOSTIC_BATCH_SIZE	= 500;
 	private LanguageClient							client;
 	private final FormattingCapabilityCoordinator	formattingCapabilityCoordinator;
 
@@ -68,6 +82,9 @@ public class BoxLangWorkspaceService implements WorkspaceService {
 
 		provider.setUserSettings( newSettings );
 		formattingCapabilityCoordinator.refresh( ortus.boxlang.lsp.lint.LintConfigLoader.get(), newSettings );
+		MetricsHttpServer.getInstance().configure( newSettings.getMetricsPort() );
+		DiagnosticsProfiler.getInstance().setRuleTimingEnabled( newSettings.isProfileDiagnosticRules() );
+		SourceCodeVisitorService.getInstance().setDisabledVisitors( newSettings.getDisabledVisitors() );
 	}
 
 	@Override
@@ -80,6 +97,12 @@ public class BoxLangWorkspaceService implements WorkspaceService {
 			try {
 				java.net.URI fileUri = LSPTools.convertDocumentURI( event.getUri() );
 				if ( fileUri != null ) {
+					// Keep the directory snapshot current before anything resolves against it
+					if ( event.getType() == FileChangeType.Created ) {
+						DirectorySnapshot.getInstance().created( Path.of( fileUri ) );
+					} else if ( event.getType() == FileChangeType.Deleted ) {
+						DirectorySnapshot.getInstance().deleted( Path.of( fileUri ) );
+					}
 					provider.handleConfigFileChange( fileUri );
 				}
 			} catch ( Exception e ) {
@@ -93,7 +116,7 @@ public class BoxLangWorkspaceService implements WorkspaceService {
 	 */
 	@Override
 	public CompletableFuture<Either<List<? extends SymbolInformation>, List<? extends WorkspaceSymbol>>> symbol( WorkspaceSymbolParams params ) {
-		return CompletableFutures.computeAsync( ( cancelToken ) -> {
+		return RequestExecutor.getInstance().computeAsync( ( cancelToken ) -> {
 			ProjectContextProvider	provider	= ProjectContextProvider.getInstance();
 			ProjectIndex			index		= provider.getIndex();
 
@@ -101,88 +124,34 @@ public class BoxLangWorkspaceService implements WorkspaceService {
 				return Either.forLeft( new ArrayList<>() );
 			}
 
-			String				query			= params.getQuery() != null ? params.getQuery() : "";
-			String				lowerQuery		= query.toLowerCase();
-			List<ScoredSymbol>	scoredSymbols	= new ArrayList<>();
+			RequestProgress<SymbolInformation>	progress	= new RequestProgress<>( client, params.getWorkDoneToken(), params.getPartialResultToken() );
+			List<SymbolInformation>				results		= new ArrayList<>();
 
-			// Search classes
-			for ( IndexedClass indexedClass : index.getAllClasses() ) {
-				int score = calculateScore( indexedClass.name(), lowerQuery );
-				if ( score > 0 || query.isEmpty() ) {
-					SymbolInformation symbol = createClassSymbol( indexedClass );
-					scoredSymbols.add( new ScoredSymbol( symbol, score ) );
-				}
-			}
-
-			// Search methods
-			for ( IndexedMethod indexedMethod : index.getAllMethods() ) {
-				int score = calculateScore( indexedMethod.name(), lowerQuery );
-				if ( score > 0 || query.isEmpty() ) {
-					SymbolInformation symbol = createMethodSymbol( indexedMethod );
-					scoredSymbols.add( new ScoredSymbol( symbol, score ) );
-				}
-			}
-
-			// Search properties
-			for ( IndexedProperty indexedProperty : index.getAllProperties() ) {
-				int score = calculateScore( indexedProperty.name(), lowerQuery );
-				if ( score > 0 || query.isEmpty() ) {
-					SymbolInformation symbol = createPropertySymbol( indexedProperty );
-					scoredSymbols.add( new ScoredSymbol( symbol, score ) );
-				}
+			try {
+				// The index hands out ranked batches, best tier first, so each batch can be streamed as it is found
+				index.getSymbolNameIndex().search( params.getQuery(), MAX_RESULTS, cancelToken, batch -> {
+					for ( IndexedSymbol symbol : batch ) {
+						results.add( createSymbol( symbol ) );
+					}
+					progress.worked( results );
+				} );
+
+				return Either.forLeft( progress.finish( results ) );
+			} finally {
+				progress.end();
 			}
-
-			cancelToken.checkCanceled();
-
-			// Sort by score (descending), then by name length (shorter first)
-			scoredSymbols.sort( Comparator
-			    .comparingInt( ( ScoredSymbol s ) -> -s.score )
-			    .thenComparingInt( s -> s.symbol.getName().length() )
-			    .thenComparing( s -> s.symbol.getName().toLowerCase() ) );
-
-			// Limit results
-			List<SymbolInformation> results = scoredSymbols.stream()
-			    .limit( MAX_RESULTS )
-			    .map( s -> s.symbol )
-			    .toList();
-
-			return Either.forLeft( results );
 		} );
 	}
 
 	/**
-	 * Calculate a score for how well a symbol name matches the query.
-	 * Higher scores indicate better matches.
-	 *
-	 * Scoring:
-	 * - Exact match: 1000
-	 * - Prefix match (case-insensitive): 500
-	 * - Contains match (case-insensitive): 100
-	 * - No match: 0
+	 * Create a SymbolInformation for a class, method or property from the index.
 	 */
-	private int calculateScore( String symbolName, String lowerQuery ) {
-		if ( lowerQuery.isEmpty() ) {
-			return 1; // Return all symbols for empty query with low score
-		}
-
-		String lowerName = symbolName.toLowerCase();
-
-		// Exact match (case-insensitive)
-		if ( lowerName.equals( lowerQuery ) ) {
-			return 1000;
-		}
-
-		// Prefix match
-		if ( lowerName.startsWith( lowerQuery ) ) {
-			return 500;
-		}
-
-		// Contains match
-		if ( lowerName.contains( lowerQuery ) ) {
-			return 100;
-		}
-
-		return 0;
+	private SymbolInformation createSymbol( IndexedSymbol symbol ) {
+		return switch ( symbol ) {
+			case IndexedClass indexedClass -> createClassSymbol( indexedClass );
+			case IndexedMethod indexedMethod -> createMethodSymbol( indexedMethod );
+			case IndexedProperty indexedProperty -> createPropertySymbol( indexedProperty );
+		};
 	}
 
 	/**
@@ -248,45 +217,52 @@ public class BoxLangWorkspaceService implements WorkspaceService {
 		return symbol;
 	}
 
-	/**
-	 * Helper record for sorting symbols by score.
-	 */
-	private record ScoredSymbol( SymbolInformation symbol, int score ) {
-	}
-
 	public CompletableFuture<WorkspaceDiagnosticReport> diagnostic( WorkspaceDiagnosticParams params ) {
-		return CompletableFutures.computeAsync( ( cancelToken ) -> {
-			ProjectContextProvider					provider	= ProjectContextProvider.getInstance();
-			WorkspaceDiagnosticReport				report		= new WorkspaceDiagnosticReport();
-			List<WorkspaceDocumentDiagnosticReport>	docReports	= new ArrayList<>();
-
-			report.setItems( docReports );
-
-			provider.getCachedDiagnosticReports().stream()
-			    .forEach( cachedFileDiagnostics -> {
-				    for ( var prevId : params.getPreviousResultIds() ) {
-					    if ( cachedFileDiagnostics.matches( prevId ) ) {
-						    // TODO the null value needs to check if the file is in an open state and return the version identifier
-						    WorkspaceDocumentDiagnosticReport docReport = new WorkspaceDocumentDiagnosticReport(
-						        new WorkspaceUnchangedDocumentDiagnosticReport( prevId.getValue(), cachedFileDiagnostics.getFileURI().toString(), null ) );
-
-						    docReports.add( docReport );
-						    return;
-					    }
-				    }
-
-				    WorkspaceFullDocumentDiagnosticReport fullReport = new WorkspaceFullDocumentDiagnosticReport();
-				    WorkspaceDocumentDiagnosticReport	docReport	= new WorkspaceDocumentDiagnosticReport( fullReport );
-				    fullReport.setResultId( String.valueOf( cachedFileDiagnostics.getResultId() ) );
-				    fullReport.setUri( cachedFileDiagnostics.getFileURI().toString() );
-				    fullReport.setItems( cachedFileDiagnostics.getDiagnostics() );
-
-				    docReports.add( docReport );
-			    } );
-
-			cancelToken.checkCanceled();
-
-			return report;
+		return RequestScheduler.getInstance().computeAsync( Lane.BACKGROUND, ( cancelToken ) -> {
+			ProjectContextProvider								provider			= ProjectContextProvider.getInstance();
+			List<WorkspaceDocumentDiagnosticReport>				docReports			= new ArrayList<>();
+			RequestProgress<WorkspaceDocumentDiagnosticReport>	progress			= new RequestProgress<WorkspaceDocumentDiagnosticReport>(
+			    client, params.getWorkDoneToken(), params.getPartialResultToken() )
+			    .wrapPartialResults( WorkspaceDiagnosticReportPartialResult::new );
+
+			// The result ID the client holds per document, so each report is checked in constant time
+			Map<URI, String>									previousResultIds	= new HashMap<>();
+			if ( params.getPreviousResultIds() != null ) {
+				for ( PreviousResultId prevId : params.getPreviousResultIds() ) {
+					URI uri = LSPTools.convertDocumentURI( prevId.getUri() );
+					if ( uri != null ) {
+						previousResultIds.put( uri, prevId.getValue() );
+					}
+				}
+			}
+
+			try {
+				provider.forEachCachedDiagnosticReport( cachedFileDiagnostics -> {
+					cancelToken.checkCanceled();
+
+					String						uri			= cachedFileDiagnostics.getFileURI().toString();
+					DiagnosticReport.Snapshot	snapshot	= cachedFileDiagnostics.snapshot();
+					String						resultId	= snapshot.resultId();
+					if ( resultId.equals( previousResultIds.get( cachedFileDiagnostics.getFileURI() ) ) ) {
+						// TODO the null value needs to check if the file is in an open state and return the version identifier
+						docReports.add( new WorkspaceDocumentDiagnosticReport( new WorkspaceUnchangedDocumentDiagnosticReport( resultId, uri, null ) ) );
+					} else {
+						WorkspaceFullDocumentDiagnosticReport fullReport = new WorkspaceFullDocumentDiagnosticReport();
+						fullReport.setResultId( resultId );
+						fullReport.setUri( uri );
+						fullReport.setItems( snapshot.diagnostics() );
+						docReports.add( new WorkspaceDocumentDiagnosticReport( fullReport ) );
+					}
+
+					if ( docReports.size() % PARTIAL_DIAGNOSTIC_BATCH_SIZE == 0 ) {
+						progress.worked( docReports );
+					}
+				} );
+
+				return new WorkspaceDiagnosticReport( progress.finish( docReports ) );
+			} finally {
+				progress.end();
+			}
 		} );
 	}
 
@@ -3,6 +3,8 @@ package ortus.boxlang.lsp;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import com.google.gson.JsonObject;
+
 import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4j.CodeActionOptions;
 import org.eclipse.lsp4j.CodeLensOptions;
@@ -18,6 +20,7 @@ import org.eclipse.lsp4j.SignatureHelpOptions;
 import org.eclipse.lsp4j.TextDocumentSyncKind;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageClientAware;
 import org.eclipse.lsp4j.services.TextDocumentService;
@@ -25,6 +28,9 @@ import org.eclipse.lsp4j.services.WorkspaceService;
 
 import ortus.boxlang.lsp.formatting.FormattingCapabilityCoordinator;
 import ortus.boxlang.lsp.lint.LintConfigLoader;
+import ortus.boxlang.lsp.metrics.DiagnosticsProfiler;
+import ortus.boxlang.lsp.metrics.MetricsHttpServer;
+import ortus.boxlang.lsp.metrics.MetricsRegistry;
 import ortus.boxlang.lsp.workspace.ProjectContextProvider;
 import ortus.boxlang.lsp.workspace.SemanticTokensContract;
 
@@ -90,7 +96,7 @@ public class LanguageServer implements org.eclipse.lsp4j.services.LanguageServer
 			capabilities.setReferencesProvider( true );
 
 			completionOptions.setTriggerCharacters( List.of( "." ) );
-			// completionOptions.
+			completionOptions.setResolveProvider( true );
 			capabilities.setCompletionProvider( completionOptions );
 
 			SignatureHelpOptions signatureHelpOptions = new SignatureHelpOptions();
@@ -143,9 +149,42 @@ public class LanguageServer implements org.eclipse.lsp4j.services.LanguageServer
 		} );
 	}
 
+	/**
+	 * Custom request returning queue depth, active and completed counts for
+	 * each scheduler lane.
+	 */
+	@JsonRequest( value = "boxlang/schedulerStats", useSegment = false )
+	public CompletableFuture<List<RequestScheduler.LaneStats>> schedulerStats() {
+		return CompletableFuture.completedFuture( RequestScheduler.getInstance().getLaneStats() );
+	}
+
+	/**
+	 * Custom request returning where diagnostic time goes per visitor, lint rule
+	 * and file. Pass {@code { "reset": true }} to start a new measurement after
+	 * this one.
+	 */
+	@JsonRequest( value = "boxlang/diagnosticsProfile", useSegment = false )
+	public CompletableFuture<DiagnosticsProfiler.Profile> diagnosticsProfile( JsonObject params ) {
+		DiagnosticsProfiler.Profile profile = DiagnosticsProfiler.getInstance().getProfile();
+		if ( params != null && params.has( "reset" ) && params.get( "reset" ).getAsBoolean() ) {
+			DiagnosticsProfiler.getInstance().reset();
+		}
+		return CompletableFuture.completedFuture( profile );
+	}
+
+	/**
+	 * Custom request returning request latencies, queue depths, cache hit
+	 * counts, index size, heap and scan durations.
+	 */
+	@JsonRequest( value = "boxlang/metrics", useSegment = false )
+	public CompletableFuture<MetricsRegistry.Metrics> metrics() {
+		return CompletableFuture.completedFuture( MetricsRegistry.getInstance().getMetrics() );
+	}
+
 	@Override
 	public void exit() {
 		App.logger.info( "Received exit command - exiting" );
+		MetricsHttpServer.getInstance().stop();
 		System.exit( 0 );
 	}
 
@@ -0,0 +1,43 @@
+package ortus.boxlang.lsp;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+import ortus.boxlang.lsp.RequestScheduler.Lane;
+
+/**
+ * Runs long-running LSP requests off the message thread.
+ *
+ * lsp4j dispatches every incoming message from a single reader thread, so a
+ * handler that does its work inline blocks every other request and
+ * notification, including {@code didChange}, until it returns. Handlers that
+ * search the whole workspace submit their work here instead. The work runs in
+ * the {@link Lane#QUERY} lane of the {@link RequestScheduler}, which has its
+ * own threads and does not hold up interactive requests.
+ */
+public class RequestExecutor {
+
+	private static final RequestExecutor instance = new RequestExecutor();
+
+	private RequestExecutor() {
+	}
+
+	public static RequestExecutor getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Compute a request result on the query lane. The returned future is
+	 * cancelled when the client sends {@code $/cancelRequest}, which the
+	 * {@link CancelChecker} passed to {@code code} observes.
+	 *
+	 * @param code The request body
+	 *
+	 * @return A future completed with the request result
+	 */
+	public <T> CompletableFuture<T> computeAsync( Function<CancelChecker, T> code ) {
+		return RequestScheduler.getInstance().computeAsync( Lane.QUERY, code );
+	}
+}
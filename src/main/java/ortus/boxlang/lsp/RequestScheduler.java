@@ -0,0 +1,253 @@
+package ortus.boxlang.lsp;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
+
+/**
+ * Central scheduler for LSP work, split into priority lanes.
+ *
+ * <ul>
+ * <li>{@link Lane#INTERACTIVE} - requests the user is actively waiting on (completion, hover, signature help, navigation)</li>
+ * <li>{@link Lane#DOCUMENT_SYNC} - work that follows document edits (debounced parses, pull diagnostics, semantic tokens)</li>
+ * <li>{@link Lane#QUERY} - requests the user asked for that search the whole workspace (references, workspace symbols)</li>
+ * <li>{@link Lane#BACKGROUND} - workspace scans and workspace diagnostics</li>
+ * <li>{@link Lane#INDEXING} - building the Java class catalog and index</li>
+ * </ul>
+ *
+ * Interactive and document sync work share a request pool whose queue always
+ * hands out interactive tasks first. Queries run on their own pool so a long
+ * search never holds up a hover. Background and indexing work run on their
+ * own low-priority threads, so a workspace scan and an index build do not
+ * wait for each other, and are expected to call {@link #yieldToInteractive()}
+ * at natural boundaries (e.g. between files) so they back off whenever
+ * interactive or document sync work is queued or running. Queries do not make
+ * them back off: a search can take seconds and nobody is typing while it runs.
+ *
+ * Each lane keeps queue-depth, active and completion counters, available via
+ * {@link #getLaneStats()}.
+ */
+public class RequestScheduler {
+
+	public enum Lane {
+		INTERACTIVE,
+		DOCUMENT_SYNC,
+		QUERY,
+		BACKGROUND,
+		INDEXING
+	}
+
+	/**
+	 * A point-in-time snapshot of a lane's counters. The average wait only covers
+	 * work that was queued, not work accounted for with {@link #runInLane}.
+	 */
+	public record LaneStats( String lane, int queued, int active, long completed, double averageWaitMillis ) {
+	}
+
+	private static final long				YIELD_POLL_MS		= 5;
+	private static final long				MAX_YIELD_MS		= 250;
+
+	private static final RequestScheduler	instance			= new RequestScheduler();
+
+	private final ThreadPoolExecutor		requestPool;
+	private final ThreadPoolExecutor		queryPool;
+	private final ThreadPoolExecutor		backgroundPool;
+	private final ThreadPoolExecutor		indexingPool;
+	private final Map<Lane, LaneCounters>	counters			= new EnumMap<>( Lane.class );
+	private final AtomicLong				sequence			= new AtomicLong( 0 );
+
+	private RequestScheduler() {
+		for ( Lane lane : Lane.values() ) {
+			counters.put( lane, new LaneCounters() );
+		}
+
+		int threads = Math.max( 2, Math.min( 4, Runtime.getRuntime().availableProcessors() ) );
+		this.requestPool	= new ThreadPoolExecutor( threads, threads, 60, TimeUnit.SECONDS, new PriorityBlockingQueue<>(),
+		    daemonThreads( "BoxLang-LSP-Request", Thread.NORM_PRIORITY ) );
+		this.queryPool		= new ThreadPoolExecutor( 2, 2, 60, TimeUnit.SECONDS, new PriorityBlockingQueue<>(),
+		    daemonThreads( "BoxLang-LSP-Query", Thread.NORM_PRIORITY ) );
+		// Two threads so a workspace diagnostic pull does not wait for a whole workspace scan
+		this.backgroundPool	= new ThreadPoolExecutor( 2, 2, 60, TimeUnit.SECONDS, new PriorityBlockingQueue<>(),
+		    daemonThreads( "BoxLang-LSP-Background", Thread.MIN_PRIORITY ) );
+		this.indexingPool	= new ThreadPoolExecutor( 1, 1, 60, TimeUnit.SECONDS, new PriorityBlockingQueue<>(),
+		    daemonThreads( "BoxLang-LSP-Indexing", Thread.MIN_PRIORITY ) );
+	}
+
+	public static RequestScheduler getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Compute a request result in the given lane. The returned future is
+	 * cancelled when the client sends {@code $/cancelRequest}, which the
+	 * {@link CancelChecker} passed to {@code code} observes.
+	 *
+	 * @param lane The lane to schedule the work in
+	 * @param code The request body
+	 *
+	 * @return A future completed with the request result
+	 */
+	public <T> CompletableFuture<T> computeAsync( Lane lane, Function<CancelChecker, T> code ) {
+		return CompletableFutures.computeAsync( executor( lane ), code );
+	}
+
+	/**
+	 * Run fire-and-forget work in the given lane.
+	 */
+	public CompletableFuture<Void> runAsync( Lane lane, Runnable work ) {
+		return CompletableFuture.runAsync( work, executor( lane ) );
+	}
+
+	/**
+	 * Run work on the calling thread while accounting for it in the given lane.
+	 * Used for work that already has its own thread, such as debounced parses,
+	 * so background work still backs off while it runs.
+	 */
+	public void runInLane( Lane lane, Runnable work ) {
+		LaneCounters laneCounters = counters.get( lane );
+		laneCounters.active.incrementAndGet();
+		try {
+			work.run();
+		} finally {
+			laneCounters.active.decrementAndGet();
+			laneCounters.completed.increment();
+		}
+	}
+
+	/**
+	 * Called by background and indexing work between units of work. Blocks for
+	 * a short, bounded time while interactive or document sync work is queued
+	 * or running, so a workspace scan never starves a hover.
+	 */
+	public void yieldToInteractive() {
+		long deadline = System.currentTimeMillis() + MAX_YIELD_MS;
+		while ( hasForegroundWork() && System.currentTimeMillis() < deadline ) {
+			try {
+				Thread.sleep( YIELD_POLL_MS );
+			} catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * @return true if interactive or document sync work is queued or running
+	 */
+	public boolean hasForegroundWork() {
+		for ( Lane lane : List.of( Lane.INTERACTIVE, Lane.DOCUMENT_SYNC ) ) {
+			LaneCounters laneCounters = counters.get( lane );
+			if ( laneCounters.queued.get() > 0 || laneCounters.active.get() > 0 ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the number of tasks waiting to start in the given lane
+	 */
+	public int getQueueDepth( Lane lane ) {
+		return counters.get( lane ).queued.get();
+	}
+
+	/**
+	 * @return a snapshot of every lane's counters
+	 */
+	public List<LaneStats> getLaneStats() {
+		List<LaneStats> stats = new ArrayList<>();
+		for ( Lane lane : Lane.values() ) {
+			LaneCounters	laneCounters	= counters.get( lane );
+			long			completed		= laneCounters.completed.sum();
+			long			started			= laneCounters.started.sum();
+			double			averageWait		= started == 0 ? 0 : laneCounters.waitNanos.sum() / ( double ) started / 1_000_000d;
+			stats.add( new LaneStats( lane.name().toLowerCase(), laneCounters.queued.get(), laneCounters.active.get(), completed, averageWait ) );
+		}
+		return stats;
+	}
+
+	private Executor executor( Lane lane ) {
+		ThreadPoolExecutor pool = switch ( lane ) {
+			case INTERACTIVE, DOCUMENT_SYNC -> requestPool;
+			case QUERY -> queryPool;
+			case BACKGROUND -> backgroundPool;
+			case INDEXING -> indexingPool;
+		};
+		return runnable -> {
+			counters.get( lane ).queued.incrementAndGet();
+			pool.execute( new PrioritizedTask( lane, sequence.incrementAndGet(), System.nanoTime(), runnable ) );
+		};
+	}
+
+	private static ThreadFactory daemonThreads( String prefix, int priority ) {
+		AtomicLong threadSequence = new AtomicLong( 0 );
+		return runnable -> {
+			Thread thread = new Thread( runnable, prefix + "-" + threadSequence.incrementAndGet() );
+			thread.setDaemon( true );
+			thread.setPriority( priority );
+			return thread;
+		};
+	}
+
+	private static class LaneCounters {
+
+		private final AtomicInteger	queued		= new AtomicInteger();
+		private final AtomicInteger	active		= new AtomicInteger();
+		private final LongAdder		completed	= new LongAdder();
+		private final LongAdder		started		= new LongAdder();
+		private final LongAdder		waitNanos	= new LongAdder();
+	}
+
+	/**
+	 * A queued task, ordered by lane and then by submission order.
+	 */
+	private class PrioritizedTask implements Runnable, Comparable<PrioritizedTask> {
+
+		private final Lane		lane;
+		private final long		sequenceNumber;
+		private final long		queuedAt;
+		private final Runnable	work;
+
+		PrioritizedTask( Lane lane, long sequenceNumber, long queuedAt, Runnable work ) {
+			this.lane			= lane;
+			this.sequenceNumber	= sequenceNumber;
+			this.queuedAt		= queuedAt;
+			this.work			= work;
+		}
+
+		@Override
+		public void run() {
+			LaneCounters laneCounters = counters.get( lane );
+			laneCounters.queued.decrementAndGet();
+			laneCounters.started.increment();
+			laneCounters.waitNanos.add( System.nanoTime() - queuedAt );
+			laneCounters.active.incrementAndGet();
+			try {
+				work.run();
+			} finally {
+				laneCounters.active.decrementAndGet();
+				laneCounters.completed.increment();
+			}
+		}
+
+		@Override
+		public int compareTo( PrioritizedTask other ) {
+			int byLane = Integer.compare( lane.ordinal(), other.lane.ordinal() );
+			return byLane != 0 ? byLane : Long.compare( sequenceNumber, other.sequenceNumber );
+		}
+	}
+}
@@ -1,18 +1,24 @@
 package ortus.boxlang.lsp;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.Diagnostic;
 
 import ortus.boxlang.compiler.ast.visitor.VoidBoxVisitor;
+import ortus.boxlang.lsp.metrics.DiagnosticsProfiler;
 import ortus.boxlang.lsp.workspace.FileParseResult;
 import ortus.boxlang.lsp.workspace.MappingConfig;
 
 public abstract class SourceCodeVisitor extends VoidBoxVisitor {
 
-	protected String		filePath;
-	protected MappingConfig	mappingConfig;
+	protected String				filePath;
+	protected MappingConfig			mappingConfig;
+	private final Map<String, Long>	ruleNanos	= new HashMap<>();
+	// Read once per visitor, which is created for each file
+	private final boolean			timeRules	= DiagnosticsProfiler.getInstance().isRuleTimingEnabled();
 
 	public void setFilePath( String filePath ) {
 		this.filePath = filePath;
@@ -26,6 +32,41 @@ public abstract class SourceCodeVisitor extends VoidBoxVisitor {
 		return true;
 	}
 
+	/**
+	 * The lint rule all of this visitor's work is for, if there is exactly one.
+	 * Its whole run time is then attributed to that rule when profiling.
+	 */
+	public String getRuleId() {
+		return null;
+	}
+
+	/**
+	 * Start timing a lint rule, for visitors that check several rules. Only
+	 * reads the clock while rule timing is enabled.
+	 *
+	 * @return The start to pass to {@link #recordRuleTime(String, long)}
+	 */
+	protected long startRuleTime() {
+		return timeRules ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Attribute the time since {@code startNanos} to a lint rule, for visitors
+	 * that check several rules. Does nothing while rule timing is disabled.
+	 */
+	protected void recordRuleTime( String ruleId, long startNanos ) {
+		if ( timeRules ) {
+			ruleNanos.merge( ruleId, System.nanoTime() - startNanos, Long::sum );
+		}
+	}
+
+	/**
+	 * @return The time recorded per lint rule ID during the visit
+	 */
+	public Map<String, Long> getRuleNanos() {
+		return ruleNanos;
+	}
+
 	public abstract List<Diagnostic> getDiagnostics();
 
 	public abstract List<CodeAction> getCodeActions();
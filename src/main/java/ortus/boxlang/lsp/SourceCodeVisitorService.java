@@ -1,13 +1,23 @@
 package ortus.boxlang.lsp;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.lsp.metrics.DiagnosticsProfiler;
 import ortus.boxlang.lsp.workspace.MappingConfig;
 import ortus.boxlang.lsp.workspace.MappingResolver;
 import ortus.boxlang.lsp.workspace.ProjectContextProvider;
@@ -18,16 +28,72 @@ import ortus.boxlang.lsp.workspace.visitors.UnusedVariableDiagnosticVisitor;
 
 public class SourceCodeVisitorService {
 
-	private static SourceCodeVisitorService				instance	= null;
-	private List<Class<? extends SourceCodeVisitor>>	visitors	= new ArrayList<Class<? extends SourceCodeVisitor>>();
+	/**
+	 * Default for {@link UserSettings#getParallelVisitorMinLines()}.
+	 */
+	public static final int								DEFAULT_PARALLEL_VISITOR_MIN_LINES	= 2000;
+
+	// Runs the visitors of large files concurrently; shared by all files so a workspace scan cannot multiply threads
+	private static final ForkJoinPool					VISITOR_POOL						= new ForkJoinPool(
+	    Math.max( 2, Runtime.getRuntime().availableProcessors() ),
+	    pool -> {
+		    var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( pool );
+		    thread.setName( "LSP_visitor-" + thread.getPoolIndex() );
+		    thread.setDaemon( true );
+		    return thread;
+	    },
+	    null,
+	    false );
+
+	private static SourceCodeVisitorService				instance							= null;
+	private final List<RegisteredVisitor>				visitors							= new CopyOnWriteArrayList<>();
+	// Names the disabledVisitors setting turns off, including visitors registered later
+	private volatile Set<String>						disabledNames						= Set.of();
 
 	static {
 		instance = new SourceCodeVisitorService();
 
-		instance.addVisitor( UnscopedVariableDiagnosticVisitor.class );
-		instance.addVisitor( UnusedVariableDiagnosticVisitor.class );
-		instance.addVisitor( SemanticErrorDiagnosticVisitor.class );
-		instance.addVisitor( SemanticWarningDiagnosticVisitor.class );
+		instance.addVisitor( "UnscopedVariableDiagnosticVisitor", UnscopedVariableDiagnosticVisitor::new );
+		instance.addVisitor( "UnusedVariableDiagnosticVisitor", UnusedVariableDiagnosticVisitor::new );
+		instance.addVisitor( "SemanticErrorDiagnosticVisitor", SemanticErrorDiagnosticVisitor::new );
+		instance.addVisitor( "SemanticWarningDiagnosticVisitor", SemanticWarningDiagnosticVisitor::new );
+	}
+
+	/**
+	 * Run statistics of one registered visitor since the server started.
+	 *
+	 * @param name       The name the visitor was registered under
+	 * @param enabled    Whether the visitor currently runs
+	 * @param runs       How many files the visitor ran over
+	 * @param errors     How many of those runs threw
+	 * @param totalNanos The time spent in the visitor, including failed runs
+	 * @param maxNanos   The longest single run
+	 */
+	public record VisitorStats( String name, boolean enabled, long runs, long errors, long totalNanos, long maxNanos ) {
+
+		public long averageNanos() {
+			return runs == 0 ? 0 : totalNanos / runs;
+		}
+	}
+
+	private static final class RegisteredVisitor {
+
+		private final String								name;
+		private final Supplier<? extends SourceCodeVisitor>	factory;
+		private volatile boolean							enabled		= true;
+		private final LongAdder								runs		= new LongAdder();
+		private final LongAdder								errors		= new LongAdder();
+		private final LongAdder								totalNanos	= new LongAdder();
+		private final LongAccumulator						maxNanos	= new LongAccumulator( Long::max, 0 );
+
+		private RegisteredVisitor( String name, Supplier<? extends SourceCodeVisitor> factory ) {
+			this.name		= name;
+			this.factory	= factory;
+		}
+
+		private VisitorStats stats() {
+			return new VisitorStats( name, enabled, runs.sum(), errors.sum(), totalNanos.sum(), maxNanos.get() );
+		}
 	}
 
 	private SourceCodeVisitorService() {
@@ -38,8 +104,88 @@ public class SourceCodeVisitorService {
 		return instance;
 	}
 
+	/**
+	 * Register a visitor that is run over every analysed file.
+	 *
+	 * @param name    A name to report statistics under and to enable or disable the visitor by
+	 * @param factory Creates a fresh visitor for each file
+	 */
+	public void addVisitor( String name, Supplier<? extends SourceCodeVisitor> factory ) {
+		RegisteredVisitor registration = new RegisteredVisitor( name, factory );
+		registration.enabled = !disabledNames.contains( name );
+		this.visitors.add( registration );
+	}
+
+	/**
+	 * Register a visitor class, e.g. from a module handling the
+	 * {@code LSPRegisterVisitors} announcement. The class must have a public
+	 * no-argument constructor. It is resolved once here to a method handle, so
+	 * creating the visitor for each file skips the reflective lookup and access
+	 * checks. It is not spun into a lambda: module classes live in a class loader
+	 * this class cannot see.
+	 */
 	public void addVisitor( Class<? extends SourceCodeVisitor> visitorClass ) {
-		this.visitors.add( visitorClass );
+		MethodHandle constructor;
+		try {
+			constructor = MethodHandles.publicLookup()
+			    .findConstructor( visitorClass, MethodType.methodType( void.class ) )
+			    .asType( MethodType.methodType( SourceCodeVisitor.class ) );
+		} catch ( NoSuchMethodException | IllegalAccessException e ) {
+			App.logger.error( "SourceCodeVisitor " + visitorClass.getName() + " has no public no-argument constructor and was not registered", e );
+			return;
+		}
+
+		addVisitor( visitorClass.getSimpleName(), () -> {
+			try {
+				return ( SourceCodeVisitor ) constructor.invokeExact();
+			} catch ( Throwable e ) {
+				throw new IllegalStateException( "Unable to create " + visitorClass.getName(), e );
+			}
+		} );
+	}
+
+	/**
+	 * Unregister every visitor registered under a name.
+	 *
+	 * @return Whether a visitor with that name was registered
+	 */
+	public boolean removeVisitor( String name ) {
+		return visitors.removeIf( visitor -> visitor.name.equals( name ) );
+	}
+
+	/**
+	 * Enable or disable a registered visitor, e.g. one that is slow or keeps failing.
+	 *
+	 * @return Whether a visitor with that name was registered
+	 */
+	public boolean setVisitorEnabled( String name, boolean enabled ) {
+		boolean found = false;
+		for ( RegisteredVisitor visitor : visitors ) {
+			if ( visitor.name.equals( name ) ) {
+				visitor.enabled	= enabled;
+				found			= true;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Apply the {@code disabledVisitors} setting: disable the visitors with these
+	 * names, now and when they are registered later, and enable every other one.
+	 */
+	public void setDisabledVisitors( Collection<String> names ) {
+		Set<String> disabled = Set.copyOf( names );
+		disabledNames = disabled;
+		for ( RegisteredVisitor visitor : visitors ) {
+			visitor.enabled = !disabled.contains( visitor.name );
+		}
+	}
+
+	/**
+	 * @return The run statistics of every registered visitor, in registration order
+	 */
+	public List<VisitorStats> getVisitorStats() {
+		return visitors.stream().map( RegisteredVisitor::stats ).toList();
 	}
 
 	public void clearResults( String path ) {
@@ -51,31 +197,86 @@ public class SourceCodeVisitorService {
 	}
 
 	public List<SourceCodeVisitor> visitAll( String path, BoxNode root ) {
+		return visitAll( path, root, shouldVisitInParallel( root ) );
+	}
+
+	/**
+	 * Run every enabled visitor over the AST of a file.
+	 *
+	 * @param parallel Whether to run the visitors concurrently. The AST is only
+	 *                 read and every visitor is a fresh instance, so they do not
+	 *                 share state.
+	 *
+	 * @return The visitors in registration order, whichever finished first, so
+	 *         diagnostics and code actions are merged in the same order either way
+	 */
+	List<SourceCodeVisitor> visitAll( String path, BoxNode root, boolean parallel ) {
 		// Resolve per-file MappingConfig so visitors (e.g. SemanticErrorDiagnosticVisitor)
 		// have access to Application.bx-derived mappings for the file being analysed.
-		MappingConfig perFileConfig = resolvePerFileConfig( path );
+		MappingConfig			perFileConfig	= resolvePerFileConfig( path );
+		List<RegisteredVisitor>	registered		= visitors.stream().filter( visitor -> visitor.enabled ).toList();
+		List<SourceCodeVisitor>	results			= new ArrayList<>( registered.size() );
+
+		if ( !parallel || registered.size() < 2 ) {
+			for ( RegisteredVisitor registration : registered ) {
+				results.add( runVisitor( registration, path, perFileConfig, root ) );
+			}
+		} else {
+			List<ForkJoinTask<SourceCodeVisitor>> tasks = new ArrayList<>( registered.size() - 1 );
+			for ( RegisteredVisitor registration : registered.subList( 1, registered.size() ) ) {
+				tasks.add( VISITOR_POOL.submit( () -> runVisitor( registration, path, perFileConfig, root ) ) );
+			}
+			// The calling thread runs the first visitor instead of waiting idle
+			results.add( runVisitor( registered.getFirst(), path, perFileConfig, root ) );
+			for ( ForkJoinTask<SourceCodeVisitor> task : tasks ) {
+				results.add( task.join() );
+			}
+		}
+
+		results.removeIf( visitor -> visitor == null );
+		return results;
+	}
 
+	private boolean shouldVisitInParallel( BoxNode root ) {
+		int minLines = ProjectContextProvider.getInstance().getUserSettings().getParallelVisitorMinLines();
+		if ( minLines <= 0 || root.getPosition() == null ) {
+			return false;
+		}
+		return root.getPosition().getEnd().getLine() >= minLines;
+	}
+
+	private SourceCodeVisitor runVisitor( RegisteredVisitor registration, String path, MappingConfig perFileConfig, BoxNode root ) {
+		long start = System.nanoTime();
 		// Always create fresh visitor instances — no caching to avoid concurrent-parse races
-		return this.visitors.stream()
-		    .map( vc -> {
-			    try {
-				    Constructor		c		= vc.getConstructor();
-
-				    SourceCodeVisitor visitor = ( SourceCodeVisitor ) c.newInstance();
-
-				    visitor.setFilePath( path );
-				    visitor.setMappingConfig( perFileConfig );
-
-				    root.accept( visitor );
-
-				    return visitor;
-			    } catch ( Exception e ) {
-				    App.logger.error( "Error running SourceCodeVisitor", e );
-				    return null;
-			    }
-		    } )
-		    .filter( visitor -> visitor != null )
-		    .collect( Collectors.toList() );
+		try {
+			SourceCodeVisitor visitor = registration.factory.get();
+
+			visitor.setFilePath( path );
+			visitor.setMappingConfig( perFileConfig );
+
+			root.accept( visitor );
+
+			recordProfile( registration, visitor, System.nanoTime() - start );
+			return visitor;
+		} catch ( Exception e ) {
+			registration.errors.increment();
+			App.logger.error( "Error running SourceCodeVisitor " + registration.name, e );
+			return null;
+		} finally {
+			long elapsed = System.nanoTime() - start;
+			registration.runs.increment();
+			registration.totalNanos.add( elapsed );
+			registration.maxNanos.accumulate( elapsed );
+		}
+	}
+
+	private void recordProfile( RegisteredVisitor registration, SourceCodeVisitor visitor, long elapsed ) {
+		DiagnosticsProfiler profiler = DiagnosticsProfiler.getInstance();
+		profiler.recordVisitor( registration.name, elapsed );
+		if ( visitor.getRuleId() != null ) {
+			profiler.recordRule( visitor.getRuleId(), elapsed );
+		}
+		visitor.getRuleNanos().forEach( profiler::recordRule );
 	}
 
 	private MappingConfig resolvePerFileConfig( String path ) {
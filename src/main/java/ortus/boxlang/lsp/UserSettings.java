@@ -1,5 +1,7 @@
 package ortus.boxlang.lsp;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
@@ -12,6 +14,7 @@ import com.google.gson.JsonObject;
 
 import ortus.boxlang.lsp.config.annotation.ConfigGroup;
 import ortus.boxlang.lsp.config.annotation.ConfigSetting;
+import ortus.boxlang.lsp.workspace.completion.CompletionEngine;
 
 @ConfigGroup( configFile = "boxlang.lsp.*", title = "IDE Workspace Settings", description = "Configured in the IDE (VS Code: settings.json). These control LSP behavior and performance." )
 public class UserSettings {
@@ -25,6 +28,21 @@ public class UserSettings {
 	@ConfigSetting( type = "boolean", description = "When true, enables the experimental BoxLang formatter in the IDE when not overridden by shared repo configuration.", defaultValue = "false", since = "1.4.0" )
 	private boolean				experimentalFormatterEnabled	= false;
 
+	@ConfigSetting( type = "number", description = "Maximum number of completion items returned per request. Candidates are ranked against the typed prefix and the list is only marked incomplete when results were cut. Use 0 to disable the cap.", defaultValue = "200", since = "1.11.0" )
+	private int					completionMaxResults			= CompletionEngine.DEFAULT_MAX_RESULTS;
+
+	@ConfigSetting( type = "number", description = "Files with at least this many lines run their diagnostic visitors concurrently instead of one after another. Use 0 to always run them one after another.", defaultValue = "2000", since = "1.11.0" )
+	private int					parallelVisitorMinLines			= SourceCodeVisitorService.DEFAULT_PARALLEL_VISITOR_MIN_LINES;
+
+	@ConfigSetting( type = "number", description = "When above 0, serves server metrics in the Prometheus text format at http://127.0.0.1:<port>/metrics. The listener only accepts local connections.", defaultValue = "0", since = "1.11.0" )
+	private int					metricsPort						= 0;
+
+	@ConfigSetting( type = "boolean", description = "When true, visitors that check several lint rules time each rule for the boxlang/diagnosticsProfile request. This reads the clock for every node visited, so only enable it while profiling.", defaultValue = "false", since = "1.11.0" )
+	private boolean				profileDiagnosticRules			= false;
+
+	@ConfigSetting( type = "string[]", description = "Names of diagnostic visitors that do not run, e.g. one that is slow or keeps failing. Visitor names and their run and error counts are listed by the boxlang/diagnosticsProfile request.", defaultValue = "[]", since = "1.11.0" )
+	private List<String>		disabledVisitors				= List.of();
+
 	private LanguageClient		client							= null;
 
 	private Map<String, String>	mappings						= Map.of();
@@ -45,6 +63,26 @@ public class UserSettings {
 		return experimentalFormatterEnabled;
 	}
 
+	public int getCompletionMaxResults() {
+		return completionMaxResults;
+	}
+
+	public int getParallelVisitorMinLines() {
+		return parallelVisitorMinLines;
+	}
+
+	public int getMetricsPort() {
+		return metricsPort;
+	}
+
+	public boolean isProfileDiagnosticRules() {
+		return profileDiagnosticRules;
+	}
+
+	public List<String> getDisabledVisitors() {
+		return disabledVisitors;
+	}
+
 	public Map<String, String> getMappings() {
 		return mappings;
 	}
@@ -57,6 +95,12 @@ public class UserSettings {
 		userSettings.enableBackgroundParsing		= userSettings.checkBoolean( settings, "enableBackgroundParsing", false );
 		userSettings.processDiagnosticsInParallel	= userSettings.checkBoolean( settings, "processDiagnosticsInParallel", true );
 		userSettings.experimentalFormatterEnabled	= userSettings.checkBoolean( settings, "experimentalFormatterEnabled", false );
+		userSettings.completionMaxResults			= userSettings.checkInt( settings, "completionMaxResults", CompletionEngine.DEFAULT_MAX_RESULTS );
+		userSettings.parallelVisitorMinLines		= userSettings.checkInt( settings, "parallelVisitorMinLines",
+		    SourceCodeVisitorService.DEFAULT_PARALLEL_VISITOR_MIN_LINES );
+		userSettings.metricsPort					= userSettings.checkInt( settings, "metricsPort", 0 );
+		userSettings.profileDiagnosticRules			= userSettings.checkBoolean( settings, "profileDiagnosticRules", false );
+		userSettings.disabledVisitors				= userSettings.checkStringList( settings, "disabledVisitors" );
 		userSettings.mappings						= userSettings.parseMappings( settings );
 
 		return userSettings;
@@ -82,6 +126,46 @@ public class UserSettings {
 
 	}
 
+	private int checkInt(
+	    JsonObject settings,
+	    String key,
+	    int defaultValue ) {
+		try {
+			if ( settings.has( key ) ) {
+				int newValue = settings.get( key ).getAsInt();
+				this.client.logMessage( new MessageParams( MessageType.Info, "Changing " + key + " to " + newValue ) );
+
+				return newValue;
+			}
+
+			return defaultValue;
+		} catch ( Exception e ) {
+			this.client.logMessage( new MessageParams( MessageType.Error, "Unable to parse " + key + " setting, defaulting to " + defaultValue ) );
+			return defaultValue;
+		}
+	}
+
+	private List<String> checkStringList(
+	    JsonObject settings,
+	    String key ) {
+		try {
+			if ( settings.has( key ) ) {
+				List<String> newValue = new ArrayList<>();
+				for ( JsonElement element : settings.get( key ).getAsJsonArray() ) {
+					newValue.add( element.getAsString() );
+				}
+				this.client.logMessage( new MessageParams( MessageType.Info, "Changing " + key + " to " + newValue ) );
+
+				return List.copyOf( newValue );
+			}
+
+			return List.of();
+		} catch ( Exception e ) {
+			this.client.logMessage( new MessageParams( MessageType.Error, "Unable to parse " + key + " setting, defaulting to []" ) );
+			return List.of();
+		}
+	}
+
 	private Map<String, String> parseMappings( JsonObject settings ) {
 		try {
 			JsonElement mappingsElement = null;
@@ -1,11 +1,12 @@
 package ortus.boxlang.lsp.formatting;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
+import ortus.boxlang.lsp.workspace.DirectorySnapshot;
+
 public class FormatterConfigResolver {
 
 	private record CacheKey( Path documentPath, Path workspaceRoot ) {
@@ -32,12 +33,14 @@ public class FormatterConfigResolver {
 		}
 
 		Path normalizedChangedPath = changedConfigPath.toAbsolutePath().normalize();
+		DirectorySnapshot.getInstance().refresh( normalizedChangedPath );
 		configPathCache.entrySet().removeIf( entry -> entry.getValue().map( normalizedChangedPath::equals ).orElse( false ) );
 	}
 
 	private Optional<Path> findConfigPath( Path documentPath, Path workspaceRoot ) {
-		Path	normalizedWorkspaceRoot	= workspaceRoot.toAbsolutePath().normalize();
-		Path	current					= Files.isDirectory( documentPath ) ? documentPath.toAbsolutePath().normalize()
+		DirectorySnapshot	directories				= DirectorySnapshot.getInstance();
+		Path				normalizedWorkspaceRoot	= workspaceRoot.toAbsolutePath().normalize();
+		Path				current					= directories.isDirectory( documentPath ) ? documentPath.toAbsolutePath().normalize()
 		    : documentPath.toAbsolutePath().normalize().getParent();
 
 		if ( current == null || !current.startsWith( normalizedWorkspaceRoot ) ) {
@@ -46,12 +49,12 @@ public class FormatterConfigResolver {
 
 		while ( current != null && current.startsWith( normalizedWorkspaceRoot ) ) {
 			Path bxformat = current.resolve( ".bxformat.json" );
-			if ( Files.exists( bxformat ) ) {
+			if ( directories.exists( bxformat ) ) {
 				return Optional.of( bxformat );
 			}
 
 			Path cfformat = current.resolve( ".cfformat.json" );
-			if ( Files.exists( cfformat ) ) {
+			if ( directories.exists( cfformat ) ) {
 				return Optional.of( cfformat );
 			}
 
@@ -4,8 +4,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 
 import ortus.boxlang.lsp.config.annotation.ConfigGroup;
 import ortus.boxlang.lsp.config.annotation.ConfigSetting;
@@ -55,56 +53,31 @@ public class LintConfig {
 	 */
 	public boolean shouldAnalyze( String relativePath ) {
 		Objects.requireNonNull( relativePath, "relativePath" );
-		String	rel			= normalize( relativePath );
-		boolean	included	= include != null && !include.isEmpty() && include.stream().anyMatch( p -> compile( p ).matcher( rel ).matches() );
-		if ( included ) {
-			return true;
-		}
+		return pathFilter().shouldAnalyze( normalize( relativePath ) );
+	}
 
-		boolean excluded = exclude != null && exclude.stream().anyMatch( p -> compile( p ).matcher( rel ).matches() );
-		return !excluded;
+	/**
+	 * Determines if nothing below a directory (workspace-relative with forward slashes) can be analyzed, i.e. every path
+	 * below it matches an exclude pattern and no include pattern can match. The workspace walk skips such directories.
+	 */
+	public boolean shouldSkipDirectory( String relativeDirectory ) {
+		Objects.requireNonNull( relativeDirectory, "relativeDirectory" );
+		return pathFilter().excludesDirectory( normalize( relativeDirectory ) );
 	}
 
 	private static String normalize( String p ) {
 		return p.replace( '\\', '/' );
 	}
 
-	private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
-
-	private static Pattern compile( String glob ) {
-		return PATTERN_CACHE.computeIfAbsent( glob, LintConfig::globToRegex );
-	}
+	/** The include and exclude patterns compiled into one matcher, rebuilt when either list changes. */
+	private transient volatile PathFilter pathFilter;
 
-	private static Pattern globToRegex( String glob ) {
-		String			g	= normalize( glob );
-		StringBuilder	sb	= new StringBuilder();
-		sb.append( '^' );
-		char[]	chars	= g.toCharArray();
-		int		i		= 0;
-		while ( i < chars.length ) {
-			char c = chars[ i ];
-			if ( c == '*' ) {
-				boolean doubleStar = ( i + 1 < chars.length && chars[ i + 1 ] == '*' );
-				if ( doubleStar ) {
-					// ** => match any chars across directories
-					sb.append( ".*" );
-					i += 2;
-					continue;
-				} else {
-					sb.append( "[^/]*" );
-					i++;
-					continue;
-				}
-			} else if ( c == '?' ) {
-				sb.append( '.' );
-			} else if ( ".^$+{}[]|()".indexOf( c ) >= 0 ) {
-				sb.append( '\\' ).append( c );
-			} else {
-				sb.append( c );
-			}
-			i++;
+	private PathFilter pathFilter() {
+		PathFilter filter = pathFilter;
+		if ( filter == null || !filter.isCompiledFrom( include, exclude ) ) {
+			filter		= new PathFilter( include, exclude );
+			pathFilter	= filter;
 		}
-		sb.append( '$' );
-		return Pattern.compile( sb.toString() );
+		return filter;
 	}
 }
@@ -0,0 +1,281 @@
+package ortus.boxlang.lsp.lint;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The include and exclude globs of a {@link LintConfig} compiled into a single
+ * automaton.
+ *
+ * Every glob is turned into a chain of NFA positions ({@code *} and {@code **}
+ * loop on themselves, {@code ?} takes any character, everything else is a
+ * literal) and all chains are simulated together. The sets of live positions
+ * are interned as DFA states as they are discovered, so after warm-up a path is
+ * matched against every glob at once with one transition lookup per character.
+ *
+ * Because a state knows which globs can still match, it can also decide for a
+ * whole directory: once every path below a directory is certain to be excluded
+ * and no include glob can match any more, the workspace walk can skip the
+ * directory without visiting it.
+ *
+ * Instances are immutable apart from the lazily built state cache and are safe
+ * to share between threads.
+ */
+public class PathFilter {
+
+	private static final int			MAX_CACHED_STATES	= 4096;
+
+	private static final byte			LITERAL				= 0;
+	private static final byte			ANY_CHAR			= 1;
+	private static final byte			STAR				= 2;
+	private static final byte			DOUBLE_STAR			= 3;
+	private static final byte			ACCEPT				= 4;
+
+	private final List<String>			include;
+	private final List<String>			exclude;
+
+	// One entry per NFA position, the positions of each glob are contiguous and end with ACCEPT
+	private final byte[]				kinds;
+	private final char[]				literals;
+	private final boolean[]				fromInclude;
+	private final boolean[]				acceptsAnySuffix;
+
+	private final Map<BitSet, State>	states				= new ConcurrentHashMap<>();
+	private final State					start;
+
+	public PathFilter( List<String> include, List<String> exclude ) {
+		this.include	= include == null ? List.of() : new ArrayList<>( include );
+		this.exclude	= exclude == null ? List.of() : new ArrayList<>( exclude );
+
+		List<byte[]>	globKinds		= new ArrayList<>();
+		List<char[]>	globLiterals	= new ArrayList<>();
+		List<Boolean>	globIsInclude	= new ArrayList<>();
+		int				size			= 0;
+		for ( String glob : this.include ) {
+			size += tokenize( glob, globKinds, globLiterals );
+			globIsInclude.add( true );
+		}
+		for ( String glob : this.exclude ) {
+			size += tokenize( glob, globKinds, globLiterals );
+			globIsInclude.add( false );
+		}
+
+		this.kinds				= new byte[ size ];
+		this.literals			= new char[ size ];
+		this.fromInclude		= new boolean[ size ];
+		this.acceptsAnySuffix	= new boolean[ size ];
+
+		BitSet	initial	= new BitSet( size );
+		int		offset	= 0;
+		for ( int g = 0; g < globKinds.size(); g++ ) {
+			byte[]	gKinds		= globKinds.get( g );
+			char[]	gLiterals	= globLiterals.get( g );
+			System.arraycopy( gKinds, 0, kinds, offset, gKinds.length );
+			System.arraycopy( gLiterals, 0, literals, offset, gLiterals.length );
+
+			boolean	onlyStars	= true;
+			boolean	anyDouble	= false;
+			for ( int i = gKinds.length - 1; i >= 0; i-- ) {
+				fromInclude[ offset + i ] = globIsInclude.get( g );
+				if ( gKinds[ i ] != ACCEPT ) {
+					onlyStars	= onlyStars && ( gKinds[ i ] == STAR || gKinds[ i ] == DOUBLE_STAR );
+					anyDouble	= anyDouble || gKinds[ i ] == DOUBLE_STAR;
+				}
+				acceptsAnySuffix[ offset + i ] = onlyStars && anyDouble;
+			}
+
+			addWithClosure( initial, offset );
+			offset += gKinds.length;
+		}
+		this.start = intern( initial );
+	}
+
+	/**
+	 * @return whether this filter was compiled from the given globs
+	 */
+	public boolean isCompiledFrom( List<String> include, List<String> exclude ) {
+		return Objects.equals( this.include, include == null ? List.of() : include )
+		    && Objects.equals( this.exclude, exclude == null ? List.of() : exclude );
+	}
+
+	/**
+	 * Decide whether a workspace-relative path should be analyzed: paths matching
+	 * an include glob are analyzed, otherwise paths matching an exclude glob are
+	 * not.
+	 *
+	 * @param relativePath A workspace-relative path using forward slashes
+	 */
+	public boolean shouldAnalyze( String relativePath ) {
+		State state = start;
+		for ( int i = 0; i < relativePath.length(); i++ ) {
+			if ( state.isDead() ) {
+				return true;
+			}
+			if ( state.excludesEverything && state.includeDead ) {
+				return false;
+			}
+			state = state.next( relativePath.charAt( i ) );
+		}
+		return state.includeMatch || !state.excludeMatch;
+	}
+
+	/**
+	 * Decide whether nothing below a directory can be analyzed, so the directory
+	 * does not need to be walked at all.
+	 *
+	 * @param relativeDirectory A workspace-relative directory using forward slashes
+	 */
+	public boolean excludesDirectory( String relativeDirectory ) {
+		if ( relativeDirectory.isEmpty() ) {
+			return false;
+		}
+
+		State state = start;
+		for ( int i = 0; i < relativeDirectory.length() && !state.isDead(); i++ ) {
+			state = state.next( relativeDirectory.charAt( i ) );
+		}
+		if ( !relativeDirectory.endsWith( "/" ) ) {
+			state = state.next( '/' );
+		}
+		return state.excludesEverything && state.includeDead;
+	}
+
+	/**
+	 * Append the NFA positions of a glob, using the same syntax the lint
+	 * configuration has always accepted: {@code **} matches anything including
+	 * slashes, {@code *} anything within a segment, {@code ?} any single
+	 * character.
+	 *
+	 * @return The number of positions added
+	 */
+	private static int tokenize( String glob, List<byte[]> globKinds, List<char[]> globLiterals ) {
+		String			g			= glob == null ? "" : glob.replace( '\\', '/' );
+		StringBuilder	kindChars	= new StringBuilder();
+		StringBuilder	literalText	= new StringBuilder();
+		int				i			= 0;
+		while ( i < g.length() ) {
+			char c = g.charAt( i );
+			if ( c == '*' && i + 1 < g.length() && g.charAt( i + 1 ) == '*' ) {
+				kindChars.append( ( char ) DOUBLE_STAR );
+				i += 2;
+			} else {
+				kindChars.append( ( char ) ( c == '*' ? STAR : c == '?' ? ANY_CHAR : LITERAL ) );
+				i++;
+			}
+			literalText.append( c );
+		}
+		kindChars.append( ( char ) ACCEPT );
+		literalText.append( '\0' );
+
+		byte[] gKinds = new byte[ kindChars.length() ];
+		for ( int k = 0; k < gKinds.length; k++ ) {
+			gKinds[ k ] = ( byte ) kindChars.charAt( k );
+		}
+		globKinds.add( gKinds );
+		globLiterals.add( literalText.toString().toCharArray() );
+		return gKinds.length;
+	}
+
+	private void addWithClosure( BitSet set, int position ) {
+		while ( !set.get( position ) ) {
+			set.set( position );
+			// A star can match nothing, so the position after it is live too
+			if ( kinds[ position ] != STAR && kinds[ position ] != DOUBLE_STAR ) {
+				return;
+			}
+			position++;
+		}
+	}
+
+	private State intern( BitSet positions ) {
+		State existing = states.get( positions );
+		if ( existing != null ) {
+			return existing;
+		}
+
+		State state = new State( positions );
+		if ( states.size() >= MAX_CACHED_STATES ) {
+			// Pathological glob sets: keep simulating, just stop caching
+			return state;
+		}
+		existing = states.putIfAbsent( positions, state );
+		return existing != null ? existing : state;
+	}
+
+	/**
+	 * A set of live NFA positions and what it means for the paths that reach it.
+	 */
+	private final class State {
+
+		private final BitSet				positions;
+		private final boolean				includeMatch;
+		private final boolean				excludeMatch;
+		private final boolean				includeDead;
+		private final boolean				excludesEverything;
+		private final Map<Character, State>	transitions	= new ConcurrentHashMap<>();
+
+		State( BitSet positions ) {
+			this.positions = positions;
+
+			boolean	includeMatch		= false;
+			boolean	excludeMatch		= false;
+			boolean	includeDead			= true;
+			boolean	excludesEverything	= false;
+			for ( int p = positions.nextSetBit( 0 ); p >= 0; p = positions.nextSetBit( p + 1 ) ) {
+				if ( fromInclude[ p ] ) {
+					includeDead		= false;
+					includeMatch	= includeMatch || kinds[ p ] == ACCEPT;
+				} else {
+					excludeMatch		= excludeMatch || kinds[ p ] == ACCEPT;
+					excludesEverything	= excludesEverything || acceptsAnySuffix[ p ];
+				}
+			}
+			this.includeMatch		= includeMatch;
+			this.excludeMatch		= excludeMatch;
+			this.includeDead		= includeDead;
+			this.excludesEverything	= excludesEverything;
+		}
+
+		boolean isDead() {
+			return positions.isEmpty();
+		}
+
+		State next( char c ) {
+			State cached = transitions.get( c );
+			if ( cached != null ) {
+				return cached;
+			}
+
+			BitSet next = new BitSet( kinds.length );
+			for ( int p = positions.nextSetBit( 0 ); p >= 0; p = positions.nextSetBit( p + 1 ) ) {
+				switch ( kinds[ p ] ) {
+					case LITERAL -> {
+						if ( literals[ p ] == c ) {
+							addWithClosure( next, p + 1 );
+						}
+					}
+					case ANY_CHAR -> addWithClosure( next, p + 1 );
+					case STAR -> {
+						if ( c != '/' ) {
+							addWithClosure( next, p );
+						}
+					}
+					case DOUBLE_STAR -> addWithClosure( next, p );
+					default -> {
+						// ACCEPT has no outgoing transitions
+					}
+				}
+			}
+
+			State state = intern( next );
+			if ( states.size() < MAX_CACHED_STATES ) {
+				transitions.put( c, state );
+			}
+			return state;
+		}
+	}
+}
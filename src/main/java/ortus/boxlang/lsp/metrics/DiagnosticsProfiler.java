@@ -0,0 +1,132 @@
+package ortus.boxlang.lsp.metrics;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ortus.boxlang.lsp.SourceCodeVisitorService;
+
+/**
+ * Collects where diagnostic time goes: per visitor, per lint rule ID and per
+ * file, so {@code .bxlint.json} can be tuned by the actual cost of each rule.
+ *
+ * Visitor and rule times are histograms since the server started or the last
+ * {@link #reset()}. Rules checked by a visitor that checks several are only
+ * timed while {@link #isRuleTimingEnabled()}, since that reads the clock for
+ * every node visited. Only the {@link #SLOWEST_FILES} slowest files are kept, each
+ * with the time of its slowest run.
+ */
+public class DiagnosticsProfiler {
+
+	public static final int							SLOWEST_FILES	= 20;
+
+	private static final DiagnosticsProfiler		instance		= new DiagnosticsProfiler();
+
+	private final Map<String, Histogram>			visitors		= new ConcurrentHashMap<>();
+	private final Map<String, Histogram>			rules			= new ConcurrentHashMap<>();
+	private final Map<URI, Long>					slowestFiles	= new HashMap<>();
+	// The fastest time still in slowestFiles once it is full, so faster files are rejected without locking
+	private volatile long							admitNanos		= 0;
+	private volatile boolean						ruleTiming		= false;
+
+	/**
+	 * Time spent on one name, e.g. a visitor or a rule ID.
+	 */
+	public record TimingStats( String name, Histogram.Snapshot timing ) {
+	}
+
+	/**
+	 * The longest time diagnostics took for a file.
+	 */
+	public record FileTiming( String uri, double millis ) {
+	}
+
+	/**
+	 * The response of the {@code boxlang/diagnosticsProfile} request.
+	 *
+	 * @param visitors     Per visitor, slowest in total first
+	 * @param rules        Per lint rule ID, slowest in total first
+	 * @param slowestFiles The slowest files, slowest first
+	 * @param visitorRuns  Run and error counts of the registered visitors, and whether they are enabled
+	 */
+	public record Profile( List<TimingStats> visitors, List<TimingStats> rules, List<FileTiming> slowestFiles,
+	    List<SourceCodeVisitorService.VisitorStats> visitorRuns ) {
+	}
+
+	DiagnosticsProfiler() {
+	}
+
+	public static DiagnosticsProfiler getInstance() {
+		return instance;
+	}
+
+	/**
+	 * @return Whether visitors that check several rules time each of them, set by
+	 *         the {@code profileDiagnosticRules} setting
+	 */
+	public boolean isRuleTimingEnabled() {
+		return ruleTiming;
+	}
+
+	public void setRuleTimingEnabled( boolean enabled ) {
+		this.ruleTiming = enabled;
+	}
+
+	public void recordVisitor( String name, long nanos ) {
+		visitors.computeIfAbsent( name, k -> new Histogram() ).record( nanos );
+	}
+
+	public void recordRule( String ruleId, long nanos ) {
+		rules.computeIfAbsent( ruleId, k -> new Histogram() ).record( nanos );
+	}
+
+	/**
+	 * Record the total diagnostic time of one file.
+	 */
+	public void recordFile( URI uri, long nanos ) {
+		if ( nanos <= admitNanos ) {
+			return;
+		}
+
+		synchronized ( slowestFiles ) {
+			slowestFiles.merge( uri, nanos, Math::max );
+			if ( slowestFiles.size() > SLOWEST_FILES ) {
+				slowestFiles.entrySet().stream()
+				    .min( Map.Entry.comparingByValue() )
+				    .ifPresent( fastest -> slowestFiles.remove( fastest.getKey() ) );
+			}
+			if ( slowestFiles.size() == SLOWEST_FILES ) {
+				admitNanos = slowestFiles.values().stream().mapToLong( Long::longValue ).min().orElse( 0 );
+			}
+		}
+	}
+
+	public Profile getProfile() {
+		List<FileTiming> files = new ArrayList<>();
+		synchronized ( slowestFiles ) {
+			slowestFiles.forEach( ( uri, nanos ) -> files.add( new FileTiming( uri.toString(), nanos / 1_000_000d ) ) );
+		}
+		files.sort( Comparator.comparingDouble( FileTiming::millis ).reversed() );
+		return new Profile( stats( visitors ), stats( rules ), files, SourceCodeVisitorService.getInstance().getVisitorStats() );
+	}
+
+	public void reset() {
+		visitors.values().forEach( Histogram::reset );
+		rules.values().forEach( Histogram::reset );
+		synchronized ( slowestFiles ) {
+			slowestFiles.clear();
+			admitNanos = 0;
+		}
+	}
+
+	private static List<TimingStats> stats( Map<String, Histogram> histograms ) {
+		List<TimingStats> stats = new ArrayList<>();
+		histograms.forEach( ( name, histogram ) -> stats.add( new TimingStats( name, histogram.snapshot() ) ) );
+		stats.sort( Comparator.comparingDouble( ( TimingStats s ) -> s.timing().totalMillis() ).reversed() );
+		return stats;
+	}
+}
@@ -0,0 +1,111 @@
+package ortus.boxlang.lsp.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of nanosecond durations.
+ *
+ * Values are counted in power-of-two buckets, so recording is a few atomic adds
+ * and percentiles are accurate to within a factor of two, which is enough to
+ * tell a 2 ms rule from a 200 ms one.
+ */
+public class Histogram {
+
+	private static final int		BUCKETS		= 64;
+
+	private final LongAdder[]		buckets		= new LongAdder[ BUCKETS ];
+	private final LongAdder			count		= new LongAdder();
+	private final LongAdder			sum			= new LongAdder();
+	private final LongAccumulator	max			= new LongAccumulator( Long::max, 0 );
+
+	/**
+	 * A point-in-time view of a histogram, in milliseconds.
+	 */
+	public record Snapshot( long count, double totalMillis, double meanMillis, double p50Millis, double p90Millis, double p99Millis,
+	    double maxMillis ) {
+	}
+
+	public Histogram() {
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			buckets[ i ] = new LongAdder();
+		}
+	}
+
+	public void record( long nanos ) {
+		long value = Math.max( 0, nanos );
+		buckets[ bucket( value ) ].increment();
+		count.increment();
+		sum.add( value );
+		max.accumulate( value );
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getSumNanos() {
+		return sum.sum();
+	}
+
+	public void reset() {
+		for ( LongAdder bucket : buckets ) {
+			bucket.reset();
+		}
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+
+	public Snapshot snapshot() {
+		long[]	counts	= new long[ BUCKETS ];
+		long	total	= 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			counts[ i ]	= buckets[ i ].sum();
+			total		+= counts[ i ];
+		}
+		long	maxNanos	= max.get();
+		long	sumNanos	= sum.sum();
+		return new Snapshot(
+		    total,
+		    millis( sumNanos ),
+		    total == 0 ? 0 : millis( sumNanos / total ),
+		    millis( percentile( counts, total, 0.50, maxNanos ) ),
+		    millis( percentile( counts, total, 0.90, maxNanos ) ),
+		    millis( percentile( counts, total, 0.99, maxNanos ) ),
+		    millis( maxNanos ) );
+	}
+
+	/**
+	 * @return The upper bound of the bucket holding the given quantile, capped at the largest value seen
+	 */
+	private static long percentile( long[] counts, long total, double quantile, long maxNanos ) {
+		if ( total == 0 ) {
+			return 0;
+		}
+		long	rank	= ( long ) Math.ceil( quantile * total );
+		long	seen	= 0;
+		for ( int i = 0; i < BUCKETS; i++ ) {
+			seen += counts[ i ];
+			if ( seen >= rank ) {
+				return Math.min( upperBound( i ), maxNanos );
+			}
+		}
+		return maxNanos;
+	}
+
+	/**
+	 * Bucket {@code i} holds values below {@code 2^i} that do not fit a lower bucket.
+	 */
+	static int bucket( long nanos ) {
+		return Math.min( BUCKETS - 1, 64 - Long.numberOfLeadingZeros( nanos ) );
+	}
+
+	private static long upperBound( int bucket ) {
+		return bucket >= 63 ? Long.MAX_VALUE : ( 1L << bucket ) - 1;
+	}
+
+	private static double millis( long nanos ) {
+		return Math.round( nanos / 1_000d ) / 1_000d;
+	}
+}
@@ -0,0 +1,105 @@
+package ortus.boxlang.lsp.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import ortus.boxlang.lsp.App;
+
+/**
+ * Serves {@link MetricsRegistry#toPrometheus()} at {@code /metrics} for a
+ * local Prometheus or similar scraper. It only listens on the loopback
+ * address and only while the {@code metricsPort} setting is above 0.
+ */
+public class MetricsHttpServer {
+
+	private static final MetricsHttpServer	instance	= new MetricsHttpServer();
+
+	private HttpServer						server;
+	private ExecutorService					executor;
+	private int								configuredPort;
+
+	MetricsHttpServer() {
+	}
+
+	public static MetricsHttpServer getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Start, move or stop the listener to match the {@code metricsPort} setting.
+	 *
+	 * @param port The port to listen on, or 0 or less to not listen
+	 */
+	public synchronized void configure( int port ) {
+		if ( port == configuredPort ) {
+			return;
+		}
+		stop();
+		if ( port <= 0 ) {
+			return;
+		}
+
+		try {
+			HttpServer started = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), port ), 0 );
+			started.createContext( "/metrics", this::handle );
+			executor = Executors.newSingleThreadExecutor( runnable -> {
+				Thread thread = new Thread( runnable, "LSP_metrics" );
+				thread.setDaemon( true );
+				return thread;
+			} );
+			started.setExecutor( executor );
+			started.start();
+			server			= started;
+			configuredPort	= port;
+			App.logger.info( "Serving metrics on http://127.0.0.1:{}/metrics", port );
+		} catch ( IOException e ) {
+			stop();
+			App.logger.warn( "Unable to serve metrics on 127.0.0.1:" + port, e );
+		}
+	}
+
+	public synchronized void stop() {
+		if ( server != null ) {
+			server.stop( 0 );
+			server = null;
+			App.logger.info( "Stopped serving metrics on port {}", configuredPort );
+		}
+		if ( executor != null ) {
+			executor.shutdownNow();
+			executor = null;
+		}
+		configuredPort = 0;
+	}
+
+	/**
+	 * @return The port the listener is bound to, or 0 if it is not running
+	 */
+	public synchronized int getPort() {
+		return server == null ? 0 : server.getAddress().getPort();
+	}
+
+	private void handle( HttpExchange exchange ) throws IOException {
+		try {
+			if ( !"GET".equals( exchange.getRequestMethod() ) ) {
+				exchange.sendResponseHeaders( 405, -1 );
+				return;
+			}
+			byte[] body = MetricsRegistry.getInstance().toPrometheus().getBytes( StandardCharsets.UTF_8 );
+			exchange.getResponseHeaders().set( "Content-Type", "text/plain; version=0.0.4; charset=utf-8" );
+			exchange.sendResponseHeaders( 200, body.length );
+			try ( OutputStream out = exchange.getResponseBody() ) {
+				out.write( body );
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+}
@@ -0,0 +1,231 @@
+package ortus.boxlang.lsp.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+
+import ortus.boxlang.lsp.RequestScheduler;
+import ortus.boxlang.lsp.workspace.FileParseResult;
+import ortus.boxlang.lsp.workspace.ProjectContextProvider;
+import ortus.boxlang.lsp.workspace.index.ProjectIndex;
+
+/**
+ * In-process metrics describing the health of the server: request latency
+ * per LSP method, queue depths, parse counts, cache hit rates, index size,
+ * heap after GC and workspace scan durations.
+ *
+ * Returned by the {@code boxlang/metrics} request and, when the
+ * {@code metricsPort} setting is set, served in the Prometheus text format by
+ * {@link MetricsHttpServer}.
+ */
+public class MetricsRegistry {
+
+	private static final MetricsRegistry		instance		= new MetricsRegistry();
+
+	private final Map<String, Histogram>		requests		= new ConcurrentHashMap<>();
+	// Requests received from the client that have not been answered yet, by request ID
+	private final Map<String, PendingRequest>	pending			= new ConcurrentHashMap<>();
+	private final Histogram						workspaceScans	= new Histogram();
+
+	private record PendingRequest( String method, long startNanos ) {
+	}
+
+	/**
+	 * The response of the {@code boxlang/metrics} request.
+	 *
+	 * @param requests                 Time from receiving a request to sending its response, per LSP method
+	 * @param lanes                    The scheduler lanes
+	 * @param diagnosticPublishQueue   URIs waiting for their diagnostics to be published
+	 * @param sourceParses             How many times source was parsed
+	 * @param astCacheHits             AST lookups served by the held AST
+	 * @param astCacheMisses           AST lookups that had to parse again
+	 * @param documentationCacheHits   Documentation lookups served from the cache
+	 * @param documentationCacheMisses Documentation lookups that read the source file
+	 * @param indexedFiles             Files in the project index
+	 * @param indexedClasses           Classes and interfaces in the project index
+	 * @param indexedMethods           Methods and functions in the project index
+	 * @param heapUsedBytes            The heap in use now
+	 * @param heapAfterGcBytes         The heap still in use after the last collection of each pool
+	 * @param workspaceScans           How long full workspace scans took
+	 */
+	public record Metrics(
+	    Map<String, Histogram.Snapshot> requests,
+	    List<RequestScheduler.LaneStats> lanes,
+	    int diagnosticPublishQueue,
+	    long sourceParses,
+	    long astCacheHits,
+	    long astCacheMisses,
+	    long documentationCacheHits,
+	    long documentationCacheMisses,
+	    int indexedFiles,
+	    int indexedClasses,
+	    int indexedMethods,
+	    long heapUsedBytes,
+	    long heapAfterGcBytes,
+	    Histogram.Snapshot workspaceScans ) {
+	}
+
+	MetricsRegistry() {
+	}
+
+	public static MetricsRegistry getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Wrap the message streams of the JSON-RPC connection to time each request
+	 * from its arrival until its response is written. lsp4j wraps both streams
+	 * with the same function: the incoming stream ends in the
+	 * {@link RemoteEndpoint}, the outgoing one writes to the client.
+	 */
+	public MessageConsumer wrap( MessageConsumer consumer ) {
+		if ( consumer instanceof RemoteEndpoint ) {
+			return message -> {
+				if ( message instanceof RequestMessage request && request.getId() != null ) {
+					pending.put( request.getId(), new PendingRequest( request.getMethod(), System.nanoTime() ) );
+				}
+				consumer.consume( message );
+			};
+		}
+
+		return message -> {
+			if ( message instanceof ResponseMessage response && response.getId() != null ) {
+				PendingRequest request = pending.remove( response.getId() );
+				if ( request != null ) {
+					recordRequest( request.method(), System.nanoTime() - request.startNanos() );
+				}
+			}
+			consumer.consume( message );
+		};
+	}
+
+	public void recordRequest( String method, long nanos ) {
+		requests.computeIfAbsent( method, k -> new Histogram() ).record( nanos );
+	}
+
+	public void recordWorkspaceScan( long nanos ) {
+		workspaceScans.record( nanos );
+	}
+
+	public Metrics getMetrics() {
+		Map<String, Histogram.Snapshot> requestStats = new TreeMap<>();
+		requests.forEach( ( method, histogram ) -> requestStats.put( method, histogram.snapshot() ) );
+
+		ProjectContextProvider	provider		= ProjectContextProvider.getInstance();
+		ProjectIndex			index			= provider.findIndex().orElse( null );
+
+		return new Metrics(
+		    requestStats,
+		    RequestScheduler.getInstance().getLaneStats(),
+		    provider.getDiagnosticPublisher().getQueueDepth(),
+		    FileParseResult.getSourceParseCount(),
+		    FileParseResult.getAstCacheHitCount(),
+		    FileParseResult.getAstCacheMissCount(),
+		    index == null ? 0 : index.getDocumentationStore().getHitCount(),
+		    index == null ? 0 : index.getDocumentationStore().getMissCount(),
+		    index == null ? 0 : index.getIndexedFileCount(),
+		    index == null ? 0 : index.getClassCount(),
+		    index == null ? 0 : index.getMethodCount(),
+		    ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+		    heapAfterGcBytes(),
+		    workspaceScans.snapshot() );
+	}
+
+	/**
+	 * @return The metrics in the Prometheus text exposition format
+	 */
+	public String toPrometheus() {
+		Metrics			metrics	= getMetrics();
+		StringBuilder	out		= new StringBuilder();
+
+		header( out, "boxlang_lsp_request_duration_seconds", "summary", "Time from receiving an LSP request to sending its response." );
+		metrics.requests().forEach( ( method, timing ) -> summary( out, "boxlang_lsp_request_duration_seconds", "method=\"" + escape( method ) + "\"", timing ) );
+
+		header( out, "boxlang_lsp_queue_depth", "gauge", "Tasks waiting in each scheduler lane." );
+		for ( RequestScheduler.LaneStats lane : metrics.lanes() ) {
+			sample( out, "boxlang_lsp_queue_depth{lane=\"" + lane.lane() + "\"}", lane.queued() );
+		}
+		header( out, "boxlang_lsp_active_tasks", "gauge", "Tasks running in each scheduler lane." );
+		for ( RequestScheduler.LaneStats lane : metrics.lanes() ) {
+			sample( out, "boxlang_lsp_active_tasks{lane=\"" + lane.lane() + "\"}", lane.active() );
+		}
+
+		gauge( out, "boxlang_lsp_diagnostic_publish_queue", "URIs waiting for their diagnostics to be published.", metrics.diagnosticPublishQueue() );
+		counter( out, "boxlang_lsp_source_parses_total", "Times source was parsed.", metrics.sourceParses() );
+		counter( out, "boxlang_lsp_ast_cache_hits_total", "AST lookups served by the held AST.", metrics.astCacheHits() );
+		counter( out, "boxlang_lsp_ast_cache_misses_total", "AST lookups that had to parse again.", metrics.astCacheMisses() );
+		counter( out, "boxlang_lsp_documentation_cache_hits_total", "Documentation lookups served from the cache.", metrics.documentationCacheHits() );
+		counter( out, "boxlang_lsp_documentation_cache_misses_total", "Documentation lookups that read the source file.", metrics.documentationCacheMisses() );
+		gauge( out, "boxlang_lsp_indexed_files", "Files in the project index.", metrics.indexedFiles() );
+		gauge( out, "boxlang_lsp_indexed_classes", "Classes and interfaces in the project index.", metrics.indexedClasses() );
+		gauge( out, "boxlang_lsp_indexed_methods", "Methods and functions in the project index.", metrics.indexedMethods() );
+		gauge( out, "boxlang_lsp_heap_used_bytes", "Heap in use.", metrics.heapUsedBytes() );
+		gauge( out, "boxlang_lsp_heap_after_gc_bytes", "Heap still in use after the last collection.", metrics.heapAfterGcBytes() );
+
+		header( out, "boxlang_lsp_workspace_scan_duration_seconds", "summary", "Duration of full workspace scans." );
+		summary( out, "boxlang_lsp_workspace_scan_duration_seconds", null, metrics.workspaceScans() );
+
+		return out.toString();
+	}
+
+	/**
+	 * The heap the last collection of each pool left in use, which unlike the
+	 * current usage does not grow with garbage that has not been collected yet.
+	 */
+	static long heapAfterGcBytes() {
+		long used = 0;
+		for ( MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans() ) {
+			if ( pool.getType() != MemoryType.HEAP ) {
+				continue;
+			}
+			MemoryUsage usage = pool.getCollectionUsage();
+			if ( usage != null ) {
+				used += usage.getUsed();
+			}
+		}
+		return used;
+	}
+
+	private static void header( StringBuilder out, String name, String type, String help ) {
+		out.append( "# HELP " ).append( name ).append( ' ' ).append( help ).append( '\n' );
+		out.append( "# TYPE " ).append( name ).append( ' ' ).append( type ).append( '\n' );
+	}
+
+	private static void sample( StringBuilder out, String series, Number value ) {
+		out.append( series ).append( ' ' ).append( value ).append( '\n' );
+	}
+
+	private static void gauge( StringBuilder out, String name, String help, long value ) {
+		header( out, name, "gauge", help );
+		sample( out, name, value );
+	}
+
+	private static void counter( StringBuilder out, String name, String help, long value ) {
+		header( out, name, "counter", help );
+		sample( out, name, value );
+	}
+
+	private static void summary( StringBuilder out, String name, String labels, Histogram.Snapshot timing ) {
+		String prefix = labels == null ? "" : labels + ",";
+		sample( out, name + "{" + prefix + "quantile=\"0.5\"}", timing.p50Millis() / 1000 );
+		sample( out, name + "{" + prefix + "quantile=\"0.9\"}", timing.p90Millis() / 1000 );
+		sample( out, name + "{" + prefix + "quantile=\"0.99\"}", timing.p99Millis() / 1000 );
+		String suffix = labels == null ? "" : "{" + labels + "}";
+		sample( out, name + "_sum" + suffix, timing.totalMillis() / 1000 );
+		sample( out, name + "_count" + suffix, timing.count() );
+	}
+
+	private static String escape( String label ) {
+		return label.replace( "\\", "\\\\" ).replace( "\"", "\\\"" ).replace( "\n", "\\n" );
+	}
+}
@@ -0,0 +1,142 @@
+package ortus.boxlang.lsp.workspace;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@code Application.bx} / {@code Application.cfc} files of a workspace,
+ * keyed by the directory that contains them.
+ *
+ * The map is filled from the paths seen during a workspace walk, so finding the
+ * Application file that governs a source file (the nearest one in the file's
+ * directory or any ancestor up to the workspace root) is a series of hash
+ * lookups instead of a {@code Files.list} per ancestor directory. Lookups are
+ * memoized per directory; the memo is dropped whenever an Application file is
+ * added or removed.
+ *
+ * When a directory contains both files, {@code Application.bx} wins.
+ */
+public class ApplicationFileMap {
+
+	private final Path						workspaceRoot;
+	private final Map<Path, Path>			applicationFileByDir	= new ConcurrentHashMap<>();
+	private final Map<Path, Optional<Path>>	governingFileByDir		= new ConcurrentHashMap<>();
+
+	public ApplicationFileMap( Path workspaceRoot ) {
+		this.workspaceRoot = workspaceRoot.toAbsolutePath().normalize();
+	}
+
+	public Path getWorkspaceRoot() {
+		return workspaceRoot;
+	}
+
+	/**
+	 * @return whether the file name is {@code Application.bx} or {@code Application.cfc}, ignoring case
+	 */
+	public static boolean isApplicationFile( Path path ) {
+		Path fileName = path.getFileName();
+		if ( fileName == null ) {
+			return false;
+		}
+		String name = fileName.toString();
+		return name.equalsIgnoreCase( "Application.bx" ) || name.equalsIgnoreCase( "Application.cfc" );
+	}
+
+	/**
+	 * Record a path seen while walking the workspace. Paths that are not
+	 * Application files are ignored.
+	 */
+	public void record( Path path ) {
+		if ( !isApplicationFile( path ) ) {
+			return;
+		}
+
+		Path	file	= path.toAbsolutePath().normalize();
+		Path	dir		= file.getParent();
+		if ( dir == null ) {
+			return;
+		}
+
+		applicationFileByDir.merge( dir, file, ( existing, added ) -> isBx( added ) && !isBx( existing ) ? added : existing );
+		governingFileByDir.clear();
+	}
+
+	/**
+	 * Update the map after an Application file was created, changed or deleted.
+	 */
+	public void refresh( Path path ) {
+		if ( !isApplicationFile( path ) ) {
+			return;
+		}
+
+		Path	file	= path.toAbsolutePath().normalize();
+		Path	dir		= file.getParent();
+		if ( dir == null ) {
+			return;
+		}
+
+		if ( Files.isRegularFile( file ) ) {
+			record( file );
+			return;
+		}
+
+		applicationFileByDir.remove( dir, file );
+		// The other Application file of the directory, if any, governs it now
+		Path sibling = dir.resolve( isBx( file ) ? "Application.cfc" : "Application.bx" );
+		if ( Files.isRegularFile( sibling ) ) {
+			record( sibling );
+		}
+		governingFileByDir.clear();
+	}
+
+	/**
+	 * Find the Application file governing a source file without touching the
+	 * filesystem.
+	 *
+	 * @param filePath The source file
+	 *
+	 * @return The nearest Application file in the file's directory or one of its
+	 *         ancestors within the workspace root, or empty if there is none
+	 */
+	public Optional<Path> findGoverningFile( Path filePath ) {
+		Path dir = filePath.toAbsolutePath().normalize().getParent();
+		if ( dir == null || !dir.startsWith( workspaceRoot ) ) {
+			return Optional.empty();
+		}
+		return governingFile( dir );
+	}
+
+	/**
+	 * @return whether the path lies within the workspace root this map covers
+	 */
+	public boolean covers( Path filePath ) {
+		return filePath.toAbsolutePath().normalize().startsWith( workspaceRoot );
+	}
+
+	public int size() {
+		return applicationFileByDir.size();
+	}
+
+	private Optional<Path> governingFile( Path dir ) {
+		Optional<Path> cached = governingFileByDir.get( dir );
+		if ( cached != null ) {
+			return cached;
+		}
+
+		Path			own			= applicationFileByDir.get( dir );
+		Path			parent		= dir.getParent();
+		Optional<Path>	governing	= own != null
+		    ? Optional.of( own )
+		    : ( dir.equals( workspaceRoot ) || parent == null ? Optional.empty() : governingFile( parent ) );
+
+		governingFileByDir.put( dir, governing );
+		return governing;
+	}
+
+	private static boolean isBx( Path file ) {
+		return file.getFileName().toString().equalsIgnoreCase( "Application.bx" );
+	}
+}
@@ -0,0 +1,32 @@
+package ortus.boxlang.lsp.workspace;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Helpers for threading request cancellation through providers and visitors.
+ *
+ * Request handlers receive a {@link CancelChecker} from
+ * {@code CompletableFutures.computeAsync}. Providers accept it as a parameter
+ * and call {@link CancelChecker#checkCanceled()} at loop and traversal
+ * boundaries, which throws a {@code CancellationException} once the client has
+ * cancelled the request or superseded it with a newer one.
+ */
+public class Cancellation {
+
+	/**
+	 * A checker that never cancels, used by callers that are not tied to an LSP
+	 * request (tests, background work, internal lookups).
+	 */
+	public static final CancelChecker NONE = () -> {
+	};
+
+	private Cancellation() {
+	}
+
+	/**
+	 * Returns the given checker, or {@link #NONE} if it is null.
+	 */
+	public static CancelChecker orNone( CancelChecker cancelChecker ) {
+		return cancelChecker == null ? NONE : cancelChecker;
+	}
+}
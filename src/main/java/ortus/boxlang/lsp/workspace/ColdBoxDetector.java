@@ -6,7 +6,6 @@ import java.nio.file.Path;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.stream.Stream;
 
 public class ColdBoxDetector {
 
@@ -39,12 +38,12 @@ public class ColdBoxDetector {
 		}
 
 		// Heuristic 2: /coldbox directory exists
-		if ( Files.isDirectory( appRoot.resolve( "coldbox" ) ) ) {
+		if ( DirectorySnapshot.getInstance().isDirectory( appRoot.resolve( "coldbox" ) ) ) {
 			return true;
 		}
 
 		// Heuristic 3: config/Coldbox.cfc exists
-		if ( Files.isRegularFile( appRoot.resolve( "config/Coldbox.cfc" ) ) ) {
+		if ( DirectorySnapshot.getInstance().isRegularFile( appRoot.resolve( "config/Coldbox.cfc" ) ) ) {
 			return true;
 		}
 
@@ -71,7 +70,7 @@ public class ColdBoxDetector {
 
 		for ( String dirName : new String[] { "modules", "modules_app" } ) {
 			Path modulesDir = appRoot.resolve( dirName );
-			if ( Files.isDirectory( modulesDir ) ) {
+			if ( DirectorySnapshot.getInstance().isDirectory( modulesDir ) ) {
 				scanModules( modulesDir, appRoot, result );
 			}
 		}
@@ -86,7 +85,7 @@ public class ColdBoxDetector {
 	private static Path findApplicationFile( Path dir ) {
 		for ( String name : new String[] { "Application.bx", "Application.cfc" } ) {
 			Path candidate = dir.resolve( name );
-			if ( Files.isRegularFile( candidate ) ) {
+			if ( DirectorySnapshot.getInstance().isRegularFile( candidate ) ) {
 				return candidate;
 			}
 		}
@@ -103,33 +102,31 @@ public class ColdBoxDetector {
 	}
 
 	private static void scanModules( Path modulesDir, Path appRoot, Map<String, Path> result ) {
-		try ( Stream<Path> entries = Files.list( modulesDir ) ) {
-			entries
-			    .filter( Files::isDirectory )
-			    .forEach( moduleDir -> {
-				    String key	= "/" + moduleDir.getFileName().toString();
-				    int	depth	= moduleDir.getNameCount() - appRoot.getNameCount();
-
-				    // Only add if key not present or this one is less nested
-				    if ( !result.containsKey( key ) ) {
+		DirectorySnapshot directories = DirectorySnapshot.getInstance();
+		directories.list( modulesDir ).stream()
+		    .filter( DirectorySnapshot.Entry::isDirectory )
+		    .map( DirectorySnapshot.Entry::path )
+		    .forEach( moduleDir -> {
+			    String key	= "/" + moduleDir.getFileName().toString();
+			    int	depth	= moduleDir.getNameCount() - appRoot.getNameCount();
+
+			    // Only add if key not present or this one is less nested
+			    if ( !result.containsKey( key ) ) {
+				    result.put( key, moduleDir.toAbsolutePath().normalize() );
+			    } else {
+				    int existingDepth = result.get( key ).getNameCount() - appRoot.getNameCount();
+				    if ( depth < existingDepth ) {
 					    result.put( key, moduleDir.toAbsolutePath().normalize() );
-				    } else {
-					    int existingDepth = result.get( key ).getNameCount() - appRoot.getNameCount();
-					    if ( depth < existingDepth ) {
-						    result.put( key, moduleDir.toAbsolutePath().normalize() );
-					    }
 				    }
+			    }
 
-				    // Recurse into nested modules/ and modules_app/
-				    for ( String nestedName : new String[] { "modules", "modules_app" } ) {
-					    Path nestedModules = moduleDir.resolve( nestedName );
-					    if ( Files.isDirectory( nestedModules ) ) {
-						    scanModules( nestedModules, appRoot, result );
-					    }
+			    // Recurse into nested modules/ and modules_app/
+			    for ( String nestedName : new String[] { "modules", "modules_app" } ) {
+				    Path nestedModules = moduleDir.resolve( nestedName );
+				    if ( directories.isDirectory( nestedModules ) ) {
+					    scanModules( nestedModules, appRoot, result );
 				    }
-			    } );
-		} catch ( IOException e ) {
-			// Silently ignore unreadable directories
-		}
+			    }
+		    } );
 	}
 }
@@ -10,6 +10,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import ortus.boxlang.lsp.App;
+import ortus.boxlang.lsp.RequestScheduler;
+import ortus.boxlang.lsp.RequestScheduler.Lane;
 
 /**
  * Provides debouncing functionality for document processing operations.
@@ -88,10 +90,11 @@ public class DebouncedDocumentProcessor {
 				pendingTasks.remove( uri );
 				Runnable action = pendingActions.remove( uri );
 
+				// Account for the parse in the document sync lane so background work backs off
 				if ( action != null ) {
-					action.run();
+					RequestScheduler.getInstance().runInLane( Lane.DOCUMENT_SYNC, action );
 				} else if ( onProcessDocument != null ) {
-					onProcessDocument.accept( uri );
+					RequestScheduler.getInstance().runInLane( Lane.DOCUMENT_SYNC, () -> onProcessDocument.accept( uri ) );
 				}
 			} catch ( Exception e ) {
 				App.logger.error( "Error processing document: " + uri, e );
@@ -0,0 +1,175 @@
+package ortus.boxlang.lsp.workspace;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+
+import ortus.boxlang.lsp.App;
+import ortus.boxlang.lsp.RequestScheduler;
+import ortus.boxlang.lsp.RequestScheduler.Lane;
+
+/**
+ * Sends {@code textDocument/publishDiagnostics} notifications, skipping any
+ * whose diagnostics are identical to what the client was last sent for the URI.
+ *
+ * Publishes for many files at once, such as after a workspace scan or a lint
+ * configuration change, are queued and drained at most {@code batchSize}
+ * notifications per {@code intervalMs}, so the client is not sent thousands of
+ * notifications in one burst. The diagnostics of a queued URI are read when it
+ * is drained, so a URI queued several times is published once, with its latest
+ * diagnostics.
+ */
+public class DiagnosticPublisher {
+
+	static final int										DEFAULT_BATCH_SIZE	= 100;
+	static final long										DEFAULT_INTERVAL_MS	= 100;
+
+	private final Consumer<PublishDiagnosticsParams>		sink;
+	private final Function<URI, List<Diagnostic>>			source;
+	private final int										batchSize;
+	private final long										intervalMs;
+
+	/**
+	 * The {@link DiagnosticReport#contentResultId(List) content result ID} of
+	 * what the client was last sent per URI, so only a short hash is kept
+	 * instead of a copy of the diagnostics. A URI without an entry has no
+	 * diagnostics on the client, which is also where every URI starts.
+	 */
+	private final Map<URI, String>							published			= new ConcurrentHashMap<>();
+	private final ConcurrentLinkedQueue<URI>				queue				= new ConcurrentLinkedQueue<>();
+	private final Set<URI>									queued				= ConcurrentHashMap.newKeySet();
+	private final AtomicBoolean								draining			= new AtomicBoolean( false );
+	private final ScheduledExecutorService					scheduler;
+
+	/**
+	 * @param sink   Sends a notification to the client
+	 * @param source The current diagnostics of a URI, read when a queued URI is drained
+	 */
+	public DiagnosticPublisher( Consumer<PublishDiagnosticsParams> sink, Function<URI, List<Diagnostic>> source ) {
+		this( sink, source, DEFAULT_BATCH_SIZE, DEFAULT_INTERVAL_MS );
+	}
+
+	public DiagnosticPublisher( Consumer<PublishDiagnosticsParams> sink, Function<URI, List<Diagnostic>> source, int batchSize, long intervalMs ) {
+		this.sink		= sink;
+		this.source		= source;
+		this.batchSize	= batchSize;
+		this.intervalMs	= intervalMs;
+		this.scheduler	= Executors.newSingleThreadScheduledExecutor( r -> {
+							Thread t = new Thread( r, "DiagnosticPublisher" );
+							t.setDaemon( true );
+							return t;
+						} );
+	}
+
+	/**
+	 * Publish the diagnostics of a URI now, unless the client already has them.
+	 *
+	 * @return Whether a notification was sent
+	 */
+	public boolean publish( URI uri, List<Diagnostic> diagnostics ) {
+		List<Diagnostic>	current		= diagnostics == null ? List.of() : diagnostics;
+		String				resultId	= current.isEmpty() ? null : DiagnosticReport.contentResultId( current );
+		boolean[]			changed		= { false };
+		// Compute on the map entry so concurrent publishes for one URI are ordered
+		published.compute( uri, ( key, previous ) -> {
+			if ( Objects.equals( previous, resultId ) ) {
+				return previous;
+			}
+			changed[ 0 ] = true;
+			return resultId;
+		} );
+
+		if ( changed[ 0 ] ) {
+			PublishDiagnosticsParams params = new PublishDiagnosticsParams();
+			params.setUri( uri.toString() );
+			params.setDiagnostics( current );
+			sink.accept( params );
+		}
+		return changed[ 0 ];
+	}
+
+	/**
+	 * Queue URIs to be published by the rate limited drain.
+	 */
+	public void enqueue( Collection<URI> uris ) {
+		for ( URI uri : uris ) {
+			if ( queued.add( uri ) ) {
+				queue.add( uri );
+			}
+		}
+		if ( !queue.isEmpty() && draining.compareAndSet( false, true ) ) {
+			scheduler.execute( this::drainBatch );
+		}
+	}
+
+	/**
+	 * @return The number of URIs waiting to be published
+	 */
+	public int getQueueDepth() {
+		return queued.size();
+	}
+
+	/**
+	 * Forget what the client was sent for a URI, e.g. because the file was removed.
+	 */
+	public void forget( URI uri ) {
+		published.remove( uri );
+	}
+
+	/**
+	 * Forget everything the client was sent, e.g. because a new client connected.
+	 */
+	public void reset() {
+		published.clear();
+		queue.clear();
+		queued.clear();
+	}
+
+	private void drainBatch() {
+		try {
+			RequestScheduler.getInstance().runInLane( Lane.BACKGROUND, () -> {
+				for ( int i = 0; i < batchSize; i++ ) {
+					URI uri = queue.poll();
+					if ( uri == null ) {
+						break;
+					}
+					queued.remove( uri );
+					publish( uri, source.apply( uri ) );
+				}
+			} );
+		} catch ( Exception e ) {
+			App.logger.error( "Error publishing queued diagnostics", e );
+		}
+
+		if ( !queue.isEmpty() ) {
+			scheduler.schedule( this::drainBatch, intervalMs, TimeUnit.MILLISECONDS );
+			return;
+		}
+		draining.set( false );
+		// A URI may have been queued after the last poll but before the flag was cleared
+		if ( !queue.isEmpty() && draining.compareAndSet( false, true ) ) {
+			scheduler.schedule( this::drainBatch, intervalMs, TimeUnit.MILLISECONDS );
+		}
+	}
+
+	/**
+	 * Shuts down the drain.
+	 */
+	public void shutdown() {
+		scheduler.shutdownNow();
+	}
+}
@@ -1,17 +1,29 @@
 package ortus.boxlang.lsp.workspace;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.eclipse.lsp4j.Diagnostic;
-import org.eclipse.lsp4j.PreviousResultId;
+import org.eclipse.lsp4j.Range;
 
 public class DiagnosticReport {
 
 	private final URI			fileURI;
-	private long				resultId	= 0;
 	private List<Diagnostic>	diagnostics	= new ArrayList<>();
+	private int					contentHash	= diagnostics.hashCode();
+	private String				contentResultId;
+
+	/**
+	 * The diagnostics of a report together with their result ID, read at the same time.
+	 */
+	public record Snapshot( List<Diagnostic> diagnostics, String resultId ) {
+	}
 
 	public DiagnosticReport( URI fileURI ) {
 		this.fileURI = fileURI;
@@ -21,35 +33,87 @@ public class DiagnosticReport {
 		return diagnostics;
 	}
 
-	public synchronized void setDiagnostics( List<Diagnostic> diagnostics ) {
-		this.diagnostics = new ArrayList<>( diagnostics );
-		this.resultId++;
+	/**
+	 * Replace the diagnostics, moving to a new result ID only if they differ
+	 * from the current ones.
+	 *
+	 * @return Whether the diagnostics changed
+	 */
+	public synchronized boolean setDiagnostics( List<Diagnostic> diagnostics ) {
+		int hash = diagnostics.hashCode();
+		if ( hash == this.contentHash && this.diagnostics.equals( diagnostics ) ) {
+			return false;
+		}
+		this.diagnostics		= new ArrayList<>( diagnostics );
+		this.contentHash		= hash;
+		this.contentResultId	= null;
+		return true;
 	}
 
 	public URI getFileURI() {
 		return fileURI;
 	}
 
-	public synchronized long getResultId() {
-		return resultId;
+	/**
+	 * The result ID sent to clients pulling diagnostics. It is derived from the
+	 * diagnostics alone, so it is the same for the same diagnostics, also after
+	 * the file went back to an earlier state or the server was restarted.
+	 */
+	public synchronized String getContentResultId() {
+		if ( contentResultId == null ) {
+			contentResultId = contentResultId( diagnostics );
+		}
+		return contentResultId;
 	}
 
-	public synchronized boolean matches( PreviousResultId previousResultId ) {
-		if ( previousResultId == null || previousResultId.getValue() == null ) {
-			return false;
-		}
+	/**
+	 * @return The diagnostics and their result ID, consistent with each other
+	 *         even while the report is being updated
+	 */
+	public synchronized Snapshot snapshot() {
+		return new Snapshot( diagnostics, getContentResultId() );
+	}
 
-		if ( this.fileURI.equals( previousResultId ) == false ) {
-			return false;
+	/**
+	 * Hash a canonical rendering of the diagnostics. The lsp4j hash codes are not
+	 * used because enum and {@code Map.of} hashing and ordering differ between runs.
+	 */
+	static String contentResultId( List<Diagnostic> diagnostics ) {
+		StringBuilder canonical = new StringBuilder();
+		for ( Diagnostic diagnostic : diagnostics ) {
+			Range range = diagnostic.getRange();
+			if ( range != null ) {
+				canonical.append( range.getStart().getLine() ).append( ':' ).append( range.getStart().getCharacter() ).append( '-' )
+				    .append( range.getEnd().getLine() ).append( ':' ).append( range.getEnd().getCharacter() );
+			}
+			canonical.append( '\u0000' ).append( diagnostic.getSeverity() == null ? "" : diagnostic.getSeverity().getValue() )
+			    .append( '\u0000' ).append( diagnostic.getCode() == null ? "" : diagnostic.getCode().get() )
+			    .append( '\u0000' ).append( diagnostic.getSource() )
+			    .append( '\u0000' ).append( diagnostic.getMessage() )
+			    .append( '\u0000' ).append( canonicalData( diagnostic.getData() ) )
+			    .append( '\u0000' ).append( diagnostic.getTags() )
+			    .append( '\n' );
 		}
 
 		try {
-			long	prevId	= Long.parseLong( previousResultId.getValue() );
-			boolean	matches	= this.resultId == prevId;
+			byte[]			hash	= MessageDigest.getInstance( "SHA-256" ).digest( canonical.toString().getBytes( StandardCharsets.UTF_8 ) );
+			StringBuilder	hex		= new StringBuilder();
+			// 64 bits are plenty to tell the diagnostic sets of one file apart
+			for ( int i = 0; i < 8; i++ ) {
+				hex.append( String.format( "%02x", hash[ i ] ) );
+			}
+			return hex.toString();
+		} catch ( NoSuchAlgorithmException e ) {
+			throw new RuntimeException( e );
+		}
+	}
 
-			return matches;
-		} catch ( NumberFormatException nfe ) {
-			return false;
+	private static String canonicalData( Object data ) {
+		if ( data instanceof Map<?, ?> map ) {
+			Map<String, String> sorted = new TreeMap<>();
+			map.forEach( ( key, value ) -> sorted.put( String.valueOf( key ), canonicalData( value ) ) );
+			return sorted.toString();
 		}
+		return String.valueOf( data );
 	}
 }
@@ -0,0 +1,358 @@
+package ortus.boxlang.lsp.workspace;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An in-memory snapshot of the directory tree of the workspace and the
+ * directories mapped into it, shared by everything that needs to know which
+ * files exist: completion, mapping resolution, formatter config resolution and
+ * ColdBox detection.
+ *
+ * The workspace part is published from the workspace scan and then kept current
+ * by file watch events, so answering from it never touches the filesystem.
+ * Directories the scan skipped are listed once, on demand.
+ * Directories outside the watched roots (mapped directories, module
+ * directories) are listed the first time they are asked for and listed again
+ * once their listing is older than {@link #UNWATCHED_TTL_MS}, since no watch
+ * events arrive for them.
+ */
+public class DirectorySnapshot {
+
+	/**
+	 * How long the listing of a directory outside every watched root is trusted.
+	 */
+	static final long						UNWATCHED_TTL_MS	= 10_000;
+
+	private static final DirectorySnapshot	instance			= new DirectorySnapshot();
+
+	private final Map<Path, Listing>		listings			= new ConcurrentHashMap<>();
+	private final Set<Path>					watchedRoots		= ConcurrentHashMap.newKeySet();
+	// Builders of walks still running, which must replay the events that arrive meanwhile
+	private final Set<Builder>				walking				= ConcurrentHashMap.newKeySet();
+
+	/**
+	 * A directory entry.
+	 */
+	public record Entry( Path path, boolean isDirectory ) {
+
+		public String name() {
+			return path.getFileName().toString();
+		}
+	}
+
+	/**
+	 * The entries of one directory by name, or {@code exists == false} if the
+	 * directory did not exist when it was listed.
+	 */
+	private record Listing( boolean exists, Map<String, Entry> entries, long listedAt ) {
+	}
+
+	public DirectorySnapshot() {
+	}
+
+	public static DirectorySnapshot getInstance() {
+		return instance;
+	}
+
+	// ============ Queries ============
+
+	/**
+	 * @return the entries of a directory sorted by name, or an empty list if it does not exist
+	 */
+	public List<Entry> list( Path dir ) {
+		return new ArrayList<>( listing( normalize( dir ) ).entries().values() );
+	}
+
+	public boolean exists( Path path ) {
+		return entry( path ).isPresent();
+	}
+
+	public boolean isDirectory( Path path ) {
+		return entry( path ).map( Entry::isDirectory ).orElse( false );
+	}
+
+	public boolean isRegularFile( Path path ) {
+		return entry( path ).map( e -> !e.isDirectory() ).orElse( false );
+	}
+
+	/**
+	 * Find the first of the given names in a directory, ignoring case.
+	 *
+	 * @param dir   The directory to look in
+	 * @param names The file names to look for, in order of preference
+	 *
+	 * @return The path of the entry as it is spelled on disk
+	 */
+	public Optional<Path> findIgnoreCase( Path dir, String... names ) {
+		Map<String, Entry> entries = listing( normalize( dir ) ).entries();
+		for ( String name : names ) {
+			Entry exact = entries.get( name );
+			if ( exact != null ) {
+				return Optional.of( exact.path() );
+			}
+			for ( Entry candidate : entries.values() ) {
+				if ( candidate.name().equalsIgnoreCase( name ) ) {
+					return Optional.of( candidate.path() );
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
+	private Optional<Entry> entry( Path path ) {
+		Path	normalized	= normalize( path );
+		Path	parent		= normalized.getParent();
+		if ( parent == null ) {
+			// A filesystem root has no parent listing to look it up in
+			return Files.isDirectory( normalized ) ? Optional.of( new Entry( normalized, true ) ) : Optional.empty();
+		}
+		return Optional.ofNullable( listing( parent ).entries().get( normalized.getFileName().toString() ) );
+	}
+
+	private Listing listing( Path dir ) {
+		Listing cached = listings.get( dir );
+		if ( cached != null && ( isWatched( dir ) || System.currentTimeMillis() - cached.listedAt() < UNWATCHED_TTL_MS ) ) {
+			return cached;
+		}
+
+		Listing listed = read( dir );
+		listings.put( dir, listed );
+		return listed;
+	}
+
+	private boolean isWatched( Path dir ) {
+		for ( Path root : watchedRoots ) {
+			if ( dir.startsWith( root ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Listing read( Path dir ) {
+		Map<String, Entry> entries = new TreeMap<>();
+		try ( DirectoryStream<Path> stream = Files.newDirectoryStream( dir ) ) {
+			for ( Path child : stream ) {
+				entries.put( child.getFileName().toString(), new Entry( child, Files.isDirectory( child ) ) );
+			}
+		} catch ( NoSuchFileException | NotDirectoryException e ) {
+			return new Listing( false, Map.of(), System.currentTimeMillis() );
+		} catch ( IOException e ) {
+			// Unreadable: answer as empty, and try again once the listing expires
+		}
+		return new Listing( true, Collections.unmodifiableMap( entries ), System.currentTimeMillis() );
+	}
+
+	private static Path normalize( Path path ) {
+		return path.toAbsolutePath().normalize();
+	}
+
+	// ============ Updates ============
+
+	/**
+	 * Start collecting the directory tree of a workspace root during a scan.
+	 * Nothing changes until {@link Builder#publish(boolean)} is called.
+	 * A walk of the same root that never published is abandoned.
+	 */
+	public Builder builder( Path root ) {
+		Builder builder = new Builder( normalize( root ) );
+		walking.removeIf( other -> other.root.equals( builder.root ) );
+		walking.add( builder );
+		return builder;
+	}
+
+	/**
+	 * Update the snapshot for a path that was created, changed or deleted,
+	 * looking only at that path.
+	 */
+	public void refresh( Path path ) {
+		Path normalized = normalize( path );
+		if ( Files.exists( normalized ) ) {
+			created( normalized );
+		} else {
+			deleted( normalized );
+		}
+	}
+
+	/**
+	 * Record a path reported as created by a file watcher.
+	 */
+	public void created( Path path ) {
+		Path	normalized	= normalize( path );
+		Path	parent		= normalized.getParent();
+		boolean	isDirectory	= Files.isDirectory( normalized );
+		recordDuringWalks( normalized, false );
+		if ( isDirectory ) {
+			// A directory that was listed as missing exists now
+			listings.remove( normalized );
+		}
+		if ( parent != null ) {
+			listings.computeIfPresent( parent, ( dir, listing ) -> {
+				Map<String, Entry> entries = new TreeMap<>( listing.entries() );
+				entries.put( normalized.getFileName().toString(), new Entry( normalized, isDirectory ) );
+				return new Listing( true, Collections.unmodifiableMap( entries ), listing.listedAt() );
+			} );
+		}
+	}
+
+	/**
+	 * Record a path reported as deleted by a file watcher, forgetting everything
+	 * below it if it was a directory.
+	 */
+	public void deleted( Path path ) {
+		Path	normalized	= normalize( path );
+		Path	parent		= normalized.getParent();
+		recordDuringWalks( normalized, false );
+		listings.keySet().removeIf( dir -> dir.startsWith( normalized ) );
+		if ( parent != null ) {
+			listings.computeIfPresent( parent, ( dir, listing ) -> {
+				if ( !listing.entries().containsKey( normalized.getFileName().toString() ) ) {
+					return listing;
+				}
+				Map<String, Entry> entries = new TreeMap<>( listing.entries() );
+				entries.remove( normalized.getFileName().toString() );
+				return new Listing( listing.exists(), Collections.unmodifiableMap( entries ), listing.listedAt() );
+			} );
+		}
+	}
+
+	/**
+	 * Forget the listing of a directory, e.g. after the watcher lost events for
+	 * it, so it is listed again when next asked for.
+	 */
+	public void invalidate( Path dir ) {
+		Path normalized = normalize( dir );
+		recordDuringWalks( normalized, true );
+		listings.remove( normalized );
+	}
+
+	/**
+	 * Remember a change for every walk that may already have passed the path,
+	 * so it is not lost when the walk publishes. This happens before the change
+	 * is applied: a change that finds the walk published is applied on top of
+	 * the published listings instead.
+	 */
+	private void recordDuringWalks( Path normalized, boolean invalidate ) {
+		for ( Builder builder : walking ) {
+			builder.record( normalized, invalidate );
+		}
+	}
+
+	/**
+	 * Stop trusting the listings below a root, e.g. because its file watcher
+	 * stopped or could not watch every directory. They are listed again when
+	 * next asked for and expire like those of unwatched directories from then on.
+	 */
+	public void unwatch( Path root ) {
+		Path normalized = normalize( root );
+		watchedRoots.remove( normalized );
+		listings.keySet().removeIf( dir -> dir.startsWith( normalized ) );
+	}
+
+	/**
+	 * Forget everything, including which roots are watched.
+	 */
+	public void clear() {
+		walking.clear();
+		listings.clear();
+		watchedRoots.clear();
+	}
+
+	/**
+	 * Collects the directories and files seen during a workspace walk.
+	 */
+	public class Builder {
+
+		private final Path							root;
+		private final Map<Path, Map<String, Entry>>	collected	= new HashMap<>();
+		// Changes reported while the walk ran, guarded by this builder
+		private final List<Change>					changes		= new ArrayList<>();
+		private boolean								published;
+
+		private Builder( Path root ) {
+			this.root = root;
+		}
+
+		/**
+		 * Record a directory whose entries are all reported to this builder.
+		 * Directories that are only {@link #add added} but never recorded, such
+		 * as directories the walk skipped, are listed on demand instead.
+		 */
+		public void directory( Path dir ) {
+			collected.computeIfAbsent( normalize( dir ), k -> new TreeMap<>() );
+		}
+
+		/**
+		 * Record a file or directory found in a recorded directory.
+		 */
+		public void add( Path path, boolean isDirectory ) {
+			Path	normalized	= normalize( path );
+			Path	parent		= normalized.getParent();
+			if ( parent == null || normalized.equals( root ) ) {
+				return;
+			}
+			Map<String, Entry> entries = collected.get( parent );
+			if ( entries != null ) {
+				entries.put( normalized.getFileName().toString(), new Entry( normalized, isDirectory ) );
+			}
+		}
+
+		/**
+		 * Replace everything known about the root with what was collected.
+		 *
+		 * @param watched Whether file watch events for the root will be reported,
+		 *                so the listings can be trusted until then; otherwise they
+		 *                expire like those of unwatched directories
+		 */
+		public void publish( boolean watched ) {
+			List<Change> replay;
+			synchronized ( this ) {
+				long now = System.currentTimeMillis();
+				if ( watched ) {
+					watchedRoots.add( root );
+				} else {
+					watchedRoots.remove( root );
+				}
+				listings.keySet().removeIf( dir -> dir.startsWith( root ) );
+				collected.forEach( ( dir, entries ) -> listings.put( dir, new Listing( true, Collections.unmodifiableMap( entries ), now ) ) );
+				published	= true;
+				replay		= List.copyOf( changes );
+				changes.clear();
+			}
+			walking.remove( this );
+
+			// The walk may have listed a directory before or after each change, so
+			// look at the changed paths again rather than trusting either
+			for ( Change change : replay ) {
+				if ( change.invalidate() ) {
+					invalidate( change.path() );
+				} else {
+					refresh( change.path() );
+				}
+			}
+		}
+
+		private synchronized void record( Path path, boolean invalidate ) {
+			if ( !published && path.startsWith( root ) ) {
+				changes.add( new Change( path, invalidate ) );
+			}
+		}
+	}
+
+	private record Change( Path path, boolean invalidate ) {
+	}
+}
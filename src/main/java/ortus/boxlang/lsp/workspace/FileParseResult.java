@@ -12,7 +12,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.Diagnostic;
@@ -30,6 +29,7 @@ import ortus.boxlang.lsp.App;
 import ortus.boxlang.lsp.DocumentSymbolBoxNodeVisitor;
 import ortus.boxlang.lsp.SourceCodeVisitor;
 import ortus.boxlang.lsp.SourceCodeVisitorService;
+import ortus.boxlang.lsp.metrics.DiagnosticsProfiler;
 import ortus.boxlang.lsp.workspace.types.ParsedProperty;
 import ortus.boxlang.lsp.workspace.visitors.FunctionReturnDiagnosticVisitor;
 import ortus.boxlang.lsp.workspace.visitors.PropertyVisitor;
@@ -46,6 +46,10 @@ public class FileParseResult {
 	private static final LongAdder							FULL_PARSE_COUNT			= new LongAdder();
 	private static final LongAdder							PARSE_SOURCE_NANOS			= new LongAdder();
 	private static final LongAdder							GENERATE_DIAGNOSTICS_NANOS	= new LongAdder();
+	// Unlike the counters above these are never reset, so they can be exported as metrics
+	private static final LongAdder							SOURCE_PARSE_COUNT			= new LongAdder();
+	private static final LongAdder							AST_CACHE_HITS				= new LongAdder();
+	private static final LongAdder							AST_CACHE_MISSES			= new LongAdder();
 
 	private URI												uri;
 	private boolean											isOpen						= false;
@@ -58,6 +62,11 @@ public class FileParseResult {
 	private List<ParsedProperty>							properties					= new ArrayList<ParsedProperty>();
 	private List<SourceCodeVisitor>							visitors					= new ArrayList<SourceCodeVisitor>();
 	private List<FunctionDefinition>						functionDefinitions			= new ArrayList<FunctionDefinition>();
+	private String											indexedText					= null;
+	private int[]											lineOffsets					= null;
+	private String											parseText					= null;
+	private ParsingResult									liveParsingResult			= null;
+	private FileParseResult									astFallback					= null;
 
 	public static FileParseResult fromFileSystem( URI uri ) {
 		FileParseResult fpr = new FileParseResult();
@@ -79,6 +88,150 @@ public class FileParseResult {
 		return fpr;
 	}
 
+	/**
+	 * Creates a lightweight, parse-only snapshot of the live buffer for completion.
+	 * No diagnostics, outline or function definitions are generated.
+	 *
+	 * The AST is taken from the first of these that parses without errors:
+	 * <ol>
+	 * <li>the live buffer as-is</li>
+	 * <li>the live buffer with the line being typed blanked out, positions are preserved</li>
+	 * <li>the last debounced parse ({@code lastParse})</li>
+	 * </ol>
+	 * The blanked buffer is only parsed when no AST already covers it: when the
+	 * buffer differs from {@code lastParse} or {@code previousSnapshot} only on
+	 * the line being typed, their AST is reused so a completion parses at most
+	 * once.
+	 * Line reads always come from the live buffer so the cursor context reflects
+	 * what the user has actually typed.
+	 *
+	 * @param uri              The document URI
+	 * @param source           The current buffer contents
+	 * @param activeLine       The 0-based line being edited
+	 * @param lastParse        The last debounced parse, used as a fallback (may be null)
+	 * @param previousSnapshot A previous live snapshot whose AST may be reused (may be null)
+	 *
+	 * @return The live snapshot
+	 */
+	public static FileParseResult fromLiveBuffer( URI uri, String source, int activeLine, FileParseResult lastParse, FileParseResult previousSnapshot ) {
+		FileParseResult fpr = new FileParseResult();
+		fpr.uri			= uri;
+		fpr.source		= source;
+		fpr.isOpen		= true;
+		fpr.astFallback	= lastParse;
+
+		fpr.parseText	= source;
+		ParsingResult result = fpr.parseSource();
+
+		if ( result == null || !result.isCorrect() ) {
+			String blanked = blankLine( source, activeLine );
+
+			// Typing on the same line keeps the blanked text stable, so the previous AST can be reused
+			if ( previousSnapshot != null && previousSnapshot.liveParsingResult != null && blanked.equals( previousSnapshot.parseText ) ) {
+				result = previousSnapshot.liveParsingResult;
+			} else if ( lastParse != null && lastParse.heldParsingResult() != null && sameOutsideLine( source, lastParse.source, activeLine ) ) {
+				// Only the line being typed changed since the debounced parse, its AST still matches every other line
+				result = lastParse.heldParsingResult();
+			} else {
+				fpr.parseText	= blanked;
+				result			= fpr.parseSource();
+			}
+		}
+
+		if ( result != null && result.isCorrect() ) {
+			fpr.liveParsingResult	= result;
+			fpr.properties			= fpr.parseProperties( result.getRoot() );
+		} else if ( lastParse != null ) {
+			fpr.properties = lastParse.properties();
+		}
+
+		if ( lastParse != null ) {
+			fpr.outline				= lastParse.getOutline();
+			fpr.functionDefinitions	= lastParse.getFunctionDefinitions();
+		}
+
+		return fpr;
+	}
+
+	/**
+	 * Replace the characters of a line with spaces, keeping line breaks so AST
+	 * positions of the rest of the document are unchanged.
+	 */
+	private static String blankLine( String source, int line ) {
+		int[] bounds = lineBounds( source, line );
+		if ( bounds == null ) {
+			return source;
+		}
+
+		StringBuilder sb = new StringBuilder( source );
+		for ( int i = bounds[ 0 ]; i < bounds[ 1 ]; i++ ) {
+			if ( sb.charAt( i ) != '\r' ) {
+				sb.setCharAt( i, ' ' );
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Whether two sources are identical apart from the given line.
+	 */
+	private static boolean sameOutsideLine( String a, String b, int line ) {
+		if ( a == null || b == null ) {
+			return false;
+		}
+		int[]	boundsA	= lineBounds( a, line );
+		int[]	boundsB	= lineBounds( b, line );
+		if ( boundsA == null || boundsB == null || boundsA[ 0 ] != boundsB[ 0 ] ) {
+			return false;
+		}
+		int tail = a.length() - boundsA[ 1 ];
+		return tail == b.length() - boundsB[ 1 ]
+		    && a.regionMatches( 0, b, 0, boundsA[ 0 ] )
+		    && a.regionMatches( boundsA[ 1 ], b, boundsB[ 1 ], tail );
+	}
+
+	/**
+	 * @return The start and end offsets of a 0-based line, excluding its line break, or null if the source has fewer lines
+	 */
+	private static int[] lineBounds( String source, int line ) {
+		int start = 0;
+		for ( int i = 0; i < line; i++ ) {
+			int next = source.indexOf( '\n', start );
+			if ( next < 0 ) {
+				return null;
+			}
+			start = next + 1;
+		}
+
+		int end = source.indexOf( '\n', start );
+		return new int[] { start, end < 0 ? source.length() : end };
+	}
+
+	/**
+	 * The AST of this full parse if it is still held and parsed cleanly, without parsing again.
+	 */
+	private ParsingResult heldParsingResult() {
+		if ( isLiveSnapshot() ) {
+			return null;
+		}
+		ParsingResult held = parseResultRef.get();
+		return held != null && held.isCorrect() ? held : null;
+	}
+
+	/**
+	 * Whether this result is a live buffer snapshot created by {@link #fromLiveBuffer}.
+	 */
+	public boolean isLiveSnapshot() {
+		return parseText != null;
+	}
+
+	/**
+	 * Whether this result was parsed from exactly the given source text.
+	 */
+	public boolean hasSource( String text ) {
+		return this.source != null && this.source.equals( text );
+	}
+
 	public URI getURI() {
 		return uri;
 	}
@@ -104,26 +257,75 @@ public class FileParseResult {
 	}
 
 	public String readLine( int lineNumber ) {
-		Stream<String> lineStream = Stream.ofNullable( null );
+		if ( lineNumber < 0 ) {
+			return "";
+		}
 
-		if ( this.isOpen ) {
-			lineStream = List.of( this.source.split( "\n" ) )
-			    .stream();
-		} else {
+		int[] offsets = getLineOffsets();
+		if ( offsets == null || lineNumber >= offsets.length ) {
+			return "";
+		}
+
+		int	start	= offsets[ lineNumber ];
+		int	end		= lineNumber + 1 < offsets.length ? offsets[ lineNumber + 1 ] - 1 : indexedText.length();
+
+		return indexedText.substring( start, end );
+	}
+
+	/**
+	 * Get the number of lines in the document according to the line index.
+	 *
+	 * @return The line count, or 0 if the text could not be read
+	 */
+	public int getLineCount() {
+		int[] offsets = getLineOffsets();
+		return offsets == null ? 0 : offsets.length;
+	}
+
+	/**
+	 * Lazily builds the line start offset index for this document. The index is
+	 * computed once per parse result so repeated line lookups (e.g. from the
+	 * completion rules) don't re-split the whole source.
+	 */
+	private synchronized int[] getLineOffsets() {
+		if ( lineOffsets != null ) {
+			return lineOffsets;
+		}
+
+		String text = this.source;
+
+		if ( !this.isOpen ) {
 			try {
-				lineStream = Files.lines( Path.of( this.uri ) );
+				text = Files.readString( Path.of( this.uri ) );
 			} catch ( IOException e ) {
-				// TODO Auto-generated catch block
-				e.printStackTrace();
-				return "";
+				App.logger.error( "Unable to read " + this.uri, e );
+				return null;
 			}
 		}
 
-		if ( lineNumber < 0 ) {
-			return "";
+		if ( text == null ) {
+			return null;
 		}
 
-		return lineStream.skip( lineNumber ).findFirst().orElse( "" );
+		int		count	= 1;
+		for ( int i = 0; i < text.length(); i++ ) {
+			if ( text.charAt( i ) == '\n' ) {
+				count++;
+			}
+		}
+
+		int[]	offsets	= new int[ count ];
+		int		line	= 1;
+		for ( int i = 0; i < text.length(); i++ ) {
+			if ( text.charAt( i ) == '\n' ) {
+				offsets[ line++ ] = i + 1;
+			}
+		}
+
+		this.indexedText	= text;
+		this.lineOffsets	= offsets;
+
+		return offsets;
 	}
 
 	public boolean isTemplate() {
@@ -170,23 +372,55 @@ public class FileParseResult {
 		);
 	}
 
+	/**
+	 * @return How many times source was parsed since the server started
+	 */
+	public static long getSourceParseCount() {
+		return SOURCE_PARSE_COUNT.sum();
+	}
+
+	/**
+	 * @return How many AST lookups found the parsed AST still held
+	 */
+	public static long getAstCacheHitCount() {
+		return AST_CACHE_HITS.sum();
+	}
+
+	/**
+	 * @return How many AST lookups had to parse the source again because the AST was collected
+	 */
+	public static long getAstCacheMissCount() {
+		return AST_CACHE_MISSES.sum();
+	}
+
 	private Optional<ParsingResult> findParsingResult() {
 
+		if ( isLiveSnapshot() ) {
+			if ( liveParsingResult != null ) {
+				return Optional.of( liveParsingResult );
+			}
+			return astFallback != null ? astFallback.findParsingResult() : Optional.empty();
+		}
+
 		if ( parseResultRef.get() == null ) {
+			AST_CACHE_MISSES.increment();
 			parseResultRef = new WeakReference<>( parseSource() );
+		} else {
+			AST_CACHE_HITS.increment();
 		}
 
 		return Optional.ofNullable( parseResultRef.get() );
 	}
 
 	private ParsingResult parseSource() {
+		SOURCE_PARSE_COUNT.increment();
 		long	startNanos	= System.nanoTime();
 		Parser	parser		= new Parser();
 
 		try {
 			if ( this.isOpen ) {
 				return parser.parse(
-				    this.source,
+				    this.parseText != null ? this.parseText : this.source,
 				    Parser.detectFile( new File( this.uri ) ),
 				    Parser.getFileExtension( this.uri.toString() ).orElseGet( () -> "bxs" ).matches( "cfc|bx" ) );
 			}
@@ -223,7 +457,9 @@ public class FileParseResult {
 		if ( astRootOpt.isPresent() ) {
 			BoxNode							astRoot					= astRootOpt.get();
 			FunctionReturnDiagnosticVisitor	returnDiagnosticVisitor	= new FunctionReturnDiagnosticVisitor();
+			long							returnVisitorStart		= System.nanoTime();
 			astRoot.accept( returnDiagnosticVisitor );
+			DiagnosticsProfiler.getInstance().recordVisitor( "FunctionReturnDiagnosticVisitor", System.nanoTime() - returnVisitorStart );
 			fileDiagnostics.addAll( returnDiagnosticVisitor.getDiagnostics() );
 
 			List<SourceCodeVisitor> visitors = SourceCodeVisitorService.getInstance().forceVisit( this.uri.toString(),
@@ -248,12 +484,20 @@ public class FileParseResult {
 		try {
 			return fileDiagnostics;
 		} finally {
-			GENERATE_DIAGNOSTICS_NANOS.add( System.nanoTime() - startNanos );
+			long elapsed = System.nanoTime() - startNanos;
+			GENERATE_DIAGNOSTICS_NANOS.add( elapsed );
+			DiagnosticsProfiler.getInstance().recordFile( this.uri, elapsed );
 		}
 	}
 
+	private synchronized void resetLineIndex() {
+		indexedText	= null;
+		lineOffsets	= null;
+	}
+
 	private void fullyParse() {
 		FULL_PARSE_COUNT.increment();
+		resetLineIndex();
 		parseResultRef = new WeakReference<>( parseSource() );
 
 		findAstRoot().ifPresent( root -> {
@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.gson.JsonArray;
@@ -20,9 +21,11 @@ import ortus.boxlang.lsp.lint.LintConfigLoader;
 
 public class MappingResolver {
 
-	private static final Map<Path, MappingConfig>	cache		= new ConcurrentHashMap<>();
+	private static final Map<Path, MappingConfig>			cache				= new ConcurrentHashMap<>();
 	/** Cache keyed by the resolved Application.bx / Application.cfc path. */
-	private static final Map<Path, MappingConfig>	fileCache	= new ConcurrentHashMap<>();
+	private static final Map<Path, MappingConfig>			fileCache			= new ConcurrentHashMap<>();
+	/** Application file locations keyed by workspace root, built during the workspace walk. */
+	private static final Map<Path, ApplicationFileMap>	applicationFiles	= new ConcurrentHashMap<>();
 
 	private MappingResolver() {
 	}
@@ -62,12 +65,30 @@ public class MappingResolver {
 	/**
 	 * Invalidate any cached result for the given workspace root so the next
 	 * {@link #resolve(Path)} call re-reads the filesystem. Also clears any
-	 * per-file Application.bx cache entries underneath that workspace root.
+	 * per-file Application.bx cache entries underneath that workspace root, and
+	 * the Application file map until the next workspace walk provides a new one.
 	 */
 	public static void invalidate( Path workspaceRoot ) {
 		Path normRoot = workspaceRoot.toAbsolutePath().normalize();
 		cache.remove( normRoot );
 		fileCache.keySet().removeIf( p -> p.startsWith( normRoot ) );
+		applicationFiles.remove( normRoot );
+	}
+
+	/**
+	 * Use the given map to find the Application file governing each source file
+	 * of its workspace, replacing any previous map. Until a map is provided
+	 * {@link #resolveForFile} walks up the directory tree on disk.
+	 */
+	public static void setApplicationFiles( ApplicationFileMap map ) {
+		applicationFiles.put( map.getWorkspaceRoot(), map );
+	}
+
+	/**
+	 * @return the Application file map of the workspace, or null if none was provided yet
+	 */
+	public static ApplicationFileMap getApplicationFiles( Path workspaceRoot ) {
+		return applicationFiles.get( workspaceRoot.toAbsolutePath().normalize() );
 	}
 
 	/**
@@ -76,7 +97,15 @@ public class MappingResolver {
 	 * it from disk.
 	 */
 	public static void invalidateFile( Path appBxPath ) {
-		fileCache.remove( appBxPath.toAbsolutePath().normalize() );
+		Path normPath = appBxPath.toAbsolutePath().normalize();
+		fileCache.remove( normPath );
+		DirectorySnapshot.getInstance().refresh( normPath );
+		// The file may have been created or deleted, which changes which files it governs
+		for ( ApplicationFileMap map : applicationFiles.values() ) {
+			if ( map.covers( normPath ) ) {
+				map.refresh( normPath );
+			}
+		}
 	}
 
 	/**
@@ -92,7 +121,9 @@ public class MappingResolver {
 	 *
 	 * <p>
 	 * The result is cached by the Application.bx path so repeated calls are cheap.
-	 * When no Application.bx is found the workspace-level config is returned.
+	 * Once the workspace walk has provided an {@link ApplicationFileMap} the
+	 * Application.bx is found without any filesystem access. When no
+	 * Application.bx is found the workspace-level config is returned.
 	 *
 	 * @param filePath      the source file being analysed
 	 * @param workspaceRoot the workspace root (walk-up boundary, inclusive)
@@ -119,8 +150,16 @@ public class MappingResolver {
 	 * @return merged MappingConfig (never null)
 	 */
 	public static MappingConfig resolveForFile( Path filePath, Path workspaceRoot, Map<String, String> vscodeMappings ) {
-		Path	normalRoot	= workspaceRoot.toAbsolutePath().normalize();
-		Path	dir			= filePath.toAbsolutePath().normalize().getParent();
+		Path				normalRoot	= workspaceRoot.toAbsolutePath().normalize();
+		ApplicationFileMap	map			= applicationFiles.get( normalRoot );
+		if ( map != null ) {
+			Optional<Path> appBx = map.findGoverningFile( filePath );
+			return appBx.isPresent()
+			    ? resolveWithApplicationBx( appBx.get(), workspaceRoot, vscodeMappings )
+			    : resolve( workspaceRoot, vscodeMappings );
+		}
+
+		Path dir = filePath.toAbsolutePath().normalize().getParent();
 
 		// Walk upward until we hit the workspace boundary (inclusive)
 		while ( dir != null ) {
@@ -131,12 +170,7 @@ public class MappingResolver {
 			// Look for Application.bx or Application.cfc in this directory
 			Path appBx = findApplicationBx( dir );
 			if ( appBx != null ) {
-				boolean hasVscodeMappings = vscodeMappings != null && !vscodeMappings.isEmpty();
-				if ( hasVscodeMappings ) {
-					// Bypass cache when vscode mappings are present to avoid stale results
-					return mergeWithApplicationBx( appBx, workspaceRoot, vscodeMappings );
-				}
-				return fileCache.computeIfAbsent( appBx, k -> mergeWithApplicationBx( k, workspaceRoot, Collections.emptyMap() ) );
+				return resolveWithApplicationBx( appBx, workspaceRoot, vscodeMappings );
 			}
 
 			if ( dir.equals( normalRoot ) ) {
@@ -153,24 +187,23 @@ public class MappingResolver {
 	// Private helpers
 	// ───────────────────────────────────────────────────────────────────────────
 
+	private static MappingConfig resolveWithApplicationBx( Path appBx, Path workspaceRoot, Map<String, String> vscodeMappings ) {
+		boolean hasVscodeMappings = vscodeMappings != null && !vscodeMappings.isEmpty();
+		if ( hasVscodeMappings ) {
+			// Bypass cache when vscode mappings are present to avoid stale results
+			return mergeWithApplicationBx( appBx, workspaceRoot, vscodeMappings );
+		}
+		return fileCache.computeIfAbsent( appBx, k -> mergeWithApplicationBx( k, workspaceRoot, Collections.emptyMap() ) );
+	}
+
 	/**
-	 * Find Application.bx or Application.cfc (case-insensitive) in {@code dir}.
-	 * Returns null if none is present.
+	 * Find Application.bx or Application.cfc (case-insensitive) in {@code dir},
+	 * preferring Application.bx. Returns null if none is present.
 	 */
 	private static Path findApplicationBx( Path dir ) {
-		try ( java.util.stream.Stream<Path> files = Files.list( dir ) ) {
-			return files
-			    .filter( p -> Files.isRegularFile( p ) )
-			    .filter( p -> {
-				    String name = p.getFileName().toString();
-				    return name.equalsIgnoreCase( "Application.bx" ) ||
-				        name.equalsIgnoreCase( "Application.cfc" );
-			    } )
-			    .findFirst()
-			    .orElse( null );
-		} catch ( IOException e ) {
-			return null;
-		}
+		DirectorySnapshot	directories	= DirectorySnapshot.getInstance();
+		Optional<Path>		found		= directories.findIgnoreCase( dir, "Application.bx", "Application.cfc" );
+		return found.filter( directories::isRegularFile ).orElse( null );
 	}
 
 	/**
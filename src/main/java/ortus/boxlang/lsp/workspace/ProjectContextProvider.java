@@ -3,16 +3,19 @@ package ortus.boxlang.lsp.workspace;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -30,6 +33,7 @@ import org.eclipse.lsp4j.CodeLens;
 import org.eclipse.lsp4j.CodeLensParams;
 import org.eclipse.lsp4j.Command;
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.CompletionParams;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DidChangeWatchedFilesRegistrationOptions;
@@ -56,6 +60,7 @@ import org.eclipse.lsp4j.WatchKind;
 import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
 import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
 import org.eclipse.lsp4j.WorkspaceFolder;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import org.eclipse.lsp4j.services.LanguageClient;
 
@@ -84,6 +89,8 @@ import ortus.boxlang.compiler.ast.statement.BoxProperty;
 import ortus.boxlang.compiler.ast.statement.BoxReturnType;
 import ortus.boxlang.lsp.App;
 import ortus.boxlang.lsp.LSPTools;
+import ortus.boxlang.lsp.RequestScheduler;
+import ortus.boxlang.lsp.RequestScheduler.Lane;
 import ortus.boxlang.lsp.UserSettings;
 import ortus.boxlang.lsp.formatting.FormatterConfigResolver;
 import ortus.boxlang.lsp.formatting.FormattingCapabilityCoordinator;
@@ -91,9 +98,13 @@ import ortus.boxlang.lsp.formatting.FormattingSettingsResolver;
 import ortus.boxlang.lsp.formatting.PrettyPrintRuntimeAdapter;
 import ortus.boxlang.lsp.lint.LintConfig;
 import ortus.boxlang.lsp.lint.LintConfigLoader;
+import ortus.boxlang.lsp.metrics.MetricsRegistry;
 import ortus.boxlang.lsp.workspace.codeLens.CodeLensFacts;
 import ortus.boxlang.lsp.workspace.codeLens.CodeLensRuleBook;
+import ortus.boxlang.lsp.workspace.completion.CompletionContext;
+import ortus.boxlang.lsp.workspace.completion.CompletionEngine;
 import ortus.boxlang.lsp.workspace.completion.CompletionFacts;
+import ortus.boxlang.lsp.workspace.completion.CompletionItemResolver;
 import ortus.boxlang.lsp.workspace.completion.CompletionProviderRuleBook;
 import ortus.boxlang.lsp.workspace.index.IndexedClass;
 import ortus.boxlang.lsp.workspace.index.IndexedMethod;
@@ -152,9 +163,12 @@ public class ProjectContextProvider {
 
 	private List<WorkspaceScanCandidate> collectWorkspaceScanCandidates( Path workspaceRoot, LintConfig lintConfig,
 	    WorkspaceScanPassProfile profile ) throws IOException {
-		try ( Stream<Path> stream = Files.walk( workspaceRoot ) ) {
-			return stream
+		ApplicationFileMap			applicationFiles	= new ApplicationFileMap( workspaceRoot );
+		DirectorySnapshot.Builder	directories			= DirectorySnapshot.getInstance().builder( workspaceRoot );
+		try ( Stream<Path> stream = walkWorkspace( workspaceRoot, lintConfig, profile, directories ).stream() ) {
+			List<WorkspaceScanCandidate> candidates = stream
 			    .peek( path -> profile.walkedPaths.increment() )
+			    .peek( applicationFiles::record )
 			    .filter( path -> {
 				    boolean canWalk = LSPTools.canWalkFile( path );
 				    if ( canWalk ) {
@@ -168,9 +182,55 @@ public class ProjectContextProvider {
 			    .map( path -> createScanCandidate( path, profile ) )
 			    .filter( candidate -> shouldAnalyzePath( candidate, workspaceRoot, lintConfig, profile ) )
 			    .toList();
+
+			// Per-file mapping resolution looks Application.bx files up in this map from now on
+			MappingResolver.setApplicationFiles( applicationFiles );
+			// Completion and config resolution answer file existence from the snapshot from now on
+			directories.publish( watchingWorkspaceFiles );
+			return candidates;
 		}
 	}
 
+	/**
+	 * Walk the workspace like {@link Files#walk(Path, java.nio.file.FileVisitOption...)}, but skip
+	 * directories the lint configuration excludes entirely instead of visiting every file below them.
+	 * Every directory and file seen is recorded in the directory snapshot builder.
+	 */
+	private List<Path> walkWorkspace( Path workspaceRoot, LintConfig lintConfig, WorkspaceScanPassProfile profile,
+	    DirectorySnapshot.Builder directories ) throws IOException {
+		List<Path> paths = new ArrayList<>();
+		Files.walkFileTree( workspaceRoot, new SimpleFileVisitor<Path>() {
+
+			@Override
+			public FileVisitResult preVisitDirectory( Path dir, BasicFileAttributes attrs ) {
+				directories.add( dir, true );
+				if ( lintConfig != null && !dir.equals( workspaceRoot )
+				    && lintConfig.shouldSkipDirectory( workspaceRoot.relativize( dir ).toString() ) ) {
+					profile.prunedDirectories.increment();
+					return FileVisitResult.SKIP_SUBTREE;
+				}
+				directories.directory( dir );
+				paths.add( dir );
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile( Path file, BasicFileAttributes attrs ) {
+				// Links are not followed by the walk, but a linked directory is still a directory to callers
+				directories.add( file, attrs.isDirectory() || ( attrs.isSymbolicLink() && Files.isDirectory( file ) ) );
+				paths.add( file );
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFileFailed( Path file, IOException e ) {
+				App.logger.debug( "Unable to walk {}", file, e );
+				return FileVisitResult.CONTINUE;
+			}
+		} );
+		return paths;
+	}
+
 	private boolean shouldAnalyzePath( WorkspaceScanCandidate candidate, Path workspaceRoot, LintConfig lintConfig,
 	    WorkspaceScanPassProfile profile ) {
 		long	startNanos		= System.nanoTime();
@@ -198,9 +258,16 @@ public class ProjectContextProvider {
 
 	private void processWorkspaceScanCandidates( List<WorkspaceScanCandidate> candidates, String threadNamePrefix,
 	    Consumer<WorkspaceScanCandidate> consumer ) {
+		RequestScheduler					scheduler	= RequestScheduler.getInstance();
+		// Back off between files while interactive requests are waiting
+		Consumer<WorkspaceScanCandidate>	throttled	= candidate -> {
+													scheduler.yieldToInteractive();
+													consumer.accept( candidate );
+												};
+
 		int parallelism = Math.min( getWorkspaceScanParallelism(), candidates.size() );
 		if ( parallelism <= 1 ) {
-			candidates.forEach( consumer );
+			candidates.forEach( throttled );
 			return;
 		}
 
@@ -214,7 +281,7 @@ public class ProjectContextProvider {
 		try {
 			List<Future<?>> futures = new ArrayList<>( candidates.size() );
 			for ( WorkspaceScanCandidate candidate : candidates ) {
-				futures.add( executor.submit( () -> consumer.accept( candidate ) ) );
+				futures.add( executor.submit( () -> throttled.accept( candidate ) ) );
 			}
 
 			for ( Future<?> future : futures ) {
@@ -237,6 +304,7 @@ public class ProjectContextProvider {
 	private Map<URI, FileParseResult>			parsedFiles					= new ConcurrentHashMap<URI, FileParseResult>();
 	private Map<URI, FileParseResult>			openDocuments				= new ConcurrentHashMap<URI, FileParseResult>();
 	private Map<URI, DocumentModel>				documentModels				= new ConcurrentHashMap<URI, DocumentModel>();
+	private Map<URI, FileParseResult>			liveCompletionSnapshots		= new ConcurrentHashMap<URI, FileParseResult>();
 	private List<FunctionDefinition>			functionDefinitions			= new ArrayList<FunctionDefinition>();
 	private UserSettings						userSettings				= new UserSettings();
 	private FormattingCapabilityCoordinator		formattingCapabilityCoordinator;
@@ -248,12 +316,16 @@ public class ProjectContextProvider {
 	private final SemanticTokensBuilder			semanticTokensBuilder		= new SemanticTokensBuilder();
 
 	private boolean								shouldPublishDiagnostics	= false;
+	// Whether the workspace watcher reports created and deleted files to the directory snapshot
+	private volatile boolean					watchingWorkspaceFiles		= false;
 	private final AtomicBoolean					workspaceParseRunning		= new AtomicBoolean( false );
 	private final AtomicLong					workspaceParseSequence		= new AtomicLong( 0 );
 	private volatile WorkspaceScanProfile		activeWorkspaceScanProfile;
 	private ProjectIndex						projectIndex;
 	private final DebouncedDocumentProcessor	documentProcessor			= new DebouncedDocumentProcessor( 300 );
 	private final DebouncedDocumentProcessor	publishDebouncer			= new DebouncedDocumentProcessor( 50 );
+	private final DiagnosticPublisher			diagnosticPublisher			= new DiagnosticPublisher( this::sendDiagnostics,
+	    this::getPublishableDiagnostics );
 
 	private static final class WorkspaceScanPassProfile {
 
@@ -261,6 +333,7 @@ public class ProjectContextProvider {
 		private final LongAdder	candidateFiles		= new LongAdder();
 		private final LongAdder	analyzedFiles		= new LongAdder();
 		private final LongAdder	skippedByLint		= new LongAdder();
+		private final LongAdder	prunedDirectories	= new LongAdder();
 		private final LongAdder	symlinkFiles		= new LongAdder();
 		private final LongAdder	successes			= new LongAdder();
 		private final LongAdder	errors				= new LongAdder();
@@ -328,7 +401,7 @@ public class ProjectContextProvider {
 
 		private String toLogMessage() {
 			return String.format(
-			    "Workspace parse #%d summary: root=%s status=%s totalMs=%d index{walked=%d,candidates=%d,analyzed=%d,reindexed=%d,cached=%d,lintSkipped=%d,symlinks=%d,uriConversions=%d,uriMs=%d,analyzeMs=%d,errors=%d,ms=%d} diagnostics{walked=%d,candidates=%d,analyzed=%d,successes=%d,lintSkipped=%d,symlinks=%d,uriConversions=%d,uriMs=%d,analyzeMs=%d,getDiagnosticsMs=%d,openHits=%d,parsedHits=%d,fsFallbacks=%d,parseMs=%d,diagGenMs=%d,fullParses=%d,diagnostics=%d,errors=%d,ms=%d}",
+			    "Workspace parse #%d summary: root=%s status=%s totalMs=%d index{walked=%d,candidates=%d,analyzed=%d,reindexed=%d,cached=%d,lintSkipped=%d,lintPrunedDirs=%d,symlinks=%d,uriConversions=%d,uriMs=%d,analyzeMs=%d,errors=%d,ms=%d} diagnostics{walked=%d,candidates=%d,analyzed=%d,successes=%d,lintSkipped=%d,lintPrunedDirs=%d,symlinks=%d,uriConversions=%d,uriMs=%d,analyzeMs=%d,getDiagnosticsMs=%d,openHits=%d,parsedHits=%d,fsFallbacks=%d,parseMs=%d,diagGenMs=%d,fullParses=%d,diagnostics=%d,errors=%d,ms=%d}",
 			    scanId,
 			    workspaceRoot,
 			    cancelled ? "cancelled" : completed ? "completed" : "in-progress",
@@ -339,6 +412,7 @@ public class ProjectContextProvider {
 			    indexPass.reindexedFiles.sum(),
 			    indexPass.cacheHits.sum(),
 			    indexPass.skippedByLint.sum(),
+			    indexPass.prunedDirectories.sum(),
 			    indexPass.symlinkFiles.sum(),
 			    indexPass.uriConversions.sum(),
 			    java.util.concurrent.TimeUnit.NANOSECONDS.toMillis( indexPass.uriConversionNanos.sum() ),
@@ -350,6 +424,7 @@ public class ProjectContextProvider {
 			    diagnosticPass.analyzedFiles.sum(),
 			    diagnosticPass.successes.sum(),
 			    diagnosticPass.skippedByLint.sum(),
+			    diagnosticPass.prunedDirectories.sum(),
 			    diagnosticPass.symlinkFiles.sum(),
 			    diagnosticPass.uriConversions.sum(),
 			    java.util.concurrent.TimeUnit.NANOSECONDS.toMillis( diagnosticPass.uriConversionNanos.sum() ),
@@ -389,6 +464,20 @@ public class ProjectContextProvider {
 		return instance;
 	}
 
+	/**
+	 * @return The project index if it was already created, without creating it
+	 */
+	public Optional<ProjectIndex> findIndex() {
+		return Optional.ofNullable( projectIndex );
+	}
+
+	/**
+	 * @return The publisher pushing diagnostics to the client
+	 */
+	public DiagnosticPublisher getDiagnosticPublisher() {
+		return diagnosticPublisher;
+	}
+
 	/**
 	 * Get the project index for symbol lookups.
 	 * Lazily initializes the index if needed.
@@ -425,10 +514,19 @@ public class ProjectContextProvider {
 		return new ArrayList<>( cachedDiagnosticReports.values() );
 	}
 
+	/**
+	 * Visit the cached diagnostic reports without copying them. Reports cached
+	 * or removed while visiting may or may not be seen.
+	 */
+	public void forEachCachedDiagnosticReport( Consumer<DiagnosticReport> action ) {
+		cachedDiagnosticReports.values().forEach( action );
+	}
+
 	public void remove( URI docURI ) {
 		this.parsedFiles.remove( docURI );
 		this.openDocuments.remove( docURI );
 		this.cachedDiagnosticReports.remove( docURI );
+		this.diagnosticPublisher.forget( docURI );
 		// Remove from project index as well
 		if ( projectIndex != null ) {
 			projectIndex.removeFile( docURI );
@@ -472,7 +570,7 @@ public class ProjectContextProvider {
 	}
 
 	public void parseWorkspace() {
-		CompletableFuture.runAsync( () -> {
+		RequestScheduler.getInstance().runAsync( Lane.BACKGROUND, () -> {
 			System.out.println( "Generating workspace diagnostic report" );
 			ProjectContextProvider					provider	= ProjectContextProvider.getInstance();
 			WorkspaceDiagnosticReport				report		= new WorkspaceDiagnosticReport();
@@ -540,6 +638,7 @@ public class ProjectContextProvider {
 						// All classes are now indexed, so extends/implements lookups will succeed.
 						FileParseResult.resetProfiling();
 						profile.diagnosticPass.markStart();
+						Set<URI> changedDiagnostics = ConcurrentHashMap.newKeySet();
 						List<WorkspaceScanCandidate> diagnosticCandidates = collectWorkspaceScanCandidates( workspaceRoot, lintConfig, profile.diagnosticPass );
 						processWorkspaceScanCandidates( diagnosticCandidates, "LSP_diag", candidate -> {
 							try {
@@ -551,13 +650,18 @@ public class ProjectContextProvider {
 								profile.diagnosticPass.successes.increment();
 								profile.diagnosticPass.diagnosticsProduced.add( diagnostics.size() );
 
-								cacheDiagnostics( fileUri, diagnostics );
+								if ( cacheDiagnostics( fileUri, diagnostics ) ) {
+									changedDiagnostics.add( fileUri );
+								}
 							} catch ( Exception e ) {
 								profile.diagnosticPass.errors.increment();
 								e.printStackTrace();
 							}
 						} );
 						profile.diagnosticPass.markEnd();
+						if ( shouldPublishDiagnostics ) {
+							diagnosticPublisher.enqueue( changedDiagnostics );
+						}
 						profile.fileParseSnapshot = FileParseResult.getProfilingSnapshot();
 
 					} catch ( IOException | URISyntaxException e ) {
@@ -567,6 +671,7 @@ public class ProjectContextProvider {
 						if ( completedProfile != null ) {
 							completedProfile.markCompleted();
 							App.logger.info( completedProfile.toLogMessage() );
+							MetricsRegistry.getInstance().recordWorkspaceScan( completedProfile.endNanos - completedProfile.startNanos );
 						}
 						App.logger.info( "Completed workspace diagnostic report" );
 						// Save the project index cache
@@ -648,7 +753,8 @@ public class ProjectContextProvider {
 	 *
 	 * <p>
 	 * For {@code Application.bx} / {@code Application.cfc}: invalidates only the
-	 * per-file walk-up cache entry so the next diagnostic computation picks up the
+	 * per-file walk-up cache entry, and updates the Application file map if the
+	 * file was created or deleted, so the next diagnostic computation picks up the
 	 * updated Application.bx mappings.
 	 *
 	 * <p>
@@ -826,19 +932,17 @@ public class ProjectContextProvider {
 
 		this.shouldPublishDiagnostics = shouldPublishDiagnostics;
 
-		BoxExecutor executor = AsyncService.chooseParallelExecutor( "LSP_publish", 0, true );
-
-		executor.submitAndGet( () -> {
-			this.parsedFiles.keySet()
-			    .stream()
-			    .parallel()
-			    .forEach( ( uri ) -> publishDiagnostics( uri ) );
-
-		} );
+		diagnosticPublisher.enqueue( this.parsedFiles.keySet() );
 	}
 
 	public void setLanguageClient( LanguageClient client ) {
 		this.client = client;
+		// A new client has none of the diagnostics sent to the previous one
+		this.diagnosticPublisher.reset();
+	}
+
+	public LanguageClient getLanguageClient() {
+		return this.client;
 	}
 
 	public List<? extends TextEdit> formatDocument( URI docUri ) {
@@ -1055,6 +1159,7 @@ public class ProjectContextProvider {
 		documentProcessor.cancelPendingProcessing( docUri );
 		// Clean up document model
 		documentModels.remove( docUri );
+		liveCompletionSnapshots.remove( docUri );
 		this.openDocuments.remove( docUri );
 		this.parsedFiles.remove( docUri );
 	}
@@ -1187,43 +1292,75 @@ public class ProjectContextProvider {
 	 * @return List of locations where the symbol is referenced
 	 */
 	public List<Location> findReferences( URI docURI, Position pos, boolean includeDeclaration ) {
-		return findReferenceTarget( docURI, pos )
+		return findReferences( docURI, pos, includeDeclaration, Cancellation.NONE );
+	}
+
+	/**
+	 * Find all references to the symbol at the given position, stopping early if
+	 * the request is cancelled.
+	 *
+	 * @param docURI             The document URI
+	 * @param pos                The cursor position
+	 * @param includeDeclaration Whether to include the declaration itself as a reference
+	 * @param cancelChecker      Checked between files and AST traversals
+	 *
+	 * @return List of locations where the symbol is referenced
+	 */
+	public List<Location> findReferences( URI docURI, Position pos, boolean includeDeclaration, CancelChecker cancelChecker ) {
+		return findReferences( docURI, pos, includeDeclaration, cancelChecker, RequestProgress.none() );
+	}
+
+	/**
+	 * Find all references to the symbol at the given position, reporting progress
+	 * and streaming the references found in each file as it is searched.
+	 *
+	 * @param docURI             The document URI
+	 * @param pos                The cursor position
+	 * @param includeDeclaration Whether to include the declaration itself as a reference
+	 * @param cancelChecker      Checked between files and AST traversals
+	 * @param progress           Receives per-file progress and partial results
+	 *
+	 * @return List of locations where the symbol is referenced
+	 */
+	public List<Location> findReferences( URI docURI, Position pos, boolean includeDeclaration, CancelChecker cancelChecker,
+	    RequestProgress<Location> progress ) {
+		return findReferenceTarget( docURI, pos, cancelChecker )
 		    .map( node -> {
 			    List<Location> references = new ArrayList<>();
 
 			    if ( node instanceof BoxFunctionDeclaration fnDecl ) {
 				    // Find references to this function/method
-				    references.addAll( findFunctionReferences( fnDecl.getName(), docURI, includeDeclaration, fnDecl ) );
+				    references.addAll( findFunctionReferences( fnDecl.getName(), docURI, includeDeclaration, fnDecl, cancelChecker, progress ) );
 			    } else if ( node instanceof BoxClass classNode ) {
 				    // Find references to this class
 				    String className = extractClassNameFromUri( docURI );
-				    references.addAll( findClassReferences( className, includeDeclaration, classNode, docURI ) );
+				    references.addAll( findClassReferences( className, includeDeclaration, classNode, docURI, cancelChecker, progress ) );
 			    } else if ( node instanceof BoxInterface interfaceNode ) {
 				    // Find references to this interface
 				    String interfaceName = extractClassNameFromUri( docURI );
-				    references.addAll( findInterfaceReferences( interfaceName, includeDeclaration, interfaceNode, docURI ) );
+				    references.addAll( findInterfaceReferences( interfaceName, includeDeclaration, interfaceNode, docURI, cancelChecker, progress ) );
 			    } else if ( node instanceof BoxProperty propertyNode ) {
 				    // Find references to this property
 				    String propertyName = extractPropertyName( propertyNode );
-				    references.addAll( findPropertyReferences( propertyName, docURI, includeDeclaration, propertyNode ) );
+				    references.addAll( findPropertyReferences( propertyName, docURI, includeDeclaration, propertyNode, cancelChecker ) );
 			    } else if ( node instanceof BoxNew newExpr ) {
 				    // Find references from a new expression - user is on the class name
 				    String className = extractClassNameFromNew( newExpr );
 				    if ( className != null ) {
-					    references.addAll( findClassReferences( className, includeDeclaration, null, docURI ) );
+					    references.addAll( findClassReferences( className, includeDeclaration, null, docURI, cancelChecker, progress ) );
 				    }
 			    } else if ( node instanceof BoxIdentifier identifier ) {
 				    // Could be a local variable or parameter
-				    references.addAll( findVariableReferences( identifier, docURI, includeDeclaration ) );
+				    references.addAll( findVariableReferences( identifier, docURI, includeDeclaration, cancelChecker ) );
 			    } else if ( node instanceof BoxArgumentDeclaration argDecl ) {
 				    // Find references to this parameter
-				    references.addAll( findParameterReferences( argDecl, docURI, includeDeclaration ) );
+				    references.addAll( findParameterReferences( argDecl, docURI, includeDeclaration, cancelChecker ) );
 			    } else if ( node instanceof BoxFunctionInvocation fnInvocation ) {
 				    // User is on a function call - find all references to that function
-				    references.addAll( findFunctionReferences( fnInvocation.getName(), docURI, includeDeclaration, null ) );
+				    references.addAll( findFunctionReferences( fnInvocation.getName(), docURI, includeDeclaration, null, cancelChecker, progress ) );
 			    } else if ( node instanceof BoxMethodInvocation methodInvocation ) {
 				    // User is on a method call - find all references to that method
-				    references.addAll( findMethodInvocationReferences( methodInvocation, docURI, includeDeclaration ) );
+				    references.addAll( findMethodInvocationReferences( methodInvocation, docURI, includeDeclaration, cancelChecker, progress ) );
 			    }
 
 			    return references;
@@ -1238,23 +1375,29 @@ public class ProjectContextProvider {
 	 * @param currentDocURI      The current document URI
 	 * @param includeDeclaration Whether to include the declaration
 	 * @param declarationNode    The declaration node (if finding from declaration)
+	 * @param cancelChecker      Checked before each file is searched
+	 * @param progress           Notified after each file is searched
 	 *
 	 * @return List of reference locations
 	 */
 	private List<Location> findFunctionReferences( String functionName, URI currentDocURI, boolean includeDeclaration,
-	    BoxFunctionDeclaration declarationNode ) {
+	    BoxFunctionDeclaration declarationNode, CancelChecker cancelChecker, RequestProgress<Location> progress ) {
 		List<Location>				references	= new ArrayList<>();
 
 		// Search across all open documents and parsed files
 		Map<URI, FileParseResult>	allFiles	= new HashMap<>();
 		allFiles.putAll( openDocuments );
 		allFiles.putAll( parsedFiles );
+		progress.setTotal( allFiles.size() );
 
 		for ( Map.Entry<URI, FileParseResult> entry : allFiles.entrySet() ) {
+			cancelChecker.checkCanceled();
+
 			URI					fileUri	= entry.getKey();
 			Optional<BoxNode>	rootOpt	= entry.getValue().findAstRoot();
 
 			if ( rootOpt.isEmpty() ) {
+				progress.worked( references );
 				continue;
 			}
 
@@ -1277,6 +1420,8 @@ public class ProjectContextProvider {
 			for ( BoxMethodInvocation inv : methodInvocations ) {
 				references.add( createLocationFromMethodInvocation( inv, fileUri ) );
 			}
+
+			progress.worked( references );
 		}
 
 		// Include declaration if requested
@@ -1294,11 +1439,13 @@ public class ProjectContextProvider {
 	 * @param includeDeclaration Whether to include the declaration
 	 * @param declarationNode    The declaration node (if finding from declaration)
 	 * @param currentDocURI      The current document URI
+	 * @param cancelChecker      Checked before each file is searched
+	 * @param progress           Notified after each file is searched
 	 *
 	 * @return List of reference locations
 	 */
 	private List<Location> findClassReferences( String className, boolean includeDeclaration, BoxClass declarationNode,
-	    URI currentDocURI ) {
+	    URI currentDocURI, CancelChecker cancelChecker, RequestProgress<Location> progress ) {
 		List<Location> references = new ArrayList<>();
 
 		if ( className == null || className.isEmpty() ) {
@@ -1309,12 +1456,16 @@ public class ProjectContextProvider {
 		Map<URI, FileParseResult> allFiles = new HashMap<>();
 		allFiles.putAll( openDocuments );
 		allFiles.putAll( parsedFiles );
+		progress.setTotal( allFiles.size() );
 
 		for ( Map.Entry<URI, FileParseResult> entry : allFiles.entrySet() ) {
+			cancelChecker.checkCanceled();
+
 			URI					fileUri	= entry.getKey();
 			Optional<BoxNode>	rootOpt	= entry.getValue().findAstRoot();
 
 			if ( rootOpt.isEmpty() ) {
+				progress.worked( references );
 				continue;
 			}
 
@@ -1375,6 +1526,8 @@ public class ProjectContextProvider {
 
 			// Find type hints (return types, parameter types)
 			findTypeHintReferences( root, className, fileUri, references );
+
+			progress.worked( references );
 		}
 
 		// Include declaration if requested
@@ -1392,11 +1545,13 @@ public class ProjectContextProvider {
 	 * @param includeDeclaration Whether to include the declaration
 	 * @param declarationNode    The declaration node
 	 * @param currentDocURI      The current document URI
+	 * @param cancelChecker      Checked before each file is searched
+	 * @param progress           Notified after each file is searched
 	 *
 	 * @return List of reference locations
 	 */
 	private List<Location> findInterfaceReferences( String interfaceName, boolean includeDeclaration,
-	    BoxInterface declarationNode, URI currentDocURI ) {
+	    BoxInterface declarationNode, URI currentDocURI, CancelChecker cancelChecker, RequestProgress<Location> progress ) {
 		List<Location> references = new ArrayList<>();
 
 		if ( interfaceName == null || interfaceName.isEmpty() ) {
@@ -1407,12 +1562,16 @@ public class ProjectContextProvider {
 		Map<URI, FileParseResult> allFiles = new HashMap<>();
 		allFiles.putAll( openDocuments );
 		allFiles.putAll( parsedFiles );
+		progress.setTotal( allFiles.size() );
 
 		for ( Map.Entry<URI, FileParseResult> entry : allFiles.entrySet() ) {
+			cancelChecker.checkCanceled();
+
 			URI					fileUri	= entry.getKey();
 			Optional<BoxNode>	rootOpt	= entry.getValue().findAstRoot();
 
 			if ( rootOpt.isEmpty() ) {
+				progress.worked( references );
 				continue;
 			}
 
@@ -1444,6 +1603,8 @@ public class ProjectContextProvider {
 
 			// Find type hints using the interface
 			findTypeHintReferences( root, interfaceName, fileUri, references );
+
+			progress.worked( references );
 		}
 
 		// Include declaration if requested
@@ -1490,11 +1651,12 @@ public class ProjectContextProvider {
 	 * @param currentDocURI      The current document URI
 	 * @param includeDeclaration Whether to include the declaration
 	 * @param declarationNode    The declaration node
+	 * @param cancelChecker      Checked before the file is searched
 	 *
 	 * @return List of reference locations
 	 */
 	private List<Location> findPropertyReferences( String propertyName, URI currentDocURI, boolean includeDeclaration,
-	    BoxProperty declarationNode ) {
+	    BoxProperty declarationNode, CancelChecker cancelChecker ) {
 		List<Location> references = new ArrayList<>();
 
 		if ( propertyName == null || propertyName.isEmpty() ) {
@@ -1509,6 +1671,8 @@ public class ProjectContextProvider {
 			return references;
 		}
 
+		cancelChecker.checkCanceled();
+
 		BoxNode				root		= rootOpt.get();
 
 		// Find variables.propertyName and this.propertyName access
@@ -1546,10 +1710,12 @@ public class ProjectContextProvider {
 	 * @param identifier         The variable identifier
 	 * @param currentDocURI      The current document URI
 	 * @param includeDeclaration Whether to include the declaration
+	 * @param cancelChecker      Checked before the file is searched
 	 *
 	 * @return List of reference locations
 	 */
-	private List<Location> findVariableReferences( BoxIdentifier identifier, URI currentDocURI, boolean includeDeclaration ) {
+	private List<Location> findVariableReferences( BoxIdentifier identifier, URI currentDocURI, boolean includeDeclaration,
+	    CancelChecker cancelChecker ) {
 		List<Location>		references	= new ArrayList<>();
 		String				varName		= identifier.getName();
 
@@ -1561,6 +1727,8 @@ public class ProjectContextProvider {
 			return references;
 		}
 
+		cancelChecker.checkCanceled();
+
 		BoxNode	root				= rootOpt.get();
 
 		// Find the containing function to scope the search
@@ -1595,10 +1763,12 @@ public class ProjectContextProvider {
 	 * @param argDecl            The argument declaration
 	 * @param currentDocURI      The current document URI
 	 * @param includeDeclaration Whether to include the declaration
+	 * @param cancelChecker      Checked before the function is searched
 	 *
 	 * @return List of reference locations
 	 */
-	private List<Location> findParameterReferences( BoxArgumentDeclaration argDecl, URI currentDocURI, boolean includeDeclaration ) {
+	private List<Location> findParameterReferences( BoxArgumentDeclaration argDecl, URI currentDocURI, boolean includeDeclaration,
+	    CancelChecker cancelChecker ) {
 		List<Location>	references			= new ArrayList<>();
 		String			paramName			= argDecl.getName();
 
@@ -1609,6 +1779,8 @@ public class ProjectContextProvider {
 			return references;
 		}
 
+		cancelChecker.checkCanceled();
+
 		// Search for all identifiers with the parameter name within the function
 		List<BoxIdentifier> identifiers = containingFunction.getDescendantsOfType(
 		    BoxIdentifier.class,
@@ -1632,11 +1804,13 @@ public class ProjectContextProvider {
 	 * @param methodInvocation   The method invocation node
 	 * @param currentDocURI      The current document URI
 	 * @param includeDeclaration Whether to include the declaration
+	 * @param cancelChecker      Checked before each file is searched
+	 * @param progress           Notified after each file is searched
 	 *
 	 * @return List of reference locations
 	 */
 	private List<Location> findMethodInvocationReferences( BoxMethodInvocation methodInvocation, URI currentDocURI,
-	    boolean includeDeclaration ) {
+	    boolean includeDeclaration, CancelChecker cancelChecker, RequestProgress<Location> progress ) {
 		List<Location>				references	= new ArrayList<>();
 		String						methodName	= methodInvocation.getName().getSourceText();
 
@@ -1644,12 +1818,16 @@ public class ProjectContextProvider {
 		Map<URI, FileParseResult>	allFiles	= new HashMap<>();
 		allFiles.putAll( openDocuments );
 		allFiles.putAll( parsedFiles );
+		progress.setTotal( allFiles.size() );
 
 		for ( Map.Entry<URI, FileParseResult> entry : allFiles.entrySet() ) {
+			cancelChecker.checkCanceled();
+
 			URI					fileUri	= entry.getKey();
 			Optional<BoxNode>	rootOpt	= entry.getValue().findAstRoot();
 
 			if ( rootOpt.isEmpty() ) {
+				progress.worked( references );
 				continue;
 			}
 
@@ -1663,6 +1841,8 @@ public class ProjectContextProvider {
 			for ( BoxMethodInvocation inv : invocations ) {
 				references.add( createLocationFromMethodInvocation( inv, fileUri ) );
 			}
+
+			progress.worked( references );
 		}
 
 		return references;
@@ -1890,10 +2070,14 @@ public class ProjectContextProvider {
 	}
 
 	public List<Location> findDefinitionPossibiltiies( URI docURI, Position pos ) {
+		return findDefinitionPossibiltiies( docURI, pos, Cancellation.NONE );
+	}
+
+	public List<Location> findDefinitionPossibiltiies( URI docURI, Position pos, CancelChecker cancelChecker ) {
 		return getLatestFileParseResult( docURI )
 		    .flatMap( fpr -> fpr.findAstRoot() )
 		    .map( rootNode -> {
-			    return findDefinitionTarget( docURI, pos )
+			    return findDefinitionTarget( docURI, pos, cancelChecker )
 			        .map( ( node ) -> {
 				        if ( node instanceof BoxFunctionDeclaration fnDecl ) {
 					        // Cursor is on a function declaration - return its own location
@@ -2113,25 +2297,39 @@ public class ProjectContextProvider {
 	 * @return List of locations pointing to implementations
 	 */
 	public List<Location> findImplementations( URI docURI, Position pos ) {
+		return findImplementations( docURI, pos, Cancellation.NONE );
+	}
+
+	/**
+	 * Find implementations of the symbol at the given position, stopping early if
+	 * the request is cancelled.
+	 *
+	 * @param docURI        The document URI
+	 * @param pos           The cursor position
+	 * @param cancelChecker Checked during the AST traversal and between implementing classes
+	 *
+	 * @return List of locations pointing to implementations
+	 */
+	public List<Location> findImplementations( URI docURI, Position pos, CancelChecker cancelChecker ) {
 		return getLatestFileParseResult( docURI )
 		    .flatMap( fpr -> fpr.findAstRoot() )
 		    .map( rootNode -> {
 			    // Find the target node at the cursor position
-			    return findDefinitionTarget( docURI, pos )
+			    return findDefinitionTarget( docURI, pos, cancelChecker )
 			        .map( ( node ) -> {
 				        // Handle function declarations (interface methods or abstract methods)
 				        if ( node instanceof BoxFunctionDeclaration fnDecl ) {
-					        return findImplementationsOfMethod( fnDecl, rootNode, docURI );
+					        return findImplementationsOfMethod( fnDecl, rootNode, docURI, cancelChecker );
 				        }
 
 				        // Handle interface declarations
 				        if ( node instanceof BoxInterface ) {
-					        return findImplementationsOfClassOrInterface( rootNode, docURI );
+					        return findImplementationsOfClassOrInterface( rootNode, docURI, cancelChecker );
 				        }
 
 				        // Handle class declarations (for abstract classes)
 				        if ( node instanceof BoxClass ) {
-					        return findImplementationsOfClassOrInterface( rootNode, docURI );
+					        return findImplementationsOfClassOrInterface( rootNode, docURI, cancelChecker );
 				        }
 
 				        return new ArrayList<Location>();
@@ -2146,11 +2344,13 @@ public class ProjectContextProvider {
 	 *
 	 * @param fnDecl   The function declaration
 	 * @param rootNode The AST root node
-	 * @param docURI   The document URI
+	 * @param docURI        The document URI
+	 * @param cancelChecker Checked before each implementing method is added
 	 *
 	 * @return List of locations pointing to implementing methods
 	 */
-	private List<Location> findImplementationsOfMethod( BoxFunctionDeclaration fnDecl, BoxNode rootNode, URI docURI ) {
+	private List<Location> findImplementationsOfMethod( BoxFunctionDeclaration fnDecl, BoxNode rootNode, URI docURI,
+	    CancelChecker cancelChecker ) {
 		List<Location>	locations	= new ArrayList<>();
 
 		String			methodName	= fnDecl.getName();
@@ -2168,29 +2368,13 @@ public class ProjectContextProvider {
 			return locations;
 		}
 
-		IndexedClass		indexedClass		= classOpt.get();
-		String				classFQN			= indexedClass.fullyQualifiedName();
-
-		// Get implementing/extending classes
-		List<IndexedClass>	implementingClasses	= new ArrayList<>();
-
-		if ( indexedClass.isInterface() ) {
-			// Find all classes implementing this interface
-			implementingClasses.addAll( index.findClassesImplementing( classFQN ) );
-		} else {
-			// Find all classes extending this class (for abstract methods)
-			implementingClasses.addAll( index.findClassesExtending( classFQN ) );
-		}
+		// The implementation map holds the methods of every implementing/extending class by name
+		for ( IndexedMethod method : index.findMethodImplementations( classOpt.get(), methodName ) ) {
+			cancelChecker.checkCanceled();
 
-		// For each implementing/extending class, find the method implementation
-		for ( IndexedClass implClass : implementingClasses ) {
-			var methodOpt = index.findMethod( implClass.name(), methodName );
-			if ( methodOpt.isPresent() ) {
-				IndexedMethod	method		= methodOpt.get();
-				Location		location	= createLocationFromIndexedMethod( method );
-				if ( location != null ) {
-					locations.add( location );
-				}
+			Location location = createLocationFromIndexedMethod( method );
+			if ( location != null ) {
+				locations.add( location );
 			}
 		}
 
@@ -2202,11 +2386,12 @@ public class ProjectContextProvider {
 	 * This is called when the cursor is on the interface/class declaration itself.
 	 *
 	 * @param rootNode The AST root node
-	 * @param docURI   The document URI
+	 * @param docURI        The document URI
+	 * @param cancelChecker Checked after the index lookup
 	 *
 	 * @return List of locations pointing to implementing/extending classes
 	 */
-	private List<Location> findImplementationsOfClassOrInterface( BoxNode rootNode, URI docURI ) {
+	private List<Location> findImplementationsOfClassOrInterface( BoxNode rootNode, URI docURI, CancelChecker cancelChecker ) {
 		List<Location>	locations	= new ArrayList<>();
 
 		String			className	= getClassNameFromUri( docURI );
@@ -2222,19 +2407,10 @@ public class ProjectContextProvider {
 			return locations;
 		}
 
-		IndexedClass		indexedClass		= classOpt.get();
-		String				classFQN			= indexedClass.fullyQualifiedName();
+		// Implementing classes for interfaces, extending classes otherwise
+		List<IndexedClass> implementingClasses = index.findImplementingClasses( classOpt.get() );
 
-		// Get implementing/extending classes
-		List<IndexedClass>	implementingClasses	= new ArrayList<>();
-
-		if ( indexedClass.isInterface() ) {
-			// Find all classes implementing this interface
-			implementingClasses.addAll( index.findClassesImplementing( classFQN ) );
-		} else {
-			// Find all classes extending this class
-			implementingClasses.addAll( index.findClassesExtending( classFQN ) );
-		}
+		cancelChecker.checkCanceled();
 
 		// Add locations for each implementing/extending class
 		for ( IndexedClass implClass : implementingClasses ) {
@@ -3049,15 +3225,99 @@ public class ProjectContextProvider {
 	}
 
 	public List<CompletionItem> getAvailableCompletions( URI docURI, CompletionParams params ) {
+		return getAvailableCompletions( docURI, params, Cancellation.NONE );
+	}
+
+	public List<CompletionItem> getAvailableCompletions( URI docURI, CompletionParams params, CancelChecker cancelChecker ) {
 		// TODO if you are in a cfscript component within a template script completions
 		// TODO if you are in a cfset return script completions
 		// TODO add completions for in-scope symbols (properties, local variables,
 
-		return getLatestFileParseResult( docURI ).map( ( res ) -> {
-			return CompletionProviderRuleBook.execute( new CompletionFacts( res, params ) );
+		// Items are returned fully resolved, the LSP handler uses getCompletionList which
+		// defers documentation and import edits to completionItem/resolve instead
+		return getCompletionParseResult( docURI, params.getPosition() ).map( ( res ) -> {
+			List<CompletionItem> items = CompletionProviderRuleBook.execute( new CompletionFacts( res, params ), cancelChecker );
+			cancelChecker.checkCanceled();
+			items.forEach( CompletionItemResolver::resolve );
+			return items;
 		} ).orElseGet( () -> new ArrayList<CompletionItem>() );
 	}
 
+	/**
+	 * Get the parse result completion should run against. When the open document
+	 * has changed since the last debounced parse, a parse-only snapshot of the
+	 * live buffer is used instead so the cursor context is never stale.
+	 */
+	private Optional<FileParseResult> getCompletionParseResult( URI docURI, Position position ) {
+		Optional<FileParseResult>	latest	= getLatestFileParseResult( docURI );
+		DocumentModel				model	= documentModels.get( docURI );
+
+		if ( model == null ) {
+			return latest;
+		}
+
+		String content = model.getContent();
+		if ( latest.isPresent() && latest.get().hasSource( content ) ) {
+			liveCompletionSnapshots.remove( docURI );
+			return latest;
+		}
+
+		FileParseResult previous = liveCompletionSnapshots.get( docURI );
+		if ( previous != null && previous.hasSource( content ) ) {
+			return Optional.of( previous );
+		}
+
+		FileParseResult snapshot = FileParseResult.fromLiveBuffer( docURI, content, position.getLine(), latest.orElse( null ), previous );
+		liveCompletionSnapshots.put( docURI, snapshot );
+
+		return Optional.of( snapshot );
+	}
+
+	/**
+	 * Fill in the deferred documentation, detail and auto-import edits of a
+	 * completion item previously returned by {@link #getCompletionList}.
+	 */
+	public CompletionItem resolveCompletionItem( CompletionItem item ) {
+		return CompletionItemResolver.resolve( item );
+	}
+
+	/**
+	 * Get the completions for the given position ranked against the typed prefix
+	 * and capped to the configured maximum. The list is only marked incomplete
+	 * when candidates had to be dropped to honor the cap, or when a rule could
+	 * only offer part of its completions.
+	 */
+	public CompletionList getCompletionList( URI docURI, CompletionParams params ) {
+		return getCompletionList( docURI, params, Cancellation.NONE );
+	}
+
+	public CompletionList getCompletionList( URI docURI, CompletionParams params, CancelChecker cancelChecker ) {
+		return getCompletionParseResult( docURI, params.getPosition() ).map( ( res ) -> {
+			CompletionFacts			facts		= new CompletionFacts( res, params );
+			List<CompletionItem>	candidates	= CompletionProviderRuleBook.execute( facts, cancelChecker );
+
+			cancelChecker.checkCanceled();
+
+			CompletionList list = CompletionEngine.rank( candidates, getRankingPrefix( facts.getContext() ), userSettings.getCompletionMaxResults() );
+			if ( facts.isIncomplete() ) {
+				list.setIsIncomplete( true );
+			}
+			return list;
+		} ).orElseGet( () -> new CompletionList( false, new ArrayList<CompletionItem>() ) );
+	}
+
+	/**
+	 * The prefix used to rank completion candidates. Contexts whose trigger text
+	 * is a path or qualified name (imports, new, extends, ...) produce labels that
+	 * don't correspond to the typed text, so those are only capped, not filtered.
+	 */
+	private String getRankingPrefix( CompletionContext context ) {
+		return switch ( context.getKind() ) {
+			case GENERAL, MEMBER_ACCESS, FUNCTION_ARGUMENT, BXM_TAG_ATTRIBUTE, TEMPLATE_EXPRESSION -> context.getTriggerText();
+			default -> "";
+		};
+	}
+
 	public List<CodeLens> getAvailableCodeLenses( URI docURI, CodeLensParams params ) {
 		return getLatestFileParseResult( docURI ).map( ( res ) -> {
 			return CodeLensRuleBook.execute( new CodeLensFacts( res, params ) );
@@ -3065,10 +3325,14 @@ public class ProjectContextProvider {
 	}
 
 	public Optional<BoxNode> findReferenceTarget( URI docURI, Position position ) {
+		return findReferenceTarget( docURI, position, Cancellation.NONE );
+	}
+
+	public Optional<BoxNode> findReferenceTarget( URI docURI, Position position, CancelChecker cancelChecker ) {
 		return getLatestFileParseResult( docURI )
 		    .flatMap( fpr -> fpr.findAstRoot() )
 		    .map( ( rootNode ) -> {
-			    FindReferenceTargetVisitor visitor = new FindReferenceTargetVisitor( position );
+			    FindReferenceTargetVisitor visitor = new FindReferenceTargetVisitor( position, cancelChecker );
 			    rootNode.accept( visitor );
 			    return visitor.getReferenceTarget();
 		    } );
@@ -3076,10 +3340,14 @@ public class ProjectContextProvider {
 	}
 
 	public Optional<BoxNode> findDefinitionTarget( URI docURI, Position position ) {
+		return findDefinitionTarget( docURI, position, Cancellation.NONE );
+	}
+
+	public Optional<BoxNode> findDefinitionTarget( URI docURI, Position position, CancelChecker cancelChecker ) {
 		return getLatestFileParseResult( docURI )
 		    .flatMap( fpr -> fpr.findAstRoot() )
 		    .map( ( rootNode ) -> {
-			    FindDefinitionTargetVisitor visitor = new FindDefinitionTargetVisitor( position );
+			    FindDefinitionTargetVisitor visitor = new FindDefinitionTargetVisitor( position, cancelChecker );
 
 			    rootNode.accept( visitor );
 
@@ -3097,10 +3365,24 @@ public class ProjectContextProvider {
 	 * @return Hover information or null if no hover is available
 	 */
 	public Hover getHoverInfo( URI docURI, Position position ) {
+		return getHoverInfo( docURI, position, Cancellation.NONE );
+	}
+
+	/**
+	 * Get hover information for the symbol at the given position, stopping early
+	 * if the request is cancelled.
+	 *
+	 * @param docURI        The document URI
+	 * @param position      The cursor position
+	 * @param cancelChecker Checked during AST traversals and before index lookups
+	 *
+	 * @return Hover information or null if no hover is available
+	 */
+	public Hover getHoverInfo( URI docURI, Position position, CancelChecker cancelChecker ) {
 		return getLatestFileParseResult( docURI )
 		    .flatMap( fpr -> fpr.findAstRoot() )
 		    .map( rootNode -> {
-			    FindHoverTargetVisitor visitor = new FindHoverTargetVisitor( position );
+			    FindHoverTargetVisitor visitor = new FindHoverTargetVisitor( position, cancelChecker );
 			    rootNode.accept( visitor );
 			    BoxNode target = visitor.getHoverTarget();
 
@@ -3108,6 +3390,8 @@ public class ProjectContextProvider {
 				    return null;
 			    }
 
+			    cancelChecker.checkCanceled();
+
 			    // Handle function invocations - look up the function definition
 			    if ( target instanceof BoxFunctionInvocation fnInvocation ) {
 				    String functionName = fnInvocation.getName();
@@ -3136,7 +3420,7 @@ public class ProjectContextProvider {
 					    String						varName			= objIdentifier.getName();
 
 					    // Collect variable types from the AST
-					    VariableTypeCollectorVisitor typeCollector	= new VariableTypeCollectorVisitor();
+					    VariableTypeCollectorVisitor typeCollector	= new VariableTypeCollectorVisitor( cancelChecker );
 					    rootNode.accept( typeCollector );
 					    String className = typeCollector.getVariableType( varName );
 
@@ -3149,6 +3433,8 @@ public class ProjectContextProvider {
 					    }
 				    }
 
+				    cancelChecker.checkCanceled();
+
 				    // Fall back to finding method in the same file
 				    return rootNode
 				        .getDescendantsOfType( BoxFunctionDeclaration.class,
@@ -3215,7 +3501,7 @@ public class ProjectContextProvider {
 			    // Handle variable identifiers
 			    if ( target instanceof BoxIdentifier identifier ) {
 				    // Collect variable scope information
-				    VariableScopeCollectorVisitor scopeCollector = new VariableScopeCollectorVisitor();
+				    VariableScopeCollectorVisitor scopeCollector = new VariableScopeCollectorVisitor( cancelChecker );
 				    rootNode.accept( scopeCollector );
 
 				    String varName = identifier.getName();
@@ -3465,10 +3751,11 @@ public class ProjectContextProvider {
 		sigInfo.setParameters( params );
 
 		// Add documentation if available
-		if ( method.documentation() != null && !method.documentation().isBlank() ) {
+		String documentation = getIndex().getDocumentation( method );
+		if ( documentation != null && !documentation.isBlank() ) {
 			MarkupContent markup = new MarkupContent();
 			markup.setKind( MarkupKind.MARKDOWN );
-			markup.setValue( formatIndexedMethodDocumentation( method.documentation() ) );
+			markup.setValue( formatIndexedMethodDocumentation( documentation ) );
 			sigInfo.setDocumentation( markup );
 		}
 
@@ -3586,8 +3873,9 @@ public class ProjectContextProvider {
 		content.append( "\n```\n\n" );
 
 		// Add documentation if available
-		if ( method.documentation() != null && !method.documentation().isBlank() ) {
-			content.append( formatIndexedMethodDocumentation( method.documentation() ) );
+		String documentation = getIndex().getDocumentation( method );
+		if ( documentation != null && !documentation.isBlank() ) {
+			content.append( formatIndexedMethodDocumentation( documentation ) );
 		}
 
 		Hover			hover			= new Hover();
@@ -4343,8 +4631,9 @@ public class ProjectContextProvider {
 		content.append( "\n```\n\n" );
 
 		// Add class documentation if available
-		if ( indexedClass.documentation() != null && !indexedClass.documentation().isBlank() ) {
-			content.append( formatClassDocumentation( indexedClass.documentation() ) );
+		String documentation = getIndex().getDocumentation( indexedClass );
+		if ( documentation != null && !documentation.isBlank() ) {
+			content.append( formatClassDocumentation( documentation ) );
 		}
 
 		// Add inheritance information
@@ -4493,16 +4782,31 @@ public class ProjectContextProvider {
 				return;
 			}
 
-			PublishDiagnosticsParams diagnosticParams = new PublishDiagnosticsParams();
-			diagnosticParams.setUri( docURI.toString() );
-			List<Diagnostic> diagnostics = getLatestFileParseResult( docURI )
-			    .map( res -> res.getDiagnostics() )
-			    .orElseGet( () -> new ArrayList<Diagnostic>() );
-			diagnosticParams.setDiagnostics( diagnostics );
-			this.client.publishDiagnostics( diagnosticParams );
+			diagnosticPublisher.publish( docURI, getPublishableDiagnostics( docURI ) );
 		} );
 	}
 
+	/**
+	 * The diagnostics to publish for a URI: the cached report if there is one,
+	 * otherwise those of its latest parse.
+	 */
+	private List<Diagnostic> getPublishableDiagnostics( URI docURI ) {
+		DiagnosticReport report = this.cachedDiagnosticReports.get( docURI );
+		if ( report != null ) {
+			return report.getDiagnostics();
+		}
+		return getLatestFileParseResult( docURI )
+		    .map( res -> res.getDiagnostics() )
+		    .orElseGet( () -> new ArrayList<Diagnostic>() );
+	}
+
+	private void sendDiagnostics( PublishDiagnosticsParams params ) {
+		LanguageClient currentClient = this.client;
+		if ( currentClient != null ) {
+			currentClient.publishDiagnostics( params );
+		}
+	}
+
 	public List<Either<Command, CodeAction>> getAvailableCodeActions( URI convertDocumentURI, CodeActionParams params ) {
 		List<Either<Command, CodeAction>> actions = new ArrayList<>();
 
@@ -4535,25 +4839,24 @@ public class ProjectContextProvider {
 		return actions;
 	}
 
-	private DiagnosticReport cacheDiagnostics( URI fileUri, List<Diagnostic> diagnostics ) {
-		return this.cachedDiagnosticReports.compute( fileUri, ( uri, existingReport ) -> {
-			DiagnosticReport report = existingReport == null ? new DiagnosticReport( uri ) : existingReport;
-			report.setDiagnostics( diagnostics );
-			return report;
-		} );
+	/**
+	 * @return Whether the cached diagnostics of the file changed
+	 */
+	private boolean cacheDiagnostics( URI fileUri, List<Diagnostic> diagnostics ) {
+		return this.cachedDiagnosticReports.computeIfAbsent( fileUri, DiagnosticReport::new ).setDiagnostics( diagnostics );
 	}
 
 	private void cacheLatestDiagnostics( FileParseResult fpr ) {
 		cacheDiagnostics( fpr.getURI(), fpr.getDiagnostics() );
 	}
 
-	/** Recompute diagnostics for all currently open documents and publish immediately. */
+	/** Recompute diagnostics for all currently open documents and publish those that changed. */
 	public void recomputeAndPublishDiagnosticsForOpenDocuments() {
 		this.openDocuments.forEach( ( uri, fpr ) -> {
 			fpr.reparse();
 			cacheLatestDiagnostics( fpr );
-			publishDiagnostics( uri );
 		} );
+		diagnosticPublisher.enqueue( new ArrayList<>( this.openDocuments.keySet() ) );
 	}
 
 	public void watchLSPConfig() {
@@ -4588,22 +4891,34 @@ public class ProjectContextProvider {
 			return;
 		}
 		new Thread( () -> {
+			java.nio.file.Path root = null;
 			try {
-				java.nio.file.Path			root	= java.nio.file.Path.of( new java.net.URI( folders.getFirst().getUri() ) );
-				java.nio.file.WatchService	watcher	= root.getFileSystem().newWatchService();
-				registerConfigWatchDirectories( root, watcher );
+				root = java.nio.file.Path.of( new java.net.URI( folders.getFirst().getUri() ) );
+				java.nio.file.WatchService watcher = root.getFileSystem().newWatchService();
+				if ( registerConfigWatchDirectories( root, watcher ) ) {
+					watchingWorkspaceFiles = true;
+				} else {
+					App.logger.warn( "Not every directory of {} could be watched; file existence is checked on disk", root );
+				}
 				App.logger.info( "Started config watcher at: " + root );
 				while ( true ) {
 					java.nio.file.WatchKey	key			= watcher.take();
 					Path					watchedDir	= ( Path ) key.watchable();
 					for ( var event : key.pollEvents() ) {
 						if ( event.kind() == java.nio.file.StandardWatchEventKinds.OVERFLOW ) {
+							// Events were lost, so list the directory again when next asked for
+							DirectorySnapshot.getInstance().invalidate( watchedDir );
 							continue;
 						}
 
 						java.nio.file.Path changedPath = watchedDir.resolve( ( java.nio.file.Path ) event.context() );
-						if ( event.kind() == java.nio.file.StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory( changedPath ) ) {
-							registerConfigWatchDirectories( changedPath, watcher );
+						if ( event.kind() == java.nio.file.StandardWatchEventKinds.ENTRY_CREATE ) {
+							DirectorySnapshot.getInstance().created( changedPath );
+							if ( Files.isDirectory( changedPath ) && !registerConfigWatchDirectories( changedPath, watcher ) ) {
+								stopWatchingWorkspaceFiles( root );
+							}
+						} else if ( event.kind() == java.nio.file.StandardWatchEventKinds.ENTRY_DELETE ) {
+							DirectorySnapshot.getInstance().deleted( changedPath );
 						}
 
 						if ( isWatchedConfigPath( changedPath ) ) {
@@ -4613,27 +4928,56 @@ public class ProjectContextProvider {
 					}
 					if ( !key.reset() ) {
 						App.logger.debug( "Stopping config watch for invalid key: {}", watchedDir );
+						DirectorySnapshot.getInstance().invalidate( watchedDir );
+						if ( Files.isDirectory( watchedDir ) ) {
+							// The directory still exists but is no longer watched
+							stopWatchingWorkspaceFiles( root );
+						}
 					}
 				}
 			} catch ( Exception e ) {
 				App.logger.warn( "Config watcher failure", e );
+			} finally {
+				if ( root != null ) {
+					stopWatchingWorkspaceFiles( root );
+				}
 			}
 		}, "boxlang-lsp-config-watcher" ).start();
 	}
 
-	private void registerConfigWatchDirectories( Path root, java.nio.file.WatchService watcher ) throws IOException {
+	/**
+	 * Stop answering the workspace from the directory snapshot without expiry,
+	 * since created and deleted files are no longer all reported to it.
+	 */
+	private void stopWatchingWorkspaceFiles( Path root ) {
+		if ( watchingWorkspaceFiles ) {
+			App.logger.warn( "Not every directory of {} is watched; file existence is checked on disk again", root );
+		}
+		watchingWorkspaceFiles = false;
+		DirectorySnapshot.getInstance().unwatch( root );
+	}
+
+	/**
+	 * @return Whether every directory below the root is watched
+	 */
+	private boolean registerConfigWatchDirectories( Path root, java.nio.file.WatchService watcher ) throws IOException {
+		boolean registered = true;
 		try ( Stream<Path> stream = Files.walk( root ) ) {
-			stream.filter( Files::isDirectory )
-			    .forEach( path -> registerConfigWatchDirectory( path, watcher ) );
+			for ( Path path : stream.filter( Files::isDirectory ).toList() ) {
+				registered &= registerConfigWatchDirectory( path, watcher );
+			}
 		}
+		return registered;
 	}
 
-	private void registerConfigWatchDirectory( Path directory, java.nio.file.WatchService watcher ) {
+	private boolean registerConfigWatchDirectory( Path directory, java.nio.file.WatchService watcher ) {
 		try {
 			directory.register( watcher, java.nio.file.StandardWatchEventKinds.ENTRY_CREATE, java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY,
 			    java.nio.file.StandardWatchEventKinds.ENTRY_DELETE );
+			return true;
 		} catch ( IOException e ) {
 			App.logger.debug( "Unable to register config watch for {}", directory, e );
+			return false;
 		}
 	}
 
@@ -0,0 +1,174 @@
+package ortus.boxlang.lsp.workspace;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.WorkDoneProgressBegin;
+import org.eclipse.lsp4j.WorkDoneProgressEnd;
+import org.eclipse.lsp4j.WorkDoneProgressNotification;
+import org.eclipse.lsp4j.WorkDoneProgressReport;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.services.LanguageClient;
+
+import ortus.boxlang.lsp.App;
+
+/**
+ * Reports work-done progress and streams partial results for a single request
+ * through {@code $/progress}.
+ *
+ * Both tokens are supplied by the client on the request params. Without a
+ * work-done token no progress is shown, and without a partial result token
+ * results are only returned in the final response.
+ *
+ * When partial results are streamed, the items already sent are a prefix of
+ * the final result list. {@link #finish(List)} sends whatever was not
+ * streamed yet and returns the (then empty) list to use as the response, as
+ * the protocol requires.
+ */
+public class RequestProgress<T> {
+
+	private static final long				REPORT_INTERVAL_MS	= 200;
+
+	private final LanguageClient			client;
+	private final Either<String, Integer>	workDoneToken;
+	private final Either<String, Integer>	partialResultToken;
+	private Function<List<T>, Object>		partialResultWrapper	= items -> items;
+
+	private int								total;
+	private int								done;
+	private int								streamed;
+	private long							lastReport;
+	private boolean							ended;
+
+	public RequestProgress( LanguageClient client, Either<String, Integer> workDoneToken, Either<String, Integer> partialResultToken ) {
+		this.client				= client;
+		this.workDoneToken		= client == null ? null : workDoneToken;
+		this.partialResultToken	= client == null ? null : partialResultToken;
+	}
+
+	/**
+	 * Progress that reports nothing, for callers not tied to an LSP request.
+	 */
+	public static <T> RequestProgress<T> none() {
+		return new RequestProgress<>( null, null, null );
+	}
+
+	/**
+	 * Wrap streamed items in the partial result type of the request, for
+	 * requests whose partial results are not a plain list.
+	 *
+	 * @return This progress
+	 */
+	public RequestProgress<T> wrapPartialResults( Function<List<T>, Object> wrapper ) {
+		this.partialResultWrapper = wrapper;
+		return this;
+	}
+
+	/**
+	 * Start reporting work-done progress.
+	 *
+	 * @param title The title shown by the client
+	 */
+	public synchronized void begin( String title ) {
+		if ( workDoneToken == null ) {
+			return;
+		}
+
+		WorkDoneProgressBegin begin = new WorkDoneProgressBegin();
+		begin.setTitle( title );
+		begin.setCancellable( false );
+		begin.setPercentage( 0 );
+		notify( workDoneToken, Either.forLeft( begin ) );
+	}
+
+	/**
+	 * Set the number of units of work, e.g. the number of files to search.
+	 */
+	public synchronized void setTotal( int total ) {
+		this.total	= total;
+		this.done	= 0;
+	}
+
+	/**
+	 * Mark one unit of work as done and stream the results added since the last
+	 * call. The result list must only ever be appended to.
+	 *
+	 * @param results The full result list built so far
+	 */
+	public synchronized void worked( List<T> results ) {
+		done++;
+
+		if ( partialResultToken != null && results.size() > streamed ) {
+			sendPartial( results.subList( streamed, results.size() ) );
+			streamed = results.size();
+		}
+
+		if ( workDoneToken == null || total <= 0 ) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		if ( now - lastReport < REPORT_INTERVAL_MS && done < total ) {
+			return;
+		}
+		lastReport = now;
+
+		WorkDoneProgressReport report = new WorkDoneProgressReport();
+		report.setMessage( done + "/" + total + " files" );
+		report.setPercentage( Math.min( 100, done * 100 / total ) );
+		notify( workDoneToken, Either.forLeft( report ) );
+	}
+
+	/**
+	 * Finish the request. Sends any results that have not been streamed yet and
+	 * ends work-done progress.
+	 *
+	 * @param results The complete result list
+	 *
+	 * @return The list to return as the response
+	 */
+	public synchronized List<T> finish( List<T> results ) {
+		List<T> response = results;
+
+		if ( partialResultToken != null ) {
+			if ( results.size() > streamed ) {
+				sendPartial( results.subList( streamed, results.size() ) );
+			}
+			streamed	= results.size();
+			response	= new ArrayList<>();
+		}
+
+		end();
+
+		return response;
+	}
+
+	/**
+	 * End work-done progress without sending further results, e.g. when the
+	 * request failed or was cancelled. Safe to call more than once.
+	 */
+	public synchronized void end() {
+		if ( ended ) {
+			return;
+		}
+		ended = true;
+
+		if ( workDoneToken != null ) {
+			notify( workDoneToken, Either.forLeft( new WorkDoneProgressEnd() ) );
+		}
+	}
+
+	private void sendPartial( List<T> items ) {
+		notify( partialResultToken, Either.forRight( partialResultWrapper.apply( new ArrayList<>( items ) ) ) );
+	}
+
+	private void notify( Either<String, Integer> token, Either<WorkDoneProgressNotification, Object> value ) {
+		try {
+			client.notifyProgress( new ProgressParams( token, value ) );
+		} catch ( Exception e ) {
+			App.logger.debug( "Unable to send $/progress notification", e );
+		}
+	}
+}
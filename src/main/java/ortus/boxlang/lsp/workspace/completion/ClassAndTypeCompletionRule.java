@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.eclipse.lsp4j.CompletionItem;
@@ -17,6 +18,7 @@ import org.eclipse.lsp4j.TextEdit;
 
 import ortus.boxlang.compiler.ast.BoxNode;
 import ortus.boxlang.compiler.ast.statement.BoxImport;
+import ortus.boxlang.lsp.workspace.FileParseResult;
 import ortus.boxlang.lsp.workspace.ProjectContextProvider;
 import ortus.boxlang.lsp.workspace.index.IndexedClass;
 import ortus.boxlang.lsp.workspace.index.ProjectIndex;
@@ -29,6 +31,7 @@ import ortus.boxlang.lsp.workspace.rules.IRule;
  * - After `implements` keyword (interfaces only)
  *
  * Also provides auto-import functionality when completing unimported types.
+ * The import edit and documentation are computed lazily in completionItem/resolve.
  */
 public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<CompletionItem>> {
 
@@ -91,16 +94,61 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 		    .filter( cls -> matchesPrefix( cls, prefix ) )
 		    .collect( Collectors.toList() );
 
-		// Get currently imported classes to check if auto-import is needed
-		List<String>		currentImports	= getImportedClasses( facts );
+		String				currentPackage	= getCurrentFilePackage( facts.fileParseResult().getURI() );
+		String				documentUri		= facts.fileParseResult().getURI().toString();
 
-		// Convert to completion items
+		// Convert to completion items, documentation and auto-imports are deferred to completionItem/resolve
 		for ( IndexedClass indexedClass : filteredClasses ) {
-			CompletionItem item = createCompletionItem( indexedClass, facts, currentImports );
+			CompletionItem item = createCompletionItem( indexedClass, currentPackage );
+			CompletionItemResolver.attach( item, CompletionItemResolver.CLASS, documentUri, null, indexedClass.fullyQualifiedName() );
 			result.add( item );
 		}
 	}
 
+	/**
+	 * Populate the deferred fields of a class completion item: the fully qualified
+	 * name as detail, the class documentation and the auto-import edit.
+	 *
+	 * @param item        The completion item to resolve
+	 * @param documentUri The document the completion was requested in
+	 * @param fqn         The fully qualified name of the completed class
+	 */
+	static void resolveCompletionItem( CompletionItem item, String documentUri, String fqn ) {
+		ProjectIndex			index			= ProjectContextProvider.getInstance().getIndex();
+		Optional<IndexedClass>	indexedClassOpt	= index.findClassByFQN( fqn );
+		if ( indexedClassOpt.isEmpty() ) {
+			return;
+		}
+
+		IndexedClass indexedClass = indexedClassOpt.get();
+
+		// Set detail to show the fully qualified name
+		item.setDetail( indexedClass.fullyQualifiedName() );
+
+		// Add documentation if available
+		String documentation = index.getDocumentation( indexedClass );
+		if ( documentation != null && !documentation.isEmpty() ) {
+			item.setDocumentation( documentation );
+		}
+
+		if ( documentUri == null ) {
+			return;
+		}
+
+		URI							docUri		= URI.create( documentUri );
+		Optional<FileParseResult>	parseResult	= ProjectContextProvider.getInstance().getLatestFileParseResultPublic( docUri );
+		if ( parseResult.isEmpty() ) {
+			return;
+		}
+
+		// Add auto-import if needed
+		List<String>	currentImports	= getImportedClasses( parseResult.get() );
+		String			currentPackage	= getCurrentFilePackage( docUri );
+		if ( !isAlreadyImported( indexedClass, currentImports, currentPackage ) ) {
+			addAutoImport( item, indexedClass, parseResult.get() );
+		}
+	}
+
 	/**
 	 * Check if a class matches the context requirements (interface vs class).
 	 */
@@ -139,7 +187,7 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 	/**
 	 * Create a completion item for a class.
 	 */
-	private CompletionItem createCompletionItem( IndexedClass indexedClass, CompletionFacts facts, List<String> currentImports ) {
+	private CompletionItem createCompletionItem( IndexedClass indexedClass, String currentPackage ) {
 		CompletionItem item = new CompletionItem();
 
 		// Set label to simple class name
@@ -148,9 +196,6 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 		// Set kind based on whether it's an interface or class
 		item.setKind( indexedClass.isInterface() ? CompletionItemKind.Interface : CompletionItemKind.Class );
 
-		// Set detail to show the fully qualified name
-		item.setDetail( indexedClass.fullyQualifiedName() );
-
 		// Add label details showing the package/file location
 		CompletionItemLabelDetails	labelDetails	= new CompletionItemLabelDetails();
 		String						packagePath		= getPackagePathFromFQN( indexedClass.fullyQualifiedName() );
@@ -163,20 +208,10 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 		item.setInsertTextFormat( InsertTextFormat.PlainText );
 		item.setInsertText( indexedClass.name() );
 
-		// Add documentation if available
-		if ( indexedClass.documentation() != null && !indexedClass.documentation().isEmpty() ) {
-			item.setDocumentation( indexedClass.documentation() );
-		}
-
 		// Sort by package proximity and then alphabetically
-		String sortText = calculateSortText( indexedClass, facts );
+		String sortText = calculateSortText( indexedClass, currentPackage );
 		item.setSortText( sortText );
 
-		// Add auto-import if needed
-		if ( !isAlreadyImported( indexedClass, currentImports, facts ) ) {
-			addAutoImport( item, indexedClass, facts );
-		}
-
 		return item;
 	}
 
@@ -184,7 +219,7 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 	 * Extract the package path from a fully qualified name.
 	 * For example, "subpackage.ProductRepository" -> "subpackage"
 	 */
-	private String getPackagePathFromFQN( String fqn ) {
+	private static String getPackagePathFromFQN( String fqn ) {
 		int lastDot = fqn.lastIndexOf( '.' );
 		if ( lastDot > 0 ) {
 			return fqn.substring( 0, lastDot );
@@ -199,9 +234,8 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 	 * - Classes in subpackages get lower priority (prefix "2")
 	 * - Then alphabetically by name
 	 */
-	private String calculateSortText( IndexedClass indexedClass, CompletionFacts facts ) {
-		String	currentFilePackage	= getCurrentFilePackage( facts );
-		String	classPackage		= getPackagePathFromFQN( indexedClass.fullyQualifiedName() );
+	private String calculateSortText( IndexedClass indexedClass, String currentFilePackage ) {
+		String classPackage = getPackagePathFromFQN( indexedClass.fullyQualifiedName() );
 
 		String	priority;
 		if ( classPackage.equals( currentFilePackage ) ) {
@@ -218,9 +252,8 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 	/**
 	 * Get the package of the current file being edited.
 	 */
-	private String getCurrentFilePackage( CompletionFacts facts ) {
+	private static String getCurrentFilePackage( URI fileUri ) {
 		try {
-			URI		fileUri			= URI.create( facts.fileParseResult().getURI().toString() );
 			Path	filePath		= Paths.get( fileUri );
 			Path	workspaceRoot	= ProjectContextProvider.getInstance().getIndex().getWorkspaceRoot();
 
@@ -240,10 +273,10 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 	/**
 	 * Get the list of classes currently imported in the file.
 	 */
-	private List<String> getImportedClasses( CompletionFacts facts ) {
+	private static List<String> getImportedClasses( FileParseResult fileParseResult ) {
 		List<String> imports = new ArrayList<>();
 
-		facts.fileParseResult().findAstRoot().ifPresent( root -> {
+		fileParseResult.findAstRoot().ifPresent( root -> {
 			List<BoxImport> importNodes = root.getDescendantsOfType( BoxImport.class );
 			for ( BoxImport importNode : importNodes ) {
 				// Get the imported class name (simple or fully qualified)
@@ -260,7 +293,7 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 	/**
 	 * Check if a class is already imported in the current file.
 	 */
-	private boolean isAlreadyImported( IndexedClass indexedClass, List<String> currentImports, CompletionFacts facts ) {
+	private static boolean isAlreadyImported( IndexedClass indexedClass, List<String> currentImports, String currentPackage ) {
 		// Check if already imported by FQN or simple name
 		for ( String imported : currentImports ) {
 			if ( imported.equals( indexedClass.fullyQualifiedName() )
@@ -271,8 +304,7 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 		}
 
 		// Also check if it's in the same package (no import needed)
-		String	currentPackage	= getCurrentFilePackage( facts );
-		String	classPackage	= getPackagePathFromFQN( indexedClass.fullyQualifiedName() );
+		String classPackage = getPackagePathFromFQN( indexedClass.fullyQualifiedName() );
 
 		return currentPackage.equals( classPackage );
 	}
@@ -281,9 +313,9 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 	 * Add auto-import functionality to a completion item.
 	 * This adds an additional text edit that inserts the import statement.
 	 */
-	private void addAutoImport( CompletionItem item, IndexedClass indexedClass, CompletionFacts facts ) {
+	private static void addAutoImport( CompletionItem item, IndexedClass indexedClass, FileParseResult fileParseResult ) {
 		// Find the position where we should insert the import
-		Position importPosition = findImportInsertPosition( facts );
+		Position importPosition = findImportInsertPosition( fileParseResult );
 
 		if ( importPosition != null ) {
 			// Create the import statement
@@ -305,10 +337,10 @@ public class ClassAndTypeCompletionRule implements IRule<CompletionFacts, List<C
 	 * Find the position where an import statement should be inserted.
 	 * This looks for existing imports and adds after them, or adds at the top of the file.
 	 */
-	private Position findImportInsertPosition( CompletionFacts facts ) {
+	private static Position findImportInsertPosition( FileParseResult fileParseResult ) {
 		final Position[] position = { new Position( 0, 0 ) };
 
-		facts.fileParseResult().findAstRoot().ifPresent( root -> {
+		fileParseResult.findAstRoot().ifPresent( root -> {
 			List<BoxImport> importNodes = root.getDescendantsOfType( BoxImport.class );
 			if ( !importNodes.isEmpty() ) {
 				// Insert after the last import
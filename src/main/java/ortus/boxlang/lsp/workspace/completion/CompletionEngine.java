@@ -0,0 +1,229 @@
+package ortus.boxlang.lsp.workspace.completion;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionList;
+
+/**
+ * Ranks and caps completion candidates on the server side.
+ *
+ * Every candidate produced by the completion rules is scored against the
+ * prefix the user has typed. Candidates that don't match the prefix at all are
+ * dropped, the rest are ordered by score and only the top {@code maxResults}
+ * are returned, with their {@code sortText} rewritten to their rank so the
+ * client keeps the order. The resulting {@link CompletionList} is only marked
+ * incomplete when candidates were actually cut, which lets the client filter
+ * subsequent keystrokes locally instead of re-requesting.
+ */
+public class CompletionEngine {
+
+	/**
+	 * Default number of completion items returned to the client.
+	 */
+	public static final int		DEFAULT_MAX_RESULTS	= 200;
+
+	private static final int	NO_MATCH			= -1;
+	private static final int	EXACT_SCORE			= 10_000;
+	private static final int	PREFIX_SCORE		= 8_000;
+	private static final int	CAMEL_CASE_SCORE	= 6_000;
+	private static final int	SUBSEQUENCE_SCORE	= 2_000;
+
+	private record ScoredItem( CompletionItem item, int score, int order ) {
+	}
+
+	private static final Comparator<ScoredItem> BEST_FIRST = Comparator
+	    .comparingInt( ScoredItem::score ).reversed()
+	    .thenComparing( scored -> sortKey( scored.item() ) )
+	    .thenComparingInt( ScoredItem::order );
+
+	private CompletionEngine() {
+	}
+
+	/**
+	 * Filter, rank and cap the given candidates for the typed prefix.
+	 *
+	 * @param candidates The unfiltered completion items produced by the rules
+	 * @param prefix     The text typed so far (may be null or empty)
+	 * @param maxResults The maximum number of items to return, values below 1 disable the cap
+	 *
+	 * @return A CompletionList that is marked incomplete only if results were truncated
+	 */
+	public static CompletionList rank( List<CompletionItem> candidates, String prefix, int maxResults ) {
+		String						query		= prefix == null ? "" : prefix;
+		int							limit		= maxResults < 1 ? Integer.MAX_VALUE : maxResults;
+
+		// Keep the worst of the current top-N at the head so it can be evicted cheaply
+		PriorityQueue<ScoredItem>	top			= new PriorityQueue<>( BEST_FIRST.reversed() );
+		boolean						truncated	= false;
+		int							order		= 0;
+
+		for ( CompletionItem item : candidates ) {
+			int score = score( filterKey( item ), query );
+			if ( score == NO_MATCH ) {
+				continue;
+			}
+
+			ScoredItem scored = new ScoredItem( item, score, order++ );
+			if ( top.size() < limit ) {
+				top.add( scored );
+				continue;
+			}
+
+			truncated = true;
+			if ( BEST_FIRST.compare( scored, top.peek() ) < 0 ) {
+				top.poll();
+				top.add( scored );
+			}
+		}
+
+		List<ScoredItem> ranked = new ArrayList<>( top );
+		ranked.sort( BEST_FIRST );
+
+		// Clients order by sortText, so it has to carry the ranking; the rule's own sortText only broke ties above
+		String					rankFormat	= "%0" + Math.max( 5, String.valueOf( ranked.size() ).length() ) + "d";
+		List<CompletionItem>	items		= new ArrayList<>( ranked.size() );
+		for ( ScoredItem scored : ranked ) {
+			scored.item().setSortText( String.format( rankFormat, items.size() ) );
+			items.add( scored.item() );
+		}
+
+		return new CompletionList( truncated, items );
+	}
+
+	/**
+	 * Score a candidate against the typed query. Higher is better.
+	 *
+	 * <ul>
+	 * <li>exact (case-insensitive) match</li>
+	 * <li>prefix match, preferring matching case</li>
+	 * <li>camelCase / segment hump match, e.g. {@code gUN} for {@code getUserName}</li>
+	 * <li>plain subsequence match, preferring tighter matches</li>
+	 * </ul>
+	 *
+	 * @param candidate The text to match against
+	 * @param query     The typed text
+	 *
+	 * @return The score, or -1 if the candidate does not match at all
+	 */
+	public static int score( String candidate, String query ) {
+		if ( candidate == null ) {
+			return NO_MATCH;
+		}
+		if ( query.isEmpty() ) {
+			return 0;
+		}
+		if ( query.length() > candidate.length() ) {
+			return NO_MATCH;
+		}
+
+		if ( candidate.equalsIgnoreCase( query ) ) {
+			return EXACT_SCORE;
+		}
+
+		if ( candidate.regionMatches( true, 0, query, 0, query.length() ) ) {
+			int bonus = candidate.startsWith( query ) ? 500 : 0;
+			return PREFIX_SCORE + bonus - Math.min( candidate.length() - query.length(), 500 );
+		}
+
+		if ( matchesCamelHumps( candidate, query ) ) {
+			return CAMEL_CASE_SCORE - Math.min( candidate.length(), 1_000 );
+		}
+
+		int gaps = subsequenceGaps( candidate, query );
+		if ( gaps == NO_MATCH ) {
+			return NO_MATCH;
+		}
+
+		return SUBSEQUENCE_SCORE - Math.min( gaps * 10 + candidate.length(), 1_999 );
+	}
+
+	/**
+	 * Check whether each query character starts a new "hump" in the candidate, or
+	 * continues the current one. Humps start at the first character, at uppercase
+	 * letters and after separators such as '.', '_', '-' and ':'.
+	 */
+	private static boolean matchesCamelHumps( String candidate, String query ) {
+		int c = 0;
+
+		for ( int q = 0; q < query.length(); q++ ) {
+			char qc = Character.toLowerCase( query.charAt( q ) );
+
+			// Continue within the current hump
+			if ( c < candidate.length() && Character.toLowerCase( candidate.charAt( c ) ) == qc ) {
+				c++;
+				continue;
+			}
+
+			// The first query character must match the start of the candidate
+			if ( q == 0 ) {
+				return false;
+			}
+
+			// Jump to the next hump start matching the query character
+			int next = nextHumpStart( candidate, c );
+			while ( next < candidate.length() && Character.toLowerCase( candidate.charAt( next ) ) != qc ) {
+				next = nextHumpStart( candidate, next + 1 );
+			}
+			if ( next >= candidate.length() ) {
+				return false;
+			}
+			c = next + 1;
+		}
+
+		return true;
+	}
+
+	private static int nextHumpStart( String candidate, int from ) {
+		for ( int i = Math.max( from, 1 ); i < candidate.length(); i++ ) {
+			char	ch		= candidate.charAt( i );
+			char	prev	= candidate.charAt( i - 1 );
+			if ( Character.isUpperCase( ch ) && !Character.isUpperCase( prev ) ) {
+				return i;
+			}
+			if ( !Character.isLetterOrDigit( prev ) && Character.isLetterOrDigit( ch ) ) {
+				return i;
+			}
+		}
+		return candidate.length();
+	}
+
+	/**
+	 * Returns the number of skipped characters between matched query characters,
+	 * or -1 if the query is not a case-insensitive subsequence of the candidate.
+	 */
+	private static int subsequenceGaps( String candidate, String query ) {
+		int	gaps	= 0;
+		int	last	= -1;
+		int	c		= 0;
+
+		for ( int q = 0; q < query.length(); q++ ) {
+			char qc = Character.toLowerCase( query.charAt( q ) );
+			while ( c < candidate.length() && Character.toLowerCase( candidate.charAt( c ) ) != qc ) {
+				c++;
+			}
+			if ( c >= candidate.length() ) {
+				return NO_MATCH;
+			}
+			if ( last >= 0 ) {
+				gaps += c - last - 1;
+			}
+			last = c;
+			c++;
+		}
+
+		return gaps;
+	}
+
+	private static String filterKey( CompletionItem item ) {
+		return item.getFilterText() != null ? item.getFilterText() : item.getLabel();
+	}
+
+	private static String sortKey( CompletionItem item ) {
+		String sortText = item.getSortText() != null ? item.getSortText() : "";
+		return sortText + "\u0000" + ( item.getLabel() == null ? "" : item.getLabel() );
+	}
+}
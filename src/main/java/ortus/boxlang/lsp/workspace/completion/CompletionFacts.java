@@ -7,8 +7,46 @@ import ortus.boxlang.lsp.workspace.FileParseResult;
 /**
  * Facts about a completion request, used by completion rules to determine
  * what completions to provide.
+ *
+ * The completion context is analyzed lazily on first access and memoized for
+ * the lifetime of the request, so every rule's {@code when()} check after the
+ * first is a simple field read.
  */
-public record CompletionFacts( FileParseResult fileParseResult, CompletionParams completionParams ) {
+public final class CompletionFacts {
+
+	private final FileParseResult		fileParseResult;
+	private final CompletionParams		completionParams;
+	private volatile CompletionContext	context;
+	private volatile boolean			incomplete;
+
+	public CompletionFacts( FileParseResult fileParseResult, CompletionParams completionParams ) {
+		this.fileParseResult	= fileParseResult;
+		this.completionParams	= completionParams;
+	}
+
+	public FileParseResult fileParseResult() {
+		return fileParseResult;
+	}
+
+	public CompletionParams completionParams() {
+		return completionParams;
+	}
+
+	/**
+	 * Called by a rule that could only offer part of its completions, e.g.
+	 * because an index is still being built, so the client asks again as the
+	 * user keeps typing.
+	 */
+	public void markIncomplete() {
+		this.incomplete = true;
+	}
+
+	/**
+	 * @return Whether a rule could only offer part of its completions
+	 */
+	public boolean isIncomplete() {
+		return incomplete;
+	}
 
 	/**
 	 * Get the analyzed completion context for this request.
@@ -18,6 +56,16 @@ public record CompletionFacts( FileParseResult fileParseResult, CompletionParams
 	 * @return The analyzed CompletionContext
 	 */
 	public CompletionContext getContext() {
-		return CompletionContext.analyze( fileParseResult, completionParams );
+		CompletionContext result = context;
+		if ( result == null ) {
+			synchronized ( this ) {
+				result = context;
+				if ( result == null ) {
+					result	= CompletionContext.analyze( fileParseResult, completionParams );
+					context	= result;
+				}
+			}
+		}
+		return result;
 	}
 }
@@ -0,0 +1,97 @@
+package ortus.boxlang.lsp.workspace.completion;
+
+import org.eclipse.lsp4j.CompletionItem;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import ortus.boxlang.lsp.App;
+
+/**
+ * Supports {@code completionItem/resolve} by deferring the expensive parts of a
+ * completion item (documentation, signature detail and auto-import edits) until
+ * the client actually asks for them.
+ *
+ * Rules attach a compact data handle to each item via {@link #attach}. The
+ * handle travels to the client and back, and {@link #resolve} uses it to fill
+ * in the deferred fields.
+ */
+public class CompletionItemResolver {
+
+	public static final String	CLASS		= "class";
+	public static final String	COMPONENT	= "component";
+	public static final String	METHOD		= "method";
+
+	static final String			KIND_KEY	= "k";
+	static final String			URI_KEY		= "u";
+	static final String			NAME_KEY	= "n";
+	static final String			OWNER_KEY	= "o";
+
+	private CompletionItemResolver() {
+	}
+
+	/**
+	 * Attach a resolve handle to a completion item.
+	 *
+	 * @param item  The completion item
+	 * @param kind  The kind of item, one of the constants on this class
+	 * @param uri   The document the completion was requested in (may be null)
+	 * @param owner The owning symbol, e.g. the containing class of a method (may be null)
+	 * @param name  The name identifying the item for its kind
+	 */
+	public static void attach( CompletionItem item, String kind, String uri, String owner, String name ) {
+		JsonObject data = new JsonObject();
+		data.addProperty( KIND_KEY, kind );
+		if ( uri != null ) {
+			data.addProperty( URI_KEY, uri );
+		}
+		if ( owner != null ) {
+			data.addProperty( OWNER_KEY, owner );
+		}
+		data.addProperty( NAME_KEY, name );
+		item.setData( data );
+	}
+
+	/**
+	 * Fill in the deferred fields of a completion item. Items without a resolve
+	 * handle are returned unchanged.
+	 *
+	 * @param item The completion item received from the client
+	 *
+	 * @return The same item with documentation, detail and edits populated
+	 */
+	public static CompletionItem resolve( CompletionItem item ) {
+		JsonObject data = getData( item );
+		if ( data == null || !data.has( KIND_KEY ) || !data.has( NAME_KEY ) ) {
+			return item;
+		}
+
+		String	kind	= data.get( KIND_KEY ).getAsString();
+		String	name	= data.get( NAME_KEY ).getAsString();
+		String	uri		= data.has( URI_KEY ) ? data.get( URI_KEY ).getAsString() : null;
+		String	owner	= data.has( OWNER_KEY ) ? data.get( OWNER_KEY ).getAsString() : null;
+
+		try {
+			switch ( kind ) {
+				case CLASS -> ClassAndTypeCompletionRule.resolveCompletionItem( item, uri, name );
+				case COMPONENT -> ComponentCompletionRule.resolveCompletionItem( item, name );
+				case METHOD -> MemberCompletionCollector.resolveCompletionItem( item, owner, name );
+				default -> {
+				}
+			}
+		} catch ( Exception e ) {
+			// A failed resolve should never break the completion popup
+			App.logger.debug( "Unable to resolve completion item " + item.getLabel(), e );
+		}
+
+		return item;
+	}
+
+	private static JsonObject getData( CompletionItem item ) {
+		Object data = item.getData();
+		if ( data instanceof JsonElement element && element.isJsonObject() ) {
+			return element.getAsJsonObject();
+		}
+		return null;
+	}
+}
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import ortus.boxlang.lsp.workspace.rules.RuleCollection;
 
@@ -31,4 +32,8 @@ public class CompletionProviderRuleBook extends RuleCollection<CompletionFacts,
 	public static List<CompletionItem> execute( CompletionFacts facts ) {
 		return instance.execute( facts, new ArrayList<CompletionItem>() );
 	}
+
+	public static List<CompletionItem> execute( CompletionFacts facts, CancelChecker cancelChecker ) {
+		return instance.execute( facts, new ArrayList<CompletionItem>(), cancelChecker );
+	}
 }
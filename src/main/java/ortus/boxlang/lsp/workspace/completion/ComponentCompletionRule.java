@@ -38,9 +38,9 @@ public class ComponentCompletionRule implements IRule<CompletionFacts, List<Comp
 								item.setKind( CompletionItemKind.Snippet );
 								item.setInsertTextFormat( InsertTextFormat.Snippet );
 								item.setInsertText( formatComponentInsert( existingPrompt, facts, componentDescriptor ) );
-								item.setDetail( formatComponentSignature( componentDescriptor ) );
-								item.setDocumentation( formatComponentDocumentation( componentDescriptor ) );
 								item.setSortText( "a" );
+								// Signature and markdown docs are rendered in completionItem/resolve
+								CompletionItemResolver.attach( item, CompletionItemResolver.COMPONENT, null, null, name );
 
 								return item;
 							} )
@@ -49,6 +49,22 @@ public class ComponentCompletionRule implements IRule<CompletionFacts, List<Comp
 		result.addAll( options );
 	}
 
+	/**
+	 * Populate the deferred signature detail and documentation of a component completion item.
+	 *
+	 * @param item The completion item to resolve
+	 * @param name The component name
+	 */
+	static void resolveCompletionItem( CompletionItem item, String name ) {
+		ComponentDescriptor componentDescriptor = BoxRuntime.getInstance().getComponentService().getComponent( name );
+		if ( componentDescriptor == null ) {
+			return;
+		}
+
+		item.setDetail( formatComponentSignature( componentDescriptor ) );
+		item.setDocumentation( formatComponentDocumentation( componentDescriptor ) );
+	}
+
 	private String formatComponentInsert( String existingPrompt, CompletionFacts facts, ComponentDescriptor descriptor ) {
 		String			name			= descriptor.name.toString();
 		List<Attribute>	reqAttributes	= List.of( descriptor.getComponent().getDeclaredAttributes() )
@@ -117,7 +133,7 @@ public class ComponentCompletionRule implements IRule<CompletionFacts, List<Comp
 		}
 	}
 
-	private String formatComponentSignature( ComponentDescriptor descriptor ) {
+	private static String formatComponentSignature( ComponentDescriptor descriptor ) {
 		String	name	= descriptor.name.toString();
 		String	args	= Stream.of( descriptor.getComponent().getDeclaredAttributes() )
 		    .sorted( ( a, b ) -> {
@@ -155,7 +171,7 @@ public class ComponentCompletionRule implements IRule<CompletionFacts, List<Comp
 	 * Format comprehensive documentation for a component tag.
 	 * Includes tag description, attributes with types and descriptions, and usage examples.
 	 */
-	private MarkupContent formatComponentDocumentation( ComponentDescriptor descriptor ) {
+	private static MarkupContent formatComponentDocumentation( ComponentDescriptor descriptor ) {
 		StringBuilder	doc		= new StringBuilder();
 		String			name	= descriptor.name.toString();
 
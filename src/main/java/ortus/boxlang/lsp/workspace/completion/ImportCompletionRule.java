@@ -1,20 +1,13 @@
 package ortus.boxlang.lsp.workspace.completion;
 
-import java.lang.module.ModuleFinder;
-import java.lang.module.ModuleReference;
 import java.net.URI;
-import java.nio.file.FileSystem;
-import java.nio.file.FileSystems;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemKind;
@@ -28,12 +21,16 @@ import org.eclipse.lsp4j.jsonrpc.messages.Either;
 import ortus.boxlang.lsp.workspace.FileParseResult;
 import ortus.boxlang.lsp.workspace.ProjectContextProvider;
 import ortus.boxlang.lsp.workspace.index.IndexedClass;
+import ortus.boxlang.lsp.workspace.index.JavaTypeCatalog;
 import ortus.boxlang.lsp.workspace.index.ProjectIndex;
 import ortus.boxlang.lsp.workspace.rules.IRule;
 
 public class ImportCompletionRule implements IRule<CompletionFacts, List<CompletionItem>> {
 
-	static final Pattern importPattern = Pattern.compile( "^\\s*import\\s+(\\w[\\w\\d\\$\\-_\\.]*)*$", Pattern.CASE_INSENSITIVE );
+	static final Pattern		importPattern		= Pattern.compile( "^\\s*import\\s+(\\w[\\w\\d\\$\\-_\\.]*)*$", Pattern.CASE_INSENSITIVE );
+
+	private static final int	MAX_PACKAGE_RESULTS	= 200;
+	private static final int	MAX_CLASS_RESULTS	= 100;
 
 	@Override
 	public boolean when( CompletionFacts facts ) {
@@ -57,7 +54,7 @@ public class ImportCompletionRule implements IRule<CompletionFacts, List<Complet
 		options.addAll( getBoxLangCompletions( afterImportPrompt, line, existingPrompt, fileParseResult.getURI() ) );
 
 		// Get available JDK packages and classes based on the current prompt
-		options.addAll( getJdkCompletions( afterImportPrompt, line, existingPrompt ) );
+		options.addAll( getJdkCompletions( facts, afterImportPrompt, line, existingPrompt ) );
 
 		result.addAll( options );
 	}
@@ -163,60 +160,44 @@ public class ImportCompletionRule implements IRule<CompletionFacts, List<Complet
 		return completions;
 	}
 
-	private List<CompletionItem> getJdkCompletions( String prefix, int line, String existingPrompt ) {
+	private List<CompletionItem> getJdkCompletions( CompletionFacts facts, String prefix, int line, String existingPrompt ) {
 		List<CompletionItem>	completions			= new ArrayList<>();
-		Set<String>				packages			= new HashSet<>();
-		Set<String>				classes				= new HashSet<>();
 
 		boolean					hasDot				= prefix.contains( "." );
 		String					classSortPrefix		= hasDot ? "0" : "1"; // Packages before classes if prefix has dot
 		String					packageSortPrefix	= hasDot ? "1" : "0"; // Packages before classes if prefix has dot
 
-		try {
-			// Get all system modules
-			ModuleFinder.ofSystem().findAll().forEach( moduleRef -> {
-				String moduleName = moduleRef.descriptor().name();
-				// Focus on common JDK modules
-				if ( moduleName.startsWith( "java." ) || moduleName.startsWith( "javax." ) ) {
-					Set<String> modulePackages = getPackagesFromModule( moduleRef, prefix );
-					packages.addAll( modulePackages );
-
-					// Get classes for relevant packages
-					classes.addAll( getClassesFromModule( moduleRef, prefix, modulePackages ) );
-				}
-			} );
-
-			// Convert packages to completion items
-			for ( String packageName : packages ) {
-				if ( matchesPrefix( packageName, prefix ) ) {
-					String			insertText	= !hasDot ? packageName : packageName.substring( packageName.lastIndexOf( '.' ) + 1 );
-					CompletionItem	item		= createCompletionItem( packageName, "Java package", packageName, insertText, CompletionItemKind.Module,
-					    existingPrompt, packageSortPrefix, line, existingPrompt.length() );
-					completions.add( item );
-				}
-			}
-
-			// Convert classes to completion items
-			for ( String className : classes ) {
-				if ( matchesPrefix( className, prefix ) ) {
-					String simpleClassName = className.substring( className.lastIndexOf( '.' ) + 1 );
+		JavaTypeCatalog			catalog				= JavaTypeCatalog.getInstance();
+		if ( !catalog.isReady() ) {
+			// Never wait for the catalog: offer the common JDK packages and classes and
+			// let the client ask again, by which time the build may have finished
+			facts.markIncomplete();
+			return getCommonJdkCompletions( prefix, line, existingPrompt );
+		}
 
-					if ( hasDot && className.replace( prefix, "" ).contains( "." ) ) {
-						continue;
-					}
+		// Convert packages to completion items
+		for ( String packageName : catalog.findPackages( prefix, MAX_PACKAGE_RESULTS ) ) {
+			String			insertText	= !hasDot ? packageName : packageName.substring( packageName.lastIndexOf( '.' ) + 1 );
+			CompletionItem	item		= createCompletionItem( packageName, "Java package", packageName, insertText, CompletionItemKind.Module,
+			    existingPrompt, packageSortPrefix, line, existingPrompt.length() );
+			completions.add( item );
+		}
 
-					String			insertText	= hasDot ? simpleClassName : className;
+		// Classes directly in the typed package, or by simple name when no package was typed
+		List<String> classes = hasDot
+		    ? catalog.findClassesInPackage( prefix.substring( 0, prefix.lastIndexOf( '.' ) ), prefix.substring( prefix.lastIndexOf( '.' ) + 1 ),
+		        MAX_CLASS_RESULTS )
+		    : catalog.findClassesBySimpleName( prefix, MAX_CLASS_RESULTS );
 
-					CompletionItem	item		= createCompletionItem( simpleClassName, className, className, insertText, CompletionItemKind.Class,
-					    existingPrompt, classSortPrefix, line, existingPrompt.length() );
+		// Convert classes to completion items
+		for ( String className : classes ) {
+			String			simpleClassName	= className.substring( className.lastIndexOf( '.' ) + 1 );
+			String			insertText		= hasDot ? simpleClassName : className;
 
-					completions.add( item );
-				}
-			}
+			CompletionItem	item			= createCompletionItem( simpleClassName, className, className, insertText, CompletionItemKind.Class,
+			    existingPrompt, classSortPrefix, line, existingPrompt.length() );
 
-		} catch ( Exception e ) {
-			// If module system approach fails, fall back to common JDK packages and classes
-			completions.addAll( getCommonJdkCompletions( prefix, line, existingPrompt ) );
+			completions.add( item );
 		}
 
 		return completions;
@@ -256,74 +237,6 @@ public class ImportCompletionRule implements IRule<CompletionFacts, List<Complet
 		return item;
 	}
 
-	private Set<String> getPackagesFromModule( ModuleReference moduleRef, String prefix ) {
-		Set<String> packages = new HashSet<>();
-
-		try {
-			URI moduleUri = moduleRef.location().orElse( null );
-			if ( moduleUri != null && "jrt".equals( moduleUri.getScheme() ) ) {
-				try ( FileSystem fs = FileSystems.getFileSystem( URI.create( "jrt:/" ) ) ) {
-					Path modulePath = fs.getPath( "/modules/" + moduleRef.descriptor().name() );
-					if ( Files.exists( modulePath ) ) {
-						try ( Stream<Path> paths = Files.walk( modulePath ) ) {
-							paths.filter( Files::isDirectory )
-							    .map( path -> modulePath.relativize( path ).toString() )
-							    .filter( pathStr -> !pathStr.isEmpty() )
-							    .map( pathStr -> pathStr.replace( '/', '.' ) )
-							    .filter( packageName -> prefix.isEmpty() || packageName.toLowerCase().startsWith( prefix.toLowerCase() ) )
-							    .forEach( packages::add );
-						}
-					}
-				}
-			}
-		} catch ( Exception e ) {
-			// Ignore errors and continue
-		}
-
-		return packages;
-	}
-
-	private Set<String> getClassesFromModule( ModuleReference moduleRef, String prefix, Set<String> packages ) {
-		Set<String> classes = new HashSet<>();
-
-		try {
-			URI moduleUri = moduleRef.location().orElse( null );
-			if ( moduleUri != null && "jrt".equals( moduleUri.getScheme() ) ) {
-				try ( FileSystem fs = FileSystems.getFileSystem( URI.create( "jrt:/" ) ) ) {
-					Path modulePath = fs.getPath( "/modules/" + moduleRef.descriptor().name() );
-					if ( Files.exists( modulePath ) ) {
-						try ( Stream<Path> paths = Files.walk( modulePath ) ) {
-							paths.filter( Files::isRegularFile )
-							    .filter( path -> path.toString().endsWith( ".class" ) )
-							    .map( path -> modulePath.relativize( path ).toString() )
-							    .filter( pathStr -> !pathStr.contains( "$" ) ) // Skip inner classes
-							    .filter( pathStr -> !pathStr.contains( "module-info" ) )
-							    .map( pathStr -> pathStr.replace( '/', '.' ).replace( ".class", "" ) )
-							    .filter( className -> {
-								    // Only include classes from relevant packages or that match simple name search
-								    if ( prefix.contains( "." ) ) {
-									    return className.toLowerCase().startsWith( prefix.toLowerCase() );
-								    } else if ( !prefix.isEmpty() ) {
-									    String simpleClassName = className.substring( className.lastIndexOf( '.' ) + 1 );
-									    return simpleClassName.toLowerCase().startsWith( prefix.toLowerCase() );
-								    } else {
-									    // For empty prefix, only include classes from common packages
-									    return packages.stream().anyMatch( pkg -> className.startsWith( pkg + "." ) );
-								    }
-							    } )
-							    .limit( 50 ) // Limit to avoid too many results
-							    .forEach( classes::add );
-						}
-					}
-				}
-			}
-		} catch ( Exception e ) {
-			// Ignore errors and continue
-		}
-
-		return classes;
-	}
-
 	private List<CompletionItem> getCommonJdkCompletions( String prefix, int line, String existingPrompt ) {
 		List<CompletionItem>	completions			= new ArrayList<>();
 		boolean					hasDot				= prefix.contains( "." );
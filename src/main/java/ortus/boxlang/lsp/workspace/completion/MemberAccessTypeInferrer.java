@@ -7,11 +7,15 @@ import ortus.boxlang.compiler.ast.BoxClass;
 import ortus.boxlang.compiler.ast.BoxNode;
 import ortus.boxlang.compiler.ast.statement.BoxArgumentDeclaration;
 import ortus.boxlang.compiler.ast.statement.BoxFunctionDeclaration;
+import ortus.boxlang.compiler.ast.statement.BoxImport;
 import ortus.boxlang.lsp.workspace.BLASTTools;
 import ortus.boxlang.lsp.workspace.FileParseResult;
 import ortus.boxlang.lsp.workspace.completion.TypeInferenceResult.InferenceConfidence;
 import ortus.boxlang.lsp.workspace.index.IndexedClass;
 import ortus.boxlang.lsp.workspace.index.IndexedMethod;
+import ortus.boxlang.lsp.workspace.index.JavaClassIndex;
+import ortus.boxlang.lsp.workspace.index.JavaClassInfo;
+import ortus.boxlang.lsp.workspace.index.JavaMethodInfo;
 import ortus.boxlang.lsp.workspace.index.ProjectIndex;
 import ortus.boxlang.lsp.workspace.visitors.VariableTypeCollectorVisitor;
 
@@ -21,6 +25,7 @@ import ortus.boxlang.lsp.workspace.visitors.VariableTypeCollectorVisitor;
  *
  * Simplified first iteration focuses on:
  * - New expressions: var x = new Class()
+ * - Java objects: var x = new java:Class() or createObject( "java", "Class" )
  * - Explicit type hints from variable declarations
  * - Parameter type hints
  * - Basic method return types
@@ -95,6 +100,14 @@ public class MemberAccessTypeInferrer {
 		// Strategy 2: Use VariableTypeCollectorVisitor to find assignments
 		VariableTypeCollectorVisitor visitor = new VariableTypeCollectorVisitor();
 		root.accept( visitor );
+
+		String javaType = visitor.getJavaType( varName );
+		if ( javaType != null ) {
+			return resolveJavaClass( root, javaType )
+			    .map( javaClass -> TypeInferenceResult.java( javaClass.name(), InferenceConfidence.HIGH, "java object assignment" ) )
+			    .orElse( TypeInferenceResult.unknown() );
+		}
+
 		String inferredType = visitor.getVariableType( varName );
 
 		if ( inferredType != null ) {
@@ -203,6 +216,10 @@ public class MemberAccessTypeInferrer {
 			return TypeInferenceResult.unknown();
 		}
 
+		if ( receiverType.isJava() ) {
+			return inferJavaMethodReturnType( receiverType.fullyQualifiedName(), methodName );
+		}
+
 		// Look up the method in the receiver's class
 		String					className	= receiverType.className();
 		Optional<IndexedMethod>	method		= findMethodInClassOrParents( className, methodName );
@@ -223,6 +240,60 @@ public class MemberAccessTypeInferrer {
 		return TypeInferenceResult.unknown();
 	}
 
+	/**
+	 * Infer the type returned by a method of a Java class, if it is a class.
+	 */
+	private TypeInferenceResult inferJavaMethodReturnType( String javaClassName, String methodName ) {
+		JavaClassIndex			javaIndex	= JavaClassIndex.getInstance();
+		Optional<JavaClassInfo>	javaClass	= javaIndex.findClass( javaClassName );
+		if ( javaClass.isEmpty() ) {
+			return TypeInferenceResult.unknown();
+		}
+
+		for ( JavaClassInfo clazz : javaIndex.getTypeHierarchy( javaClass.get() ) ) {
+			for ( JavaMethodInfo method : clazz.methods() ) {
+				if ( !method.name().equalsIgnoreCase( methodName ) ) {
+					continue;
+				}
+				String returnType = method.returnType();
+				// Primitives, arrays and type variables have no members to complete
+				if ( returnType.endsWith( "]" ) || !returnType.contains( "." ) ) {
+					return TypeInferenceResult.unknown();
+				}
+				return TypeInferenceResult.java( returnType, InferenceConfidence.MEDIUM, "java method return type" );
+			}
+		}
+		return TypeInferenceResult.unknown();
+	}
+
+	/**
+	 * Resolve a Java class name as written in a `new java:` expression or a
+	 * `createObject` call. Simple names are looked up in the file's `java:`
+	 * imports first.
+	 */
+	private Optional<JavaClassInfo> resolveJavaClass( BoxNode root, String javaClassName ) {
+		JavaClassIndex javaIndex = JavaClassIndex.getInstance();
+		if ( !javaClassName.contains( "." ) ) {
+			for ( BoxImport importNode : root.getDescendantsOfType( BoxImport.class ) ) {
+				if ( importNode.getExpression() == null ) {
+					continue;
+				}
+				String imported = importNode.getExpression().getSourceText();
+				if ( imported == null || !imported.toLowerCase().startsWith( TypeInferenceResult.JAVA_PREFIX ) ) {
+					continue;
+				}
+				imported = imported.substring( TypeInferenceResult.JAVA_PREFIX.length() ).trim();
+				if ( imported.equalsIgnoreCase( javaClassName ) || imported.toLowerCase().endsWith( "." + javaClassName.toLowerCase() ) ) {
+					Optional<JavaClassInfo> found = javaIndex.findClass( imported );
+					if ( found.isPresent() ) {
+						return found;
+					}
+				}
+			}
+		}
+		return javaIndex.resolve( javaClassName );
+	}
+
 	/**
 	 * Find a method in a class or its parent classes.
 	 */
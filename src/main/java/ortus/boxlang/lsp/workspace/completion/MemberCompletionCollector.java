@@ -13,15 +13,22 @@ import org.eclipse.lsp4j.CompletionItemKind;
 import org.eclipse.lsp4j.CompletionItemLabelDetails;
 import org.eclipse.lsp4j.InsertTextFormat;
 
+import ortus.boxlang.lsp.workspace.ProjectContextProvider;
 import ortus.boxlang.lsp.workspace.index.IndexedClass;
 import ortus.boxlang.lsp.workspace.index.IndexedMethod;
 import ortus.boxlang.lsp.workspace.index.IndexedParameter;
 import ortus.boxlang.lsp.workspace.index.IndexedProperty;
 import ortus.boxlang.lsp.workspace.index.InheritanceGraph;
+import ortus.boxlang.lsp.workspace.index.JavaClassIndex;
+import ortus.boxlang.lsp.workspace.index.JavaClassInfo;
+import ortus.boxlang.lsp.workspace.index.JavaFieldInfo;
+import ortus.boxlang.lsp.workspace.index.JavaMethodInfo;
 import ortus.boxlang.lsp.workspace.index.ProjectIndex;
 
 /**
  * Collects method and property completions for a class, including inherited members.
+ * Java-typed receivers ({@code java:} class names) get the public methods and
+ * fields of the Java class and its supertypes from the {@link JavaClassIndex}.
  */
 public class MemberCompletionCollector {
 
@@ -51,6 +58,10 @@ public class MemberCompletionCollector {
 		List<CompletionItem>	items		= new ArrayList<>();
 		Set<String>				seenMembers	= new HashSet<>();	// Track to avoid duplicates from inheritance
 
+		if ( className != null && className.startsWith( TypeInferenceResult.JAVA_PREFIX ) ) {
+			return collectJavaMembers( className.substring( TypeInferenceResult.JAVA_PREFIX.length() ), filterPrefix );
+		}
+
 		if ( index == null || className == null ) {
 			return items;
 		}
@@ -86,6 +97,109 @@ public class MemberCompletionCollector {
 		return items;
 	}
 
+	/**
+	 * Collect the public methods and fields of a Java class and its supertypes.
+	 * Overloads with different parameter counts are offered separately.
+	 *
+	 * @param javaClassName The fully qualified Java class name
+	 * @param filterPrefix  Optional prefix to filter member names
+	 */
+	public List<CompletionItem> collectJavaMembers( String javaClassName, String filterPrefix ) {
+		List<CompletionItem>	items		= new ArrayList<>();
+		Set<String>				seenMembers	= new HashSet<>();
+		JavaClassIndex			javaIndex	= JavaClassIndex.getInstance();
+		Optional<JavaClassInfo>	javaClass	= javaIndex.findClass( javaClassName );
+		if ( javaClass.isEmpty() ) {
+			return items;
+		}
+
+		String					prefix		= filterPrefix == null ? "" : filterPrefix.toLowerCase();
+		List<JavaClassInfo>		hierarchy	= javaIndex.getTypeHierarchy( javaClass.get() );
+		for ( int depth = 0; depth < hierarchy.size(); depth++ ) {
+			JavaClassInfo clazz = hierarchy.get( depth );
+			for ( JavaMethodInfo method : clazz.methods() ) {
+				String memberKey = method.name().toLowerCase() + "/" + method.parameterTypes().size();
+				if ( !method.name().toLowerCase().startsWith( prefix ) || !seenMembers.add( memberKey ) ) {
+					continue;
+				}
+				items.add( createJavaMethodCompletionItem( method, depth, clazz.simpleName() ) );
+			}
+			for ( JavaFieldInfo field : clazz.fields() ) {
+				if ( !field.name().toLowerCase().startsWith( prefix ) || !seenMembers.add( "field_" + field.name().toLowerCase() ) ) {
+					continue;
+				}
+				items.add( createJavaFieldCompletionItem( field, depth, clazz.simpleName() ) );
+			}
+		}
+
+		items.sort( Comparator.comparing( CompletionItem::getSortText ) );
+		return items;
+	}
+
+	/**
+	 * Create a completion item for a Java method.
+	 */
+	private CompletionItem createJavaMethodCompletionItem( JavaMethodInfo method, int depth, String declaringClass ) {
+		CompletionItem item = new CompletionItem();
+		item.setLabel( method.name() );
+		item.setKind( CompletionItemKind.Method );
+		item.setInsertTextFormat( InsertTextFormat.Snippet );
+
+		StringBuilder	insertText	= new StringBuilder( method.name() ).append( "(" );
+		StringBuilder	parameters	= new StringBuilder( "(" );
+		for ( int i = 0; i < method.parameterTypes().size(); i++ ) {
+			if ( i > 0 ) {
+				insertText.append( ", " );
+				parameters.append( ", " );
+			}
+			insertText.append( "${" ).append( i + 1 ).append( ":" ).append( method.parameterNames().get( i ) ).append( "}" );
+			parameters.append( simpleTypeName( method.parameterTypes().get( i ) ) ).append( " " ).append( method.parameterNames().get( i ) );
+		}
+		insertText.append( ")" );
+		parameters.append( ")" );
+		item.setInsertText( insertText.toString() );
+
+		item.setDetail( ( method.isStatic() ? "static " : "" ) + simpleTypeName( method.returnType() ) + " " + method.name() + parameters );
+		item.setSortText( String.format( "%02d_%s_%02d", depth, method.name().toLowerCase(), method.parameterTypes().size() ) );
+
+		CompletionItemLabelDetails labelDetails = new CompletionItemLabelDetails();
+		labelDetails.setDetail( parameters.toString() );
+		if ( depth > 0 ) {
+			labelDetails.setDescription( "from " + declaringClass );
+		}
+		item.setLabelDetails( labelDetails );
+
+		return item;
+	}
+
+	/**
+	 * Create a completion item for a Java field.
+	 */
+	private CompletionItem createJavaFieldCompletionItem( JavaFieldInfo field, int depth, String declaringClass ) {
+		CompletionItem item = new CompletionItem();
+		item.setLabel( field.name() );
+		item.setKind( field.isStatic() ? CompletionItemKind.Constant : CompletionItemKind.Field );
+		item.setInsertText( field.name() );
+		item.setDetail( ( field.isStatic() ? "static " : "" ) + simpleTypeName( field.type() ) + " " + field.name() );
+		item.setSortText( String.format( "%02d_%s", depth, field.name().toLowerCase() ) );
+
+		if ( depth > 0 ) {
+			CompletionItemLabelDetails labelDetails = new CompletionItemLabelDetails();
+			labelDetails.setDescription( "from " + declaringClass );
+			item.setLabelDetails( labelDetails );
+		}
+
+		return item;
+	}
+
+	/**
+	 * Strip the package from a Java type name, e.g. {@code java.lang.String[]} to {@code String[]}.
+	 */
+	private static String simpleTypeName( String typeName ) {
+		int dot = typeName.lastIndexOf( '.' );
+		return dot < 0 ? typeName : typeName.substring( dot + 1 );
+	}
+
 	/**
 	 * Collect members (methods and properties) from a specific class.
 	 */
@@ -179,8 +293,51 @@ public class MemberCompletionCollector {
 		insertText.append( ")" );
 		item.setInsertText( insertText.toString() );
 
-		// Build detail showing signature
-		StringBuilder detail = new StringBuilder();
+		// Sort text: depth prefix + name for relevance sorting
+		item.setSortText( String.format( "%02d_%s", depth, method.name().toLowerCase() ) );
+
+		// Signature detail and documentation are filled in by completionItem/resolve
+		CompletionItemResolver.attach( item, CompletionItemResolver.METHOD, null, method.containingClass(), method.name() );
+
+		// Add "from ClassName" label if inherited
+		if ( depth > 0 ) {
+			CompletionItemLabelDetails labelDetails = new CompletionItemLabelDetails();
+			labelDetails.setDescription( "from " + declaringClass );
+			item.setLabelDetails( labelDetails );
+		}
+
+		return item;
+	}
+
+	/**
+	 * Populate the deferred signature detail and documentation of a method completion item.
+	 *
+	 * @param item            The completion item to resolve
+	 * @param containingClass The class declaring the method
+	 * @param methodName      The method name
+	 */
+	static void resolveCompletionItem( CompletionItem item, String containingClass, String methodName ) {
+		ProjectIndex			index		= ProjectContextProvider.getInstance().getIndex();
+		Optional<IndexedMethod>	methodOpt	= index.findMethod( containingClass, methodName );
+		if ( methodOpt.isEmpty() ) {
+			return;
+		}
+
+		IndexedMethod method = methodOpt.get();
+		item.setDetail( buildMethodSignature( method ) );
+
+		String documentation = index.getDocumentation( method );
+		if ( documentation != null && !documentation.isEmpty() ) {
+			item.setDocumentation( documentation );
+		}
+	}
+
+	/**
+	 * Build the signature shown as the detail of a method completion item.
+	 */
+	private static String buildMethodSignature( IndexedMethod method ) {
+		List<IndexedParameter>	params	= method.parameters();
+		StringBuilder			detail	= new StringBuilder();
 		if ( method.accessModifier() != null ) {
 			detail.append( method.accessModifier() ).append( " " );
 		}
@@ -201,24 +358,8 @@ public class MemberCompletionCollector {
 		if ( method.returnTypeHint() != null && !method.returnTypeHint().isEmpty() ) {
 			detail.append( " : " ).append( method.returnTypeHint() );
 		}
-		item.setDetail( detail.toString() );
 
-		// Sort text: depth prefix + name for relevance sorting
-		item.setSortText( String.format( "%02d_%s", depth, method.name().toLowerCase() ) );
-
-		// Documentation
-		if ( method.documentation() != null && !method.documentation().isEmpty() ) {
-			item.setDocumentation( method.documentation() );
-		}
-
-		// Add "from ClassName" label if inherited
-		if ( depth > 0 ) {
-			CompletionItemLabelDetails labelDetails = new CompletionItemLabelDetails();
-			labelDetails.setDescription( "from " + declaringClass );
-			item.setLabelDetails( labelDetails );
-		}
-
-		return item;
+		return detail.toString();
 	}
 
 	/**
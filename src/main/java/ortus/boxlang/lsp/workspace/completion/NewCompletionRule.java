@@ -1,7 +1,5 @@
 package ortus.boxlang.lsp.workspace.completion;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -15,6 +13,7 @@ import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemKind;
 import org.eclipse.lsp4j.InsertTextFormat;
 
+import ortus.boxlang.lsp.workspace.DirectorySnapshot;
 import ortus.boxlang.lsp.workspace.FileParseResult;
 import ortus.boxlang.lsp.workspace.ProjectContextProvider;
 import ortus.boxlang.lsp.workspace.rules.IRule;
@@ -120,7 +119,7 @@ public class NewCompletionRule implements IRule<CompletionFacts, List<Completion
 	private static CompletionItem completionItemFromPath( Path p ) {
 		String name = p.getFileName().toString();
 
-		if ( Files.isDirectory( p ) ) {
+		if ( DirectorySnapshot.getInstance().isDirectory( p ) ) {
 			CompletionItem item = new CompletionItem();
 			item.setLabel( name );
 			item.setKind( CompletionItemKind.Folder );
@@ -171,26 +170,17 @@ public class NewCompletionRule implements IRule<CompletionFacts, List<Completion
 	 * @return
 	 */
 	private List<Path> getDirectoryCompletions( Path dir ) {
-		try {
-			if ( !Files.exists( dir ) ) {
-				return new ArrayList<Path>();
-			}
-
-			return Files.list( dir )
-			    .filter( ( path ) -> {
-				    String lc = path.toString().toLowerCase();
+		return DirectorySnapshot.getInstance().list( dir ).stream()
+		    .filter( ( entry ) -> {
+			    String lc = entry.name().toLowerCase();
 
-				    return Files.isDirectory( path )
-				        || ( lc.endsWith( ".bx" )
-				            || lc.endsWith( ".cfc" ) );
+			    return entry.isDirectory()
+			        || ( lc.endsWith( ".bx" )
+			            || lc.endsWith( ".cfc" ) );
 
-			    } )
-			    .collect( Collectors.toList() );
-		} catch ( IOException e ) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		}
-		return null;
+		    } )
+		    .map( DirectorySnapshot.Entry::path )
+		    .collect( Collectors.toList() );
 	}
 
 	private String getAfterNewText( String prompt ) {
@@ -10,6 +10,11 @@ public record TypeInferenceResult(
     InferenceConfidence confidence,
     String source ) {
 
+	/**
+	 * Prefix of the class name of Java-typed receivers, e.g. {@code java:java.util.ArrayList}.
+	 */
+	public static final String JAVA_PREFIX = "java:";
+
 	public enum InferenceConfidence {
 		/** Type explicitly declared via type hint */
 		HIGH,
@@ -28,6 +33,22 @@ public record TypeInferenceResult(
 		return new TypeInferenceResult( null, null, InferenceConfidence.UNKNOWN, "Could not infer type" );
 	}
 
+	/**
+	 * Create a result for a receiver holding a Java object.
+	 *
+	 * @param javaClassName The fully qualified Java class name
+	 */
+	public static TypeInferenceResult java( String javaClassName, InferenceConfidence confidence, String source ) {
+		return new TypeInferenceResult( JAVA_PREFIX + javaClassName, javaClassName, confidence, source );
+	}
+
+	/**
+	 * Check if the receiver holds a Java object rather than a BoxLang class instance.
+	 */
+	public boolean isJava() {
+		return className != null && className.startsWith( JAVA_PREFIX );
+	}
+
 	/**
 	 * Check if a type was successfully inferred.
 	 */
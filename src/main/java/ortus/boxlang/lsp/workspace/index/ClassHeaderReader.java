@@ -0,0 +1,268 @@
+package ortus.boxlang.lsp.workspace.index;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the parts of a class file needed for completion: the class name,
+ * supertypes, and the names and descriptors of public methods and fields.
+ *
+ * The class is never loaded or verified. The constant pool is scanned once to
+ * record where each entry starts, and only the UTF-8 entries that are actually
+ * referenced are decoded. Method bodies and attributes are skipped, except for
+ * {@code MethodParameters}, which carries parameter names when the class was
+ * compiled with {@code -parameters}.
+ */
+final class ClassHeaderReader {
+
+	private static final int	MAGIC				= 0xCAFEBABE;
+
+	private static final int	ACC_PUBLIC			= 0x0001;
+	private static final int	ACC_STATIC			= 0x0008;
+	private static final int	ACC_BRIDGE			= 0x0040;
+	private static final int	ACC_INTERFACE		= 0x0200;
+	private static final int	ACC_SYNTHETIC		= 0x1000;
+	private static final int	ACC_MODULE			= 0x8000;
+
+	private static final int	CONSTANT_UTF8		= 1;
+	private static final int	CONSTANT_LONG		= 5;
+	private static final int	CONSTANT_DOUBLE		= 6;
+	private static final int	CONSTANT_CLASS		= 7;
+
+	private final ByteBuffer	buffer;
+	private int[]				entryOffsets;
+
+	private ClassHeaderReader( byte[] classFile ) {
+		this.buffer = ByteBuffer.wrap( classFile );
+	}
+
+	/**
+	 * Read the header of a class file.
+	 *
+	 * @param classFile The bytes of a {@code .class} file
+	 *
+	 * @return The class, or null if it is not public, is a module descriptor,
+	 *         or the bytes are not a readable class file
+	 */
+	static JavaClassInfo read( byte[] classFile ) {
+		try {
+			return new ClassHeaderReader( classFile ).readClass();
+		} catch ( BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e ) {
+			return null;
+		}
+	}
+
+	private JavaClassInfo readClass() {
+		if ( buffer.getInt() != MAGIC ) {
+			return null;
+		}
+		// minor and major version
+		buffer.getInt();
+		readConstantPool();
+
+		int access = u2();
+		if ( ( access & ACC_PUBLIC ) == 0 || ( access & ACC_MODULE ) != 0 ) {
+			return null;
+		}
+
+		String			name			= className( u2() );
+		int				superIndex		= u2();
+		String			superName		= superIndex == 0 ? null : className( superIndex );
+		int				interfaceCount	= u2();
+		List<String>	interfaces		= new ArrayList<>( interfaceCount );
+		for ( int i = 0; i < interfaceCount; i++ ) {
+			interfaces.add( className( u2() ) );
+		}
+
+		List<JavaFieldInfo>	fields		= new ArrayList<>();
+		int					fieldCount	= u2();
+		for ( int i = 0; i < fieldCount; i++ ) {
+			int		fieldAccess	= u2();
+			String	fieldName	= utf8( u2() );
+			String	descriptor	= utf8( u2() );
+			skipAttributes();
+			if ( ( fieldAccess & ACC_PUBLIC ) != 0 && ( fieldAccess & ACC_SYNTHETIC ) == 0 ) {
+				fields.add( new JavaFieldInfo( fieldName, typeName( descriptor, new int[] { 0 } ), ( fieldAccess & ACC_STATIC ) != 0 ) );
+			}
+		}
+
+		List<JavaMethodInfo>	methods		= new ArrayList<>();
+		int						methodCount	= u2();
+		for ( int i = 0; i < methodCount; i++ ) {
+			int		methodAccess	= u2();
+			String	methodName		= utf8( u2() );
+			String	descriptor		= utf8( u2() );
+			boolean	keep			= ( methodAccess & ACC_PUBLIC ) != 0
+			    && ( methodAccess & ( ACC_SYNTHETIC | ACC_BRIDGE ) ) == 0
+			    && !methodName.startsWith( "<" );
+			if ( keep ) {
+				methods.add( method( methodName, descriptor, readMethodAttributes(), ( methodAccess & ACC_STATIC ) != 0 ) );
+			} else {
+				skipAttributes();
+			}
+		}
+
+		return new JavaClassInfo( name, superName, List.copyOf( interfaces ), ( access & ACC_INTERFACE ) != 0, List.copyOf( methods ),
+		    List.copyOf( fields ) );
+	}
+
+	// ============ Constant pool ============
+
+	private void readConstantPool() {
+		int count = u2();
+		entryOffsets = new int[ count ];
+		for ( int i = 1; i < count; i++ ) {
+			entryOffsets[ i ] = buffer.position();
+			int tag = u1();
+			switch ( tag ) {
+				case CONSTANT_UTF8 -> skip( u2() );
+				case CONSTANT_CLASS, 8, 16, 19, 20 -> skip( 2 );
+				case 15 -> skip( 3 );
+				case 3, 4, 9, 10, 11, 12, 17, 18 -> skip( 4 );
+				case CONSTANT_LONG, CONSTANT_DOUBLE -> {
+					skip( 8 );
+					// Eight byte constants take two slots
+					i++;
+				}
+				default -> throw new IllegalArgumentException( "Unknown constant pool tag " + tag );
+			}
+		}
+	}
+
+	private String className( int index ) {
+		int offset = entryOffsets[ index ];
+		if ( ( buffer.get( offset ) & 0xFF ) != CONSTANT_CLASS ) {
+			throw new IllegalArgumentException( "Not a class constant: " + index );
+		}
+		return utf8( buffer.getShort( offset + 1 ) & 0xFFFF ).replace( '/', '.' ).replace( '$', '.' );
+	}
+
+	/**
+	 * Decode a modified UTF-8 constant.
+	 */
+	private String utf8( int index ) {
+		int offset = entryOffsets[ index ];
+		if ( ( buffer.get( offset ) & 0xFF ) != CONSTANT_UTF8 ) {
+			throw new IllegalArgumentException( "Not a UTF-8 constant: " + index );
+		}
+
+		int				length	= buffer.getShort( offset + 1 ) & 0xFFFF;
+		int				start	= offset + 3;
+		StringBuilder	text	= new StringBuilder( length );
+		for ( int i = start; i < start + length; ) {
+			int b = buffer.get( i ) & 0xFF;
+			if ( b < 0x80 ) {
+				text.append( ( char ) b );
+				i++;
+			} else if ( ( b & 0xE0 ) == 0xC0 ) {
+				text.append( ( char ) ( ( ( b & 0x1F ) << 6 ) | ( buffer.get( i + 1 ) & 0x3F ) ) );
+				i += 2;
+			} else {
+				text.append( ( char ) ( ( ( b & 0x0F ) << 12 ) | ( ( buffer.get( i + 1 ) & 0x3F ) << 6 ) | ( buffer.get( i + 2 ) & 0x3F ) ) );
+				i += 3;
+			}
+		}
+		return text.toString();
+	}
+
+	// ============ Members ============
+
+	private void skipAttributes() {
+		int count = u2();
+		for ( int i = 0; i < count; i++ ) {
+			u2();
+			skip( buffer.getInt() );
+		}
+	}
+
+	/**
+	 * Skip the attributes of a method, keeping the parameter names of its
+	 * {@code MethodParameters} attribute if it has one.
+	 */
+	private List<String> readMethodAttributes() {
+		List<String>	names	= null;
+		int				count	= u2();
+		for ( int i = 0; i < count; i++ ) {
+			String	attributeName	= utf8( u2() );
+			int		length			= buffer.getInt();
+			int		end				= buffer.position() + length;
+			if ( "MethodParameters".equals( attributeName ) ) {
+				int parameterCount = u1();
+				names = new ArrayList<>( parameterCount );
+				for ( int p = 0; p < parameterCount; p++ ) {
+					int nameIndex = u2();
+					u2();
+					names.add( nameIndex == 0 ? null : utf8( nameIndex ) );
+				}
+			}
+			buffer.position( end );
+		}
+		return names;
+	}
+
+	private static JavaMethodInfo method( String name, String descriptor, List<String> declaredNames, boolean isStatic ) {
+		List<String>	parameterTypes	= new ArrayList<>();
+		int[]			position		= { 1 };
+		while ( descriptor.charAt( position[ 0 ] ) != ')' ) {
+			parameterTypes.add( typeName( descriptor, position ) );
+		}
+		position[ 0 ]++;
+		String			returnType		= typeName( descriptor, position );
+
+		List<String>	parameterNames	= new ArrayList<>( parameterTypes.size() );
+		for ( int i = 0; i < parameterTypes.size(); i++ ) {
+			String declared = declaredNames != null && declaredNames.size() == parameterTypes.size() ? declaredNames.get( i ) : null;
+			parameterNames.add( declared != null ? declared : "arg" + i );
+		}
+		return new JavaMethodInfo( name, List.copyOf( parameterTypes ), List.copyOf( parameterNames ), returnType, isStatic );
+	}
+
+	/**
+	 * Convert the field descriptor starting at {@code position[0]} to a Java
+	 * source type name, advancing the position past it.
+	 */
+	static String typeName( String descriptor, int[] position ) {
+		int dimensions = 0;
+		while ( descriptor.charAt( position[ 0 ] ) == '[' ) {
+			dimensions++;
+			position[ 0 ]++;
+		}
+
+		char	c	= descriptor.charAt( position[ 0 ]++ );
+		String	type;
+		switch ( c ) {
+			case 'B' -> type = "byte";
+			case 'C' -> type = "char";
+			case 'D' -> type = "double";
+			case 'F' -> type = "float";
+			case 'I' -> type = "int";
+			case 'J' -> type = "long";
+			case 'S' -> type = "short";
+			case 'Z' -> type = "boolean";
+			case 'V' -> type = "void";
+			case 'L' -> {
+				int end = descriptor.indexOf( ';', position[ 0 ] );
+				type			= descriptor.substring( position[ 0 ], end ).replace( '/', '.' ).replace( '$', '.' );
+				position[ 0 ]	= end + 1;
+			}
+			default -> throw new IllegalArgumentException( "Bad descriptor " + descriptor );
+		}
+		return dimensions == 0 ? type : type + "[]".repeat( dimensions );
+	}
+
+	// ============ Primitives ============
+
+	private int u1() {
+		return buffer.get() & 0xFF;
+	}
+
+	private int u2() {
+		return buffer.getShort() & 0xFFFF;
+	}
+
+	private void skip( int bytes ) {
+		buffer.position( buffer.position() + bytes );
+	}
+}
@@ -0,0 +1,284 @@
+package ortus.boxlang.lsp.workspace.index;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import ortus.boxlang.compiler.ast.Position;
+import ortus.boxlang.compiler.parser.BoxSourceType;
+import ortus.boxlang.compiler.parser.Parser;
+import ortus.boxlang.compiler.parser.ParsingResult;
+import ortus.boxlang.lsp.App;
+
+/**
+ * Documentation of indexed classes and methods, kept as references into the
+ * source files instead of as strings.
+ *
+ * Each reference records where the doc comment sits in its file and a digest
+ * of the comment text. The comment is only read back, and run through the same
+ * extraction the {@link ProjectIndexVisitor} uses, when something (hover,
+ * signature help, completion resolve) asks for it. The most recently loaded
+ * comments are kept in a small LRU. If the file changed since it was indexed
+ * the digest no longer matches and no documentation is returned until the
+ * file is re-indexed.
+ *
+ * Source files are read as UTF-8, or as Windows-1252 when they are not valid
+ * UTF-8, see {@link #readSource(Path)}.
+ *
+ * Documentation whose position cannot be resolved is kept inline.
+ */
+public class DocumentationStore {
+
+	private static final int			MAX_LOADED		= 256;
+	private static final Charset		LEGACY_CHARSET	= Charset.isSupported( "windows-1252" ) ? Charset.forName( "windows-1252" )
+	    : StandardCharsets.ISO_8859_1;
+
+	/**
+	 * Where a symbol's documentation can be loaded from.
+	 *
+	 * @param isClass  Whether the comment documents a class or interface (otherwise a method)
+	 * @param fileUri  The file containing the doc comment
+	 * @param offset   The character offset of the comment in the file
+	 * @param length   The length of the comment
+	 * @param digest   The first 64 bits of the SHA-256 digest of the comment text
+	 * @param text     The documentation itself, for inline references only
+	 */
+	public record DocumentationRef( boolean isClass, String fileUri, int offset, int length, long digest, String text ) {
+
+		public static DocumentationRef inline( boolean isClass, String text ) {
+			return new DocumentationRef( isClass, null, -1, 0, 0, text );
+		}
+
+		public boolean isInline() {
+			return fileUri == null;
+		}
+	}
+
+	private final Map<Object, DocumentationRef>	refs		= new ConcurrentHashMap<>();
+	private final Map<DocumentationRef, String>	loaded		= Collections.synchronizedMap( new LinkedHashMap<>( 64, 0.75f, true ) {
+
+													@Override
+													protected boolean removeEldestEntry( Map.Entry<DocumentationRef, String> eldest ) {
+														return size() > MAX_LOADED;
+													}
+												} );
+	private final LongAdder						hits		= new LongAdder();
+	private final LongAdder						misses		= new LongAdder();
+
+	/**
+	 * Create a reference to a doc comment in a file's content, falling back to
+	 * an inline reference if the position does not point at a doc comment.
+	 *
+	 * @param isClass       Whether the comment documents a class or interface
+	 * @param fileUri       The file URI
+	 * @param content       The file content the position refers to
+	 * @param lineStarts    The offset of each line of the content, see {@link #lineStarts(String)}
+	 * @param position      The doc comment position reported by the parser
+	 * @param documentation The extracted documentation, kept if the position cannot be used
+	 */
+	public static DocumentationRef reference( boolean isClass, String fileUri, String content, int[] lineStarts, Position position,
+	    String documentation ) {
+		if ( fileUri == null || content == null || position == null || position.getStart() == null || position.getEnd() == null ) {
+			return DocumentationRef.inline( isClass, documentation );
+		}
+
+		int	startLine	= position.getStart().getLine() - 1;
+		int	endLine		= position.getEnd().getLine() - 1;
+		if ( startLine < 0 || endLine >= lineStarts.length || startLine > endLine ) {
+			return DocumentationRef.inline( isClass, documentation );
+		}
+
+		int	start	= lineStarts[ startLine ] + position.getStart().getColumn();
+		int	end		= lineStarts[ endLine ] + position.getEnd().getColumn();
+		int	close	= start >= 0 && start < content.length() ? content.indexOf( "*/", Math.max( start, end - 2 ) ) : -1;
+		if ( close < 0 || !content.startsWith( "/*", start ) ) {
+			return DocumentationRef.inline( isClass, documentation );
+		}
+
+		String comment = content.substring( start, close + 2 );
+		return new DocumentationRef( isClass, fileUri, start, comment.length(), digest( comment ), null );
+	}
+
+	/**
+	 * Read a source file as UTF-8, or as Windows-1252 if it is not valid UTF-8,
+	 * so files saved in a legacy encoding are still indexed.
+	 */
+	public static String readSource( Path path ) throws IOException {
+		byte[] bytes = Files.readAllBytes( path );
+		try {
+			return StandardCharsets.UTF_8.newDecoder()
+			    .onMalformedInput( CodingErrorAction.REPORT )
+			    .onUnmappableCharacter( CodingErrorAction.REPORT )
+			    .decode( ByteBuffer.wrap( bytes ) )
+			    .toString();
+		} catch ( CharacterCodingException e ) {
+			return new String( bytes, LEGACY_CHARSET );
+		}
+	}
+
+	/**
+	 * @return The first 64 bits of the SHA-256 digest of a comment
+	 */
+	static long digest( String comment ) {
+		try {
+			byte[] hash = MessageDigest.getInstance( "SHA-256" ).digest( comment.getBytes( StandardCharsets.UTF_8 ) );
+			return ByteBuffer.wrap( hash ).getLong();
+		} catch ( NoSuchAlgorithmException e ) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	/**
+	 * @return the offset at which each line of the content starts
+	 */
+	public static int[] lineStarts( String content ) {
+		int	lines	= 1;
+		for ( int i = 0; i < content.length(); i++ ) {
+			if ( content.charAt( i ) == '\n' ) {
+				lines++;
+			}
+		}
+
+		int[]	starts	= new int[ lines ];
+		int		line	= 1;
+		for ( int i = 0; i < content.length(); i++ ) {
+			if ( content.charAt( i ) == '\n' ) {
+				starts[ line++ ] = i + 1;
+			}
+		}
+		return starts;
+	}
+
+	public void put( Object key, DocumentationRef ref ) {
+		refs.put( key, ref );
+	}
+
+	public DocumentationRef getRef( Object key ) {
+		return refs.get( key );
+	}
+
+	public void remove( Object key ) {
+		DocumentationRef ref = refs.remove( key );
+		if ( ref != null ) {
+			loaded.remove( ref );
+		}
+	}
+
+	public void clear() {
+		refs.clear();
+		loaded.clear();
+	}
+
+	public int size() {
+		return refs.size();
+	}
+
+	/**
+	 * @return how many documentation lookups were served from the LRU
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return how many documentation lookups had to read the source file
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Load the documentation for a key.
+	 *
+	 * @return The documentation, or null if there is none or the file changed since it was indexed
+	 */
+	public String load( Object key ) {
+		DocumentationRef ref = refs.get( key );
+		if ( ref == null ) {
+			return null;
+		}
+		if ( ref.isInline() ) {
+			return ref.text();
+		}
+
+		String documentation = loaded.get( ref );
+		if ( documentation != null ) {
+			hits.increment();
+			return documentation;
+		}
+
+		misses.increment();
+		documentation = read( ref );
+		if ( documentation != null ) {
+			loaded.put( ref, documentation );
+		}
+		return documentation;
+	}
+
+	private static String read( DocumentationRef ref ) {
+		try {
+			Path path = Paths.get( URI.create( ref.fileUri() ) );
+			if ( !Files.exists( path ) ) {
+				return null;
+			}
+
+			String content = readSource( path );
+			if ( ref.offset() + ref.length() > content.length() ) {
+				return null;
+			}
+
+			String comment = content.substring( ref.offset(), ref.offset() + ref.length() );
+			if ( digest( comment ) != ref.digest() ) {
+				return null;
+			}
+
+			return extract( comment, ref.isClass() );
+		} catch ( Exception e ) {
+			if ( App.logger != null ) {
+				App.logger.debug( "Unable to load documentation from " + ref.fileUri(), e );
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Run a doc comment through the index visitor by attaching it to an empty
+	 * class or function, so loaded documentation is formatted exactly like
+	 * documentation extracted while indexing.
+	 */
+	private static String extract( String comment, boolean isClass ) throws Exception {
+		String			source	= isClass
+		    ? comment + "\nclass {\n}\n"
+		    : "class {\n" + comment + "\nfunction documented() {\n}\n}\n";
+
+		ParsingResult	result	= new Parser().parse( source, BoxSourceType.BOXSCRIPT, true );
+		if ( result == null || result.getRoot() == null ) {
+			return null;
+		}
+
+		ProjectIndexVisitor visitor = new ProjectIndexVisitor( null, null );
+		result.getRoot().accept( visitor );
+
+		if ( isClass ) {
+			List<IndexedClass> classes = visitor.getIndexedClasses();
+			return classes.isEmpty() ? null : classes.getFirst().documentation();
+		}
+		List<IndexedMethod> methods = visitor.getIndexedMethods();
+		return methods.isEmpty() ? null : methods.getFirst().documentation();
+	}
+}
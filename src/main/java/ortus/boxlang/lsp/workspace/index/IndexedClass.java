@@ -8,6 +8,10 @@ import org.eclipse.lsp4j.Range;
 /**
  * Represents an indexed class or interface from a BoxLang file.
  * Contains metadata about inheritance, location, documentation, and modification time.
+ *
+ * @param documentation The doc comment as read from the file. Classes held by
+ *                      {@link ProjectIndex} store it out of line and have null
+ *                      here; use {@link ProjectIndex#getDocumentation(IndexedClass)}.
  */
 public record IndexedClass(
     String name,
@@ -19,7 +23,7 @@ public record IndexedClass(
     List<String> modifiers,
     boolean isInterface,
     String documentation,
-    Instant lastModified ) {
+    Instant lastModified ) implements IndexedSymbol {
 
 	/**
 	 * Get the simple class name (last part of FQN).
@@ -6,6 +6,10 @@ import org.eclipse.lsp4j.Range;
 
 /**
  * Represents an indexed method or function from a BoxLang file.
+ *
+ * @param documentation The doc comment as read from the file. Methods held by
+ *                      {@link ProjectIndex} store it out of line and have null
+ *                      here; use {@link ProjectIndex#getDocumentation(IndexedMethod)}.
  */
 public record IndexedMethod(
     String name,
@@ -16,7 +20,7 @@ public record IndexedMethod(
     List<IndexedParameter> parameters,
     String accessModifier,
     List<String> modifiers,
-    String documentation ) {
+    String documentation ) implements IndexedSymbol {
 
 	/**
 	 * Get a unique key for this method in the form "classname.methodname" or just "methodname" for top-level functions.
@@ -13,5 +13,5 @@ public record IndexedProperty(
     String typeHint,
     String defaultValue,
     boolean hasGetter,
-    boolean hasSetter ) {
+    boolean hasSetter ) implements IndexedSymbol {
 }
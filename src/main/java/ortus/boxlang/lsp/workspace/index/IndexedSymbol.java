@@ -0,0 +1,18 @@
+package ortus.boxlang.lsp.workspace.index;
+
+/**
+ * A symbol of the project index that can be searched by name: a class,
+ * method or property.
+ */
+public sealed interface IndexedSymbol permits IndexedClass, IndexedMethod, IndexedProperty {
+
+	/**
+	 * @return The name the symbol is declared and searched under
+	 */
+	String name();
+
+	/**
+	 * @return The URI of the file declaring the symbol
+	 */
+	String fileUri();
+}
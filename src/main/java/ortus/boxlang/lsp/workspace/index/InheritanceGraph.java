@@ -1,7 +1,11 @@
 package ortus.boxlang.lsp.workspace.index;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -11,6 +15,13 @@ import java.util.concurrent.ConcurrentHashMap;
  * Tracks class inheritance hierarchies for the project index.
  * Provides methods to query parent/child relationships and interface implementations.
  * Thread-safe for concurrent access during workspace parsing.
+ *
+ * Ancestor chains and descendant lists are memoized per class. Changing an
+ * extends edge only invalidates the ancestor chains below it and the
+ * descendant lists above it. {@link #isSubclassOf} uses interval labels from a
+ * depth-first numbering of the class forest (a class is a subclass of another
+ * when its interval nests inside the other's), rebuilt lazily after the graph
+ * changes.
  */
 public class InheritanceGraph {
 
@@ -19,6 +30,10 @@ public class InheritanceGraph {
 	private final Map<String, Set<String>>	interfaceImplementors	= new ConcurrentHashMap<>();
 	private final Map<String, Set<String>>	classInterfaces			= new ConcurrentHashMap<>();
 
+	private final Map<String, List<String>>	ancestorCache			= new ConcurrentHashMap<>();
+	private final Map<String, List<String>>	descendantCache			= new ConcurrentHashMap<>();
+	private volatile Map<String, int[]>		intervals				= null;
+
 	/**
 	 * Add a class relationship to the graph.
 	 *
@@ -26,13 +41,15 @@ public class InheritanceGraph {
 	 * @param parentFQN  The fully qualified name of the parent class (nullable)
 	 * @param interfaces List of interface FQNs that the class implements
 	 */
-	public void addClassRelationship( String classFQN, String parentFQN, List<String> interfaces ) {
+	public synchronized void addClassRelationship( String classFQN, String parentFQN, List<String> interfaces ) {
 		if ( classFQN == null || classFQN.isEmpty() ) {
 			return;
 		}
 
 		// Track parent-child relationship
 		if ( parentFQN != null && !parentFQN.isEmpty() ) {
+			invalidateEdge( classFQN, parentClass.get( classFQN ) );
+			invalidateEdge( classFQN, parentFQN );
 			parentClass.put( classFQN, parentFQN );
 			childClasses.computeIfAbsent( parentFQN, k -> ConcurrentHashMap.newKeySet() ).add( classFQN );
 		}
@@ -51,11 +68,20 @@ public class InheritanceGraph {
 	 *
 	 * @param classFQN The fully qualified name of the class to remove
 	 */
-	public void removeClass( String classFQN ) {
+	public synchronized void removeClass( String classFQN ) {
 		if ( classFQN == null || classFQN.isEmpty() ) {
 			return;
 		}
 
+		// Every edge touching the class goes away
+		invalidateEdge( classFQN, parentClass.get( classFQN ) );
+		Set<String> currentChildren = childClasses.get( classFQN );
+		if ( currentChildren != null ) {
+			for ( String child : currentChildren ) {
+				invalidateEdge( child, classFQN );
+			}
+		}
+
 		// Remove from parent's children
 		String parent = parentClass.remove( classFQN );
 		if ( parent != null ) {
@@ -105,6 +131,22 @@ public class InheritanceGraph {
 	 * @return List of ancestor FQNs in order from nearest to farthest
 	 */
 	public List<String> getAncestors( String classFQN ) {
+		if ( classFQN == null ) {
+			return new ArrayList<>();
+		}
+
+		List<String> cached = ancestorCache.get( classFQN );
+		if ( cached == null ) {
+			cached = computeAncestorsCached( classFQN );
+		}
+		return new ArrayList<>( cached );
+	}
+
+	private synchronized List<String> computeAncestorsCached( String classFQN ) {
+		return ancestorCache.computeIfAbsent( classFQN, k -> List.copyOf( computeAncestors( k ) ) );
+	}
+
+	private List<String> computeAncestors( String classFQN ) {
 		List<String>	ancestors	= new ArrayList<>();
 		Set<String>		visited		= new HashSet<>();
 		String			current		= classFQN;
@@ -131,10 +173,24 @@ public class InheritanceGraph {
 	 * @return List of all descendant FQNs
 	 */
 	public List<String> getDescendants( String classFQN ) {
-		List<String>	descendants	= new ArrayList<>();
-		Set<String>		visited		= new HashSet<>();
-		collectDescendants( classFQN, descendants, visited );
-		return descendants;
+		if ( classFQN == null ) {
+			return new ArrayList<>();
+		}
+
+		List<String> cached = descendantCache.get( classFQN );
+		if ( cached == null ) {
+			cached = computeDescendantsCached( classFQN );
+		}
+		return new ArrayList<>( cached );
+	}
+
+	private synchronized List<String> computeDescendantsCached( String classFQN ) {
+		return descendantCache.computeIfAbsent( classFQN, k -> {
+			List<String>	descendants	= new ArrayList<>();
+			Set<String>		visited		= new HashSet<>();
+			collectDescendants( k, descendants, visited );
+			return List.copyOf( descendants );
+		} );
 	}
 
 	private void collectDescendants( String classFQN, List<String> descendants, Set<String> visited ) {
@@ -197,7 +253,18 @@ public class InheritanceGraph {
 	 * @return true if classFQN extends parentFQN
 	 */
 	public boolean isSubclassOf( String classFQN, String parentFQN ) {
-		return getAncestors( classFQN ).contains( parentFQN );
+		if ( classFQN == null || parentFQN == null ) {
+			return false;
+		}
+
+		Map<String, int[]>	labels		= intervals != null ? intervals : buildIntervals();
+		int[]				child		= labels.get( classFQN );
+		int[]				ancestor	= labels.get( parentFQN );
+		if ( child == null || ancestor == null || classFQN.equals( parentFQN ) ) {
+			// Unlabelled classes are unrelated to everything or sit on an inheritance cycle
+			return getAncestors( classFQN ).contains( parentFQN );
+		}
+		return ancestor[ 0 ] < child[ 0 ] && child[ 1 ] < ancestor[ 1 ];
 	}
 
 	/**
@@ -216,10 +283,89 @@ public class InheritanceGraph {
 	/**
 	 * Clear all data from the graph.
 	 */
-	public void clear() {
+	public synchronized void clear() {
 		parentClass.clear();
 		childClasses.clear();
 		interfaceImplementors.clear();
 		classInterfaces.clear();
+		ancestorCache.clear();
+		descendantCache.clear();
+		intervals = null;
+	}
+
+	/**
+	 * Drop the memoized results an extends edge from child to parent feeds
+	 * into: the ancestor chains of the child's subtree and the descendant lists
+	 * of the parent and its ancestors.
+	 */
+	private void invalidateEdge( String childFQN, String parentFQN ) {
+		if ( parentFQN == null ) {
+			return;
+		}
+
+		intervals = null;
+
+		ancestorCache.remove( childFQN );
+		for ( String descendant : computeDescendantsUncached( childFQN ) ) {
+			ancestorCache.remove( descendant );
+		}
+
+		descendantCache.remove( parentFQN );
+		for ( String ancestor : computeAncestors( parentFQN ) ) {
+			descendantCache.remove( ancestor );
+		}
+	}
+
+	private List<String> computeDescendantsUncached( String classFQN ) {
+		List<String> descendants = new ArrayList<>();
+		collectDescendants( classFQN, descendants, new HashSet<>() );
+		return descendants;
+	}
+
+	/**
+	 * Number the class forest depth-first. Each class gets the interval
+	 * [entry, exit]; a class's interval strictly contains those of all of its
+	 * descendants.
+	 */
+	private synchronized Map<String, int[]> buildIntervals() {
+		if ( intervals != null ) {
+			return intervals;
+		}
+
+		Map<String, int[]>	labels	= new HashMap<>();
+		Set<String>			roots	= new HashSet<>( childClasses.keySet() );
+		roots.removeAll( parentClass.keySet() );
+
+		int counter = 0;
+		for ( String root : roots ) {
+			Deque<DfsFrame> stack = new ArrayDeque<>();
+			labels.put( root, new int[] { counter++, -1 } );
+			stack.push( new DfsFrame( root, childrenOf( root ).iterator() ) );
+
+			while ( !stack.isEmpty() ) {
+				DfsFrame frame = stack.peek();
+				if ( frame.children().hasNext() ) {
+					String child = frame.children().next();
+					if ( !labels.containsKey( child ) ) {
+						labels.put( child, new int[] { counter++, -1 } );
+						stack.push( new DfsFrame( child, childrenOf( child ).iterator() ) );
+					}
+				} else {
+					labels.get( frame.classFQN() )[ 1 ] = counter++;
+					stack.pop();
+				}
+			}
+		}
+
+		intervals = labels;
+		return labels;
+	}
+
+	private Set<String> childrenOf( String classFQN ) {
+		Set<String> children = childClasses.get( classFQN );
+		return children != null ? children : Set.of();
+	}
+
+	private record DfsFrame( String classFQN, Iterator<String> children ) {
 	}
 }
@@ -0,0 +1,616 @@
+package ortus.boxlang.lsp.workspace.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import ortus.boxlang.lsp.App;
+import ortus.boxlang.lsp.RequestScheduler;
+import ortus.boxlang.lsp.RequestScheduler.Lane;
+import ortus.boxlang.runtime.BoxRuntime;
+
+/**
+ * Index of the public Java classes available to BoxLang code: the jars in the
+ * configured class paths and in the {@code lib} folder of every BoxLang module,
+ * plus the JDK and the BoxLang runtime, which are read on demand.
+ *
+ * Jars are indexed in parallel in the background. Every class file is read with
+ * {@link ClassHeaderReader} straight from the zip, so nothing is loaded into the
+ * JVM. The classes of a jar are cached, gzipped, under the runtime home keyed
+ * by the SHA-256 of the jar's content, so a jar is only parsed again when it
+ * changes, wherever it lives. Cached jars that no workspace read for
+ * {@link #CACHE_MAX_AGE_MS} are deleted after each build.
+ */
+public class JavaClassIndex {
+
+	private static final JavaClassIndex							instance			= new JavaClassIndex();
+
+	private static final int									CACHE_FORMAT		= 1;
+
+	/**
+	 * How long a cached jar is kept after it was last read or written.
+	 */
+	static final long											CACHE_MAX_AGE_MS	= 30L * 24 * 60 * 60 * 1000;
+
+	/**
+	 * How many JDK and runtime classes are remembered, including names that were
+	 * not found.
+	 */
+	static final int											MAX_SYSTEM_CLASSES	= 2048;
+
+	private volatile Map<String, JavaClassInfo>					classes				= Map.of();
+	private volatile Map<String, List<String>>					bySimpleName		= Map.of();
+	// JDK and runtime classes read on demand from the system class loader's resources, least recently used first
+	private final Map<String, Optional<JavaClassInfo>>			systemClasses		= Collections.synchronizedMap( new LinkedHashMap<>( 64, 0.75f, true ) {
+
+																	@Override
+																	protected boolean removeEldestEntry( Map.Entry<String, Optional<JavaClassInfo>> eldest ) {
+																		return size() > MAX_SYSTEM_CLASSES;
+																	}
+																} );
+	// The classes of each jar, reused while the jar's size and modification time are unchanged
+	private final Map<Path, JarClasses>							jarClasses			= new ConcurrentHashMap<>();
+	private CompletableFuture<Void>								build;
+	private List<Path>											jars				= List.of();
+
+	private record JarClasses( String stamp, List<JavaClassInfo> classes ) {
+	}
+
+	private JavaClassIndex() {
+	}
+
+	public static JavaClassIndex getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Start indexing the jars of the given class paths and module directories in
+	 * the background, unless they are already indexed or being indexed.
+	 *
+	 * @param classPaths        Class path entries: jars, or directories whose jars are indexed
+	 * @param moduleDirectories Directories containing BoxLang modules, whose {@code lib} jars are indexed
+	 */
+	public synchronized void update( List<Path> classPaths, List<Path> moduleDirectories ) {
+		List<Path> found = findJars( classPaths == null ? List.of() : classPaths, moduleDirectories == null ? List.of() : moduleDirectories );
+		if ( build != null && found.equals( this.jars ) ) {
+			return;
+		}
+
+		this.jars	= found;
+		this.build	= RequestScheduler.getInstance().runAsync( Lane.INDEXING, () -> {
+						Map<String, JavaClassInfo> indexed = indexJars( found );
+						synchronized ( this ) {
+							// A newer update may have superseded this build
+							if ( found.equals( this.jars ) ) {
+								publish( indexed );
+							}
+						}
+					} );
+	}
+
+	/**
+	 * Wait for the jars to be indexed.
+	 *
+	 * @return whether the index is ready
+	 */
+	public boolean awaitReady( long timeout, TimeUnit unit ) {
+		CompletableFuture<Void> current;
+		synchronized ( this ) {
+			current = build;
+		}
+		if ( current == null ) {
+			return true;
+		}
+
+		try {
+			current.get( timeout, unit );
+			return true;
+		} catch ( TimeoutException e ) {
+			return false;
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch ( ExecutionException e ) {
+			if ( App.logger != null ) {
+				App.logger.warn( "Failed to index Java classes", e.getCause() );
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Find a class by fully qualified name. Jar classes match ignoring case; JDK
+	 * and runtime classes are read from their class files the first time they
+	 * are asked for.
+	 */
+	public Optional<JavaClassInfo> findClass( String name ) {
+		if ( name == null || name.isEmpty() ) {
+			return Optional.empty();
+		}
+
+		JavaClassInfo indexed = classes.get( name.toLowerCase( Locale.ROOT ) );
+		if ( indexed != null ) {
+			return Optional.of( indexed );
+		}
+
+		Optional<JavaClassInfo> remembered = systemClasses.get( name );
+		if ( remembered != null ) {
+			return remembered;
+		}
+		// Read outside the lock; two threads reading the same class both get the same answer
+		Optional<JavaClassInfo> read = readSystemClass( name );
+		systemClasses.put( name, read );
+		return read;
+	}
+
+	/**
+	 * Resolve a class name as written in BoxLang code: a fully qualified name, or
+	 * a simple name of a jar class or a {@code java.lang} class.
+	 */
+	public Optional<JavaClassInfo> resolve( String name ) {
+		if ( name == null || name.isEmpty() ) {
+			return Optional.empty();
+		}
+		if ( name.contains( "." ) ) {
+			return findClass( name );
+		}
+
+		List<String> candidates = bySimpleName.get( name.toLowerCase( Locale.ROOT ) );
+		if ( candidates != null && !candidates.isEmpty() ) {
+			return findClass( candidates.get( 0 ) );
+		}
+		return findClass( "java.lang." + name );
+	}
+
+	/**
+	 * @return the class followed by its superclasses and interfaces, nearest
+	 *         first, each listed once; supertypes that cannot be found are left out
+	 */
+	public List<JavaClassInfo> getTypeHierarchy( JavaClassInfo clazz ) {
+		List<JavaClassInfo>		hierarchy	= new ArrayList<>();
+		Set<String>				seen		= new HashSet<>();
+		Deque<JavaClassInfo>	queue		= new ArrayDeque<>();
+		queue.add( clazz );
+		seen.add( clazz.name() );
+		while ( !queue.isEmpty() ) {
+			JavaClassInfo current = queue.poll();
+			hierarchy.add( current );
+
+			List<String> supertypes = new ArrayList<>();
+			if ( current.superName() != null ) {
+				supertypes.add( current.superName() );
+			}
+			supertypes.addAll( current.interfaces() );
+			for ( String supertype : supertypes ) {
+				if ( seen.add( supertype ) ) {
+					findClass( supertype ).ifPresent( queue::add );
+				}
+			}
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * @return the number of classes indexed from jars
+	 */
+	public int getClassCount() {
+		return classes.size();
+	}
+
+	private void publish( Map<String, JavaClassInfo> indexed ) {
+		Map<String, List<String>> simpleNames = new HashMap<>();
+		for ( JavaClassInfo clazz : indexed.values() ) {
+			simpleNames.computeIfAbsent( clazz.simpleName().toLowerCase( Locale.ROOT ), k -> new ArrayList<>() ).add( clazz.name() );
+		}
+		this.classes		= Map.copyOf( indexed );
+		this.bySimpleName	= Map.copyOf( simpleNames );
+	}
+
+	// ============ Indexing ============
+
+	/**
+	 * Index the jars in parallel and merge their classes. When several jars
+	 * contain the same class, the first one in class path order wins, as it
+	 * would at runtime.
+	 */
+	private Map<String, JavaClassInfo> indexJars( List<Path> jarsToIndex ) {
+		long								start		= System.currentTimeMillis();
+		RequestScheduler					scheduler	= RequestScheduler.getInstance();
+		int									parallelism	= Math.min( jarsToIndex.size(),
+		    Math.min( 4, Math.max( 1, Runtime.getRuntime().availableProcessors() / 2 ) ) );
+		List<List<JavaClassInfo>>			perJar		= new ArrayList<>( jarsToIndex.size() );
+
+		if ( parallelism <= 1 ) {
+			for ( Path jar : jarsToIndex ) {
+				scheduler.yieldToInteractive();
+				perJar.add( classesOf( jar ) );
+			}
+		} else {
+			AtomicLong		workerSequence	= new AtomicLong( 0 );
+			ExecutorService	executor		= Executors.newFixedThreadPool( parallelism, runnable -> {
+												Thread thread = new Thread( runnable, "BoxLang-LSP-JarIndex-" + workerSequence.incrementAndGet() );
+												thread.setDaemon( true );
+												thread.setPriority( Thread.MIN_PRIORITY );
+												return thread;
+											} );
+			try {
+				List<Future<List<JavaClassInfo>>> futures = new ArrayList<>( jarsToIndex.size() );
+				for ( Path jar : jarsToIndex ) {
+					futures.add( executor.submit( () -> {
+						scheduler.yieldToInteractive();
+						return classesOf( jar );
+					} ) );
+				}
+				for ( Future<List<JavaClassInfo>> future : futures ) {
+					perJar.add( future.get() );
+				}
+			} catch ( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException( "Java class indexing interrupted", e );
+			} catch ( ExecutionException e ) {
+				throw new RuntimeException( "Java class indexing failed", e.getCause() == null ? e : e.getCause() );
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
+		Map<String, JavaClassInfo> merged = new LinkedHashMap<>();
+		for ( List<JavaClassInfo> jarClassList : perJar ) {
+			for ( JavaClassInfo clazz : jarClassList ) {
+				merged.putIfAbsent( clazz.name().toLowerCase( Locale.ROOT ), clazz );
+			}
+		}
+		jarClasses.keySet().retainAll( new HashSet<>( jarsToIndex ) );
+		Path cacheDirectory = getCacheDirectory();
+		if ( cacheDirectory != null ) {
+			pruneCache( cacheDirectory, System.currentTimeMillis() );
+		}
+
+		if ( App.logger != null ) {
+			App.logger.info( "Indexed {} Java classes from {} jars in {}ms", merged.size(), jarsToIndex.size(), System.currentTimeMillis() - start );
+		}
+		return merged;
+	}
+
+	/**
+	 * The classes of one jar, from memory, the on-disk cache, or by reading the jar.
+	 */
+	private List<JavaClassInfo> classesOf( Path jar ) {
+		String		stamp		= stamp( jar );
+		JarClasses	remembered	= jarClasses.get( jar );
+		if ( remembered != null && remembered.stamp().equals( stamp ) ) {
+			return remembered.classes();
+		}
+
+		String				hash		= contentHash( jar );
+		Path				cacheFile	= hash == null ? null : getCacheFilePath( hash );
+		List<JavaClassInfo>	read		= cacheFile == null ? null : readCache( cacheFile );
+		if ( read == null ) {
+			read = readJar( jar );
+			if ( cacheFile != null ) {
+				writeCache( cacheFile, read );
+			}
+		} else {
+			// Keep the cache file from being pruned while a workspace uses the jar
+			touch( cacheFile );
+		}
+
+		jarClasses.put( jar, new JarClasses( stamp, read ) );
+		return read;
+	}
+
+	/**
+	 * Read the public top level and nested classes of a jar from its class file
+	 * headers.
+	 */
+	static List<JavaClassInfo> readJar( Path jar ) {
+		List<JavaClassInfo> read = new ArrayList<>();
+		try ( ZipFile zip = new ZipFile( jar.toFile() ) ) {
+			Enumeration<? extends ZipEntry> entries = zip.entries();
+			while ( entries.hasMoreElements() ) {
+				ZipEntry entry = entries.nextElement();
+				if ( !isIndexedClassFile( entry.getName() ) ) {
+					continue;
+				}
+				try ( InputStream in = zip.getInputStream( entry ) ) {
+					JavaClassInfo clazz = ClassHeaderReader.read( in.readAllBytes() );
+					if ( clazz != null ) {
+						read.add( clazz );
+					}
+				}
+			}
+		} catch ( IOException e ) {
+			if ( App.logger != null ) {
+				App.logger.debug( "Unable to index classes of " + jar, e );
+			}
+		}
+		return read;
+	}
+
+	private static boolean isIndexedClassFile( String entryName ) {
+		return entryName.endsWith( ".class" )
+		    && !entryName.startsWith( "META-INF/" )
+		    && !entryName.endsWith( "module-info.class" )
+		    && !entryName.endsWith( "package-info.class" );
+	}
+
+	private static Optional<JavaClassInfo> readSystemClass( String name ) {
+		// Nested classes are written with dots in BoxLang code, so try each dot as a '$'
+		String resource = name.replace( '.', '/' );
+		while ( true ) {
+			try ( InputStream in = ClassLoader.getSystemResourceAsStream( resource + ".class" ) ) {
+				if ( in != null ) {
+					return Optional.ofNullable( ClassHeaderReader.read( in.readAllBytes() ) );
+				}
+			} catch ( IOException e ) {
+				return Optional.empty();
+			}
+
+			int slash = resource.lastIndexOf( '/' );
+			if ( slash < 0 ) {
+				return Optional.empty();
+			}
+			resource = resource.substring( 0, slash ) + "$" + resource.substring( slash + 1 );
+		}
+	}
+
+	/**
+	 * The jars to index: class path entries that are jars, the jars directly
+	 * inside class path directories, and the {@code lib} jars of every module.
+	 */
+	static List<Path> findJars( List<Path> classPaths, List<Path> moduleDirectories ) {
+		Set<Path> found = new LinkedHashSet<>();
+		for ( Path classPath : classPaths ) {
+			Path normalized = classPath.toAbsolutePath().normalize();
+			if ( isJar( normalized ) && Files.isRegularFile( normalized ) ) {
+				found.add( normalized );
+			} else if ( Files.isDirectory( normalized ) ) {
+				found.addAll( listJars( normalized ) );
+			}
+		}
+		for ( Path modulesDirectory : moduleDirectories ) {
+			if ( !Files.isDirectory( modulesDirectory ) ) {
+				continue;
+			}
+			try ( Stream<Path> modules = Files.list( modulesDirectory ) ) {
+				modules.map( module -> module.resolve( "lib" ) ).filter( Files::isDirectory ).sorted().forEach( lib -> found.addAll( listJars( lib ) ) );
+			} catch ( IOException e ) {
+				if ( App.logger != null ) {
+					App.logger.debug( "Unable to list module jars in " + modulesDirectory, e );
+				}
+			}
+		}
+		return List.copyOf( found );
+	}
+
+	private static List<Path> listJars( Path directory ) {
+		try ( Stream<Path> files = Files.list( directory ) ) {
+			return files.filter( file -> isJar( file ) && Files.isRegularFile( file ) ).map( file -> file.toAbsolutePath().normalize() ).sorted()
+			    .toList();
+		} catch ( IOException e ) {
+			return List.of();
+		}
+	}
+
+	private static boolean isJar( Path path ) {
+		Path fileName = path.getFileName();
+		return fileName != null && fileName.toString().toLowerCase( Locale.ROOT ).endsWith( ".jar" );
+	}
+
+	// ============ Persistence ============
+
+	private static String stamp( Path jar ) {
+		try {
+			return Files.size( jar ) + ":" + Files.getLastModifiedTime( jar ).toMillis();
+		} catch ( IOException e ) {
+			return "";
+		}
+	}
+
+	private static String contentHash( Path jar ) {
+		try ( InputStream in = Files.newInputStream( jar ) ) {
+			MessageDigest	digest	= MessageDigest.getInstance( "SHA-256" );
+			byte[]			chunk	= new byte[ 64 * 1024 ];
+			for ( int read = in.read( chunk ); read >= 0; read = in.read( chunk ) ) {
+				digest.update( chunk, 0, read );
+			}
+			StringBuilder hexString = new StringBuilder();
+			for ( byte b : digest.digest() ) {
+				hexString.append( String.format( "%02x", b ) );
+			}
+			return hexString.toString();
+		} catch ( IOException e ) {
+			return null;
+		} catch ( NoSuchAlgorithmException e ) {
+			throw new RuntimeException( e );
+		}
+	}
+
+	private static Path getCacheDirectory() {
+		try {
+			return BoxRuntime.getInstance().getRuntimeHome().resolve( "java-classes" );
+		} catch ( Exception e ) {
+			return null;
+		}
+	}
+
+	private static Path getCacheFilePath( String hash ) {
+		Path cacheDirectory = getCacheDirectory();
+		return cacheDirectory == null ? null : cacheDirectory.resolve( hash + ".json.gz" );
+	}
+
+	/**
+	 * Delete the cached jars that were not read or written for
+	 * {@link #CACHE_MAX_AGE_MS}, e.g. old versions of a dependency. Jars of other
+	 * workspaces sharing the runtime home are kept while they are in use.
+	 */
+	static void pruneCache( Path cacheDirectory, long now ) {
+		if ( !Files.isDirectory( cacheDirectory ) ) {
+			return;
+		}
+		try ( Stream<Path> files = Files.list( cacheDirectory ) ) {
+			for ( Path file : files.filter( file -> file.getFileName().toString().endsWith( ".json.gz" ) ).toList() ) {
+				if ( now - Files.getLastModifiedTime( file ).toMillis() > CACHE_MAX_AGE_MS ) {
+					Files.deleteIfExists( file );
+				}
+			}
+		} catch ( IOException e ) {
+			if ( App.logger != null ) {
+				App.logger.debug( "Unable to prune Java class cache " + cacheDirectory, e );
+			}
+		}
+	}
+
+	private static void touch( Path cacheFile ) {
+		try {
+			Files.setLastModifiedTime( cacheFile, FileTime.fromMillis( System.currentTimeMillis() ) );
+		} catch ( IOException e ) {
+			// Only shortens how long the file survives pruning
+		}
+	}
+
+	static List<JavaClassInfo> readCache( Path cacheFile ) {
+		if ( !Files.exists( cacheFile ) ) {
+			return null;
+		}
+
+		try ( Reader reader = new InputStreamReader( new GZIPInputStream( Files.newInputStream( cacheFile ) ), StandardCharsets.UTF_8 ) ) {
+			JsonObject root = JsonParser.parseReader( reader ).getAsJsonObject();
+			if ( !root.has( "format" ) || root.get( "format" ).getAsInt() != CACHE_FORMAT ) {
+				return null;
+			}
+
+			List<JavaClassInfo> read = new ArrayList<>();
+			for ( JsonElement element : root.getAsJsonArray( "classes" ) ) {
+				JsonObject				clazz	= element.getAsJsonObject();
+				List<JavaMethodInfo>	methods	= new ArrayList<>();
+				for ( JsonElement methodElement : clazz.getAsJsonArray( "methods" ) ) {
+					JsonObject method = methodElement.getAsJsonObject();
+					methods.add( new JavaMethodInfo( method.get( "name" ).getAsString(), strings( method.getAsJsonArray( "parameterTypes" ) ),
+					    strings( method.getAsJsonArray( "parameterNames" ) ), method.get( "returnType" ).getAsString(),
+					    method.get( "static" ).getAsBoolean() ) );
+				}
+				List<JavaFieldInfo> fields = new ArrayList<>();
+				for ( JsonElement fieldElement : clazz.getAsJsonArray( "fields" ) ) {
+					JsonObject field = fieldElement.getAsJsonObject();
+					fields.add( new JavaFieldInfo( field.get( "name" ).getAsString(), field.get( "type" ).getAsString(), field.get( "static" ).getAsBoolean() ) );
+				}
+				read.add( new JavaClassInfo( clazz.get( "name" ).getAsString(),
+				    clazz.has( "superName" ) ? clazz.get( "superName" ).getAsString() : null,
+				    strings( clazz.getAsJsonArray( "interfaces" ) ), clazz.get( "interface" ).getAsBoolean(), List.copyOf( methods ),
+				    List.copyOf( fields ) ) );
+			}
+			return read;
+		} catch ( Exception e ) {
+			if ( App.logger != null ) {
+				App.logger.debug( "Ignoring unreadable Java class cache " + cacheFile, e );
+			}
+			return null;
+		}
+	}
+
+	static void writeCache( Path cacheFile, List<JavaClassInfo> classesToWrite ) {
+		JsonArray array = new JsonArray();
+		for ( JavaClassInfo clazz : classesToWrite ) {
+			JsonObject json = new JsonObject();
+			json.addProperty( "name", clazz.name() );
+			if ( clazz.superName() != null ) {
+				json.addProperty( "superName", clazz.superName() );
+			}
+			json.add( "interfaces", toJson( clazz.interfaces() ) );
+			json.addProperty( "interface", clazz.isInterface() );
+
+			JsonArray methods = new JsonArray();
+			for ( JavaMethodInfo method : clazz.methods() ) {
+				JsonObject methodJson = new JsonObject();
+				methodJson.addProperty( "name", method.name() );
+				methodJson.add( "parameterTypes", toJson( method.parameterTypes() ) );
+				methodJson.add( "parameterNames", toJson( method.parameterNames() ) );
+				methodJson.addProperty( "returnType", method.returnType() );
+				methodJson.addProperty( "static", method.isStatic() );
+				methods.add( methodJson );
+			}
+			json.add( "methods", methods );
+
+			JsonArray fields = new JsonArray();
+			for ( JavaFieldInfo field : clazz.fields() ) {
+				JsonObject fieldJson = new JsonObject();
+				fieldJson.addProperty( "name", field.name() );
+				fieldJson.addProperty( "type", field.type() );
+				fieldJson.addProperty( "static", field.isStatic() );
+				fields.add( fieldJson );
+			}
+			json.add( "fields", fields );
+			array.add( json );
+		}
+
+		JsonObject root = new JsonObject();
+		root.addProperty( "format", CACHE_FORMAT );
+		root.add( "classes", array );
+
+		try {
+			Files.createDirectories( cacheFile.getParent() );
+			try ( Writer writer = new OutputStreamWriter( new GZIPOutputStream( Files.newOutputStream( cacheFile ) ), StandardCharsets.UTF_8 ) ) {
+				writer.write( root.toString() );
+			}
+		} catch ( IOException e ) {
+			if ( App.logger != null ) {
+				App.logger.warn( "Failed to save Java class cache: " + e.getMessage(), e );
+			}
+		}
+	}
+
+	private static List<String> strings( JsonArray array ) {
+		List<String> values = new ArrayList<>( array.size() );
+		array.forEach( value -> values.add( value.getAsString() ) );
+		return List.copyOf( values );
+	}
+
+	private static JsonArray toJson( List<String> values ) {
+		JsonArray array = new JsonArray();
+		values.forEach( array::add );
+		return array;
+	}
+}
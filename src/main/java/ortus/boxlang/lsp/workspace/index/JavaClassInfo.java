@@ -0,0 +1,24 @@
+package ortus.boxlang.lsp.workspace.index;
+
+import java.util.List;
+
+/**
+ * Represents a public Java class read from a class file header: its name,
+ * supertypes and public members.
+ */
+public record JavaClassInfo(
+    String name,
+    String superName,
+    List<String> interfaces,
+    boolean isInterface,
+    List<JavaMethodInfo> methods,
+    List<JavaFieldInfo> fields ) {
+
+	/**
+	 * @return the class name without its package
+	 */
+	public String simpleName() {
+		int dot = name.lastIndexOf( '.' );
+		return dot < 0 ? name : name.substring( dot + 1 );
+	}
+}
@@ -0,0 +1,10 @@
+package ortus.boxlang.lsp.workspace.index;
+
+/**
+ * Represents a public field of an indexed Java class.
+ */
+public record JavaFieldInfo(
+    String name,
+    String type,
+    boolean isStatic ) {
+}
@@ -0,0 +1,17 @@
+package ortus.boxlang.lsp.workspace.index;
+
+import java.util.List;
+
+/**
+ * Represents a public method of an indexed Java class. Types are Java source
+ * names, e.g. {@code java.lang.String[]}. Parameter names are only known when
+ * the class was compiled with {@code -parameters}, otherwise they are
+ * {@code arg0}, {@code arg1}, ...
+ */
+public record JavaMethodInfo(
+    String name,
+    List<String> parameterTypes,
+    List<String> parameterNames,
+    String returnType,
+    boolean isStatic ) {
+}
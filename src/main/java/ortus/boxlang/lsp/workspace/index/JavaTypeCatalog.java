@@ -0,0 +1,567 @@
+package ortus.boxlang.lsp.workspace.index;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.module.ModuleDescriptor;
+import java.lang.module.ModuleFinder;
+import java.lang.module.ModuleReader;
+import java.lang.module.ModuleReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import ortus.boxlang.lsp.App;
+import ortus.boxlang.lsp.RequestScheduler;
+import ortus.boxlang.lsp.RequestScheduler.Lane;
+import ortus.boxlang.runtime.BoxRuntime;
+
+/**
+ * Catalog of the Java packages and classes that can be imported: the exported
+ * packages of the {@code java.*} and {@code javax.*} JDK modules, the BoxLang
+ * runtime jar, and the jars in the {@code lib} folder of every BoxLang module.
+ *
+ * The catalog is built once in the background and kept as sorted tables: each
+ * package name is stored once, and the simple names of its classes follow in
+ * one contiguous, sorted block. Prefix queries are binary searches. The tables
+ * are persisted, gzipped, next to the project index cache, keyed by the JDK, the
+ * runtime jar and the module jars they were built from, so later sessions load
+ * them instead of walking the JDK modules again.
+ */
+public class JavaTypeCatalog {
+
+	private static final JavaTypeCatalog	instance			= new JavaTypeCatalog();
+
+	private volatile Table					table				= Table.of( Map.of(), "" );
+	private CompletableFuture<Void>			build;
+	private List<Path>						moduleDirectories	= List.of();
+
+	private JavaTypeCatalog() {
+	}
+
+	public static JavaTypeCatalog getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Start building the catalog in the background for the given BoxLang module
+	 * directories, unless it is already built or being built for them.
+	 *
+	 * @param moduleDirectories Directories containing BoxLang modules, whose {@code lib} jars are catalogued
+	 */
+	public synchronized void update( List<Path> moduleDirectories ) {
+		List<Path> directories = moduleDirectories == null ? List.of() : List.copyOf( moduleDirectories );
+		if ( build != null && directories.equals( this.moduleDirectories ) ) {
+			return;
+		}
+
+		this.moduleDirectories	= directories;
+		this.build				= RequestScheduler.getInstance().runAsync( Lane.INDEXING, () -> {
+									Table built = loadOrBuild( directories, table );
+									synchronized ( this ) {
+										// A newer update may have superseded this build
+										if ( directories.equals( this.moduleDirectories ) ) {
+											table = built;
+										}
+									}
+								} );
+	}
+
+	/**
+	 * Check whether the catalog is built without waiting, starting the build if
+	 * nothing requested it yet.
+	 *
+	 * @return whether the catalog is ready
+	 */
+	public boolean isReady() {
+		CompletableFuture<Void> current;
+		synchronized ( this ) {
+			if ( build == null ) {
+				update( moduleDirectories );
+			}
+			current = build;
+		}
+		return current.isDone() && !current.isCompletedExceptionally();
+	}
+
+	/**
+	 * Wait for the catalog to be built, starting the build if nothing requested
+	 * it yet.
+	 *
+	 * @return whether the catalog is ready
+	 */
+	public boolean awaitReady( long timeout, TimeUnit unit ) {
+		CompletableFuture<Void> current;
+		synchronized ( this ) {
+			if ( build == null ) {
+				update( moduleDirectories );
+			}
+			current = build;
+		}
+
+		try {
+			current.get( timeout, unit );
+			return true;
+		} catch ( TimeoutException e ) {
+			return false;
+		} catch ( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch ( ExecutionException e ) {
+			if ( App.logger != null ) {
+				App.logger.warn( "Failed to build the Java type catalog", e.getCause() );
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Find packages whose name starts with the prefix, ignoring case.
+	 */
+	public List<String> findPackages( String prefix, int limit ) {
+		Table			current	= table;
+		List<String>	results	= new ArrayList<>();
+		for ( int i = lowerBound( current.packages, prefix ); i < current.packages.length && results.size() < limit; i++ ) {
+			if ( !startsWithIgnoreCase( current.packages[ i ], prefix ) ) {
+				break;
+			}
+			results.add( current.packages[ i ] );
+		}
+		return results;
+	}
+
+	/**
+	 * Find the classes directly in a package whose simple name starts with the
+	 * prefix, ignoring case.
+	 *
+	 * @return fully qualified class names
+	 */
+	public List<String> findClassesInPackage( String packageName, String prefix, int limit ) {
+		Table			current	= table;
+		List<String>	results	= new ArrayList<>();
+		for ( int p = lowerBound( current.packages, packageName ); p < current.packages.length
+		    && current.packages[ p ].equalsIgnoreCase( packageName ); p++ ) {
+			int	end		= current.packageStart[ p + 1 ];
+			int	start	= lowerBound( current.classNames, current.packageStart[ p ], end, prefix );
+			for ( int c = start; c < end && results.size() < limit; c++ ) {
+				if ( !startsWithIgnoreCase( current.classNames[ c ], prefix ) ) {
+					break;
+				}
+				results.add( current.qualifiedName( c ) );
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Find classes in any package whose simple name starts with the prefix,
+	 * ignoring case.
+	 *
+	 * @return fully qualified class names, ordered by simple name
+	 */
+	public List<String> findClassesBySimpleName( String prefix, int limit ) {
+		Table	current	= table;
+		int		low		= 0;
+		int		high	= current.bySimpleName.length;
+		while ( low < high ) {
+			int mid = ( low + high ) >>> 1;
+			if ( String.CASE_INSENSITIVE_ORDER.compare( current.classNames[ current.bySimpleName[ mid ] ], prefix ) < 0 ) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+
+		List<String> results = new ArrayList<>();
+		for ( int i = low; i < current.bySimpleName.length && results.size() < limit; i++ ) {
+			int classIndex = current.bySimpleName[ i ];
+			if ( !startsWithIgnoreCase( current.classNames[ classIndex ], prefix ) ) {
+				break;
+			}
+			results.add( current.qualifiedName( classIndex ) );
+		}
+		return results;
+	}
+
+	public int getPackageCount() {
+		return table.packages.length;
+	}
+
+	public int getClassCount() {
+		return table.classNames.length;
+	}
+
+	// ============ Tables ============
+
+	/**
+	 * The sorted package and class tables. Classes are grouped by package, the
+	 * classes of package {@code p} being {@code classNames[packageStart[p] ..
+	 * packageStart[p + 1])}.
+	 */
+	static final class Table {
+
+		private final String[]	packages;
+		private final int[]		packageStart;
+		private final String[]	classNames;
+		private final int[]		classPackage;
+		private final int[]		bySimpleName;
+		private final String	fingerprint;
+
+		private Table( String[] packages, int[] packageStart, String[] classNames, int[] classPackage, String fingerprint ) {
+			this.fingerprint	= fingerprint;
+			this.packages		= packages;
+			this.packageStart	= packageStart;
+			this.classNames		= classNames;
+			this.classPackage	= classPackage;
+
+			Integer[] order = new Integer[ classNames.length ];
+			for ( int i = 0; i < classNames.length; i++ ) {
+				order[ i ] = i;
+			}
+			// Stable sort, so equal simple names stay in package order
+			Arrays.sort( order, ( a, b ) -> String.CASE_INSENSITIVE_ORDER.compare( classNames[ a ], classNames[ b ] ) );
+			this.bySimpleName = Arrays.stream( order ).mapToInt( Integer::intValue ).toArray();
+		}
+
+		/**
+		 * Build the tables from class simple names grouped by package. Packages
+		 * without classes, such as the parents of other packages, are kept.
+		 *
+		 * @param fingerprint Identifies the jars and JDK the classes were read from
+		 */
+		static Table of( Map<String, ? extends Collection<String>> classesByPackage, String fingerprint ) {
+			TreeSet<String> packageNames = new TreeSet<>( Table::compareNames );
+			for ( String packageName : classesByPackage.keySet() ) {
+				// Add every parent package so "java" and "javax" can be completed
+				for ( int dot = packageName.indexOf( '.' ); dot > 0; dot = packageName.indexOf( '.', dot + 1 ) ) {
+					packageNames.add( packageName.substring( 0, dot ) );
+				}
+				packageNames.add( packageName );
+			}
+
+			String[]		packages		= packageNames.toArray( String[]::new );
+			int[]			packageStart	= new int[ packages.length + 1 ];
+			List<String>	classNames		= new ArrayList<>();
+			List<Integer>	classPackage	= new ArrayList<>();
+			for ( int p = 0; p < packages.length; p++ ) {
+				packageStart[ p ] = classNames.size();
+				Collection<String> classes = classesByPackage.get( packages[ p ] );
+				if ( classes == null ) {
+					continue;
+				}
+				TreeSet<String> sorted = new TreeSet<>( Table::compareNames );
+				sorted.addAll( classes );
+				for ( String className : sorted ) {
+					classNames.add( className );
+					classPackage.add( p );
+				}
+			}
+			packageStart[ packages.length ] = classNames.size();
+
+			return new Table( packages, packageStart, classNames.toArray( String[]::new ), classPackage.stream().mapToInt( Integer::intValue ).toArray(),
+			    fingerprint );
+		}
+
+		private String qualifiedName( int classIndex ) {
+			String packageName = packages[ classPackage[ classIndex ] ];
+			return packageName.isEmpty() ? classNames[ classIndex ] : packageName + "." + classNames[ classIndex ];
+		}
+
+		private static int compareNames( String a, String b ) {
+			int result = String.CASE_INSENSITIVE_ORDER.compare( a, b );
+			return result != 0 ? result : a.compareTo( b );
+		}
+	}
+
+	private static int lowerBound( String[] sorted, String key ) {
+		return lowerBound( sorted, 0, sorted.length, key );
+	}
+
+	private static int lowerBound( String[] sorted, int from, int to, String key ) {
+		int	low		= from;
+		int	high	= to;
+		while ( low < high ) {
+			int mid = ( low + high ) >>> 1;
+			if ( String.CASE_INSENSITIVE_ORDER.compare( sorted[ mid ], key ) < 0 ) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static boolean startsWithIgnoreCase( String value, String prefix ) {
+		return value.regionMatches( true, 0, prefix, 0, prefix.length() );
+	}
+
+	// ============ Building ============
+
+	private static Table loadOrBuild( List<Path> moduleDirectories, Table current ) {
+		Path		runtimeJar	= findRuntimeJar();
+		List<Path>	moduleJars	= findModuleJars( moduleDirectories );
+		String		fingerprint	= fingerprint( runtimeJar, moduleJars );
+		if ( fingerprint.equals( current.fingerprint ) ) {
+			// Other module directories, but the same jars
+			return current;
+		}
+
+		Path	cacheFile	= getCacheFilePath( fingerprint );
+		Table	cached		= cacheFile == null ? null : readCache( cacheFile, fingerprint );
+		if ( cached != null ) {
+			return cached;
+		}
+
+		long						start				= System.currentTimeMillis();
+		Map<String, Set<String>>	classesByPackage	= new TreeMap<>();
+		addJdkClasses( classesByPackage );
+		if ( runtimeJar != null ) {
+			addJarClasses( runtimeJar, classesByPackage );
+		}
+		for ( Path jar : moduleJars ) {
+			addJarClasses( jar, classesByPackage );
+		}
+
+		Table built = Table.of( classesByPackage, fingerprint );
+		if ( App.logger != null ) {
+			App.logger.info( "Built Java type catalog with {} packages and {} classes in {}ms", built.packages.length, built.classNames.length,
+			    System.currentTimeMillis() - start );
+		}
+		if ( cacheFile != null ) {
+			writeCache( cacheFile, fingerprint, classesByPackage );
+		}
+		return built;
+	}
+
+	private static void addJdkClasses( Map<String, Set<String>> classesByPackage ) {
+		for ( ModuleReference moduleRef : ModuleFinder.ofSystem().findAll() ) {
+			ModuleDescriptor descriptor = moduleRef.descriptor();
+			if ( !descriptor.name().startsWith( "java." ) && !descriptor.name().startsWith( "javax." ) ) {
+				continue;
+			}
+
+			Set<String> exported = new HashSet<>();
+			for ( ModuleDescriptor.Exports exports : descriptor.exports() ) {
+				if ( !exports.isQualified() ) {
+					exported.add( exports.source() );
+				}
+			}
+
+			try ( ModuleReader reader = moduleRef.open(); Stream<String> resources = reader.list() ) {
+				resources.forEach( resource -> addClass( resource, exported, classesByPackage ) );
+			} catch ( IOException e ) {
+				if ( App.logger != null ) {
+					App.logger.debug( "Unable to list classes of module " + descriptor.name(), e );
+				}
+			}
+		}
+	}
+
+	private static void addJarClasses( Path jar, Map<String, Set<String>> classesByPackage ) {
+		try {
+			if ( Files.isDirectory( jar ) ) {
+				// The runtime is on the classpath as a directory when running from a build
+				try ( Stream<Path> files = Files.walk( jar ) ) {
+					files.filter( Files::isRegularFile )
+					    .forEach( file -> addClass( jar.relativize( file ).toString().replace( '\\', '/' ), null, classesByPackage ) );
+				}
+				return;
+			}
+
+			try ( ZipFile zip = new ZipFile( jar.toFile() ) ) {
+				Enumeration<? extends ZipEntry> entries = zip.entries();
+				while ( entries.hasMoreElements() ) {
+					ZipEntry entry = entries.nextElement();
+					if ( !entry.isDirectory() && !entry.getName().startsWith( "META-INF/" ) ) {
+						addClass( entry.getName(), null, classesByPackage );
+					}
+				}
+			}
+		} catch ( IOException e ) {
+			if ( App.logger != null ) {
+				App.logger.debug( "Unable to list classes of " + jar, e );
+			}
+		}
+	}
+
+	/**
+	 * Add a top level class given its resource name, e.g. {@code java/util/List.class}.
+	 *
+	 * @param exported The packages to keep, or null to keep every package
+	 */
+	private static void addClass( String resource, Set<String> exported, Map<String, Set<String>> classesByPackage ) {
+		if ( !resource.endsWith( ".class" ) || resource.contains( "$" ) || resource.endsWith( "module-info.class" )
+		    || resource.endsWith( "package-info.class" ) ) {
+			return;
+		}
+
+		String	className	= resource.substring( 0, resource.length() - ".class".length() ).replace( '/', '.' );
+		int		dot			= className.lastIndexOf( '.' );
+		String	packageName	= dot < 0 ? "" : className.substring( 0, dot );
+		if ( packageName.isEmpty() || ( exported != null && !exported.contains( packageName ) ) ) {
+			return;
+		}
+		classesByPackage.computeIfAbsent( packageName, k -> new TreeSet<>() ).add( className.substring( dot + 1 ) );
+	}
+
+	private static Path findRuntimeJar() {
+		try {
+			return Paths.get( BoxRuntime.class.getProtectionDomain().getCodeSource().getLocation().toURI() );
+		} catch ( Exception e ) {
+			return null;
+		}
+	}
+
+	/**
+	 * The jars in the {@code lib} folder of every module in the given module directories.
+	 */
+	private static List<Path> findModuleJars( List<Path> moduleDirectories ) {
+		List<Path> jars = new ArrayList<>();
+		for ( Path modulesDirectory : moduleDirectories ) {
+			if ( !Files.isDirectory( modulesDirectory ) ) {
+				continue;
+			}
+			try ( Stream<Path> modules = Files.list( modulesDirectory ) ) {
+				for ( Path lib : modules.map( module -> module.resolve( "lib" ) ).filter( Files::isDirectory ).toList() ) {
+					try ( Stream<Path> files = Files.list( lib ) ) {
+						files.filter( file -> file.getFileName().toString().toLowerCase().endsWith( ".jar" ) ).sorted().forEach( jars::add );
+					}
+				}
+			} catch ( IOException e ) {
+				if ( App.logger != null ) {
+					App.logger.debug( "Unable to list module jars in " + modulesDirectory, e );
+				}
+			}
+		}
+		return jars;
+	}
+
+	// ============ Persistence ============
+
+	/**
+	 * Identify the inputs of the catalog: the JDK, the runtime jar and the module
+	 * jars, by path, size and modification time.
+	 */
+	private static String fingerprint( Path runtimeJar, List<Path> moduleJars ) {
+		StringBuilder fingerprint = new StringBuilder();
+		fingerprint.append( Runtime.version() ).append( '|' ).append( System.getProperty( "java.home" ) );
+		List<Path> jars = new ArrayList<>();
+		if ( runtimeJar != null ) {
+			jars.add( runtimeJar );
+		}
+		jars.addAll( moduleJars );
+		for ( Path jar : jars ) {
+			fingerprint.append( '|' ).append( jar );
+			try {
+				if ( Files.isRegularFile( jar ) ) {
+					fingerprint.append( ':' ).append( Files.size( jar ) ).append( ':' ).append( Files.getLastModifiedTime( jar ).toMillis() );
+				}
+			} catch ( IOException e ) {
+				// The jar is read again when the catalog is built
+			}
+		}
+		return fingerprint.toString();
+	}
+
+	private static Path getCacheFilePath( String fingerprint ) {
+		try {
+			return BoxRuntime.getInstance().getRuntimeHome().resolve( "java-types-" + sha256( fingerprint ).substring( 0, 16 ) + ".json.gz" );
+		} catch ( Exception e ) {
+			return null;
+		}
+	}
+
+	private static Table readCache( Path cacheFile, String fingerprint ) {
+		if ( !Files.exists( cacheFile ) ) {
+			return null;
+		}
+
+		try ( Reader reader = new InputStreamReader( new GZIPInputStream( Files.newInputStream( cacheFile ) ), StandardCharsets.UTF_8 ) ) {
+			JsonObject root = JsonParser.parseReader( reader ).getAsJsonObject();
+			if ( !root.has( "fingerprint" ) || !fingerprint.equals( root.get( "fingerprint" ).getAsString() ) ) {
+				return null;
+			}
+
+			Map<String, List<String>> classesByPackage = new TreeMap<>();
+			for ( Map.Entry<String, JsonElement> entry : root.getAsJsonObject( "packages" ).entrySet() ) {
+				List<String> classes = new ArrayList<>();
+				for ( JsonElement className : entry.getValue().getAsJsonArray() ) {
+					classes.add( className.getAsString() );
+				}
+				classesByPackage.put( entry.getKey(), classes );
+			}
+			return Table.of( classesByPackage, fingerprint );
+		} catch ( Exception e ) {
+			if ( App.logger != null ) {
+				App.logger.debug( "Ignoring unreadable Java type catalog cache " + cacheFile, e );
+			}
+			return null;
+		}
+	}
+
+	private static void writeCache( Path cacheFile, String fingerprint, Map<String, Set<String>> classesByPackage ) {
+		JsonObject	root		= new JsonObject();
+		JsonObject	packages	= new JsonObject();
+		root.addProperty( "fingerprint", fingerprint );
+		classesByPackage.forEach( ( packageName, classes ) -> {
+			JsonArray array = new JsonArray();
+			classes.forEach( array::add );
+			packages.add( packageName, array );
+		} );
+		root.add( "packages", packages );
+
+		try {
+			Files.createDirectories( cacheFile.getParent() );
+			try ( Writer writer = new OutputStreamWriter( new GZIPOutputStream( Files.newOutputStream( cacheFile ) ), StandardCharsets.UTF_8 ) ) {
+				writer.write( root.toString() );
+			}
+		} catch ( IOException e ) {
+			if ( App.logger != null ) {
+				App.logger.warn( "Failed to save Java type catalog cache: " + e.getMessage(), e );
+			}
+		}
+	}
+
+	private static String sha256( String input ) {
+		try {
+			MessageDigest	digest		= MessageDigest.getInstance( "SHA-256" );
+			byte[]			hashBytes	= digest.digest( input.getBytes( StandardCharsets.UTF_8 ) );
+			StringBuilder	hexString	= new StringBuilder();
+			for ( byte b : hashBytes ) {
+				hexString.append( String.format( "%02x", b ) );
+			}
+			return hexString.toString();
+		} catch ( NoSuchAlgorithmException e ) {
+			throw new RuntimeException( e );
+		}
+	}
+}
@@ -11,10 +11,14 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
@@ -33,6 +37,7 @@ import ortus.boxlang.compiler.parser.Parser;
 import ortus.boxlang.compiler.parser.ParsingResult;
 import ortus.boxlang.lsp.App;
 import ortus.boxlang.lsp.workspace.MappingConfig;
+import ortus.boxlang.lsp.workspace.index.DocumentationStore.DocumentationRef;
 import ortus.boxlang.runtime.BoxRuntime;
 
 /**
@@ -60,6 +65,16 @@ public class ProjectIndex {
 	private boolean										cacheCorrupted			= false;
 
 	private final InheritanceGraph						inheritanceGraph		= new InheritanceGraph();
+	private final SymbolNameIndex						symbolNames				= new SymbolNameIndex();
+
+	// Shared strings and out-of-line documentation, see compact()
+	private final SymbolInterner						interner				= new SymbolInterner();
+	private final DocumentationStore					documentation			= new DocumentationStore();
+
+	// Implementation map, see findImplementingClasses() and findMethodImplementations()
+	private final Map<String, TypeImplementations>		implementationsByType	= new ConcurrentHashMap<>();
+	private final AtomicLong							implementationsVersion	= new AtomicLong( 0 );
+
 	private final Gson									gson;
 	private Path										workspaceRoot;
 	private Path										cacheFilePath;
@@ -108,6 +123,7 @@ public class ProjectIndex {
 		this.mappingConfig	= mappingConfig;
 		this.cacheFilePath	= getDefaultCacheFilePath( workspaceRoot );
 		loadCache();
+		catalogJavaTypes( mappingConfig );
 
 		// Index external directories declared in the MappingConfig so that
 		// virtual FQNs for those files are available immediately.
@@ -129,6 +145,19 @@ public class ProjectIndex {
 		this.mappingConfig	= mappingConfig;
 		this.cacheFilePath	= getDefaultCacheFilePath( workspaceRoot );
 		clear();
+		catalogJavaTypes( mappingConfig );
+	}
+
+	/**
+	 * Start cataloguing the Java types importable with this configuration, and
+	 * indexing the members of the classes in its jars, in the background, so the
+	 * first import or member completion does not have to wait for it.
+	 */
+	private void catalogJavaTypes( MappingConfig mappingConfig ) {
+		List<Path>	classPaths			= mappingConfig == null ? List.of() : mappingConfig.getClassPaths();
+		List<Path>	moduleDirectories	= mappingConfig == null ? List.of() : mappingConfig.getModulesDirectory();
+		JavaTypeCatalog.getInstance().update( moduleDirectories );
+		JavaClassIndex.getInstance().update( classPaths, moduleDirectories );
 	}
 
 	/**
@@ -230,9 +259,15 @@ public class ProjectIndex {
 				return;
 			}
 
+			// Read the file once: the parser and the documentation references work on the same text
+			String content = readSource( filePath );
+
 			// Parse the file
 			Parser			parser	= new Parser();
-			ParsingResult	result	= parser.parse( filePath.toFile() );
+			ParsingResult	result	= content == null
+			    ? parser.parse( filePath.toFile() )
+			    : parser.parse( content, Parser.detectFile( filePath.toFile() ),
+			        Parser.getFileExtension( fileUri.toString() ).orElse( "bxs" ).matches( "cfc|bx" ) );
 
 			if ( result == null || result.getRoot() == null ) {
 				return;
@@ -257,12 +292,18 @@ public class ProjectIndex {
 				fileModifiedTimes.put( fileUriStr, Instant.now() );
 			}
 
+			// Documentation is stored as a reference into the file, see DocumentationStore
+			int[] lineStarts = content == null ? null : DocumentationStore.lineStarts( content );
+
 			// Add classes
-			List<IndexedClass> classes = visitor.getIndexedClasses();
+			List<IndexedClass> classes = visitor.getIndexedClasses().stream()
+			    .map( c -> compact( c, documentationRef( c, c.documentation(), visitor, content, lineStarts ) ) )
+			    .toList();
 			classesByFileUri.put( fileUriStr, classes );
 			for ( IndexedClass indexedClass : classes ) {
 				classesByFQN.put( indexedClass.fullyQualifiedName(), indexedClass );
 				classesBySimpleName.computeIfAbsent( indexedClass.name().toLowerCase(), k -> new ArrayList<>() ).add( indexedClass );
+				symbolNames.add( indexedClass );
 
 				// Update inheritance graph
 				inheritanceGraph.addClassRelationship(
@@ -273,25 +314,31 @@ public class ProjectIndex {
 			}
 
 			// Add methods
-			List<IndexedMethod> methods = visitor.getIndexedMethods();
+			List<IndexedMethod> methods = visitor.getIndexedMethods().stream()
+			    .map( m -> compact( m, documentationRef( m, m.documentation(), visitor, content, lineStarts ) ) )
+			    .toList();
 			methodsByFileUri.put( fileUriStr, methods );
 			for ( IndexedMethod indexedMethod : methods ) {
 				methodsByKey.put( indexedMethod.getKey(), indexedMethod );
 				methodsByName.computeIfAbsent( indexedMethod.name().toLowerCase(), k -> new ArrayList<>() ).add( indexedMethod );
+				symbolNames.add( indexedMethod );
 			}
 
 			// Add properties
-			List<IndexedProperty> properties = visitor.getIndexedProperties();
+			List<IndexedProperty> properties = visitor.getIndexedProperties().stream().map( this::compact ).toList();
 			propertiesByFileUri.put( fileUriStr, properties );
 			for ( IndexedProperty indexedProperty : properties ) {
 				String key = indexedProperty.containingClass().toLowerCase() + "." + indexedProperty.name().toLowerCase();
 				propertiesByKey.put( key, indexedProperty );
+				symbolNames.add( indexedProperty );
 				if ( indexedProperty.containingClass() != null ) {
 					propertiesByClassName.computeIfAbsent( indexedProperty.containingClass().toLowerCase(), k -> new ArrayList<>() )
 					    .add( indexedProperty );
 				}
 			}
 
+			classes.forEach( this::invalidateImplementations );
+
 		} catch ( Exception e ) {
 			if ( App.logger != null ) {
 				App.logger.error( "Failed to index file: " + fileUri, e );
@@ -314,12 +361,15 @@ public class ProjectIndex {
 		List<IndexedClass> oldClasses = classesByFileUri.remove( fileUriStr );
 		if ( oldClasses != null ) {
 			for ( IndexedClass oldClass : oldClasses ) {
+				invalidateImplementations( oldClass );
 				classesByFQN.remove( oldClass.fullyQualifiedName() );
 				List<IndexedClass> byName = classesBySimpleName.get( oldClass.name().toLowerCase() );
 				if ( byName != null ) {
 					byName.removeIf( c -> c.fileUri() != null && c.fileUri().equals( fileUriStr ) );
 				}
 				inheritanceGraph.removeClass( oldClass.fullyQualifiedName() );
+				symbolNames.remove( oldClass );
+				documentation.remove( documentationKey( oldClass ) );
 			}
 		}
 
@@ -328,6 +378,8 @@ public class ProjectIndex {
 		if ( oldMethods != null ) {
 			for ( IndexedMethod oldMethod : oldMethods ) {
 				methodsByKey.remove( oldMethod.getKey() );
+				symbolNames.remove( oldMethod );
+				documentation.remove( documentationKey( oldMethod ) );
 				List<IndexedMethod> byName = methodsByName.get( oldMethod.name().toLowerCase() );
 				if ( byName != null ) {
 					byName.removeIf( m -> m.fileUri() != null && m.fileUri().equals( fileUriStr ) );
@@ -341,6 +393,7 @@ public class ProjectIndex {
 			for ( IndexedProperty oldProperty : oldProperties ) {
 				String key = oldProperty.containingClass().toLowerCase() + "." + oldProperty.name().toLowerCase();
 				propertiesByKey.remove( key );
+				symbolNames.remove( oldProperty );
 				if ( oldProperty.containingClass() != null ) {
 					List<IndexedProperty> byClass = propertiesByClassName.get( oldProperty.containingClass().toLowerCase() );
 					if ( byClass != null ) {
@@ -746,37 +799,132 @@ public class ProjectIndex {
 	}
 
 	/**
-	 * Search for symbols matching a query string.
+	 * Search for symbols matching a query string. Answered from the trigram
+	 * index kept by the symbol-name index, so the cost follows the number of
+	 * matches rather than the number of indexed symbols.
 	 *
-	 * @param query The search query (matches names containing this string)
+	 * @param query The search query (matches names, or class FQNs, containing this string)
 	 *
 	 * @return List of matching symbols (classes, methods, properties)
 	 */
-	public List<Object> searchSymbols( String query ) {
+	public List<IndexedSymbol> searchSymbols( String query ) {
 		if ( query == null || query.isEmpty() ) {
 			return new ArrayList<>();
 		}
 
-		String			lowerQuery	= query.toLowerCase();
-		List<Object>	results		= new ArrayList<>();
+		return symbolNames.findContaining( query );
+	}
+
+	/**
+	 * Get the classes implementing an interface, or extending a class.
+	 * Answered from the implementation map, which is filled on first use per
+	 * type and invalidated only when a class related to the type changes.
+	 *
+	 * @param type The interface or class
+	 *
+	 * @return The implementing or extending classes
+	 */
+	public List<IndexedClass> findImplementingClasses( IndexedClass type ) {
+		return new ArrayList<>( implementationsOf( type ).implementors() );
+	}
+
+	/**
+	 * Get the implementations of a method declared by an interface or class,
+	 * i.e. the methods of that name in its implementing or extending classes.
+	 *
+	 * @param type       The interface or class declaring the method
+	 * @param methodName The method name (case-insensitive)
+	 *
+	 * @return The implementing methods
+	 */
+	public List<IndexedMethod> findMethodImplementations( IndexedClass type, String methodName ) {
+		if ( methodName == null || methodName.isEmpty() ) {
+			return new ArrayList<>();
+		}
+
+		TypeImplementations implementations = implementationsOf( type );
+		return new ArrayList<>( implementations.methodsByName().computeIfAbsent( methodName.toLowerCase(), name -> {
+			List<IndexedMethod> methods = new ArrayList<>();
+			for ( IndexedClass implementor : implementations.implementors() ) {
+				IndexedMethod method = methodsByKey.get( ( implementor.fullyQualifiedName() + "." + name ).toLowerCase() );
+				if ( method == null ) {
+					method = methodsByKey.get( ( implementor.name() + "." + name ).toLowerCase() );
+				}
+				if ( method != null ) {
+					methods.add( method );
+				}
+			}
+			return List.copyOf( methods );
+		} ) );
+	}
+
+	/**
+	 * Get the symbol-name index used for ranked workspace symbol search.
+	 *
+	 * @return The symbol-name index
+	 */
+	public SymbolNameIndex getSymbolNameIndex() {
+		return symbolNames;
+	}
+
+	/**
+	 * Get the documentation of a class. Indexed classes keep their
+	 * documentation outside the record, so use this rather than
+	 * {@link IndexedClass#documentation()}.
+	 *
+	 * @param indexedClass The class
+	 *
+	 * @return The documentation, or null if the class has none
+	 */
+	public String getDocumentation( IndexedClass indexedClass ) {
+		if ( indexedClass.documentation() != null ) {
+			return indexedClass.documentation();
+		}
+		return documentation.load( new DocumentationKey( true, indexedClass.fileUri(), indexedClass.fullyQualifiedName() ) );
+	}
+
+	/**
+	 * Get the documentation of a method. Indexed methods keep their
+	 * documentation outside the record, so use this rather than
+	 * {@link IndexedMethod#documentation()}.
+	 *
+	 * @param indexedMethod The method
+	 *
+	 * @return The documentation, or null if the method has none
+	 */
+	public String getDocumentation( IndexedMethod indexedMethod ) {
+		if ( indexedMethod.documentation() != null ) {
+			return indexedMethod.documentation();
+		}
+		return documentation.load( new DocumentationKey( false, indexedMethod.fileUri(), indexedMethod.name() ) );
+	}
 
-		// Search classes
-		classesByFQN.values().stream()
-		    .filter( c -> c.name().toLowerCase().contains( lowerQuery ) ||
-		        c.fullyQualifiedName().toLowerCase().contains( lowerQuery ) )
-		    .forEach( results::add );
+	/**
+	 * @return the store holding documentation references for indexed symbols
+	 */
+	public DocumentationStore getDocumentationStore() {
+		return documentation;
+	}
 
-		// Search methods
-		methodsByKey.values().stream()
-		    .filter( m -> m.name().toLowerCase().contains( lowerQuery ) )
-		    .forEach( results::add );
+	/**
+	 * @return the number of indexed files
+	 */
+	public int getIndexedFileCount() {
+		return fileModifiedTimes.size();
+	}
 
-		// Search properties
-		propertiesByKey.values().stream()
-		    .filter( p -> p.name().toLowerCase().contains( lowerQuery ) )
-		    .forEach( results::add );
+	/**
+	 * @return the number of indexed classes and interfaces
+	 */
+	public int getClassCount() {
+		return classesByFQN.size();
+	}
 
-		return results;
+	/**
+	 * @return the number of indexed methods and standalone functions
+	 */
+	public int getMethodCount() {
+		return methodsByKey.size();
 	}
 
 	/**
@@ -878,22 +1026,24 @@ public class ProjectIndex {
 			return new ArrayList<>();
 		}
 
-		// Find methods with the same name in descendant classes
-		String				lowerMethodName	= methodName.toLowerCase();
-		List<IndexedMethod>	overrides		= new ArrayList<>();
+		// Group the methods with this name by class once, then pick the descendants' ones
+		List<IndexedMethod> methods = methodsByName.get( methodName.toLowerCase() );
+		if ( methods == null || methods.isEmpty() ) {
+			return new ArrayList<>();
+		}
 
-		for ( String descendant : descendants ) {
-			// Look for methods in this descendant class that match the method name
-			List<IndexedMethod> methods = methodsByName.get( lowerMethodName );
-			if ( methods != null ) {
-				for ( IndexedMethod method : methods ) {
-					if ( method.containingClass() != null && method.containingClass().equals( descendant ) ) {
-						overrides.add( method );
-					}
-				}
+		Map<String, List<IndexedMethod>> methodsByClass = new HashMap<>();
+		for ( IndexedMethod method : methods ) {
+			if ( method.containingClass() != null ) {
+				methodsByClass.computeIfAbsent( method.containingClass(), k -> new ArrayList<>() ).add( method );
 			}
 		}
 
+		List<IndexedMethod> overrides = new ArrayList<>();
+		for ( String descendant : descendants ) {
+			overrides.addAll( methodsByClass.getOrDefault( descendant, List.of() ) );
+		}
+
 		return overrides;
 	}
 
@@ -1045,6 +1195,11 @@ public class ProjectIndex {
 		methodsByFileUri.clear();
 		propertiesByFileUri.clear();
 		inheritanceGraph.clear();
+		symbolNames.clear();
+		documentation.clear();
+		implementationsVersion.incrementAndGet();
+		implementationsByType.clear();
+		interner.clear();
 		fileModifiedTimes.clear();
 		staleFiles.clear();
 		cacheCorrupted = false;
@@ -1096,8 +1251,10 @@ public class ProjectIndex {
 						if ( indexedClass == null ) {
 							continue;
 						}
+						indexedClass = compact( indexedClass, inlineDocumentation( true, indexedClass.documentation() ) );
 						classesByFQN.put( indexedClass.fullyQualifiedName(), indexedClass );
 						classesBySimpleName.computeIfAbsent( indexedClass.name().toLowerCase(), k -> new ArrayList<>() ).add( indexedClass );
+						symbolNames.add( indexedClass );
 						if ( indexedClass.fileUri() != null ) {
 							classesByFileUri.computeIfAbsent( indexedClass.fileUri(), k -> new ArrayList<>() ).add( indexedClass );
 						}
@@ -1123,8 +1280,10 @@ public class ProjectIndex {
 						if ( indexedMethod == null ) {
 							continue;
 						}
+						indexedMethod = compact( indexedMethod, inlineDocumentation( false, indexedMethod.documentation() ) );
 						methodsByKey.put( indexedMethod.getKey(), indexedMethod );
 						methodsByName.computeIfAbsent( indexedMethod.name().toLowerCase(), k -> new ArrayList<>() ).add( indexedMethod );
+						symbolNames.add( indexedMethod );
 						if ( indexedMethod.fileUri() != null ) {
 							methodsByFileUri.computeIfAbsent( indexedMethod.fileUri(), k -> new ArrayList<>() ).add( indexedMethod );
 						}
@@ -1145,8 +1304,10 @@ public class ProjectIndex {
 						if ( indexedProperty == null ) {
 							continue;
 						}
+						indexedProperty = compact( indexedProperty );
 						String key = indexedProperty.containingClass().toLowerCase() + "." + indexedProperty.name().toLowerCase();
 						propertiesByKey.put( key, indexedProperty );
+						symbolNames.add( indexedProperty );
 						if ( indexedProperty.containingClass() != null ) {
 							propertiesByClassName.computeIfAbsent( indexedProperty.containingClass().toLowerCase(), k -> new ArrayList<>() )
 							    .add( indexedProperty );
@@ -1162,6 +1323,25 @@ public class ProjectIndex {
 				}
 			}
 
+			// Load documentation references
+			if ( cacheObject.has( "documentation" ) ) {
+				for ( JsonElement docElement : cacheObject.getAsJsonArray( "documentation" ) ) {
+					try {
+						JsonObject			docObject	= docElement.getAsJsonObject();
+						DocumentationRef	ref			= gson.fromJson( docObject, DocumentationRef.class );
+						String				symbol		= docObject.get( "symbol" ).getAsString();
+						documentation.put(
+						    new DocumentationKey( ref.isClass(), interner.intern( ref.fileUri() ), interner.intern( symbol ) ),
+						    ref
+						);
+					} catch ( Exception e ) {
+						if ( App.logger != null ) {
+							App.logger.warn( "Failed to parse documentation reference from cache: " + e.getMessage() );
+						}
+					}
+				}
+			}
+
 			// Validate cache freshness for all loaded files
 			validateCacheFreshness();
 
@@ -1265,14 +1445,14 @@ public class ProjectIndex {
 			// Save classes
 			JsonArray classesArray = new JsonArray();
 			for ( IndexedClass indexedClass : classesByFQN.values() ) {
-				classesArray.add( gson.toJsonTree( indexedClass ) );
+				classesArray.add( gson.toJsonTree( withDocumentation( indexedClass ) ) );
 			}
 			cacheObject.add( "classes", classesArray );
 
 			// Save methods
 			JsonArray methodsArray = new JsonArray();
 			for ( IndexedMethod indexedMethod : methodsByKey.values() ) {
-				methodsArray.add( gson.toJsonTree( indexedMethod ) );
+				methodsArray.add( gson.toJsonTree( withDocumentation( indexedMethod ) ) );
 			}
 			cacheObject.add( "methods", methodsArray );
 
@@ -1283,6 +1463,16 @@ public class ProjectIndex {
 			}
 			cacheObject.add( "properties", propertiesArray );
 
+			// Save documentation references
+			JsonArray documentationArray = new JsonArray();
+			for ( IndexedClass indexedClass : classesByFQN.values() ) {
+				addDocumentationRef( documentationArray, documentationKey( indexedClass ), indexedClass.fullyQualifiedName() );
+			}
+			for ( IndexedMethod indexedMethod : methodsByKey.values() ) {
+				addDocumentationRef( documentationArray, documentationKey( indexedMethod ), indexedMethod.name() );
+			}
+			cacheObject.add( "documentation", documentationArray );
+
 			try ( FileWriter writer = new FileWriter( cacheFilePath.toFile() ) ) {
 				gson.toJson( cacheObject, writer );
 			}
@@ -1308,6 +1498,212 @@ public class ProjectIndex {
 		return workspaceRoot;
 	}
 
+	// ============ Implementation map ============
+
+	/**
+	 * The implementors of one type, with their methods grouped by lowercase
+	 * name as they are looked up.
+	 */
+	private record TypeImplementations( List<IndexedClass> implementors, Map<String, List<IndexedMethod>> methodsByName ) {
+	}
+
+	private TypeImplementations implementationsOf( IndexedClass type ) {
+		String				key		= type.fullyQualifiedName().toLowerCase();
+		TypeImplementations	cached	= implementationsByType.get( key );
+		if ( cached != null ) {
+			return cached;
+		}
+
+		long				version			= implementationsVersion.get();
+		List<IndexedClass>	implementors	= type.isInterface()
+		    ? findClassesImplementing( type.fullyQualifiedName() )
+		    : findClassesExtending( type.fullyQualifiedName() );
+		TypeImplementations	computed		= new TypeImplementations( List.copyOf( implementors ), new ConcurrentHashMap<>() );
+
+		// Only keep the result if no class changed while it was computed
+		if ( implementationsVersion.get() == version ) {
+			TypeImplementations existing = implementationsByType.putIfAbsent( key, computed );
+			return existing != null ? existing : computed;
+		}
+		return computed;
+	}
+
+	/**
+	 * Drop the implementation map entries a class contributes to: those of the
+	 * types it extends (directly or through its ancestors) and implements.
+	 * Types are matched by simple name, mirroring the name fallbacks of
+	 * {@link #findClassesExtending} and {@link #findClassesImplementing}.
+	 */
+	private void invalidateImplementations( IndexedClass indexedClass ) {
+		implementationsVersion.incrementAndGet();
+		if ( implementationsByType.isEmpty() ) {
+			return;
+		}
+
+		Set<String> affected = new HashSet<>();
+		affected.add( simpleNameOf( indexedClass.fullyQualifiedName() ) );
+		if ( indexedClass.extendsClass() != null ) {
+			affected.add( simpleNameOf( indexedClass.extendsClass() ) );
+		}
+		if ( indexedClass.implementsInterfaces() != null ) {
+			indexedClass.implementsInterfaces().forEach( iface -> affected.add( simpleNameOf( iface ) ) );
+		}
+		inheritanceGraph.getAncestors( indexedClass.fullyQualifiedName() ).forEach( ancestor -> affected.add( simpleNameOf( ancestor ) ) );
+
+		implementationsByType.keySet().removeIf( key -> affected.contains( simpleNameOf( key ) ) );
+	}
+
+	private static String simpleNameOf( String name ) {
+		return name.substring( name.lastIndexOf( '.' ) + 1 ).toLowerCase();
+	}
+
+	// ============ Compact storage ============
+
+	/**
+	 * Documentation is keyed by the symbol's file and its FQN (classes) or name
+	 * (methods, which are unique within a file). Stored keys hold the interned
+	 * strings the symbols already share.
+	 */
+	private record DocumentationKey( boolean isClass, String fileUri, String symbol ) {
+	}
+
+	private DocumentationKey documentationKey( IndexedClass indexedClass ) {
+		return new DocumentationKey( true, interner.intern( indexedClass.fileUri() ), interner.intern( indexedClass.fullyQualifiedName() ) );
+	}
+
+	private DocumentationKey documentationKey( IndexedMethod indexedMethod ) {
+		return new DocumentationKey( false, interner.intern( indexedMethod.fileUri() ), interner.intern( indexedMethod.name() ) );
+	}
+
+	/**
+	 * @return The content of a source file, or null if it cannot be read. The
+	 *         parser then reads the file itself and documentation is kept inline.
+	 */
+	private static String readSource( Path filePath ) {
+		try {
+			return DocumentationStore.readSource( filePath );
+		} catch ( IOException e ) {
+			if ( App.logger != null ) {
+				App.logger.debug( "Unable to read " + filePath + " for indexing", e );
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Reference a symbol's documentation by the position of its doc comment.
+	 */
+	private static DocumentationRef documentationRef( Object symbol, String doc, ProjectIndexVisitor visitor, String content, int[] lineStarts ) {
+		if ( doc == null ) {
+			return null;
+		}
+		boolean	isClass	= symbol instanceof IndexedClass;
+		String	fileUri	= isClass ? ( ( IndexedClass ) symbol ).fileUri() : ( ( IndexedMethod ) symbol ).fileUri();
+		return DocumentationStore.reference( isClass, fileUri, content, lineStarts, visitor.getDocCommentPosition( symbol ), doc );
+	}
+
+	private static DocumentationRef inlineDocumentation( boolean isClass, String doc ) {
+		return doc == null ? null : DocumentationRef.inline( isClass, doc );
+	}
+
+	/**
+	 * Prepare a class for storage: share its strings through the interner and
+	 * move its documentation out of the record.
+	 */
+	private IndexedClass compact( IndexedClass indexedClass, DocumentationRef docRef ) {
+		if ( docRef != null ) {
+			documentation.put( documentationKey( indexedClass ), docRef );
+		}
+		return new IndexedClass(
+		    interner.intern( indexedClass.name() ),
+		    interner.intern( indexedClass.fullyQualifiedName() ),
+		    interner.intern( indexedClass.fileUri() ),
+		    indexedClass.location(),
+		    interner.intern( indexedClass.extendsClass() ),
+		    interner.internAll( indexedClass.implementsInterfaces() ),
+		    interner.internAll( indexedClass.modifiers() ),
+		    indexedClass.isInterface(),
+		    null,
+		    indexedClass.lastModified()
+		);
+	}
+
+	/**
+	 * Prepare a method for storage: share its strings through the interner and
+	 * move its documentation out of the record.
+	 */
+	private IndexedMethod compact( IndexedMethod indexedMethod, DocumentationRef docRef ) {
+		if ( docRef != null ) {
+			documentation.put( documentationKey( indexedMethod ), docRef );
+		}
+
+		List<IndexedParameter> parameters = indexedMethod.parameters();
+		if ( parameters != null ) {
+			parameters = parameters.stream()
+			    .map( p -> new IndexedParameter( interner.intern( p.name() ), interner.intern( p.typeHint() ), p.required(), p.defaultValue() ) )
+			    .toList();
+		}
+
+		return new IndexedMethod(
+		    interner.intern( indexedMethod.name() ),
+		    interner.intern( indexedMethod.containingClass() ),
+		    interner.intern( indexedMethod.fileUri() ),
+		    indexedMethod.location(),
+		    interner.intern( indexedMethod.returnTypeHint() ),
+		    parameters,
+		    interner.intern( indexedMethod.accessModifier() ),
+		    interner.internAll( indexedMethod.modifiers() ),
+		    null
+		);
+	}
+
+	/**
+	 * Prepare a property for storage by sharing its strings through the interner.
+	 */
+	private IndexedProperty compact( IndexedProperty indexedProperty ) {
+		return new IndexedProperty(
+		    interner.intern( indexedProperty.name() ),
+		    interner.intern( indexedProperty.containingClass() ),
+		    interner.intern( indexedProperty.fileUri() ),
+		    indexedProperty.location(),
+		    interner.intern( indexedProperty.typeHint() ),
+		    indexedProperty.defaultValue(),
+		    indexedProperty.hasGetter(),
+		    indexedProperty.hasSetter()
+		);
+	}
+
+	/**
+	 * Re-attach inline documentation, used when writing the cache. Documentation
+	 * referenced by position is written separately.
+	 */
+	private IndexedClass withDocumentation( IndexedClass indexedClass ) {
+		DocumentationRef	ref	= documentation.getRef( documentationKey( indexedClass ) );
+		String				doc	= ref != null && ref.isInline() ? ref.text() : null;
+		return doc == null ? indexedClass
+		    : new IndexedClass( indexedClass.name(), indexedClass.fullyQualifiedName(), indexedClass.fileUri(), indexedClass.location(),
+		        indexedClass.extendsClass(), indexedClass.implementsInterfaces(), indexedClass.modifiers(), indexedClass.isInterface(), doc,
+		        indexedClass.lastModified() );
+	}
+
+	private IndexedMethod withDocumentation( IndexedMethod indexedMethod ) {
+		DocumentationRef	ref	= documentation.getRef( documentationKey( indexedMethod ) );
+		String				doc	= ref != null && ref.isInline() ? ref.text() : null;
+		return doc == null ? indexedMethod
+		    : new IndexedMethod( indexedMethod.name(), indexedMethod.containingClass(), indexedMethod.fileUri(), indexedMethod.location(),
+		        indexedMethod.returnTypeHint(), indexedMethod.parameters(), indexedMethod.accessModifier(), indexedMethod.modifiers(), doc );
+	}
+
+	private void addDocumentationRef( JsonArray documentationArray, DocumentationKey key, String symbol ) {
+		DocumentationRef ref = documentation.getRef( key );
+		if ( ref == null || ref.isInline() ) {
+			return;
+		}
+		JsonObject docObject = gson.toJsonTree( ref ).getAsJsonObject();
+		docObject.addProperty( "symbol", symbol );
+		documentationArray.add( docObject );
+	}
+
 	private static String sha256( String input ) {
 		try {
 			MessageDigest	digest		= MessageDigest.getInstance( "SHA-256" );
@@ -6,7 +6,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.lsp4j.Range;
 
@@ -14,6 +16,7 @@ import ortus.boxlang.compiler.ast.BoxClass;
 import ortus.boxlang.compiler.ast.BoxInterface;
 import ortus.boxlang.compiler.ast.BoxNode;
 import ortus.boxlang.compiler.ast.IBoxDocumentableNode;
+import ortus.boxlang.compiler.ast.Position;
 import ortus.boxlang.compiler.ast.comment.BoxDocComment;
 import ortus.boxlang.compiler.ast.expression.BoxArrayLiteral;
 import ortus.boxlang.compiler.ast.expression.BoxFQN;
@@ -36,6 +39,7 @@ public class ProjectIndexVisitor extends VoidBoxVisitor {
 	private final List<IndexedClass>	indexedClasses		= new ArrayList<>();
 	private final List<IndexedMethod>	indexedMethods		= new ArrayList<>();
 	private final List<IndexedProperty>	indexedProperties	= new ArrayList<>();
+	private final Map<Object, Position>	docCommentPositions	= new IdentityHashMap<>();
 	private final URI					fileUri;
 	private final Instant				lastModified;
 	private final String				fullyQualifiedName;
@@ -71,6 +75,18 @@ public class ProjectIndexVisitor extends VoidBoxVisitor {
 		return indexedProperties;
 	}
 
+	/**
+	 * Get the source position of the doc comment a class or method's
+	 * documentation was extracted from.
+	 *
+	 * @param symbol An {@link IndexedClass} or {@link IndexedMethod} produced by this visitor
+	 *
+	 * @return The doc comment position, or null if the symbol has no documentation
+	 */
+	public Position getDocCommentPosition( Object symbol ) {
+		return docCommentPositions.get( symbol );
+	}
+
 	@Override
 	public void visit( BoxClass node ) {
 		String				className				= getClassName();
@@ -95,6 +111,7 @@ public class ProjectIndexVisitor extends VoidBoxVisitor {
 		);
 
 		indexedClasses.add( indexedClass );
+		recordDocCommentPosition( indexedClass, node );
 		currentClassName = fullyQualifiedName;	// Use FQN so methods/properties are associated correctly
 
 		visitChildren( node );
@@ -125,6 +142,7 @@ public class ProjectIndexVisitor extends VoidBoxVisitor {
 		);
 
 		indexedClasses.add( indexedInterface );
+		recordDocCommentPosition( indexedInterface, node );
 		currentClassName = fullyQualifiedName;	// Use FQN so methods/properties are associated correctly
 
 		visitChildren( node );
@@ -156,6 +174,7 @@ public class ProjectIndexVisitor extends VoidBoxVisitor {
 		);
 
 		indexedMethods.add( indexedMethod );
+		recordDocCommentPosition( indexedMethod, node );
 
 		// Don't recurse into nested functions for now
 	}
@@ -183,6 +202,14 @@ public class ProjectIndexVisitor extends VoidBoxVisitor {
 		indexedProperties.add( indexedProperty );
 	}
 
+	private void recordDocCommentPosition( Object symbol, BoxNode node ) {
+		if ( node instanceof IBoxDocumentableNode documentableNode
+		    && documentableNode.getDocComment() != null
+		    && documentableNode.getDocComment().getPosition() != null ) {
+			docCommentPositions.put( symbol, documentableNode.getDocComment().getPosition() );
+		}
+	}
+
 	private void visitChildren( BoxNode node ) {
 		for ( BoxNode child : node.getChildren() ) {
 			child.accept( this );
@@ -0,0 +1,54 @@
+package ortus.boxlang.lsp.workspace.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * String pool for the project index. File URIs, class names, type hints and
+ * modifiers repeat across thousands of indexed symbols (every method of a file
+ * carries the file's URI, every method of a class its class name), so the index
+ * keeps a single instance of each.
+ *
+ * The pool only holds its strings weakly: once no indexed symbol uses a
+ * string any more, e.g. because its file was removed, it is collected.
+ */
+public class SymbolInterner {
+
+	private volatile Interner<String> strings = Interners.newWeakInterner();
+
+	/**
+	 * Get the pooled instance of a string, adding it if needed.
+	 */
+	public String intern( String value ) {
+		return value == null ? null : strings.intern( value );
+	}
+
+	/**
+	 * Intern every string of a list. Returns an immutable list.
+	 */
+	public List<String> internAll( List<String> values ) {
+		if ( values == null ) {
+			return null;
+		}
+		if ( values.isEmpty() ) {
+			return List.of();
+		}
+
+		List<String> interned = new ArrayList<>( values.size() );
+		for ( String value : values ) {
+			interned.add( intern( value ) );
+		}
+		return interned.contains( null ) ? interned : List.copyOf( interned );
+	}
+
+	/**
+	 * Start a new pool. Strings handed out before are no longer shared with
+	 * the ones handed out after.
+	 */
+	public void clear() {
+		strings = Interners.newWeakInterner();
+	}
+}
@@ -0,0 +1,321 @@
+package ortus.boxlang.lsp.workspace.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+import ortus.boxlang.lsp.workspace.Cancellation;
+
+/**
+ * Name index over the classes, methods and properties of a {@link ProjectIndex},
+ * used to answer workspace/symbol without scanning every symbol.
+ *
+ * Names are kept in sorted maps so that a prefix is a range lookup. Besides the
+ * full name, each symbol is indexed by its camel-hump initials
+ * ({@code getUserName} -> {@code gun}) and by the tail of the name starting at
+ * every later hump ({@code userName}, {@code name}). Names, and the fully
+ * qualified names of classes, are also kept in a {@link TrigramIndex} for
+ * substring matches.
+ *
+ * Matches are ranked in tiers, each tier strictly above the next:
+ * <ul>
+ * <li>exact name</li>
+ * <li>name prefix</li>
+ * <li>camel-hump initials prefix</li>
+ * <li>hump segment prefix</li>
+ * <li>substring</li>
+ * </ul>
+ * Within a tier shorter names come first, then alphabetical order. Each tier is
+ * cut to the remaining result budget with a bounded heap, so results can be
+ * handed out tier by tier while the later tiers are still being searched.
+ *
+ * Writes are serialized; searches run lock-free against the concurrent maps.
+ */
+public class SymbolNameIndex {
+
+	private static final Comparator<Entry>			ENTRY_ORDER			= Comparator
+	    .comparingInt( ( Entry e ) -> e.lowerName.length() )
+	    .thenComparing( e -> e.lowerName )
+	    .thenComparingLong( e -> e.id );
+
+	private final Map<IndexedSymbol, Entry>			entriesBySymbol		= new ConcurrentHashMap<>();
+	private final NavigableSet<Entry>				entriesByLength		= new ConcurrentSkipListSet<>( ENTRY_ORDER );
+	private final NavigableMap<String, Set<Entry>>	entriesByName		= new ConcurrentSkipListMap<>();
+	private final NavigableMap<String, Set<Entry>>	entriesByInitials	= new ConcurrentSkipListMap<>();
+	private final NavigableMap<String, Set<Entry>>	entriesBySegment	= new ConcurrentSkipListMap<>();
+	private final TrigramIndex<Entry>				substrings			= new TrigramIndex<>();
+	private final AtomicLong						ids					= new AtomicLong( 0 );
+
+	/**
+	 * Add a symbol to the index. Adding a symbol that is already indexed
+	 * replaces it.
+	 */
+	public synchronized void add( IndexedSymbol symbol ) {
+		String name = symbol.name();
+		if ( name == null || name.isEmpty() ) {
+			return;
+		}
+
+		remove( symbol );
+
+		Entry entry = new Entry( ids.incrementAndGet(), symbol, name );
+		entriesBySymbol.put( symbol, entry );
+		entriesByLength.add( entry );
+		link( entriesByName, entry.lowerName, entry );
+		link( entriesByInitials, entry.initials, entry );
+		for ( String segment : entry.segments ) {
+			link( entriesBySegment, segment, entry );
+		}
+		substrings.add( entry, symbol instanceof IndexedClass indexedClass ? List.of( name, indexedClass.fullyQualifiedName() ) : List.of( name ) );
+	}
+
+	/**
+	 * Remove a symbol from the index. Does nothing if it is not indexed.
+	 */
+	public synchronized void remove( IndexedSymbol symbol ) {
+		Entry entry = entriesBySymbol.remove( symbol );
+		if ( entry == null ) {
+			return;
+		}
+
+		entriesByLength.remove( entry );
+		unlink( entriesByName, entry.lowerName, entry );
+		unlink( entriesByInitials, entry.initials, entry );
+		for ( String segment : entry.segments ) {
+			unlink( entriesBySegment, segment, entry );
+		}
+		substrings.remove( entry );
+	}
+
+	public synchronized void clear() {
+		entriesBySymbol.clear();
+		entriesByLength.clear();
+		entriesByName.clear();
+		entriesByInitials.clear();
+		entriesBySegment.clear();
+		substrings.clear();
+	}
+
+	public int size() {
+		return entriesBySymbol.size();
+	}
+
+	/**
+	 * Find the best matching symbols for a query.
+	 *
+	 * @param query The query, matched case-insensitively. An empty query matches every symbol.
+	 * @param limit The maximum number of symbols to return
+	 *
+	 * @return The matching symbols, best match first
+	 */
+	public List<IndexedSymbol> search( String query, int limit ) {
+		List<IndexedSymbol> results = new ArrayList<>();
+		search( query, limit, Cancellation.NONE, results::addAll );
+		return results;
+	}
+
+	/**
+	 * Find the best matching symbols for a query, handing them out tier by tier.
+	 * Concatenating every batch passed to {@code batches} gives the full ranked
+	 * result.
+	 *
+	 * @param query         The query, matched case-insensitively. An empty query matches every symbol.
+	 * @param limit         The maximum number of symbols to return in total
+	 * @param cancelChecker Checked between tiers
+	 * @param batches       Receives each non-empty batch of ranked symbols
+	 */
+	public void search( String query, int limit, CancelChecker cancelChecker, Consumer<List<IndexedSymbol>> batches ) {
+		String lowerQuery = query == null ? "" : query.toLowerCase();
+		if ( limit <= 0 ) {
+			return;
+		}
+
+		if ( lowerQuery.isEmpty() ) {
+			List<IndexedSymbol> batch = new ArrayList<>();
+			for ( Entry entry : entriesByLength ) {
+				if ( batch.size() >= limit ) {
+					break;
+				}
+				batch.add( entry.symbol );
+			}
+			if ( !batch.isEmpty() ) {
+				batches.accept( batch );
+			}
+			return;
+		}
+
+		Set<Entry>	seen		= new HashSet<>();
+		int			remaining	= limit;
+
+		List<Iterable<Entry>> tiers = List.of(
+		    entriesByName.getOrDefault( lowerQuery, Set.of() ),
+		    flatten( prefixRange( entriesByName, lowerQuery ) ),
+		    lowerQuery.length() > 1 ? flatten( prefixRange( entriesByInitials, lowerQuery ) ) : List.of(),
+		    flatten( prefixRange( entriesBySegment, lowerQuery ) ),
+		    () -> substrings.search( lowerQuery ).stream().filter( e -> e.lowerName.contains( lowerQuery ) ).iterator()
+		);
+
+		for ( Iterable<Entry> tier : tiers ) {
+			cancelChecker.checkCanceled();
+
+			List<Entry> best = topK( tier, remaining, seen );
+			if ( best.isEmpty() ) {
+				continue;
+			}
+
+			seen.addAll( best );
+			remaining -= best.size();
+			batches.accept( best.stream().map( e -> e.symbol ).toList() );
+
+			if ( remaining == 0 ) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Find every symbol whose name, or fully qualified name for classes,
+	 * contains the query. Classes come first, then methods, then properties.
+	 *
+	 * @param query The substring to look for, matched case-insensitively
+	 *
+	 * @return The matching symbols
+	 */
+	public List<IndexedSymbol> findContaining( String query ) {
+		List<IndexedSymbol> results = new ArrayList<>();
+		for ( Entry entry : substrings.search( query ) ) {
+			results.add( entry.symbol );
+		}
+		results.sort( Comparator.comparingInt( SymbolNameIndex::kindOrder ) );
+		return results;
+	}
+
+	private static int kindOrder( IndexedSymbol symbol ) {
+		return switch ( symbol ) {
+			case IndexedClass indexedClass -> 0;
+			case IndexedMethod indexedMethod -> 1;
+			case IndexedProperty indexedProperty -> 2;
+		};
+	}
+
+	/**
+	 * Split a name into camel-hump segments. Humps start at an upper case letter
+	 * following a lower case letter or digit, at the last capital of a run of
+	 * capitals followed by a lower case letter ({@code XMLParser} -> {@code XML},
+	 * {@code Parser}) and after {@code _}, {@code .} or {@code $}.
+	 *
+	 * @return The start offset of each segment
+	 */
+	static List<Integer> segmentStarts( String name ) {
+		List<Integer> starts = new ArrayList<>();
+		for ( int i = 0; i < name.length(); i++ ) {
+			char c = name.charAt( i );
+			if ( isSeparator( c ) ) {
+				continue;
+			}
+
+			if ( i == 0 || isSeparator( name.charAt( i - 1 ) ) ) {
+				starts.add( i );
+				continue;
+			}
+
+			char	previous	= name.charAt( i - 1 );
+			boolean	nextIsLower	= i + 1 < name.length() && Character.isLowerCase( name.charAt( i + 1 ) );
+			if ( Character.isUpperCase( c )
+			    && ( !Character.isUpperCase( previous ) || nextIsLower ) ) {
+				starts.add( i );
+			}
+		}
+		return starts;
+	}
+
+	private static boolean isSeparator( char c ) {
+		return c == '_' || c == '.' || c == '$';
+	}
+
+	private static List<Entry> topK( Iterable<Entry> candidates, int k, Set<Entry> seen ) {
+		PriorityQueue<Entry> heap = new PriorityQueue<>( ENTRY_ORDER.reversed() );
+		for ( Entry entry : candidates ) {
+			if ( seen.contains( entry ) ) {
+				continue;
+			}
+			if ( heap.size() < k ) {
+				heap.add( entry );
+			} else if ( ENTRY_ORDER.compare( entry, heap.peek() ) < 0 ) {
+				heap.poll();
+				heap.add( entry );
+			}
+		}
+
+		List<Entry> best = new ArrayList<>( heap );
+		best.sort( ENTRY_ORDER );
+		return best;
+	}
+
+	private static NavigableMap<String, Set<Entry>> prefixRange( NavigableMap<String, Set<Entry>> map, String prefix ) {
+		return map.subMap( prefix, true, prefix + Character.MAX_VALUE, false );
+	}
+
+	private static Iterable<Entry> flatten( NavigableMap<String, Set<Entry>> range ) {
+		return () -> range.values().stream().flatMap( Set::stream ).iterator();
+	}
+
+	private static void link( Map<String, Set<Entry>> map, String key, Entry entry ) {
+		map.computeIfAbsent( key, k -> ConcurrentHashMap.newKeySet() ).add( entry );
+	}
+
+	private static void unlink( Map<String, Set<Entry>> map, String key, Entry entry ) {
+		Set<Entry> entries = map.get( key );
+		if ( entries == null ) {
+			return;
+		}
+		entries.remove( entry );
+		if ( entries.isEmpty() ) {
+			map.remove( key );
+		}
+	}
+
+	/**
+	 * An indexed symbol with its precomputed keys. Compared by identity.
+	 */
+	private static final class Entry {
+
+		private final long			id;
+		private final IndexedSymbol	symbol;
+		private final String		lowerName;
+		private final String		initials;
+		private final List<String>	segments;
+
+		Entry( long id, IndexedSymbol symbol, String name ) {
+			this.id			= id;
+			this.symbol		= symbol;
+			this.lowerName	= name.toLowerCase();
+
+			List<Integer>	starts		= segmentStarts( name );
+			StringBuilder	initials	= new StringBuilder();
+			List<String>	segments	= new ArrayList<>();
+			for ( int i = 0; i < starts.size(); i++ ) {
+				int start = starts.get( i );
+				initials.append( Character.toLowerCase( name.charAt( start ) ) );
+				if ( i > 0 ) {
+					segments.add( name.substring( start ).toLowerCase() );
+				}
+			}
+			this.initials	= initials.length() > 0 ? initials.toString() : this.lowerName;
+			this.segments	= segments;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package ortus.boxlang.lsp.workspace.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Case-insensitive substring index. Every value is indexed under one or more
+ * keys (e.g. a symbol name and its fully qualified name), and every trigram of
+ * a key points back at the value.
+ *
+ * A query of three or more characters intersects the posting sets of its
+ * trigrams, starting from the smallest, and only verifies the surviving
+ * candidates with {@link String#contains}. Its cost follows the size of the
+ * rarest trigram's posting set rather than the size of the index. Queries of
+ * one or two characters have no trigram and scan the keys.
+ *
+ * Writes are serialized; searches run lock-free against the concurrent maps.
+ */
+public class TrigramIndex<T> {
+
+	private final Map<Long, Set<T>>		postings	= new ConcurrentHashMap<>();
+	private final Map<T, List<String>>	keysByValue	= new ConcurrentHashMap<>();
+
+	/**
+	 * Index a value under the given keys, replacing any keys it was indexed
+	 * under before.
+	 */
+	public synchronized void add( T value, Collection<String> keys ) {
+		remove( value );
+
+		List<String> normalized = new ArrayList<>( keys.size() );
+		for ( String key : keys ) {
+			if ( key != null && !key.isEmpty() ) {
+				normalized.add( key.toLowerCase() );
+			}
+		}
+		if ( normalized.isEmpty() ) {
+			return;
+		}
+
+		keysByValue.put( value, normalized );
+		for ( long trigram : trigrams( normalized ) ) {
+			postings.computeIfAbsent( trigram, k -> ConcurrentHashMap.newKeySet() ).add( value );
+		}
+	}
+
+	public synchronized void remove( T value ) {
+		List<String> keys = keysByValue.remove( value );
+		if ( keys == null ) {
+			return;
+		}
+
+		for ( long trigram : trigrams( keys ) ) {
+			Set<T> values = postings.get( trigram );
+			if ( values == null ) {
+				continue;
+			}
+			values.remove( value );
+			if ( values.isEmpty() ) {
+				postings.remove( trigram );
+			}
+		}
+	}
+
+	public synchronized void clear() {
+		postings.clear();
+		keysByValue.clear();
+	}
+
+	/**
+	 * Find every value with a key containing the query, ignoring case.
+	 *
+	 * @param query The substring to look for
+	 *
+	 * @return The matching values, in no particular order
+	 */
+	public List<T> search( String query ) {
+		List<T> results = new ArrayList<>();
+		if ( query == null || query.isEmpty() ) {
+			return results;
+		}
+
+		String lowerQuery = query.toLowerCase();
+
+		if ( lowerQuery.length() < 3 ) {
+			keysByValue.forEach( ( value, keys ) -> {
+				if ( anyContains( keys, lowerQuery ) ) {
+					results.add( value );
+				}
+			} );
+			return results;
+		}
+
+		List<Set<T>> sets = new ArrayList<>();
+		for ( long trigram : trigrams( List.of( lowerQuery ) ) ) {
+			Set<T> values = postings.get( trigram );
+			if ( values == null ) {
+				return results;
+			}
+			sets.add( values );
+		}
+		sets.sort( Comparator.comparingInt( Set::size ) );
+
+		Set<T>			smallest	= sets.getFirst();
+		List<Set<T>>	others		= sets.subList( 1, sets.size() );
+		for ( T candidate : smallest ) {
+			if ( !containedInAll( others, candidate ) ) {
+				continue;
+			}
+			List<String> keys = keysByValue.get( candidate );
+			if ( keys != null && anyContains( keys, lowerQuery ) ) {
+				results.add( candidate );
+			}
+		}
+		return results;
+	}
+
+	private static <T> boolean containedInAll( List<Set<T>> sets, T value ) {
+		for ( Set<T> set : sets ) {
+			if ( !set.contains( value ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean anyContains( List<String> keys, String lowerQuery ) {
+		for ( String key : keys ) {
+			if ( key.contains( lowerQuery ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The distinct trigrams of the given keys, each packed into a long.
+	 */
+	private static Set<Long> trigrams( List<String> keys ) {
+		Set<Long> trigrams = new LinkedHashSet<>();
+		for ( String key : keys ) {
+			for ( int i = 0; i + 3 <= key.length(); i++ ) {
+				trigrams.add( ( ( long ) key.charAt( i ) << 32 ) | ( ( long ) key.charAt( i + 1 ) << 16 ) | key.charAt( i + 2 ) );
+			}
+		}
+		return trigrams;
+	}
+}
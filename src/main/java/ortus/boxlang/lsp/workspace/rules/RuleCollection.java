@@ -3,6 +3,10 @@ package ortus.boxlang.lsp.workspace.rules;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+import ortus.boxlang.lsp.workspace.Cancellation;
+
 public class RuleCollection<T, U> {
 
 	private List<IRule<T, U>> rules = new ArrayList<IRule<T, U>>();
@@ -13,7 +17,17 @@ public class RuleCollection<T, U> {
 	}
 
 	public U execute( T facts, U result ) {
+		return execute( facts, result, Cancellation.NONE );
+	}
+
+	/**
+	 * Run the rules, checking for cancellation before each one so a superseded
+	 * request stops as soon as the current rule finishes.
+	 */
+	public U execute( T facts, U result, CancelChecker cancelChecker ) {
 		for ( IRule<T, U> rule : rules ) {
+			cancelChecker.checkCanceled();
+
 			if ( !rule.when( facts ) ) {
 				continue;
 			}
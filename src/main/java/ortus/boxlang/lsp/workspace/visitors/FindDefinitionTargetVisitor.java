@@ -1,6 +1,7 @@
 package ortus.boxlang.lsp.workspace.visitors;
 
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import ortus.boxlang.compiler.ast.BoxClass;
 import ortus.boxlang.compiler.ast.BoxInterface;
@@ -23,6 +24,7 @@ import ortus.boxlang.compiler.ast.statement.BoxProperty;
 import ortus.boxlang.compiler.ast.statement.BoxReturnType;
 import ortus.boxlang.compiler.ast.visitor.VoidBoxVisitor;
 import ortus.boxlang.lsp.workspace.BLASTTools;
+import ortus.boxlang.lsp.workspace.Cancellation;
 
 /**
  * Visitor that finds the AST node at a specific cursor position for go-to-definition.
@@ -31,13 +33,19 @@ import ortus.boxlang.lsp.workspace.BLASTTools;
  */
 public class FindDefinitionTargetVisitor extends VoidBoxVisitor {
 
-	private BoxNode			definitionTarget;
-	private final Position	cursorPosition;
-	private int				line;
-	private int				column;
+	private BoxNode				definitionTarget;
+	private final Position		cursorPosition;
+	private final CancelChecker	cancelChecker;
+	private int					line;
+	private int					column;
 
 	public FindDefinitionTargetVisitor( Position cursorPosition ) {
+		this( cursorPosition, Cancellation.NONE );
+	}
+
+	public FindDefinitionTargetVisitor( Position cursorPosition, CancelChecker cancelChecker ) {
 		this.cursorPosition	= cursorPosition;
+		this.cancelChecker	= Cancellation.orNone( cancelChecker );
 		this.line			= this.cursorPosition.getLine() + 1;
 		this.column			= this.cursorPosition.getCharacter();
 	}
@@ -376,6 +384,7 @@ public class FindDefinitionTargetVisitor extends VoidBoxVisitor {
 	}
 
 	private void visitChildren( BoxNode node ) {
+		cancelChecker.checkCanceled();
 		for ( BoxNode child : node.getChildren() ) {
 			child.accept( this );
 		}
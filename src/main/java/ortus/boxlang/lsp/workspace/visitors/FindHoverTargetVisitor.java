@@ -1,6 +1,7 @@
 package ortus.boxlang.lsp.workspace.visitors;
 
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import ortus.boxlang.compiler.ast.BoxNode;
 import ortus.boxlang.compiler.ast.expression.BoxDotAccess;
@@ -17,6 +18,7 @@ import ortus.boxlang.compiler.ast.statement.BoxFunctionDeclaration;
 import ortus.boxlang.compiler.ast.statement.BoxProperty;
 import ortus.boxlang.compiler.ast.visitor.VoidBoxVisitor;
 import ortus.boxlang.lsp.workspace.BLASTTools;
+import ortus.boxlang.lsp.workspace.Cancellation;
 
 /**
  * Visitor to find the AST node at a given cursor position for hover information.
@@ -27,13 +29,19 @@ import ortus.boxlang.lsp.workspace.BLASTTools;
  */
 public class FindHoverTargetVisitor extends VoidBoxVisitor {
 
-	private BoxNode			hoverTarget;
-	private final Position	cursorPosition;
-	private int				line;
-	private int				column;
+	private BoxNode				hoverTarget;
+	private final Position		cursorPosition;
+	private final CancelChecker	cancelChecker;
+	private int					line;
+	private int					column;
 
 	public FindHoverTargetVisitor( Position cursorPosition ) {
+		this( cursorPosition, Cancellation.NONE );
+	}
+
+	public FindHoverTargetVisitor( Position cursorPosition, CancelChecker cancelChecker ) {
 		this.cursorPosition	= cursorPosition;
+		this.cancelChecker	= Cancellation.orNone( cancelChecker );
 		this.line			= this.cursorPosition.getLine() + 1;
 		this.column			= this.cursorPosition.getCharacter();
 	}
@@ -250,6 +258,7 @@ public class FindHoverTargetVisitor extends VoidBoxVisitor {
 	}
 
 	private void visitChildren( BoxNode node ) {
+		cancelChecker.checkCanceled();
 		for ( BoxNode child : node.getChildren() ) {
 			child.accept( this );
 		}
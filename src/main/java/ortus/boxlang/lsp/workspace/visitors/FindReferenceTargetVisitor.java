@@ -1,6 +1,7 @@
 package ortus.boxlang.lsp.workspace.visitors;
 
 import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import ortus.boxlang.compiler.ast.BoxClass;
 import ortus.boxlang.compiler.ast.BoxInterface;
@@ -20,6 +21,7 @@ import ortus.boxlang.compiler.ast.statement.BoxFunctionDeclaration;
 import ortus.boxlang.compiler.ast.statement.BoxProperty;
 import ortus.boxlang.compiler.ast.visitor.VoidBoxVisitor;
 import ortus.boxlang.lsp.workspace.BLASTTools;
+import ortus.boxlang.lsp.workspace.Cancellation;
 
 /**
  * Visitor that finds the AST node at a specific cursor position for finding references.
@@ -27,13 +29,19 @@ import ortus.boxlang.lsp.workspace.BLASTTools;
  */
 public class FindReferenceTargetVisitor extends VoidBoxVisitor {
 
-	private BoxNode			referenceTarget;
-	private final Position	cursorPosition;
-	private int				line;
-	private int				column;
+	private BoxNode				referenceTarget;
+	private final Position		cursorPosition;
+	private final CancelChecker	cancelChecker;
+	private int					line;
+	private int					column;
 
 	public FindReferenceTargetVisitor( Position cursorPosition ) {
+		this( cursorPosition, Cancellation.NONE );
+	}
+
+	public FindReferenceTargetVisitor( Position cursorPosition, CancelChecker cancelChecker ) {
 		this.cursorPosition	= cursorPosition;
+		this.cancelChecker	= Cancellation.orNone( cancelChecker );
 		this.line			= this.cursorPosition.getLine() + 1;
 		this.column			= this.cursorPosition.getCharacter();
 	}
@@ -268,6 +276,7 @@ public class FindReferenceTargetVisitor extends VoidBoxVisitor {
 	}
 
 	private void visitChildren( BoxNode node ) {
+		cancelChecker.checkCanceled();
 		for ( BoxNode child : node.getChildren() ) {
 			child.accept( this );
 		}
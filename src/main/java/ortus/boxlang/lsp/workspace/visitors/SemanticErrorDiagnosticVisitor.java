@@ -115,14 +115,18 @@ public class SemanticErrorDiagnosticVisitor extends SourceCodeVisitor {
 		List<BoxAnnotation>	annotations		= findAnnotations( node );
 		String				extendsClass	= extractExtends( annotations );
 		if ( extendsClass != null && !extendsClass.isEmpty() ) {
+			long start = startRuleTime();
 			validateExtendsReference( extendsClass, node );
+			recordRuleTime( InvalidExtendsRule.ID, start );
 		}
 
 		// Check implements
 		List<String> implementsInterfaces = extractImplements( annotations );
 		for ( String interfaceName : implementsInterfaces ) {
 			if ( interfaceName != null && !interfaceName.isEmpty() ) {
+				long start = startRuleTime();
 				validateImplementsReference( interfaceName, node );
+				recordRuleTime( InvalidImplementsRule.ID, start );
 			}
 		}
 
@@ -143,7 +147,9 @@ public class SemanticErrorDiagnosticVisitor extends SourceCodeVisitor {
 		List<BoxAnnotation>	annotations			= findAnnotations( node );
 		String				extendsInterface	= extractExtends( annotations );
 		if ( extendsInterface != null && !extendsInterface.isEmpty() ) {
+			long start = startRuleTime();
 			validateExtendsReference( extendsInterface, node );
+			recordRuleTime( InvalidExtendsRule.ID, start );
 		}
 
 		// Visit children
@@ -159,7 +165,8 @@ public class SemanticErrorDiagnosticVisitor extends SourceCodeVisitor {
 			return;
 		}
 
-		String methodName = node.getName().toLowerCase();
+		long	start		= startRuleTime();
+		String	methodName	= node.getName().toLowerCase();
 
 		if ( seenMethods.contains( methodName ) ) {
 			Diagnostic diagnostic = new Diagnostic(
@@ -173,6 +180,7 @@ public class SemanticErrorDiagnosticVisitor extends SourceCodeVisitor {
 		} else {
 			seenMethods.add( methodName );
 		}
+		recordRuleTime( DuplicateMethodRule.ID, start );
 	}
 
 	@Override
@@ -181,24 +189,29 @@ public class SemanticErrorDiagnosticVisitor extends SourceCodeVisitor {
 			return;
 		}
 
-		String propertyName = BLASTTools.getPropertyName( node );
-		if ( propertyName == null ) {
-			return;
-		}
-
-		propertyName = propertyName.toLowerCase();
+		long start = startRuleTime();
+		try {
+			String propertyName = BLASTTools.getPropertyName( node );
+			if ( propertyName == null ) {
+				return;
+			}
 
-		if ( seenProperties.contains( propertyName ) ) {
-			Diagnostic diagnostic = new Diagnostic(
-			    ProjectContextProvider.positionToRange( node.getPosition() ),
-			    "Duplicate property definition: '" + propertyName + "' is already defined in this class.",
-			    DiagnosticSeverity.Error,
-			    "boxlang",
-			    DuplicatePropertyRule.ID
-			);
-			diagnostics.add( diagnostic );
-		} else {
-			seenProperties.add( propertyName );
+			propertyName = propertyName.toLowerCase();
+
+			if ( seenProperties.contains( propertyName ) ) {
+				Diagnostic diagnostic = new Diagnostic(
+				    ProjectContextProvider.positionToRange( node.getPosition() ),
+				    "Duplicate property definition: '" + propertyName + "' is already defined in this class.",
+				    DiagnosticSeverity.Error,
+				    "boxlang",
+				    DuplicatePropertyRule.ID
+				);
+				diagnostics.add( diagnostic );
+			} else {
+				seenProperties.add( propertyName );
+			}
+		} finally {
+			recordRuleTime( DuplicatePropertyRule.ID, start );
 		}
 	}
 
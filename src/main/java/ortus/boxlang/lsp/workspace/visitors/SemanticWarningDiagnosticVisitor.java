@@ -143,7 +143,8 @@ public class SemanticWarningDiagnosticVisitor extends SourceCodeVisitor {
 
 	@Override
 	public void visit( BoxTryCatch node ) {
-		var catchBody = node.getCatchBody();
+		long	start		= startRuleTime();
+		var		catchBody	= node.getCatchBody();
 
 		if ( catchBody == null || catchBody.isEmpty() ) {
 			Diagnostic diagnostic = new Diagnostic(
@@ -155,6 +156,7 @@ public class SemanticWarningDiagnosticVisitor extends SourceCodeVisitor {
 			);
 			diagnostics.add( diagnostic );
 		}
+		recordRuleTime( EmptyCatchBlockRule.ID, start );
 
 		// Visit children
 		visitChildren( node );
@@ -190,6 +192,15 @@ public class SemanticWarningDiagnosticVisitor extends SourceCodeVisitor {
 	}
 
 	private void checkForSiblingsAfterTerminal( BoxNode node, String statementType ) {
+		long start = startRuleTime();
+		try {
+			findSiblingsAfterTerminal( node, statementType );
+		} finally {
+			recordRuleTime( UnreachableCodeRule.ID, start );
+		}
+	}
+
+	private void findSiblingsAfterTerminal( BoxNode node, String statementType ) {
 		BoxNode parent = node.getParent();
 		if ( parent == null ) {
 			return;
@@ -300,7 +311,9 @@ public class SemanticWarningDiagnosticVisitor extends SourceCodeVisitor {
 		visitChildren( node );
 
 		// After visiting body, check for missing return statement
+		long start = startRuleTime();
 		checkMissingReturn( node );
+		recordRuleTime( MissingReturnStatementRule.ID, start );
 
 		// Restore previous function context
 		currentFunction = previousFunction;
@@ -315,7 +328,8 @@ public class SemanticWarningDiagnosticVisitor extends SourceCodeVisitor {
 	@Override
 	public void visit( BoxAssignment node ) {
 		// Check if we're declaring a local variable with 'var' that shadows a parameter
-		BoxNode left = node.getLeft();
+		long	start	= startRuleTime();
+		BoxNode	left	= node.getLeft();
 
 		if ( left instanceof BoxIdentifier identifier && currentFunction != null ) {
 			String		varName	= identifier.getName().toLowerCase();
@@ -341,6 +355,7 @@ public class SemanticWarningDiagnosticVisitor extends SourceCodeVisitor {
 				}
 			}
 		}
+		recordRuleTime( ShadowedVariableRule.ID, start );
 
 		visitChildren( node );
 	}
@@ -492,6 +507,7 @@ public class SemanticWarningDiagnosticVisitor extends SourceCodeVisitor {
 	// ============ Diagnostic Generation ============
 
 	private void generateUnusedImportDiagnostics() {
+		long start = startRuleTime();
 		for ( Map.Entry<String, BoxImport> entry : imports.entrySet() ) {
 			String		importedName	= entry.getKey();
 			BoxImport	importNode		= entry.getValue();
@@ -508,9 +524,11 @@ public class SemanticWarningDiagnosticVisitor extends SourceCodeVisitor {
 				diagnostics.add( diagnostic );
 			}
 		}
+		recordRuleTime( UnusedImportRule.ID, start );
 	}
 
 	private void generateUnusedPrivateMethodDiagnostics() {
+		long start = startRuleTime();
 		for ( Map.Entry<String, BoxFunctionDeclaration> entry : privateMethods.entrySet() ) {
 			String					methodName	= entry.getKey();
 			BoxFunctionDeclaration	methodNode	= entry.getValue();
@@ -527,6 +545,7 @@ public class SemanticWarningDiagnosticVisitor extends SourceCodeVisitor {
 				diagnostics.add( diagnostic );
 			}
 		}
+		recordRuleTime( UnusedPrivateMethodRule.ID, start );
 	}
 
 	// ============ Helper Methods ============
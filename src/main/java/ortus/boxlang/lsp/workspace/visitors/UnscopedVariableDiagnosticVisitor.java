@@ -17,6 +17,7 @@
  */
 package ortus.boxlang.lsp.workspace.visitors;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -65,6 +66,11 @@ public class UnscopedVariableDiagnosticVisitor extends SourceCodeVisitor {
 	private Map<BoxFunctionDeclaration, Set<String>>	functionVard		= new HashMap<>();
 	private Map<Diagnostic, BoxNode>					diagnosticNodes		= new WeakHashMap<>();
 
+	@Override
+	public String getRuleId() {
+		return UnscopedVariableRule.ID;
+	}
+
 	public List<Diagnostic> getDiagnostics() {
 		if ( !DiagnosticRuleRegistry.getInstance().isEnabled( UnscopedVariableRule.ID, true ) ) {
 			return List.of();
@@ -164,7 +170,11 @@ public class UnscopedVariableDiagnosticVisitor extends SourceCodeVisitor {
 		    "boxlang",
 		    UnscopedVariableRule.ID
 		);
-		d.setData( Map.of( "variableName", name, "id", UUID.randomUUID().toString() ) );
+		// Derive the id from the diagnostic so an unchanged diagnostic keeps the id the client already has
+		var		start	= d.getRange().getStart();
+		String	id		= UUID.nameUUIDFromBytes( ( name + ":" + start.getLine() + ":" + start.getCharacter() ).getBytes( StandardCharsets.UTF_8 ) )
+		    .toString();
+		d.setData( Map.of( "variableName", name, "id", id ) );
 		diagnosticNodes.put( d, node );
 
 		diagnostics.add( d );
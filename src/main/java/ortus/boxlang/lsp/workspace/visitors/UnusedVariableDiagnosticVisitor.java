@@ -34,6 +34,11 @@ public class UnusedVariableDiagnosticVisitor extends SourceCodeVisitor {
 	private Map<BoxFunctionDeclaration, Set<BoxNode>>	assignedVars			= new WeakHashMap<>();
 	private Map<BoxFunctionDeclaration, Set<String>>	usedVars				= new WeakHashMap<>();
 
+	@Override
+	public String getRuleId() {
+		return UnusedVariableRule.ID;
+	}
+
 	public List<Diagnostic> getDiagnostics() {
 		if ( !DiagnosticRuleRegistry.getInstance().isEnabled( UnusedVariableRule.ID, true ) ) {
 			return List.of();
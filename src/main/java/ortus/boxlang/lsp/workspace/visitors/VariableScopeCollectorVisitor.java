@@ -3,6 +3,8 @@ package ortus.boxlang.lsp.workspace.visitors;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
 import ortus.boxlang.compiler.ast.BoxClass;
 import ortus.boxlang.compiler.ast.BoxNode;
 import ortus.boxlang.compiler.ast.BoxScript;
@@ -25,6 +27,7 @@ import ortus.boxlang.compiler.ast.statement.BoxTryCatch;
 import ortus.boxlang.compiler.ast.statement.BoxForIndex;
 import ortus.boxlang.compiler.ast.statement.BoxForIn;
 import ortus.boxlang.compiler.ast.visitor.VoidBoxVisitor;
+import ortus.boxlang.lsp.workspace.Cancellation;
 
 /**
  * Visitor that collects variable scope and type information for hover purposes.
@@ -79,9 +82,15 @@ public class VariableScopeCollectorVisitor extends VoidBoxVisitor {
 	private BoxFunctionDeclaration											currentFunction	= null;
 	// Maps function to its variable info (includes both parameters and local variables)
 	private final Map<BoxFunctionDeclaration, Map<String, VariableInfo>>	functionVariables;
+	private final CancelChecker												cancelChecker;
 
 	public VariableScopeCollectorVisitor() {
-		this.functionVariables = new HashMap<>();
+		this( Cancellation.NONE );
+	}
+
+	public VariableScopeCollectorVisitor( CancelChecker cancelChecker ) {
+		this.functionVariables	= new HashMap<>();
+		this.cancelChecker		= Cancellation.orNone( cancelChecker );
 	}
 
 	/**
@@ -466,6 +475,7 @@ public class VariableScopeCollectorVisitor extends VoidBoxVisitor {
 	}
 
 	private void visitChildren( BoxNode node ) {
+		cancelChecker.checkCanceled();
 		for ( BoxNode child : node.getChildren() ) {
 			child.accept( this );
 		}
@@ -1,28 +1,52 @@
 package ortus.boxlang.lsp.workspace.visitors;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
 
 import ortus.boxlang.compiler.ast.BoxClass;
 import ortus.boxlang.compiler.ast.BoxInterface;
 import ortus.boxlang.compiler.ast.BoxNode;
 import ortus.boxlang.compiler.ast.BoxScript;
 import ortus.boxlang.compiler.ast.BoxTemplate;
+import ortus.boxlang.compiler.ast.expression.BoxArgument;
 import ortus.boxlang.compiler.ast.expression.BoxAssignment;
 import ortus.boxlang.compiler.ast.expression.BoxFQN;
+import ortus.boxlang.compiler.ast.expression.BoxFunctionInvocation;
 import ortus.boxlang.compiler.ast.expression.BoxIdentifier;
 import ortus.boxlang.compiler.ast.expression.BoxNew;
+import ortus.boxlang.compiler.ast.expression.BoxStringLiteral;
 import ortus.boxlang.compiler.ast.statement.BoxFunctionDeclaration;
 import ortus.boxlang.compiler.ast.visitor.VoidBoxVisitor;
+import ortus.boxlang.lsp.workspace.Cancellation;
 
 /**
  * Visitor that collects variable type information from assignments.
- * Specifically tracks variables assigned via `new ClassName()` expressions.
+ * Specifically tracks variables assigned via `new ClassName()` expressions,
+ * and separately the Java classes of variables assigned via
+ * `new java:ClassName()` or `createObject( "java", "ClassName" )`.
  */
 public class VariableTypeCollectorVisitor extends VoidBoxVisitor {
 
+	private static final Pattern		JAVA_NEW		= Pattern.compile( "^new\\s+java:([\\w.$]+)", Pattern.CASE_INSENSITIVE );
+
 	// Maps variable names (lowercase) to their inferred class types
-	private final Map<String, String> variableTypes = new HashMap<>();
+	private final Map<String, String>	variableTypes	= new HashMap<>();
+	// Maps variable names (lowercase) to Java class names, as written in the code
+	private final Map<String, String>	javaTypes		= new HashMap<>();
+	private final CancelChecker			cancelChecker;
+
+	public VariableTypeCollectorVisitor() {
+		this( Cancellation.NONE );
+	}
+
+	public VariableTypeCollectorVisitor( CancelChecker cancelChecker ) {
+		this.cancelChecker = Cancellation.orNone( cancelChecker );
+	}
 
 	/**
 	 * Get the inferred type for a variable.
@@ -35,6 +59,19 @@ public class VariableTypeCollectorVisitor extends VoidBoxVisitor {
 		return variableTypes.get( variableName.toLowerCase() );
 	}
 
+	/**
+	 * Get the Java class a variable was created from.
+	 *
+	 * @param variableName The variable name (case-insensitive)
+	 *
+	 * @return The Java class name as written in the code (fully qualified or
+	 *         simple), null if the variable does not hold a Java object or was
+	 *         last assigned a BoxLang object
+	 */
+	public String getJavaType( String variableName ) {
+		return javaTypes.get( variableName.toLowerCase() );
+	}
+
 	/**
 	 * Get all collected variable types.
 	 */
@@ -83,6 +120,20 @@ public class VariableTypeCollectorVisitor extends VoidBoxVisitor {
 			if ( className != null ) {
 				variableTypes.put( identifier.getName().toLowerCase(), className );
 			}
+			String javaClassName = extractJavaClassNameFromNew( newExpr );
+			if ( javaClassName != null ) {
+				javaTypes.put( identifier.getName().toLowerCase(), javaClassName );
+			} else if ( className != null ) {
+				// The variable holds a BoxLang object from now on, whatever Java object it held before
+				javaTypes.remove( identifier.getName().toLowerCase() );
+			}
+		}
+
+		if ( left instanceof BoxIdentifier identifier && right instanceof BoxFunctionInvocation invocation ) {
+			String javaClassName = extractJavaClassNameFromCreateObject( invocation );
+			if ( javaClassName != null ) {
+				javaTypes.put( identifier.getName().toLowerCase(), javaClassName );
+			}
 		}
 
 		visitChildren( node );
@@ -128,7 +179,37 @@ public class VariableTypeCollectorVisitor extends VoidBoxVisitor {
 		return null;
 	}
 
+	/**
+	 * Extract the Java class name from a `new java:ClassName()` expression.
+	 */
+	private String extractJavaClassNameFromNew( BoxNew newExpr ) {
+		String sourceText = newExpr.getSourceText();
+		if ( sourceText == null ) {
+			return null;
+		}
+		Matcher matcher = JAVA_NEW.matcher( sourceText.trim() );
+		return matcher.find() ? matcher.group( 1 ) : null;
+	}
+
+	/**
+	 * Extract the Java class name from a `createObject( "java", "ClassName" )` call.
+	 */
+	private String extractJavaClassNameFromCreateObject( BoxFunctionInvocation invocation ) {
+		if ( !"createObject".equalsIgnoreCase( invocation.getName() ) ) {
+			return null;
+		}
+
+		List<BoxArgument> arguments = invocation.getArguments();
+		if ( arguments == null || arguments.size() < 2
+		    || ! ( arguments.get( 0 ).getValue() instanceof BoxStringLiteral type )
+		    || ! ( arguments.get( 1 ).getValue() instanceof BoxStringLiteral className ) ) {
+			return null;
+		}
+		return "java".equalsIgnoreCase( type.getValue() ) && !className.getValue().isBlank() ? className.getValue().trim() : null;
+	}
+
 	private void visitChildren( BoxNode node ) {
+		cancelChecker.checkCanceled();
 		for ( BoxNode child : node.getChildren() ) {
 			child.accept( this );
 		}
@@ -11,6 +11,7 @@ import java.nio.file.Paths;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import ortus.boxlang.lsp.workspace.ApplicationFileMap;
 import ortus.boxlang.lsp.workspace.MappingConfig;
 import ortus.boxlang.lsp.workspace.MappingResolver;
 
@@ -103,4 +104,26 @@ public class ApplicationBxWalkupTest extends BaseTest {
 		assertTrue( config.getMappings().containsKey( "/appmodel" ),
 		    "resolveForFile should walk up to the workspace root to find Application.bx" );
 	}
+
+	// ─── Cycle 7 ──────────────────────────────────────────────────────────────
+	// With an Application file map from the workspace walk, lookups use the map
+
+	@Test
+	void resolveForFileUsesApplicationFileMap() {
+		ApplicationFileMap map = new ApplicationFileMap( TEST_PROJECT );
+		map.record( TEST_PROJECT.resolve( "Application.bx" ) );
+		MappingResolver.setApplicationFiles( map );
+
+		MappingConfig config = MappingResolver.resolveForFile( TEST_PROJECT.resolve( "subpackage/BaseType.bx" ), TEST_PROJECT );
+		assertTrue( config.getMappings().containsKey( "/appmodel" ),
+		    "resolveForFile should find Application.bx through the Application file map" );
+
+		// An empty map means no Application.bx governs the file, whatever is on disk
+		MappingResolver.setApplicationFiles( new ApplicationFileMap( TEST_PROJECT ) );
+		config = MappingResolver.resolveForFile( TEST_PROJECT.resolve( "subpackage/BaseType.bx" ), TEST_PROJECT );
+		assertFalse( config.getMappings().containsKey( "/appmodel" ),
+		    "resolveForFile should not walk the filesystem once an Application file map is set" );
+
+		MappingResolver.invalidate( TEST_PROJECT );
+	}
 }
@@ -0,0 +1,56 @@
+package ortus.boxlang.lsp;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ortus.boxlang.lsp.workspace.ApplicationFileMap;
+
+public class ApplicationFileMapTest {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void findsNearestApplicationFileWithinWorkspace() throws IOException {
+		Path				rootApp		= Files.createFile( root.resolve( "Application.bx" ) );
+		Path				moduleApp	= Files.createDirectories( root.resolve( "modules/shop" ) ).resolve( "application.CFC" );
+		Files.createFile( moduleApp );
+		Files.createDirectories( root.resolve( "modules/shop/models" ) );
+
+		ApplicationFileMap	map			= new ApplicationFileMap( root );
+		try ( var paths = Files.walk( root ) ) {
+			paths.forEach( map::record );
+		}
+
+		assertThat( map.size() ).isEqualTo( 2 );
+		assertThat( map.findGoverningFile( root.resolve( "modules/shop/models/Cart.bx" ) ) ).isEqualTo( Optional.of( moduleApp ) );
+		assertThat( map.findGoverningFile( root.resolve( "modules/Other.bx" ) ) ).isEqualTo( Optional.of( rootApp ) );
+		assertThat( map.findGoverningFile( root.getParent().resolve( "Outside.bx" ) ) ).isEmpty();
+	}
+
+	@Test
+	void prefersApplicationBxAndFollowsDeletes() throws IOException {
+		Path				bx	= Files.createFile( root.resolve( "Application.bx" ) );
+		Path				cfc	= Files.createFile( root.resolve( "Application.cfc" ) );
+
+		ApplicationFileMap	map	= new ApplicationFileMap( root );
+		map.record( cfc );
+		map.record( bx );
+		assertThat( map.findGoverningFile( root.resolve( "Test.bx" ) ) ).isEqualTo( Optional.of( bx ) );
+
+		Files.delete( bx );
+		map.refresh( bx );
+		assertThat( map.findGoverningFile( root.resolve( "Test.bx" ) ) ).isEqualTo( Optional.of( cfc ) );
+
+		Files.delete( cfc );
+		map.refresh( cfc );
+		assertThat( map.findGoverningFile( root.resolve( "Test.bx" ) ) ).isEmpty();
+	}
+}
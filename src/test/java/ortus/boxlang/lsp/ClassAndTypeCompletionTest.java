@@ -11,6 +11,7 @@ import java.util.Optional;
 
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemKind;
+import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.CompletionParams;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
@@ -234,4 +235,28 @@ public class ClassAndTypeCompletionTest extends BaseTest {
 		// Should show the full package path
 		assertThat( productRepo.get().getDetail() ).contains( "subpackage" );
 	}
+
+	@Test
+	void testCompletionListDefersDetailsToResolve() {
+		Path					testFile	= testDir.resolve( "TestConsumer.bx" );
+		File					f			= testFile.toFile();
+
+		CompletionParams		params		= new CompletionParams();
+		TextDocumentIdentifier	td			= new TextDocumentIdentifier( testFile.toUri().toString() );
+		params.setTextDocument( td );
+		params.setPosition( new Position( 3, 18 ) );
+
+		CompletionList				list	= pcp.getCompletionList( f.toURI(), params );
+		Optional<CompletionItem>	user	= list.getItems().stream()
+		    .filter( item -> item.getLabel().equals( "User" ) && item.getKind() == CompletionItemKind.Class )
+		    .findFirst();
+
+		assertThat( user.isPresent() ).isTrue();
+		// Thin item: only a data handle, no detail or documentation yet
+		assertThat( user.get().getData() ).isNotNull();
+		assertThat( user.get().getDetail() ).isNull();
+
+		CompletionItem resolved = pcp.resolveCompletionItem( user.get() );
+		assertThat( resolved.getDetail() ).contains( "User" );
+	}
 }
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import ortus.boxlang.lsp.workspace.FileParseResult;
 import ortus.boxlang.lsp.workspace.completion.CompletionContext;
 import ortus.boxlang.lsp.workspace.completion.CompletionContextKind;
+import ortus.boxlang.lsp.workspace.completion.CompletionFacts;
 import ortus.boxlang.runtime.BoxRuntime;
 
 /**
@@ -394,4 +395,41 @@ public class CompletionContextTest {
 		// In a comment, we might get GENERAL or NONE - the key is that it's not NEW_EXPRESSION
 		assertThat( context.getKind() ).isNotEqualTo( CompletionContextKind.NEW_EXPRESSION );
 	}
+
+	// ==================== MEMOIZATION TESTS ====================
+
+	@Test
+	void testCompletionFacts_memoizesContext() {
+		String				source			= """
+		                                      class {
+		                                      	function test() {
+		                                      		var x = new User
+		                                      	}
+		                                      }
+		                                      """;
+		URI					uri				= URI.create( "file:///test/TestFile.bx" );
+		FileParseResult		fileParseResult	= FileParseResult.fromSourceString( uri, source );
+		CompletionParams	params			= new CompletionParams();
+		params.setPosition( new Position( 2, 18 ) );
+		params.setTextDocument( new TextDocumentIdentifier( uri.toString() ) );
+
+		CompletionFacts		facts			= new CompletionFacts( fileParseResult, params );
+		CompletionContext	first			= facts.getContext();
+
+		assertThat( first.getKind() ).isEqualTo( CompletionContextKind.NEW_EXPRESSION );
+		assertThat( facts.getContext() ).isSameInstanceAs( first );
+	}
+
+	@Test
+	void testReadLine_usesLineIndex() {
+		URI				uri				= URI.create( "file:///test/TestFile.bx" );
+		FileParseResult	fileParseResult	= FileParseResult.fromSourceString( uri, "class {\n\tfunction a() {}\n}\n" );
+
+		assertThat( fileParseResult.readLine( 0 ) ).isEqualTo( "class {" );
+		assertThat( fileParseResult.readLine( 1 ) ).isEqualTo( "\tfunction a() {}" );
+		assertThat( fileParseResult.readLine( 2 ) ).isEqualTo( "}" );
+		assertThat( fileParseResult.readLine( 3 ) ).isEqualTo( "" );
+		assertThat( fileParseResult.readLine( 10 ) ).isEqualTo( "" );
+		assertThat( fileParseResult.readLine( -1 ) ).isEqualTo( "" );
+	}
 }
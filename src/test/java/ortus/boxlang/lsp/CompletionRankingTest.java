@@ -0,0 +1,94 @@
+package ortus.boxlang.lsp;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionList;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.lsp.workspace.completion.CompletionEngine;
+
+/**
+ * Tests for server-side completion ranking and result capping.
+ */
+public class CompletionRankingTest {
+
+	private static List<CompletionItem> items( String... labels ) {
+		List<CompletionItem> result = new ArrayList<>();
+		for ( String label : labels ) {
+			result.add( new CompletionItem( label ) );
+		}
+		return result;
+	}
+
+	private static List<String> labels( CompletionList list ) {
+		return list.getItems().stream().map( CompletionItem::getLabel ).toList();
+	}
+
+	@Test
+	void testPrefixMatchesRankAboveFuzzyMatches() {
+		CompletionList list = CompletionEngine.rank( items( "getUserName", "gun", "getter", "arrayLen" ), "gun", 10 );
+
+		assertThat( labels( list ) ).containsExactly( "gun", "getUserName" ).inOrder();
+		assertThat( list.isIncomplete() ).isFalse();
+	}
+
+	@Test
+	void testCamelCaseBeatsPlainSubsequence() {
+		int	camel		= CompletionEngine.score( "getUserName", "gUN" );
+		int	subsequence	= CompletionEngine.score( "grumpyun", "gUN" );
+
+		assertThat( camel ).isGreaterThan( subsequence );
+		assertThat( CompletionEngine.score( "arrayLen", "gUN" ) ).isEqualTo( -1 );
+	}
+
+	@Test
+	void testEmptyPrefixKeepsEverything() {
+		CompletionList list = CompletionEngine.rank( items( "b", "a", "c" ), "", 10 );
+
+		assertThat( labels( list ) ).containsExactly( "a", "b", "c" ).inOrder();
+		assertThat( list.isIncomplete() ).isFalse();
+	}
+
+	@Test
+	void testIncompleteOnlyWhenTruncated() {
+		CompletionList capped = CompletionEngine.rank( items( "len", "left", "listLen", "lcase" ), "l", 2 );
+
+		assertThat( capped.getItems() ).hasSize( 2 );
+		assertThat( capped.isIncomplete() ).isTrue();
+
+		CompletionList uncapped = CompletionEngine.rank( items( "len", "left", "listLen", "lcase" ), "l", 0 );
+
+		assertThat( uncapped.getItems() ).hasSize( 4 );
+		assertThat( uncapped.isIncomplete() ).isFalse();
+	}
+
+	@Test
+	void testSortTextBreaksTies() {
+		List<CompletionItem> candidates = items( "lenB", "lenA" );
+		candidates.get( 0 ).setSortText( "1" );
+		candidates.get( 1 ).setSortText( "5" );
+
+		CompletionList list = CompletionEngine.rank( candidates, "len", 10 );
+
+		assertThat( labels( list ) ).containsExactly( "lenB", "lenA" ).inOrder();
+	}
+
+	@Test
+	void testSortTextFollowsTheRanking() {
+		List<CompletionItem> candidates = items( "gxuxn", "getUserName", "gun" );
+		candidates.get( 0 ).setSortText( "a" );
+		candidates.get( 1 ).setSortText( "z" );
+		candidates.get( 2 ).setSortText( "z" );
+
+		CompletionList	list		= CompletionEngine.rank( candidates, "gun", 10 );
+		List<String>	sortTexts	= list.getItems().stream().map( CompletionItem::getSortText ).toList();
+
+		assertThat( labels( list ) ).containsExactly( "gun", "getUserName", "gxuxn" ).inOrder();
+		// Clients order by sortText, so it must agree with the returned order
+		assertThat( sortTexts ).isInStrictOrder();
+	}
+}
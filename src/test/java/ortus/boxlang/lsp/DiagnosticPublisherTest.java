@@ -0,0 +1,83 @@
+package ortus.boxlang.lsp;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.lsp.workspace.DiagnosticPublisher;
+
+public class DiagnosticPublisherTest {
+
+	private final List<PublishDiagnosticsParams>	sent		= new CopyOnWriteArrayList<>();
+	private final Map<URI, List<Diagnostic>>		current		= new ConcurrentHashMap<>();
+	private DiagnosticPublisher						publisher;
+
+	@AfterEach
+	void tearDown() {
+		if ( publisher != null ) {
+			publisher.shutdown();
+		}
+	}
+
+	private static Diagnostic diagnostic( int line, String message ) {
+		return new Diagnostic( new Range( new Position( line, 0 ), new Position( line, 5 ) ), message, DiagnosticSeverity.Warning, "boxlang" );
+	}
+
+	private static URI uri( int i ) {
+		return URI.create( "file:///project/File" + i + ".bx" );
+	}
+
+	@Test
+	void skipsPublishesIdenticalToWhatTheClientHas() {
+		publisher = new DiagnosticPublisher( sent::add, current::get );
+		URI file = uri( 1 );
+
+		// Every URI starts without diagnostics on the client
+		assertThat( publisher.publish( file, List.of() ) ).isFalse();
+
+		assertThat( publisher.publish( file, List.of( diagnostic( 1, "unused" ) ) ) ).isTrue();
+		assertThat( publisher.publish( file, new ArrayList<>( List.of( diagnostic( 1, "unused" ) ) ) ) ).isFalse();
+		assertThat( publisher.publish( file, List.of( diagnostic( 2, "unused" ) ) ) ).isTrue();
+		assertThat( publisher.publish( file, List.of() ) ).isTrue();
+
+		assertThat( sent ).hasSize( 3 );
+		assertThat( sent.getLast().getDiagnostics() ).isEmpty();
+	}
+
+	@Test
+	void drainsQueuedUrisInRateLimitedBatches() throws Exception {
+		publisher = new DiagnosticPublisher( sent::add, current::get, 10, 20 );
+		List<URI> uris = IntStream.range( 0, 35 ).mapToObj( DiagnosticPublisherTest::uri ).toList();
+		uris.forEach( uri -> current.put( uri, List.of( diagnostic( 0, uri.getPath() ) ) ) );
+		// A clean file has nothing to send
+		current.put( uris.getFirst(), List.of() );
+
+		publisher.enqueue( uris );
+		publisher.enqueue( uris );
+
+		long deadline = System.currentTimeMillis() + 5_000;
+		while ( publisher.getQueueDepth() > 0 && System.currentTimeMillis() < deadline ) {
+			Thread.sleep( 10 );
+		}
+		// Let the last batch finish sending
+		Thread.sleep( 50 );
+
+		assertThat( publisher.getQueueDepth() ).isEqualTo( 0 );
+		assertThat( sent ).hasSize( 34 );
+		assertThat( sent.stream().map( PublishDiagnosticsParams::getUri ).distinct().count() ).isEqualTo( 34 );
+	}
+}
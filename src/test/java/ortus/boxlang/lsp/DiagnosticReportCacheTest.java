@@ -57,16 +57,46 @@ public class DiagnosticReportCacheTest extends BaseTest {
 		    .toList();
 
 		assertThat( initialReports ).hasSize( 1 );
-		long initialResultId = initialReports.getFirst().getResultId();
+		String initialResultId = initialReports.getFirst().getContentResultId();
 
-		provider.trackDocumentSave( TEST_FILE.toUri(), content + System.lineSeparator() );
+		// A new unused variable changes the diagnostics
+		provider.trackDocumentSave( TEST_FILE.toUri(), content.replace( "var bar = \"baz\";", "var bar = \"baz\";\n\t\tvar extra = 1;" ) );
 
 		List<DiagnosticReport> updatedReports = provider.getCachedDiagnosticReports().stream()
 		    .filter( report -> report.getFileURI().equals( TEST_FILE.toUri() ) )
 		    .toList();
 
 		assertThat( updatedReports ).hasSize( 1 );
-		assertThat( updatedReports.getFirst().getResultId() ).isGreaterThan( initialResultId );
+		assertThat( updatedReports.getFirst().getContentResultId() ).isNotEqualTo( initialResultId );
+	}
+
+	@Test
+	void updatesWithIdenticalDiagnosticsKeepResultId() throws Exception {
+		String content = Files.readString( TEST_FILE );
+
+		provider.trackDocumentOpen( TEST_FILE.toUri(), content );
+		DiagnosticReport	report			= provider.getCachedDiagnosticReports().stream()
+		    .filter( r -> r.getFileURI().equals( TEST_FILE.toUri() ) )
+		    .findFirst().orElseThrow();
+		String				initialResultId	= report.getContentResultId();
+
+		// A trailing newline moves no diagnostic
+		provider.trackDocumentSave( TEST_FILE.toUri(), content + System.lineSeparator() );
+
+		assertThat( report.getContentResultId() ).isEqualTo( initialResultId );
+	}
+
+	@Test
+	void snapshotPairsDiagnosticsWithTheirResultId() throws Exception {
+		provider.trackDocumentOpen( TEST_FILE.toUri(), Files.readString( TEST_FILE ) );
+		DiagnosticReport			report		= provider.getCachedDiagnosticReports().stream()
+		    .filter( r -> r.getFileURI().equals( TEST_FILE.toUri() ) )
+		    .findFirst().orElseThrow();
+		DiagnosticReport.Snapshot	snapshot	= report.snapshot();
+
+		assertThat( snapshot.diagnostics() ).isNotEmpty();
+		assertThat( snapshot.diagnostics() ).isEqualTo( report.getDiagnostics() );
+		assertThat( snapshot.resultId() ).isEqualTo( report.getContentResultId() );
 	}
 
 	@Test
@@ -0,0 +1,136 @@
+package ortus.boxlang.lsp;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ortus.boxlang.lsp.workspace.DirectorySnapshot;
+
+public class DirectorySnapshotTest {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void publishedWatchedRootIsAnsweredWithoutTouchingDisk() throws IOException {
+		Path						models		= Files.createDirectories( root.resolve( "models" ) );
+		Path						user		= Files.createFile( models.resolve( "User.bx" ) );
+
+		DirectorySnapshot			snapshot	= new DirectorySnapshot();
+		DirectorySnapshot.Builder	builder		= snapshot.builder( root );
+		builder.directory( root );
+		builder.add( models, true );
+		builder.directory( models );
+		builder.add( user, false );
+		builder.publish( true );
+
+		// Files created behind the snapshot's back are not seen until reported
+		Path orphan = Files.createFile( models.resolve( "Orphan.bx" ) );
+		assertThat( snapshot.isRegularFile( user ) ).isTrue();
+		assertThat( snapshot.isDirectory( models ) ).isTrue();
+		assertThat( snapshot.exists( orphan ) ).isFalse();
+
+		snapshot.created( orphan );
+		assertThat( snapshot.list( models ).stream().map( DirectorySnapshot.Entry::name ).toList() )
+		    .containsExactly( "Orphan.bx", "User.bx" ).inOrder();
+
+		Files.delete( user );
+		snapshot.deleted( user );
+		assertThat( snapshot.exists( user ) ).isFalse();
+	}
+
+	@Test
+	void eventsReportedDuringTheWalkSurvivePublish() throws IOException {
+		Path						models		= Files.createDirectories( root.resolve( "models" ) );
+		Path						user		= Files.createFile( models.resolve( "User.bx" ) );
+
+		DirectorySnapshot			snapshot	= new DirectorySnapshot();
+		DirectorySnapshot.Builder	builder		= snapshot.builder( root );
+		builder.directory( root );
+		builder.add( models, true );
+		builder.directory( models );
+		builder.add( user, false );
+
+		// The walk already listed models/ when these are reported
+		Path created = Files.createFile( models.resolve( "Order.bx" ) );
+		snapshot.created( created );
+		Files.delete( user );
+		snapshot.deleted( user );
+
+		builder.publish( true );
+
+		assertThat( snapshot.isRegularFile( created ) ).isTrue();
+		assertThat( snapshot.exists( user ) ).isFalse();
+	}
+
+	@Test
+	void unwatchedRootIsListedFromDiskAgain() throws IOException {
+		Path						models		= Files.createDirectories( root.resolve( "models" ) );
+
+		DirectorySnapshot			snapshot	= new DirectorySnapshot();
+		DirectorySnapshot.Builder	builder		= snapshot.builder( root );
+		builder.directory( root );
+		builder.add( models, true );
+		builder.directory( models );
+		builder.publish( true );
+
+		// The watcher stopped, so this is never reported
+		Path missed = Files.createFile( models.resolve( "Missed.bx" ) );
+		assertThat( snapshot.exists( missed ) ).isFalse();
+
+		snapshot.unwatch( root );
+		assertThat( snapshot.exists( missed ) ).isTrue();
+
+		// A later scan publishes the root as unwatched while the watcher is down
+		snapshot.builder( root ).publish( false );
+		Files.delete( missed );
+		assertThat( snapshot.exists( missed ) ).isFalse();
+	}
+
+	@Test
+	void deletedDirectoryForgetsEverythingBelowIt() throws IOException {
+		Path				nested		= Files.createDirectories( root.resolve( "a/b" ) );
+		Path				file		= Files.createFile( nested.resolve( "Thing.bx" ) );
+
+		DirectorySnapshot	snapshot	= new DirectorySnapshot();
+		assertThat( snapshot.isRegularFile( file ) ).isTrue();
+
+		Files.delete( file );
+		Files.delete( nested );
+		snapshot.deleted( root.resolve( "a" ) );
+
+		assertThat( snapshot.exists( file ) ).isFalse();
+		assertThat( snapshot.list( nested ) ).isEmpty();
+	}
+
+	@Test
+	void unscannedDirectoriesAreListedOnDemand() throws IOException {
+		Path				app			= Files.createFile( root.resolve( "application.CFC" ) );
+
+		DirectorySnapshot	snapshot	= new DirectorySnapshot();
+
+		assertThat( snapshot.findIgnoreCase( root, "Application.bx", "Application.cfc" ) ).hasValue( app );
+		assertThat( snapshot.exists( root.resolve( "missing" ) ) ).isFalse();
+		assertThat( snapshot.list( root.resolve( "missing" ) ) ).isEmpty();
+	}
+
+	@Test
+	void refreshLooksAtTheChangedPathOnly() throws IOException {
+		DirectorySnapshot	snapshot	= new DirectorySnapshot();
+		Path				config		= root.resolve( ".bxformat.json" );
+		assertThat( snapshot.exists( config ) ).isFalse();
+
+		Files.writeString( config, "{}" );
+		snapshot.refresh( config );
+		assertThat( snapshot.isRegularFile( config ) ).isTrue();
+
+		Files.delete( config );
+		snapshot.refresh( config );
+		assertThat( snapshot.exists( config ) ).isFalse();
+	}
+}
@@ -13,18 +13,24 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.lsp4j.CompletionItem;
+import org.eclipse.lsp4j.CompletionParams;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
 import org.eclipse.lsp4j.TextDocumentItem;
 import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import ortus.boxlang.lsp.workspace.DocumentModel;
+import ortus.boxlang.lsp.workspace.FileParseResult;
 import ortus.boxlang.lsp.workspace.ProjectContextProvider;
+import ortus.boxlang.lsp.workspace.completion.CompletionContextKind;
+import ortus.boxlang.lsp.workspace.completion.CompletionFacts;
 
 /**
  * Tests for document synchronization improvements including:
@@ -645,4 +651,84 @@ public class DocumentSyncTest extends BaseTest {
 		assertThat( model.getLine( 1 ) ).isEqualTo( "line1" );
 		assertThat( model.getLine( 2 ) ).isEqualTo( "line2" );
 	}
+
+	// ========== Live Buffer Completion Tests ==========
+
+	@Test
+	void testCompletionUsesLiveBufferBeforeDebounce() throws Exception {
+		String initialContent = """
+		                        class {
+		                            function hello() {
+		                                var greeting = "Hello";
+
+		                            }
+		                        }
+		                        """;
+
+		svc.didOpen( new DidOpenTextDocumentParams(
+		    new TextDocumentItem( testFileUri.toString(), "boxlang", 1, initialContent ) ) );
+
+		// Type "greeting." on the empty line 3 and ask for completions right away
+		TextDocumentContentChangeEvent	change		= new TextDocumentContentChangeEvent(
+		    new Range( new Position( 3, 0 ), new Position( 3, 0 ) ),
+		    0,
+		    "        greeting."
+		);
+		VersionedTextDocumentIdentifier	versionedId	= new VersionedTextDocumentIdentifier( testFileUri.toString(), 2 );
+		svc.didChange( new DidChangeTextDocumentParams( versionedId, List.of( change ) ) );
+
+		CompletionParams params = new CompletionParams();
+		params.setTextDocument( new TextDocumentIdentifier( testFileUri.toString() ) );
+		params.setPosition( new Position( 3, 17 ) );
+
+		// The debounced parse has not run yet, completion must still see the typed text
+		CompletionFacts facts = new CompletionFacts(
+		    FileParseResult.fromLiveBuffer(
+		        testFileUri,
+		        ProjectContextProvider.getInstance().getDocumentModel( testFileUri ).getContent(),
+		        3,
+		        ProjectContextProvider.getInstance().getLatestFileParseResultPublic( testFileUri ).orElse( null ),
+		        null ),
+		    params );
+
+		assertThat( facts.getContext().getKind() ).isEqualTo( CompletionContextKind.MEMBER_ACCESS );
+		assertThat( facts.getContext().getReceiverText() ).isEqualTo( "greeting" );
+		assertThat( facts.getContext().getContainingMethodName() ).isEqualTo( "hello" );
+
+		assertDoesNotThrow( () -> ProjectContextProvider.getInstance().getCompletionList( testFileUri, params ) );
+	}
+
+	@Test
+	void testCompletionSeesVariablesDeclaredInTheUnsavedEdit() throws Exception {
+		String initialContent = """
+		                        class {
+		                            function hello() {
+		                                var greeting = "Hello";
+
+		                            }
+		                        }
+		                        """;
+
+		svc.didOpen( new DidOpenTextDocumentParams(
+		    new TextDocumentItem( testFileUri.toString(), "boxlang", 1, initialContent ) ) );
+
+		// Declare a variable and start typing its name before the debounced parse runs
+		TextDocumentContentChangeEvent	change		= new TextDocumentContentChangeEvent(
+		    new Range( new Position( 3, 0 ), new Position( 3, 0 ) ),
+		    0,
+		    "        var unsavedName = 1;\n        unsa"
+		);
+		VersionedTextDocumentIdentifier	versionedId	= new VersionedTextDocumentIdentifier( testFileUri.toString(), 2 );
+		svc.didChange( new DidChangeTextDocumentParams( versionedId, List.of( change ) ) );
+
+		CompletionParams params = new CompletionParams();
+		params.setTextDocument( new TextDocumentIdentifier( testFileUri.toString() ) );
+		params.setPosition( new Position( 4, 12 ) );
+
+		List<String> labels = ProjectContextProvider.getInstance().getCompletionList( testFileUri, params ).getItems().stream()
+		    .map( CompletionItem::getLabel )
+		    .toList();
+
+		assertThat( labels ).contains( "unsavedName" );
+	}
 }
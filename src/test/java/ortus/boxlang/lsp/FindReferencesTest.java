@@ -1,6 +1,7 @@
 package ortus.boxlang.lsp;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.Position;
@@ -11,10 +12,12 @@ import org.eclipse.lsp4j.TextDocumentItem;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import org.eclipse.lsp4j.Location;
 
@@ -346,4 +349,20 @@ public class FindReferencesTest extends BaseTest {
 		assertThat( refs ).isNotNull();
 		// 'id' is used in: user.id = id;
 	}
+
+	/**
+	 * A cancelled request should stop walking files instead of running to completion.
+	 */
+	@Test
+	void testCancelledFindReferencesStopsEarly() throws Exception {
+		Path	userFilePath	= testDir.resolve( "User.bx" );
+		URI		userFileUri		= userFilePath.toUri();
+
+		assertThrows( CancellationException.class, () -> provider.findReferences( userFileUri, new Position( 3, 2 ), false, () -> {
+			throw new CancellationException();
+		} ) );
+
+		// The same lookup without cancellation still completes
+		assertThat( provider.findReferences( userFileUri, new Position( 3, 2 ), false ) ).isNotNull();
+	}
 }
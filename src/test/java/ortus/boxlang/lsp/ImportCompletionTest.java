@@ -6,6 +6,7 @@ import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionItemKind;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import ortus.boxlang.lsp.workspace.ProjectContextProvider;
+import ortus.boxlang.lsp.workspace.index.JavaTypeCatalog;
 import ortus.boxlang.lsp.workspace.index.ProjectIndex;
 
 public class ImportCompletionTest extends BaseTest {
@@ -29,6 +31,9 @@ public class ImportCompletionTest extends BaseTest {
 	public static void setUpClass() {
 		projectRoot	= Paths.get( System.getProperty( "user.dir" ) );
 		testDir		= projectRoot.resolve( "src/test/resources/files/importPathCompletionTest" );
+
+		// Completion does not wait for the Java type catalog, so build it up front
+		JavaTypeCatalog.getInstance().awaitReady( 60, TimeUnit.SECONDS );
 	}
 
 	@BeforeEach
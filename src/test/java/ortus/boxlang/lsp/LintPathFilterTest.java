@@ -0,0 +1,76 @@
+package ortus.boxlang.lsp;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.lsp.lint.LintConfig;
+import ortus.boxlang.lsp.lint.PathFilter;
+
+public class LintPathFilterTest {
+
+	private static LintConfig config( List<String> include, List<String> exclude ) {
+		LintConfig config = new LintConfig();
+		config.include	= include;
+		config.exclude	= exclude;
+		return config;
+	}
+
+	@Test
+	void matchesGlobSyntax() {
+		LintConfig config = config( List.of(), List.of( "ignored-folder/**", "*.cfm", "tests/?pec/*.bx", "**/generated/**" ) );
+
+		assertThat( config.shouldAnalyze( "ignored-folder/ShouldNotReport.bx" ) ).isFalse();
+		assertThat( config.shouldAnalyze( "ignored-folder/deep/nested/File.bx" ) ).isFalse();
+		assertThat( config.shouldAnalyze( "index.cfm" ) ).isFalse();
+		assertThat( config.shouldAnalyze( "views/index.cfm" ) ).isTrue();
+		assertThat( config.shouldAnalyze( "tests/spec/UserSpec.bx" ) ).isFalse();
+		assertThat( config.shouldAnalyze( "tests/spec/unit/UserSpec.bx" ) ).isTrue();
+		assertThat( config.shouldAnalyze( "models/generated/Model.bx" ) ).isFalse();
+		assertThat( config.shouldAnalyze( "generated/Model.bx" ) ).isTrue();
+		assertThat( config.shouldAnalyze( "models\\User.bx" ) ).isTrue();
+	}
+
+	@Test
+	void includeOverridesExclude() {
+		LintConfig config = config( List.of( "vendor/ours/**" ), List.of( "vendor/**" ) );
+
+		assertThat( config.shouldAnalyze( "vendor/theirs/Lib.bx" ) ).isFalse();
+		assertThat( config.shouldAnalyze( "vendor/ours/Lib.bx" ) ).isTrue();
+		assertThat( config.shouldAnalyze( "models/User.bx" ) ).isTrue();
+	}
+
+	@Test
+	void skipsOnlyDirectoriesThatCannotContainAnalyzedFiles() {
+		LintConfig config = config( List.of( "vendor/ours/**" ), List.of( "vendor/**", "node_modules/**", "*.tmp/**" ) );
+
+		assertThat( config.shouldSkipDirectory( "node_modules" ) ).isTrue();
+		assertThat( config.shouldSkipDirectory( "node_modules/lib/dist" ) ).isTrue();
+		assertThat( config.shouldSkipDirectory( "vendor/theirs" ) ).isTrue();
+		assertThat( config.shouldSkipDirectory( "build.tmp" ) ).isTrue();
+		// vendor/ours/** may still match below these
+		assertThat( config.shouldSkipDirectory( "vendor" ) ).isFalse();
+		assertThat( config.shouldSkipDirectory( "vendor/ours" ) ).isFalse();
+		assertThat( config.shouldSkipDirectory( "models" ) ).isFalse();
+	}
+
+	@Test
+	void recompilesWhenPatternsChange() {
+		LintConfig config = config( List.of(), List.of( "a/**" ) );
+		assertThat( config.shouldAnalyze( "a/File.bx" ) ).isFalse();
+
+		config.exclude = List.of( "b/**" );
+		assertThat( config.shouldAnalyze( "a/File.bx" ) ).isTrue();
+		assertThat( config.shouldAnalyze( "b/File.bx" ) ).isFalse();
+	}
+
+	@Test
+	void filterWithoutPatternsAnalyzesEverything() {
+		PathFilter filter = new PathFilter( null, null );
+
+		assertThat( filter.shouldAnalyze( "any/path/File.bx" ) ).isTrue();
+		assertThat( filter.excludesDirectory( "any" ) ).isFalse();
+	}
+}
@@ -73,6 +73,31 @@ public class MemberAccessCompletionTest extends BaseTest {
 		assertThat( getDisplayName.get().getKind() ).isEqualTo( CompletionItemKind.Method );
 	}
 
+	@Test
+	void testCompletionsOnJavaNewReceiver() {
+		// In JavaConsumer.bx, line 3 has "list." after "var list = new java:java.util.ArrayList()"
+		List<String> labels = completionLabels( "JavaConsumer.bx", new Position( 3, 7 ) );
+
+		assertThat( labels ).containsAtLeast( "add", "ensureCapacity", "size" );
+	}
+
+	@Test
+	void testCompletionsOnJavaCreateObjectReceiver() {
+		// In JavaConsumer.bx, line 8 has "builder." after "createObject( "java", "java.lang.StringBuilder" )"
+		List<String> labels = completionLabels( "JavaConsumer.bx", new Position( 8, 10 ) );
+
+		assertThat( labels ).containsAtLeast( "append", "reverse" );
+	}
+
+	@Test
+	void testCompletionsFollowTheLastAssignmentOfAJavaReceiver() {
+		// In JavaConsumer.bx, "thing" holds a Java ArrayList and is then assigned a User
+		List<String> labels = completionLabels( "JavaConsumer.bx", new Position( 14, 8 ) );
+
+		assertThat( labels ).contains( "getDisplayName" );
+		assertThat( labels ).doesNotContain( "ensureCapacity" );
+	}
+
 	@Test
 	void testCompletionsShowInheritedMembers() {
 		Path					testFile	= testDir.resolve( "TestConsumer.bx" );
@@ -191,4 +216,14 @@ public class MemberAccessCompletionTest extends BaseTest {
 			throw new RuntimeException( e );
 		}
 	}
+
+	private List<String> completionLabels( String fileName, Position position ) {
+		Path				testFile	= testDir.resolve( fileName );
+
+		CompletionParams	params		= new CompletionParams();
+		params.setTextDocument( new TextDocumentIdentifier( testFile.toUri().toString() ) );
+		params.setPosition( position );
+
+		return pcp.getAvailableCompletions( testFile.toUri(), params ).stream().map( CompletionItem::getLabel ).toList();
+	}
 }
@@ -0,0 +1,105 @@
+package ortus.boxlang.lsp;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.MessageActionItem;
+import org.eclipse.lsp4j.MessageParams;
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.ShowMessageRequestParams;
+import org.eclipse.lsp4j.WorkDoneProgressBegin;
+import org.eclipse.lsp4j.WorkDoneProgressEnd;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.services.LanguageClient;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.lsp.workspace.RequestProgress;
+
+/**
+ * Tests for $/progress reporting and partial result streaming.
+ */
+public class RequestProgressTest {
+
+	@Test
+	void testStreamsPartialResultsAndReturnsEmptyResponse() {
+		RecordingLanguageClient	client		= new RecordingLanguageClient();
+		RequestProgress<String>	progress	= new RequestProgress<>( client, Either.forLeft( "work" ), Either.forLeft( "partial" ) );
+		List<String>			results		= new ArrayList<>();
+
+		progress.begin( "Searching" );
+		progress.setTotal( 2 );
+		results.add( "a" );
+		progress.worked( results );
+		results.add( "b" );
+		results.add( "c" );
+		progress.worked( results );
+		results.add( "declaration" );
+
+		List<String> response = progress.finish( results );
+
+		assertThat( response ).isEmpty();
+		assertThat( partials( client ) ).containsExactly( List.of( "a" ), List.of( "b", "c" ), List.of( "declaration" ) ).inOrder();
+
+		List<Object> workDone = client.progress.stream()
+		    .filter( p -> p.getToken().getLeft().equals( "work" ) )
+		    .map( p -> ( Object ) p.getValue().getLeft() )
+		    .toList();
+		assertThat( workDone.getFirst() ).isInstanceOf( WorkDoneProgressBegin.class );
+		assertThat( workDone.getLast() ).isInstanceOf( WorkDoneProgressEnd.class );
+	}
+
+	@Test
+	void testWithoutPartialResultTokenReturnsFullResponse() {
+		RecordingLanguageClient	client		= new RecordingLanguageClient();
+		RequestProgress<String>	progress	= new RequestProgress<>( client, null, null );
+		List<String>			results		= new ArrayList<>( List.of( "a", "b" ) );
+
+		progress.begin( "Searching" );
+		progress.worked( results );
+
+		assertThat( progress.finish( results ) ).containsExactly( "a", "b" );
+		assertThat( client.progress ).isEmpty();
+	}
+
+	private static List<Object> partials( RecordingLanguageClient client ) {
+		return client.progress.stream()
+		    .filter( p -> p.getToken().getLeft().equals( "partial" ) )
+		    .map( p -> p.getValue().getRight() )
+		    .toList();
+	}
+
+	private static class RecordingLanguageClient implements LanguageClient {
+
+		private final List<ProgressParams> progress = new ArrayList<>();
+
+		@Override
+		public void notifyProgress( ProgressParams params ) {
+			progress.add( params );
+		}
+
+		@Override
+		public void telemetryEvent( Object object ) {
+		}
+
+		@Override
+		public void publishDiagnostics( PublishDiagnosticsParams diagnostics ) {
+		}
+
+		@Override
+		public void showMessage( MessageParams messageParams ) {
+		}
+
+		@Override
+		public CompletableFuture<MessageActionItem> showMessageRequest( ShowMessageRequestParams requestParams ) {
+			return CompletableFuture.completedFuture( null );
+		}
+
+		@Override
+		public void logMessage( MessageParams message ) {
+		}
+	}
+}
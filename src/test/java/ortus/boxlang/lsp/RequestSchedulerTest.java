@@ -0,0 +1,118 @@
+package ortus.boxlang.lsp;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.lsp.RequestScheduler.Lane;
+import ortus.boxlang.lsp.RequestScheduler.LaneStats;
+
+/**
+ * Tests for the prioritized request scheduler.
+ */
+public class RequestSchedulerTest {
+
+	private static LaneStats stats( Lane lane ) {
+		String name = lane.name().toLowerCase();
+		return RequestScheduler.getInstance().getLaneStats().stream()
+		    .filter( s -> s.lane().equals( name ) )
+		    .findFirst()
+		    .orElseThrow();
+	}
+
+	@Test
+	void testComputeAsyncRunsInLaneAndCountsCompletion() throws Exception {
+		long	before	= stats( Lane.INTERACTIVE ).completed();
+
+		String	result	= RequestScheduler.getInstance().computeAsync( Lane.INTERACTIVE, cancelChecker -> "done" ).get( 5, TimeUnit.SECONDS );
+
+		assertThat( result ).isEqualTo( "done" );
+		assertThat( stats( Lane.INTERACTIVE ).completed() ).isGreaterThan( before );
+	}
+
+	@Test
+	void testBackgroundYieldsWhileInteractiveWorkIsRunning() throws Exception {
+		RequestScheduler	scheduler	= RequestScheduler.getInstance();
+		CountDownLatch		started		= new CountDownLatch( 1 );
+		CountDownLatch		release		= new CountDownLatch( 1 );
+
+		var					hover		= scheduler.computeAsync( Lane.INTERACTIVE, cancelChecker -> {
+											started.countDown();
+											try {
+												release.await( 5, TimeUnit.SECONDS );
+											} catch ( InterruptedException e ) {
+												Thread.currentThread().interrupt();
+											}
+											return true;
+										} );
+
+		assertThat( started.await( 5, TimeUnit.SECONDS ) ).isTrue();
+		assertThat( scheduler.hasForegroundWork() ).isTrue();
+
+		long yieldStart = System.nanoTime();
+		scheduler.yieldToInteractive();
+		assertThat( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - yieldStart ) ).isAtLeast( 100L );
+
+		release.countDown();
+		assertThat( hover.get( 5, TimeUnit.SECONDS ) ).isTrue();
+	}
+
+	@Test
+	void testQueriesDoNotMakeBackgroundWorkYield() throws Exception {
+		RequestScheduler	scheduler	= RequestScheduler.getInstance();
+		CountDownLatch		started		= new CountDownLatch( 1 );
+		CountDownLatch		release		= new CountDownLatch( 1 );
+
+		var					references	= scheduler.computeAsync( Lane.QUERY, cancelChecker -> {
+											started.countDown();
+											try {
+												release.await( 5, TimeUnit.SECONDS );
+											} catch ( InterruptedException e ) {
+												Thread.currentThread().interrupt();
+											}
+											return true;
+										} );
+
+		assertThat( started.await( 5, TimeUnit.SECONDS ) ).isTrue();
+		assertThat( stats( Lane.QUERY ).active() ).isAtLeast( 1 );
+		assertThat( scheduler.hasForegroundWork() ).isFalse();
+
+		release.countDown();
+		assertThat( references.get( 5, TimeUnit.SECONDS ) ).isTrue();
+	}
+
+	@Test
+	void testIndexingRunsWhileBackgroundWorkIsBusy() throws Exception {
+		RequestScheduler	scheduler	= RequestScheduler.getInstance();
+		CountDownLatch		release		= new CountDownLatch( 1 );
+
+		var					scan		= scheduler.runAsync( Lane.BACKGROUND, () -> {
+											try {
+												release.await( 5, TimeUnit.SECONDS );
+											} catch ( InterruptedException e ) {
+												Thread.currentThread().interrupt();
+											}
+										} );
+
+		try {
+			scheduler.runAsync( Lane.INDEXING, () -> {
+			} ).get( 2, TimeUnit.SECONDS );
+		} finally {
+			release.countDown();
+		}
+		scan.get( 5, TimeUnit.SECONDS );
+	}
+
+	@Test
+	void testRunInLaneIsCountedAsActive() {
+		RequestScheduler scheduler = RequestScheduler.getInstance();
+
+		scheduler.runInLane( Lane.DOCUMENT_SYNC, () -> {
+			assertThat( stats( Lane.DOCUMENT_SYNC ).active() ).isAtLeast( 1 );
+			assertThat( scheduler.hasForegroundWork() ).isTrue();
+		} );
+	}
+}
@@ -0,0 +1,123 @@
+package ortus.boxlang.lsp;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.Diagnostic;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.compiler.ast.BoxNode;
+import ortus.boxlang.lsp.SourceCodeVisitorService.VisitorStats;
+import ortus.boxlang.lsp.workspace.FileParseResult;
+
+public class SourceCodeVisitorServiceTest extends BaseTest {
+
+	private static String largeComponent( int functions ) {
+		StringBuilder source = new StringBuilder( "class {\n" );
+		for ( int i = 0; i < functions; i++ ) {
+			source.append( "\tfunction f" ).append( i ).append( "( arg ) {\n" )
+			    .append( "\t\tvar unused" ).append( i ).append( " = 1;\n" )
+			    .append( "\t\tunscoped" ).append( i ).append( " = arg;\n" )
+			    .append( "\t\treturn unscoped" ).append( i ).append( ";\n" )
+			    .append( "\t}\n" );
+		}
+		return source.append( "}\n" ).toString();
+	}
+
+	private static List<Diagnostic> diagnostics( List<SourceCodeVisitor> visitors ) {
+		return visitors.stream().flatMap( v -> v.getDiagnostics().stream() ).toList();
+	}
+
+	private static List<CodeAction> codeActions( List<SourceCodeVisitor> visitors ) {
+		return visitors.stream().flatMap( v -> v.getCodeActions().stream() ).toList();
+	}
+
+	@Test
+	void parallelVisitsMergeLikeSequentialVisits() {
+		URI							uri			= URI.create( "file:///project/Large.bx" );
+		BoxNode						root		= FileParseResult.fromSourceString( uri, largeComponent( 200 ) ).findAstRoot().orElseThrow();
+		SourceCodeVisitorService	service		= SourceCodeVisitorService.getInstance();
+
+		List<SourceCodeVisitor>		sequential	= service.visitAll( uri.toString(), root, false );
+		List<SourceCodeVisitor>		parallel	= service.visitAll( uri.toString(), root, true );
+
+		assertThat( parallel.stream().map( Object::getClass ).toList() )
+		    .containsExactlyElementsIn( sequential.stream().map( Object::getClass ).toList() ).inOrder();
+		assertThat( diagnostics( sequential ) ).isNotEmpty();
+		assertThat( diagnostics( parallel ) ).containsExactlyElementsIn( diagnostics( sequential ) ).inOrder();
+		assertThat( codeActions( parallel ) ).containsExactlyElementsIn( codeActions( sequential ) ).inOrder();
+	}
+
+	@Test
+	void countsRunsAndErrorsPerVisitorAndSkipsDisabledVisitors() {
+		URI							uri			= URI.create( "file:///project/Small.bx" );
+		BoxNode						root		= FileParseResult.fromSourceString( uri, largeComponent( 1 ) ).findAstRoot().orElseThrow();
+		SourceCodeVisitorService	service		= SourceCodeVisitorService.getInstance();
+		AtomicInteger				created		= new AtomicInteger();
+
+		service.addVisitor( "FailingTestVisitor", () -> {
+			created.incrementAndGet();
+			throw new IllegalStateException( "broken visitor" );
+		} );
+		try {
+			service.visitAll( uri.toString(), root, false );
+			service.visitAll( uri.toString(), root, true );
+
+			VisitorStats failing = stats( service, "FailingTestVisitor" );
+			assertThat( failing.runs() ).isEqualTo( 2 );
+			assertThat( failing.errors() ).isEqualTo( 2 );
+			assertThat( stats( service, "UnscopedVariableDiagnosticVisitor" ).runs() ).isAtLeast( 2 );
+
+			assertThat( service.setVisitorEnabled( "FailingTestVisitor", false ) ).isTrue();
+			service.visitAll( uri.toString(), root, false );
+			assertThat( created.get() ).isEqualTo( 2 );
+			assertThat( stats( service, "FailingTestVisitor" ).enabled() ).isFalse();
+		} finally {
+			service.removeVisitor( "FailingTestVisitor" );
+		}
+		assertThat( service.getVisitorStats().stream().map( VisitorStats::name ).toList() ).doesNotContain( "FailingTestVisitor" );
+	}
+
+	@Test
+	void disabledVisitorsSettingAppliesToVisitorsRegisteredLater() {
+		URI							uri			= URI.create( "file:///project/Small.bx" );
+		BoxNode						root		= FileParseResult.fromSourceString( uri, largeComponent( 1 ) ).findAstRoot().orElseThrow();
+		SourceCodeVisitorService	service		= SourceCodeVisitorService.getInstance();
+
+		service.setDisabledVisitors( List.of( "UnusedVariableDiagnosticVisitor", "LateTestVisitor" ) );
+		service.addVisitor( LateTestVisitor.class );
+		try {
+			List<String> ran = service.visitAll( uri.toString(), root, false ).stream().map( v -> v.getClass().getSimpleName() ).toList();
+			assertThat( ran ).contains( "UnscopedVariableDiagnosticVisitor" );
+			assertThat( ran ).containsNoneOf( "UnusedVariableDiagnosticVisitor", "LateTestVisitor" );
+
+			service.setDisabledVisitors( List.of() );
+			ran = service.visitAll( uri.toString(), root, false ).stream().map( v -> v.getClass().getSimpleName() ).toList();
+			assertThat( ran ).containsAtLeast( "UnusedVariableDiagnosticVisitor", "LateTestVisitor" );
+		} finally {
+			service.setDisabledVisitors( List.of() );
+			service.removeVisitor( "LateTestVisitor" );
+		}
+	}
+
+	public static class LateTestVisitor extends SourceCodeVisitor {
+
+		@Override
+		public List<Diagnostic> getDiagnostics() {
+			return List.of();
+		}
+
+		@Override
+		public List<CodeAction> getCodeActions() {
+			return List.of();
+		}
+	}
+
+	private static VisitorStats stats( SourceCodeVisitorService service, String name ) {
+		return service.getVisitorStats().stream().filter( s -> s.name().equals( name ) ).findFirst().orElseThrow();
+	}
+}
@@ -0,0 +1,127 @@
+package ortus.boxlang.lsp;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.lsp4j.MessageActionItem;
+import org.eclipse.lsp4j.MessageParams;
+import org.eclipse.lsp4j.PreviousResultId;
+import org.eclipse.lsp4j.ProgressParams;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.ShowMessageRequestParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReportPartialResult;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.services.LanguageClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.lsp.workspace.ProjectContextProvider;
+
+public class WorkspaceDiagnosticTest extends BaseTest {
+
+	private static final Path		TEST_FILE	= Paths.get( "src/test/resources/files/unusedVariablesTest1.bx" ).toAbsolutePath();
+
+	private ProjectContextProvider	provider;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		provider = ProjectContextProvider.getInstance();
+		provider.trackDocumentOpen( TEST_FILE.toUri(), Files.readString( TEST_FILE ) );
+	}
+
+	@AfterEach
+	void tearDown() {
+		provider.remove( TEST_FILE.toUri() );
+	}
+
+	private static WorkspaceDocumentDiagnosticReport reportFor( List<WorkspaceDocumentDiagnosticReport> reports ) {
+		String uri = TEST_FILE.toUri().toString();
+		return reports.stream()
+		    .filter( r -> uri.equals( r.isWorkspaceFullDocumentDiagnosticReport()
+		        ? r.getWorkspaceFullDocumentDiagnosticReport().getUri()
+		        : r.getWorkspaceUnchangedDocumentDiagnosticReport().getUri() ) )
+		    .findFirst().orElseThrow();
+	}
+
+	@Test
+	void answersUnchangedForTheResultIdTheClientHolds() throws Exception {
+		BoxLangWorkspaceService				service		= new BoxLangWorkspaceService();
+
+		WorkspaceDocumentDiagnosticReport	first		= reportFor( service.diagnostic( new WorkspaceDiagnosticParams( List.of() ) ).get().getItems() );
+		assertThat( first.isWorkspaceFullDocumentDiagnosticReport() ).isTrue();
+		String								resultId	= first.getWorkspaceFullDocumentDiagnosticReport().getResultId();
+		assertThat( first.getWorkspaceFullDocumentDiagnosticReport().getItems() ).isNotEmpty();
+
+		WorkspaceDiagnosticReport			second		= service.diagnostic(
+		    new WorkspaceDiagnosticParams( List.of( new PreviousResultId( TEST_FILE.toUri().toString(), resultId ) ) ) ).get();
+		WorkspaceDocumentDiagnosticReport	unchanged	= reportFor( second.getItems() );
+		assertThat( unchanged.isWorkspaceUnchangedDocumentDiagnosticReport() ).isTrue();
+		assertThat( unchanged.getWorkspaceUnchangedDocumentDiagnosticReport().getResultId() ).isEqualTo( resultId );
+
+		// Reparsing the same content keeps the content-derived result ID
+		provider.trackDocumentSave( TEST_FILE.toUri(), Files.readString( TEST_FILE ) );
+		WorkspaceDiagnosticReport third = service.diagnostic(
+		    new WorkspaceDiagnosticParams( List.of( new PreviousResultId( TEST_FILE.toUri().toString(), resultId ) ) ) ).get();
+		assertThat( reportFor( third.getItems() ).isWorkspaceUnchangedDocumentDiagnosticReport() ).isTrue();
+	}
+
+	@Test
+	void streamsReportsAsPartialResults() throws Exception {
+		RecordingLanguageClient		client	= new RecordingLanguageClient();
+		BoxLangWorkspaceService		service	= new BoxLangWorkspaceService();
+		service.setLanguageClient( client );
+
+		WorkspaceDiagnosticParams	params	= new WorkspaceDiagnosticParams( List.of() );
+		params.setPartialResultToken( Either.forLeft( "partial" ) );
+
+		WorkspaceDiagnosticReport response = service.diagnostic( params ).get();
+
+		assertThat( response.getItems() ).isEmpty();
+		List<WorkspaceDocumentDiagnosticReport> streamed = new ArrayList<>();
+		for ( ProgressParams progress : client.progress ) {
+			streamed.addAll( ( ( WorkspaceDiagnosticReportPartialResult ) progress.getValue().getRight() ).getItems() );
+		}
+		assertThat( reportFor( streamed ).isWorkspaceFullDocumentDiagnosticReport() ).isTrue();
+	}
+
+	private static class RecordingLanguageClient implements LanguageClient {
+
+		private final List<ProgressParams> progress = new ArrayList<>();
+
+		@Override
+		public void notifyProgress( ProgressParams params ) {
+			progress.add( params );
+		}
+
+		@Override
+		public void telemetryEvent( Object object ) {
+		}
+
+		@Override
+		public void publishDiagnostics( PublishDiagnosticsParams diagnostics ) {
+		}
+
+		@Override
+		public void showMessage( MessageParams messageParams ) {
+		}
+
+		@Override
+		public CompletableFuture<MessageActionItem> showMessageRequest( ShowMessageRequestParams requestParams ) {
+			return CompletableFuture.completedFuture( null );
+		}
+
+		@Override
+		public void logMessage( MessageParams message ) {
+		}
+	}
+}
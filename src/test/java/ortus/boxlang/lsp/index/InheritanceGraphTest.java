@@ -197,6 +197,53 @@ class InheritanceGraphTest {
 		assertThat( ancestors ).isNotEmpty();
 	}
 
+	@Test
+	void testCachedChainsFollowEdgeChanges() {
+		graph.addClassRelationship( "Child", "Parent", List.of() );
+		graph.addClassRelationship( "Sibling", "Parent", List.of() );
+
+		assertThat( graph.getAncestors( "Child" ) ).containsExactly( "Parent" );
+		assertThat( graph.getDescendants( "Parent" ) ).containsExactly( "Child", "Sibling" );
+
+		// Adding an edge above the cached chains extends them
+		graph.addClassRelationship( "Parent", "GrandParent", List.of() );
+		assertThat( graph.getAncestors( "Child" ) ).containsExactly( "Parent", "GrandParent" ).inOrder();
+		assertThat( graph.getDescendants( "GrandParent" ) ).containsExactly( "Parent", "Child", "Sibling" );
+		assertTrue( graph.isSubclassOf( "Sibling", "GrandParent" ) );
+
+		// Removing a class in the middle cuts them again
+		graph.removeClass( "Parent" );
+		assertThat( graph.getAncestors( "Child" ) ).isEmpty();
+		assertThat( graph.getDescendants( "GrandParent" ) ).isEmpty();
+		assertFalse( graph.isSubclassOf( "Child", "GrandParent" ) );
+	}
+
+	@Test
+	void testIsSubclassOfOnWideHierarchy() {
+		for ( int i = 0; i < 100; i++ ) {
+			graph.addClassRelationship( "Leaf" + i, "Branch" + ( i % 10 ), List.of() );
+		}
+		for ( int i = 0; i < 10; i++ ) {
+			graph.addClassRelationship( "Branch" + i, "Root", List.of() );
+		}
+
+		assertTrue( graph.isSubclassOf( "Leaf42", "Branch2" ) );
+		assertTrue( graph.isSubclassOf( "Leaf42", "Root" ) );
+		assertFalse( graph.isSubclassOf( "Leaf42", "Branch3" ) );
+		assertFalse( graph.isSubclassOf( "Root", "Leaf42" ) );
+		assertFalse( graph.isSubclassOf( "Leaf42", "Leaf42" ) );
+		assertThat( graph.getDescendants( "Root" ) ).hasSize( 110 );
+	}
+
+	@Test
+	void testIsSubclassOfOnCycle() {
+		graph.addClassRelationship( "A", "B", List.of() );
+		graph.addClassRelationship( "B", "A", List.of() );
+
+		assertTrue( graph.isSubclassOf( "A", "B" ) );
+		assertTrue( graph.isSubclassOf( "B", "A" ) );
+	}
+
 	@Test
 	void testEmptyInputs() {
 		// Should handle empty gracefully - these should not throw or cause issues
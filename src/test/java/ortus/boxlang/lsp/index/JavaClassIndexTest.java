@@ -0,0 +1,161 @@
+package ortus.boxlang.lsp.index;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ortus.boxlang.lsp.workspace.index.JavaClassIndex;
+import ortus.boxlang.lsp.workspace.index.JavaClassInfo;
+import ortus.boxlang.lsp.workspace.index.JavaMethodInfo;
+
+class JavaClassIndexTest {
+
+	@TempDir
+	Path tempDir;
+
+	private static byte[] classFile( String resource ) throws IOException {
+		try ( InputStream in = ClassLoader.getSystemResourceAsStream( resource ) ) {
+			return in.readAllBytes();
+		}
+	}
+
+	private static Path jar( Path file, String... resources ) throws IOException {
+		Files.createDirectories( file.getParent() );
+		try ( OutputStream out = Files.newOutputStream( file ); ZipOutputStream zip = new ZipOutputStream( out ) ) {
+			for ( String resource : resources ) {
+				zip.putNextEntry( new ZipEntry( resource ) );
+				zip.write( classFile( resource ) );
+				zip.closeEntry();
+			}
+		}
+		return file;
+	}
+
+	// The jar and cache helpers are package-private to the index, so they are reached reflectively
+	private static Object invoke( String name, Class<?>[] parameterTypes, Object... args ) {
+		try {
+			Method method = JavaClassIndex.class.getDeclaredMethod( name, parameterTypes );
+			method.setAccessible( true );
+			return method.invoke( null, args );
+		} catch ( ReflectiveOperationException e ) {
+			throw new AssertionError( "Unable to call JavaClassIndex." + name, e );
+		}
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private static List<JavaClassInfo> readJar( Path jar ) {
+		return ( List<JavaClassInfo> ) invoke( "readJar", new Class<?>[] { Path.class }, jar );
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private static List<JavaClassInfo> readCache( Path cacheFile ) {
+		return ( List<JavaClassInfo> ) invoke( "readCache", new Class<?>[] { Path.class }, cacheFile );
+	}
+
+	private static void writeCache( Path cacheFile, List<JavaClassInfo> classes ) {
+		invoke( "writeCache", new Class<?>[] { Path.class, List.class }, cacheFile, classes );
+	}
+
+	@SuppressWarnings( "unchecked" )
+	private static List<Path> findJars( List<Path> classPaths, List<Path> moduleDirectories ) {
+		return ( List<Path> ) invoke( "findJars", new Class<?>[] { List.class, List.class }, classPaths, moduleDirectories );
+	}
+
+	private static void pruneCache( Path cacheDirectory, long now ) {
+		invoke( "pruneCache", new Class<?>[] { Path.class, long.class }, cacheDirectory, now );
+	}
+
+	private static long cacheMaxAgeMs() throws ReflectiveOperationException {
+		Field field = JavaClassIndex.class.getDeclaredField( "CACHE_MAX_AGE_MS" );
+		field.setAccessible( true );
+		return field.getLong( null );
+	}
+
+	@Test
+	void testReadsClassHeadersFromJar() throws IOException {
+		Path				jar		= jar( tempDir.resolve( "collections.jar" ), "java/util/ArrayList.class", "java/util/Map$Entry.class" );
+
+		List<JavaClassInfo>	classes	= readJar( jar );
+
+		JavaClassInfo		list	= classes.stream().filter( c -> c.name().equals( "java.util.ArrayList" ) ).findFirst().orElseThrow();
+		assertThat( list.superName() ).isEqualTo( "java.util.AbstractList" );
+		assertThat( list.interfaces() ).contains( "java.util.List" );
+		assertThat( list.isInterface() ).isFalse();
+
+		JavaMethodInfo add = list.methods().stream()
+		    .filter( m -> m.name().equals( "add" ) && m.parameterTypes().size() == 1 )
+		    .findFirst().orElseThrow();
+		assertThat( add.parameterTypes() ).containsExactly( "java.lang.Object" );
+		assertThat( add.returnType() ).isEqualTo( "boolean" );
+		assertThat( add.isStatic() ).isFalse();
+		// Only public methods are read
+		assertThat( list.methods().stream().map( JavaMethodInfo::name ).toList() ).doesNotContain( "grow" );
+
+		JavaClassInfo entry = classes.stream().filter( c -> c.name().equals( "java.util.Map.Entry" ) ).findFirst().orElseThrow();
+		assertThat( entry.isInterface() ).isTrue();
+		assertThat( entry.simpleName() ).isEqualTo( "Entry" );
+	}
+
+	@Test
+	void testCacheRoundTrip() throws IOException {
+		List<JavaClassInfo>	classes		= readJar( jar( tempDir.resolve( "list.jar" ), "java/util/ArrayList.class" ) );
+		Path				cacheFile	= tempDir.resolve( "cache/list.json.gz" );
+
+		writeCache( cacheFile, classes );
+
+		assertThat( readCache( cacheFile ) ).isEqualTo( classes );
+	}
+
+	@Test
+	void testFindsClassPathAndModuleLibJars() throws IOException {
+		Path	classPathDir	= Files.createDirectories( tempDir.resolve( "lib" ) );
+		Path	direct			= jar( classPathDir.resolve( "direct.jar" ), "java/util/ArrayList.class" );
+		Path	standalone		= jar( tempDir.resolve( "standalone.jar" ), "java/util/ArrayList.class" );
+		Path	moduleJar		= jar( tempDir.resolve( "modules/shop/lib/shop.jar" ), "java/util/ArrayList.class" );
+		Files.createFile( classPathDir.resolve( "readme.txt" ) );
+
+		List<Path> jars = findJars( List.of( classPathDir, standalone ), List.of( tempDir.resolve( "modules" ) ) );
+
+		assertThat( jars ).containsExactly( direct, standalone, moduleJar ).inOrder();
+	}
+
+	@Test
+	void testPrunesCachedJarsNotUsedForTheMaximumAge() throws IOException, ReflectiveOperationException {
+		Path	cacheDirectory	= Files.createDirectories( tempDir.resolve( "java-classes" ) );
+		Path	stale			= Files.createFile( cacheDirectory.resolve( "stale.json.gz" ) );
+		Path	fresh			= Files.createFile( cacheDirectory.resolve( "fresh.json.gz" ) );
+		long	now				= System.currentTimeMillis();
+		Files.setLastModifiedTime( stale, FileTime.fromMillis( now - cacheMaxAgeMs() - 1 ) );
+
+		pruneCache( cacheDirectory, now );
+
+		assertThat( Files.exists( stale ) ).isFalse();
+		assertThat( Files.exists( fresh ) ).isTrue();
+	}
+
+	@Test
+	void testReadsJdkClassesOnDemand() {
+		JavaClassIndex	index	= JavaClassIndex.getInstance();
+
+		JavaClassInfo	list	= index.findClass( "java.util.ArrayList" ).orElseThrow();
+		assertThat( index.getTypeHierarchy( list ).stream().map( JavaClassInfo::name ).toList() )
+		    .containsAtLeast( "java.util.ArrayList", "java.util.AbstractList", "java.util.List", "java.util.Collection", "java.lang.Object" );
+
+		assertThat( index.findClass( "java.util.Map.Entry" ) ).isPresent();
+		assertThat( index.resolve( "String" ).map( JavaClassInfo::name ) ).hasValue( "java.lang.String" );
+		assertThat( index.findClass( "java.util.NoSuchType" ) ).isEmpty();
+	}
+}
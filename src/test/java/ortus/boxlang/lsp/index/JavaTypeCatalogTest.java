@@ -0,0 +1,51 @@
+package ortus.boxlang.lsp.index;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.lsp.workspace.index.JavaTypeCatalog;
+import ortus.boxlang.runtime.BoxRuntime;
+
+class JavaTypeCatalogTest {
+
+	private static JavaTypeCatalog catalog;
+
+	@BeforeAll
+	static void setUp() {
+		BoxRuntime.getInstance( true );
+		catalog = JavaTypeCatalog.getInstance();
+		assertThat( catalog.awaitReady( 60, TimeUnit.SECONDS ) ).isTrue();
+	}
+
+	@Test
+	void testFindsExportedJdkPackagesAndTheirParents() {
+		assertThat( catalog.findPackages( "java.n", 50 ) ).containsAtLeast( "java.net", "java.nio", "java.nio.file" );
+		assertThat( catalog.findPackages( "JAVA.UT", 50 ) ).contains( "java.util" );
+		assertThat( catalog.findPackages( "ja", 500 ) ).containsAtLeast( "java", "javax" );
+		// Packages java.base does not export are left out
+		assertThat( catalog.findPackages( "jdk.internal", 10 ) ).isEmpty();
+	}
+
+	@Test
+	void testFindsClassesDirectlyInPackage() {
+		assertThat( catalog.findClassesInPackage( "java.util", "Array", 50 ) ).containsAtLeast( "java.util.ArrayList", "java.util.Arrays" );
+		assertThat( catalog.findClassesInPackage( "java.util", "", 1000 ) ).doesNotContain( "java.util.concurrent.ConcurrentHashMap" );
+		assertThat( catalog.findClassesInPackage( "java.util", "Map", 50 ) ).doesNotContain( "java.util.Map.Entry" );
+	}
+
+	@Test
+	void testFindsClassesBySimpleNamePrefix() {
+		assertThat( catalog.findClassesBySimpleName( "list", 20 ) ).containsAtLeast( "java.util.List", "java.awt.List" );
+		assertThat( catalog.findClassesBySimpleName( "URISyntax", 5 ) ).contains( "java.net.URISyntaxException" );
+		assertThat( catalog.findClassesBySimpleName( "Array", 3 ) ).hasSize( 3 );
+	}
+
+	@Test
+	void testIncludesBoxLangRuntimeClasses() {
+		assertThat( catalog.findClassesInPackage( "ortus.boxlang.runtime", "BoxRuntime", 5 ) ).contains( "ortus.boxlang.runtime.BoxRuntime" );
+	}
+}
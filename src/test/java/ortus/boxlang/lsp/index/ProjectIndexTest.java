@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -21,6 +22,7 @@ import ortus.boxlang.lsp.BaseTest;
 import ortus.boxlang.lsp.workspace.index.IndexedClass;
 import ortus.boxlang.lsp.workspace.index.IndexedMethod;
 import ortus.boxlang.lsp.workspace.index.IndexedProperty;
+import ortus.boxlang.lsp.workspace.index.IndexedSymbol;
 import ortus.boxlang.lsp.workspace.index.ProjectIndex;
 import ortus.boxlang.runtime.BoxRuntime;
 
@@ -209,7 +211,7 @@ class ProjectIndexTest extends BaseTest {
 		index.indexFile( testFile.toUri() );
 
 		// Search for "user" should find class, properties, and methods containing "user"
-		List<Object> results = index.searchSymbols( "user" );
+		List<IndexedSymbol> results = index.searchSymbols( "user" );
 		assertThat( results ).isNotEmpty();
 
 		// Search for "Email" should find property and method
@@ -879,6 +881,138 @@ class ProjectIndexTest extends BaseTest {
 		assertThat( index.getFilesInDirectory( "" ) ).isEmpty();
 	}
 
+	@Test
+	void testDocumentationIsStoredOutOfLineAndStringsAreShared() throws Exception {
+		String	classCode	= """
+		                      /**
+		                       * A greeter
+		                       */
+		                      class {
+		                          /**
+		                           * Says hello
+		                           */
+		                          function hello() { return "hello"; }
+		                          function bye() { return "bye"; }
+		                      }
+		                      """;
+
+		Path	testFile	= createTestFile( "Greeter.bx", classCode );
+		index.indexFile( testFile.toUri() );
+
+		IndexedClass	greeter	= index.findClassByName( "Greeter" ).orElseThrow();
+		IndexedMethod	hello	= index.findMethod( "Greeter", "hello" ).orElseThrow();
+		IndexedMethod	bye		= index.findMethod( "Greeter", "bye" ).orElseThrow();
+
+		assertThat( greeter.documentation() ).isNull();
+		assertThat( hello.documentation() ).isNull();
+		assertThat( index.getDocumentation( greeter ) ).contains( "A greeter" );
+		assertThat( index.getDocumentation( hello ) ).contains( "Says hello" );
+		assertThat( index.getDocumentation( bye ) ).isNull();
+		assertThat( hello.fileUri() ).isSameInstanceAs( bye.fileUri() );
+		assertThat( hello.fileUri() ).isSameInstanceAs( greeter.fileUri() );
+
+		// Documentation survives a cache round trip
+		index.saveCache();
+		ProjectIndex	newIndex	= new ProjectIndex();
+		newIndex.initialize( tempDir );
+
+		assertThat( newIndex.getDocumentation( newIndex.findMethod( "Greeter", "hello" ).orElseThrow() ) ).contains( "Says hello" );
+
+		// and is dropped with the file
+		index.removeFile( testFile.toUri() );
+		assertThat( index.getDocumentation( hello ) ).isNull();
+	}
+
+	@Test
+	void testDocumentationIsLoadedLazilyAndDroppedWhenStale() throws Exception {
+		String	classCode	= """
+		                      class {
+		                          /**
+		                           * Adds two numbers
+		                           * @a The first number
+		                           */
+		                          function add( a, b ) { return a + b; }
+		                      }
+		                      """;
+
+		Path	testFile	= createTestFile( "Calculator.bx", classCode );
+		index.indexFile( testFile.toUri() );
+
+		// Editing the comment without re-indexing invalidates the reference
+		Files.writeString( testFile, classCode.replace( "Adds two", "Sums two" ) );
+		IndexedMethod add = index.findMethod( "Calculator", "add" ).orElseThrow();
+		assertThat( index.getDocumentation( add ) ).isNull();
+
+		index.indexFile( testFile.toUri() );
+		add = index.findMethod( "Calculator", "add" ).orElseThrow();
+		long misses = index.getDocumentationStore().getMissCount();
+
+		assertThat( add.documentation() ).isNull();
+		assertThat( index.getDocumentation( add ) ).contains( "Sums two numbers" );
+		assertThat( index.getDocumentation( add ) ).contains( "Sums two numbers" );
+		assertThat( index.getDocumentationStore().getMissCount() ).isEqualTo( misses + 1 );
+		assertThat( index.getDocumentationStore().getHitCount() ).isAtLeast( 1 );
+	}
+
+	@Test
+	void testIndexesFilesSavedInALegacyEncoding() throws Exception {
+		String	classCode	= """
+		                      class {
+		                          /**
+		                           * Orders a café crème
+		                           */
+		                          function order() { return "café"; }
+		                      }
+		                      """;
+
+		Path	testFile	= tempDir.resolve( "Cafe.bx" );
+		Files.write( testFile, classCode.getBytes( StandardCharsets.ISO_8859_1 ) );
+		index.indexFile( testFile.toUri() );
+
+		IndexedMethod order = index.findMethod( "Cafe", "order" ).orElseThrow();
+		assertThat( index.getDocumentation( order ) ).contains( "Orders a café crème" );
+	}
+
+	@Test
+	void testImplementationMapFollowsImplementorChanges() throws Exception {
+		Path	iface		= createTestFile( "IGreeter.bx", """
+		                                                interface {
+		                                                    function greet();
+		                                                }
+		                                                """ );
+		Path	english		= createTestFile( "EnglishGreeter.bx", """
+		                                                class implements="IGreeter" {
+		                                                    function greet() { return "hello"; }
+		                                                }
+		                                                """ );
+		Path	french		= createTestFile( "FrenchGreeter.bx", """
+		                                                class implements="IGreeter" {
+		                                                    function greet() { return "bonjour"; }
+		                                                }
+		                                                """ );
+		index.indexFile( iface.toUri() );
+		index.indexFile( english.toUri() );
+		index.indexFile( french.toUri() );
+
+		IndexedClass greeter = index.findClassByName( "IGreeter" ).orElseThrow();
+		assertThat( index.findImplementingClasses( greeter ).stream().map( IndexedClass::name ).toList() )
+		    .containsExactly( "EnglishGreeter", "FrenchGreeter" );
+		assertThat( index.findMethodImplementations( greeter, "GREET" ) ).hasSize( 2 );
+
+		// Dropping the method from one implementor updates the cached entry
+		Files.writeString( french, """
+		                           class implements="IGreeter" {
+		                           }
+		                           """ );
+		index.indexFile( french.toUri() );
+		assertThat( index.findMethodImplementations( greeter, "greet" ).stream().map( IndexedMethod::containingClass ).toList() )
+		    .containsExactly( "EnglishGreeter" );
+
+		index.removeFile( english.toUri() );
+		assertThat( index.findMethodImplementations( greeter, "greet" ) ).isEmpty();
+		assertThat( index.findImplementingClasses( greeter ).stream().map( IndexedClass::name ).toList() ).containsExactly( "FrenchGreeter" );
+	}
+
 	private Path createTestFile( String fileName, String content ) throws Exception {
 		Path testFile = tempDir.resolve( fileName );
 		Files.writeString( testFile, content );
@@ -0,0 +1,109 @@
+package ortus.boxlang.lsp.index;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.lsp.workspace.Cancellation;
+import ortus.boxlang.lsp.workspace.index.IndexedClass;
+import ortus.boxlang.lsp.workspace.index.IndexedMethod;
+import ortus.boxlang.lsp.workspace.index.IndexedProperty;
+import ortus.boxlang.lsp.workspace.index.IndexedSymbol;
+import ortus.boxlang.lsp.workspace.index.SymbolNameIndex;
+
+class SymbolNameIndexTest {
+
+	private SymbolNameIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new SymbolNameIndex();
+	}
+
+	private static IndexedClass indexedClass( String name ) {
+		return new IndexedClass( name, "models." + name, "file:///models/" + name + ".bx", null, null, List.of(), List.of(), false, null, null );
+	}
+
+	private static IndexedMethod indexedMethod( String className, String name ) {
+		return new IndexedMethod( name, className, "file:///models/" + className + ".bx", null, "any", List.of(), "public", List.of(), null );
+	}
+
+	private static IndexedProperty indexedProperty( String className, String name ) {
+		return new IndexedProperty( name, className, "file:///models/" + className + ".bx", null, "string", null, true, true );
+	}
+
+	private List<String> names( String query, int limit ) {
+		return index.search( query, limit ).stream().map( IndexedSymbol::name ).toList();
+	}
+
+	@Test
+	void testRanksExactThenPrefixThenHumpsThenSubstring() {
+		index.add( indexedMethod( "UserService", "getUserName" ) );
+		index.add( indexedMethod( "UserService", "name" ) );
+		index.add( indexedMethod( "UserService", "nameOfUser" ) );
+		index.add( indexedProperty( "User", "username" ) );
+		index.add( indexedClass( "Rename" ) );
+
+		assertThat( names( "name", 10 ) ).containsExactly( "name", "nameOfUser", "getUserName", "Rename", "username" ).inOrder();
+	}
+
+	@Test
+	void testMatchesCamelHumpInitials() {
+		index.add( indexedMethod( "UserService", "getUserName" ) );
+		index.add( indexedClass( "XMLParser" ) );
+		index.add( indexedMethod( "UserService", "save" ) );
+
+		assertThat( names( "gun", 10 ) ).containsExactly( "getUserName" );
+		assertThat( names( "xp", 10 ) ).containsExactly( "XMLParser" );
+		assertThat( names( "parser", 10 ) ).containsExactly( "XMLParser" );
+	}
+
+	@Test
+	void testEmptyQueryReturnsShortestNamesFirstUpToLimit() {
+		index.add( indexedClass( "UserRepository" ) );
+		index.add( indexedMethod( "UserRepository", "init" ) );
+		index.add( indexedMethod( "UserRepository", "findById" ) );
+
+		assertThat( names( "", 2 ) ).containsExactly( "init", "findById" ).inOrder();
+	}
+
+	@Test
+	void testLimitKeepsBestMatches() {
+		for ( int i = 0; i < 50; i++ ) {
+			index.add( indexedMethod( "Service", "get" + "x".repeat( i ) ) );
+		}
+
+		assertThat( names( "g", 3 ) ).containsExactly( "get", "getx", "getxx" ).inOrder();
+	}
+
+	@Test
+	void testBatchesConcatenateToRankedResult() {
+		index.add( indexedMethod( "UserService", "save" ) );
+		index.add( indexedMethod( "UserService", "saveAll" ) );
+		index.add( indexedMethod( "UserService", "autoSave" ) );
+
+		List<List<IndexedSymbol>> batches = new ArrayList<>();
+		index.search( "save", 10, Cancellation.NONE, batches::add );
+
+		assertThat( batches ).hasSize( 3 );
+		assertThat( batches.stream().flatMap( List::stream ).toList() ).isEqualTo( index.search( "save", 10 ) );
+	}
+
+	@Test
+	void testRemoveAndReplace() {
+		IndexedClass user = indexedClass( "User" );
+		index.add( user );
+		index.add( user );
+		assertThat( index.size() ).isEqualTo( 1 );
+
+		index.remove( user );
+
+		assertThat( index.size() ).isEqualTo( 0 );
+		assertThat( index.search( "user", 10 ) ).isEmpty();
+		assertThat( index.search( "", 10 ) ).isEmpty();
+	}
+}
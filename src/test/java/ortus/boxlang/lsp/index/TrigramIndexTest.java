@@ -0,0 +1,54 @@
+package ortus.boxlang.lsp.index;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.lsp.workspace.index.TrigramIndex;
+
+class TrigramIndexTest {
+
+	private TrigramIndex<String> index;
+
+	@BeforeEach
+	void setUp() {
+		index = new TrigramIndex<>();
+		index.add( "UserService", List.of( "UserService", "models.services.UserService" ) );
+		index.add( "getUserName", List.of( "getUserName" ) );
+		index.add( "save", List.of( "save" ) );
+	}
+
+	@Test
+	void testFindsSubstringsInAnyKeyIgnoringCase() {
+		assertThat( index.search( "USERN" ) ).containsExactly( "getUserName" );
+		assertThat( index.search( "user" ) ).containsExactly( "UserService", "getUserName" );
+		assertThat( index.search( "services.user" ) ).containsExactly( "UserService" );
+	}
+
+	@Test
+	void testSharedTrigramsAloneDoNotMatch() {
+		// "ser_ers" has both trigrams of "sers" but does not contain it
+		index.add( "ser_ers", List.of( "ser_ers" ) );
+
+		assertThat( index.search( "sers" ) ).containsExactly( "UserService" );
+	}
+
+	@Test
+	void testShortQueriesScanKeys() {
+		assertThat( index.search( "av" ) ).containsExactly( "save" );
+		assertThat( index.search( "z" ) ).isEmpty();
+	}
+
+	@Test
+	void testRemoveAndReplaceKeys() {
+		index.remove( "save" );
+		assertThat( index.search( "save" ) ).isEmpty();
+
+		index.add( "getUserName", List.of( "getDisplayName" ) );
+		assertThat( index.search( "user" ) ).containsExactly( "UserService" );
+		assertThat( index.search( "display" ) ).containsExactly( "getUserName" );
+	}
+}
@@ -0,0 +1,100 @@
+package ortus.boxlang.lsp.metrics;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.net.URI;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.lsp.BaseTest;
+import ortus.boxlang.lsp.lint.rules.EmptyCatchBlockRule;
+import ortus.boxlang.lsp.lint.rules.UnscopedVariableRule;
+import ortus.boxlang.lsp.workspace.FileParseResult;
+
+public class DiagnosticsProfilerTest extends BaseTest {
+
+	private static final String PROFILED_SOURCE = """
+	    class {
+	        function run() {
+	            unscoped = 1;
+	            try {
+	                return unscoped;
+	            } catch ( any e ) {
+	            }
+	        }
+	    }
+	    """;
+
+	@Test
+	void histogramPercentilesFollowTheRecordedValues() {
+		Histogram histogram = new Histogram();
+		for ( int i = 0; i < 90; i++ ) {
+			histogram.record( 1_000 );
+		}
+		for ( int i = 0; i < 10; i++ ) {
+			histogram.record( 10_000_000 );
+		}
+
+		Histogram.Snapshot snapshot = histogram.snapshot();
+		assertThat( snapshot.count() ).isEqualTo( 100 );
+		assertThat( snapshot.p50Millis() ).isAtMost( 0.001 );
+		assertThat( snapshot.p90Millis() ).isAtMost( 0.001 );
+		assertThat( snapshot.p99Millis() ).isEqualTo( 10.0 );
+		assertThat( snapshot.maxMillis() ).isEqualTo( 10.0 );
+
+		histogram.reset();
+		assertThat( histogram.snapshot().count() ).isEqualTo( 0 );
+	}
+
+	@Test
+	void keepsOnlyTheSlowestFiles() {
+		DiagnosticsProfiler profiler = new DiagnosticsProfiler();
+		for ( int i = 1; i <= DiagnosticsProfiler.SLOWEST_FILES + 10; i++ ) {
+			profiler.recordFile( URI.create( "file:///project/File" + i + ".bx" ), i * 1_000_000L );
+		}
+		// A faster rerun does not lower a file's slowest time
+		profiler.recordFile( URI.create( "file:///project/File30.bx" ), 1 );
+
+		List<DiagnosticsProfiler.FileTiming> files = profiler.getProfile().slowestFiles();
+		assertThat( files ).hasSize( DiagnosticsProfiler.SLOWEST_FILES );
+		assertThat( files.getFirst() ).isEqualTo( new DiagnosticsProfiler.FileTiming( "file:///project/File30.bx", 30.0 ) );
+		assertThat( files.getLast().uri() ).isEqualTo( "file:///project/File11.bx" );
+	}
+
+	@Test
+	void attributesDiagnosticTimeToVisitorsAndRules() {
+		DiagnosticsProfiler profiler = DiagnosticsProfiler.getInstance();
+		profiler.reset();
+
+		URI uri = URI.create( "file:///project/Profiled.bx" );
+		profiler.setRuleTimingEnabled( true );
+		try {
+			FileParseResult.fromSourceString( uri, PROFILED_SOURCE ).getDiagnostics();
+		} finally {
+			profiler.setRuleTimingEnabled( false );
+		}
+
+		DiagnosticsProfiler.Profile profile = profiler.getProfile();
+		assertThat( profile.visitors().stream().map( DiagnosticsProfiler.TimingStats::name ).toList() )
+		    .containsAtLeast( "SemanticWarningDiagnosticVisitor", "UnscopedVariableDiagnosticVisitor", "FunctionReturnDiagnosticVisitor" );
+		assertThat( profile.rules().stream().map( DiagnosticsProfiler.TimingStats::name ).toList() )
+		    .containsAtLeast( EmptyCatchBlockRule.ID, UnscopedVariableRule.ID );
+		assertThat( profile.slowestFiles().stream().map( DiagnosticsProfiler.FileTiming::uri ).toList() ).contains( uri.toString() );
+		assertThat( profile.visitorRuns() ).isNotEmpty();
+	}
+
+	@Test
+	void timesRulesInsideSharedVisitorsOnlyWhileEnabled() {
+		DiagnosticsProfiler profiler = DiagnosticsProfiler.getInstance();
+		profiler.reset();
+
+		FileParseResult.fromSourceString( URI.create( "file:///project/Unprofiled.bx" ), PROFILED_SOURCE ).getDiagnostics();
+
+		DiagnosticsProfiler.Profile profile = profiler.getProfile();
+		assertThat( profile.visitors().stream().filter( v -> v.timing().count() > 0 ).map( DiagnosticsProfiler.TimingStats::name ).toList() )
+		    .contains( "SemanticWarningDiagnosticVisitor" );
+		assertThat( profile.rules().stream().filter( r -> r.timing().count() > 0 ).map( DiagnosticsProfiler.TimingStats::name ).toList() )
+		    .doesNotContain( EmptyCatchBlockRule.ID );
+	}
+}
@@ -0,0 +1,84 @@
+package ortus.boxlang.lsp.metrics;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.eclipse.lsp4j.jsonrpc.MessageConsumer;
+import org.eclipse.lsp4j.jsonrpc.RemoteEndpoint;
+import org.eclipse.lsp4j.jsonrpc.messages.RequestMessage;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseMessage;
+import org.junit.jupiter.api.Test;
+
+import ortus.boxlang.lsp.BaseTest;
+
+public class MetricsRegistryTest extends BaseTest {
+
+	@Test
+	void timesRequestsFromArrivalToResponse() {
+		MetricsRegistry	registry	= new MetricsRegistry();
+		MessageConsumer	incoming	= registry.wrap( mock( RemoteEndpoint.class ) );
+		MessageConsumer	outgoing	= registry.wrap( mock( MessageConsumer.class ) );
+
+		RequestMessage	request		= new RequestMessage();
+		request.setId( "7" );
+		request.setMethod( "textDocument/hover" );
+		incoming.consume( request );
+
+		ResponseMessage response = new ResponseMessage();
+		response.setId( "7" );
+		outgoing.consume( response );
+		// A second response for the same ID is not counted again
+		outgoing.consume( response );
+
+		assertThat( registry.getMetrics().requests().get( "textDocument/hover" ).count() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void rendersPrometheusText() {
+		MetricsRegistry registry = new MetricsRegistry();
+		registry.recordRequest( "textDocument/completion", 2_000_000 );
+		registry.recordRequest( "textDocument/completion", 4_000_000 );
+		registry.recordWorkspaceScan( 1_500_000_000L );
+
+		String text = registry.toPrometheus();
+
+		assertThat( text ).contains( "# TYPE boxlang_lsp_request_duration_seconds summary" );
+		assertThat( text ).contains( "boxlang_lsp_request_duration_seconds_count{method=\"textDocument/completion\"} 2" );
+		assertThat( text ).contains( "boxlang_lsp_request_duration_seconds_sum{method=\"textDocument/completion\"} 0.006" );
+		assertThat( text ).contains( "boxlang_lsp_queue_depth{lane=\"interactive\"}" );
+		assertThat( text ).contains( "boxlang_lsp_workspace_scan_duration_seconds_count 1" );
+		assertThat( text ).contains( "# TYPE boxlang_lsp_ast_cache_hits_total counter" );
+		assertThat( registry.getMetrics().heapUsedBytes() ).isGreaterThan( 0 );
+	}
+
+	@Test
+	void servesMetricsOnLoopbackWhileAPortIsConfigured() throws Exception {
+		int port;
+		try ( ServerSocket socket = new ServerSocket( 0 ) ) {
+			port = socket.getLocalPort();
+		}
+
+		MetricsHttpServer server = new MetricsHttpServer();
+		server.configure( port );
+		try {
+			assertThat( server.getPort() ).isEqualTo( port );
+
+			HttpResponse<String> response = HttpClient.newHttpClient().send(
+			    HttpRequest.newBuilder( URI.create( "http://127.0.0.1:" + port + "/metrics" ) ).GET().build(),
+			    HttpResponse.BodyHandlers.ofString() );
+
+			assertThat( response.statusCode() ).isEqualTo( 200 );
+			assertThat( response.headers().firstValue( "Content-Type" ).orElse( "" ) ).startsWith( "text/plain" );
+			assertThat( response.body() ).contains( "boxlang_lsp_heap_after_gc_bytes" );
+		} finally {
+			server.configure( 0 );
+		}
+		assertThat( server.getPort() ).isEqualTo( 0 );
+	}
+}